@@ -11,6 +11,7 @@ package org.eclipse.dirigible.components.api.db;
 
 import org.apache.commons.io.output.WriterOutputStream;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.data.management.helpers.DatabaseMetadataHelper;
 import org.eclipse.dirigible.components.data.management.helpers.DatabaseResultSetHelper;
 import org.eclipse.dirigible.components.data.management.service.DatabaseDefinitionService;
@@ -20,6 +21,7 @@ import org.eclipse.dirigible.components.database.DirigibleDataSource;
 import org.eclipse.dirigible.components.database.NamedParameterStatement;
 import org.eclipse.dirigible.database.persistence.processors.identity.PersistenceNextValueIdentityProcessor;
 import org.eclipse.dirigible.database.sql.SqlFactory;
+import org.eclipse.dirigible.database.sql.SqlStatementCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
@@ -46,6 +48,9 @@ public class DatabaseFacade implements InitializingBean {
     /** The Constant logger. */
     private static final Logger logger = LoggerFactory.getLogger(DatabaseFacade.class);
 
+    /** The Constant DIRIGIBLE_DATABASE_QUERY_FETCH_SIZE. */
+    public static final String DIRIGIBLE_DATABASE_QUERY_FETCH_SIZE = "DIRIGIBLE_DATABASE_QUERY_FETCH_SIZE";
+
     /** The database facade. */
     private static DatabaseFacade INSTANCE;
 
@@ -333,6 +338,121 @@ public class DatabaseFacade implements InitializingBean {
         return queryNamed(sql, null, null);
     }
 
+    /**
+     * Opens a cursor over the result of a SQL query. The rows are fetched with the given fetch size and
+     * converted to JSON one by one, when requested. The cursor has to be closed, unless it is
+     * exhausted, otherwise it is closed when the thread context is torn down.
+     *
+     * @param sql the sql
+     * @param parameters the parameters
+     * @param datasourceName the datasource name
+     * @param fetchSize the fetch size, or 0 for the configured default
+     * @return the cursor
+     * @throws Exception the exception
+     */
+    public static final QueryCursor queryCursor(String sql, String parameters, String datasourceName, int fetchSize) throws Exception {
+        return openCursor(sql, parameters, datasourceName, fetchSize, false);
+    }
+
+    /**
+     * Opens a cursor over the result of a named parameters SQL query.
+     *
+     * @param sql the sql
+     * @param parameters the parameters
+     * @param datasourceName the datasource name
+     * @param fetchSize the fetch size, or 0 for the configured default
+     * @return the cursor
+     * @throws Exception the exception
+     */
+    public static final QueryCursor queryNamedCursor(String sql, String parameters, String datasourceName, int fetchSize) throws Exception {
+        return openCursor(sql, parameters, datasourceName, fetchSize, true);
+    }
+
+    /**
+     * Open cursor.
+     *
+     * @param sql the sql
+     * @param parameters the parameters
+     * @param datasourceName the datasource name
+     * @param fetchSize the fetch size
+     * @param named whether the parameters are named
+     * @return the query cursor
+     * @throws Exception the exception
+     */
+    private static QueryCursor openCursor(String sql, String parameters, String datasourceName, int fetchSize, boolean named)
+            throws Exception {
+        DataSource dataSource = getDataSource(datasourceName);
+        if (dataSource == null) {
+            String error = format("DataSource {0} not known.", datasourceName);
+            throw new IllegalArgumentException(error);
+        }
+        Connection connection = dataSource.getConnection();
+        AutoCloseable statement = null;
+        try {
+            // some drivers (e.g. PostgreSQL) fetch in chunks only outside of auto-commit mode
+            boolean autoCommit = connection.getAutoCommit();
+            if (autoCommit) {
+                connection.setAutoCommit(false);
+            }
+            PreparedStatement preparedStatement;
+            if (named) {
+                NamedParameterStatement namedStatement = new NamedParameterStatement(connection, sql);
+                statement = namedStatement;
+                preparedStatement = namedStatement.getStatement();
+                if (parameters != null) {
+                    ParametersSetter.setParameters(parameters, new IndexedOrNamedStatement(namedStatement));
+                }
+            } else {
+                preparedStatement = connection.prepareStatement(sql);
+                statement = preparedStatement;
+                if (parameters != null) {
+                    ParametersSetter.setParameters(parameters, new IndexedOrNamedStatement(preparedStatement));
+                }
+            }
+            preparedStatement.setFetchSize(fetchSize > 0 ? fetchSize : Configuration.getAsInt(DIRIGIBLE_DATABASE_QUERY_FETCH_SIZE, 1000));
+            return new QueryCursor(connection, statement, preparedStatement.executeQuery(), autoCommit);
+        } catch (Exception ex) {
+            logger.error("Failed to execute query statement [{}] in data source [{}].", sql, datasourceName, ex);
+            if (statement != null) {
+                statement.close();
+            }
+            connection.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Executes SQL query and streams the result as JSON directly to the output, e.g. the HTTP response
+     * output stream, without materializing it in memory.
+     *
+     * @param sql the sql
+     * @param parameters the parameters
+     * @param datasourceName the datasource name
+     * @param output the output
+     * @throws Exception the exception
+     */
+    public static final void queryToStream(String sql, String parameters, String datasourceName, OutputStream output) throws Exception {
+        try (QueryCursor cursor = queryCursor(sql, parameters, datasourceName, 0)) {
+            cursor.writeAll(output);
+        }
+    }
+
+    /**
+     * Executes named parameters SQL query and streams the result as JSON directly to the output.
+     *
+     * @param sql the sql
+     * @param parameters the parameters
+     * @param datasourceName the datasource name
+     * @param output the output
+     * @throws Exception the exception
+     */
+    public static final void queryNamedToStream(String sql, String parameters, String datasourceName, OutputStream output)
+            throws Exception {
+        try (QueryCursor cursor = queryNamedCursor(sql, parameters, datasourceName, 0)) {
+            cursor.writeAll(output);
+        }
+    }
+
     // =========== Insert ===========
 
     /**
@@ -563,7 +683,8 @@ public class DatabaseFacade implements InitializingBean {
     }
 
     /**
-     * Nextval.
+     * Nextval. If DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE is set above 1, the values are reserved from
+     * the database in blocks and handed out from memory (see {@link SequenceCache}).
      *
      * @param sequence the sequence
      * @param datasourceName the datasource name
@@ -572,11 +693,25 @@ public class DatabaseFacade implements InitializingBean {
      * @throws SQLException the SQL exception
      */
     public static final long nextval(String sequence, String datasourceName, String tableName) throws SQLException {
-        DataSource dataSource = getDataSource(datasourceName);
+        DirigibleDataSource dataSource = getDataSource(datasourceName);
         if (dataSource == null) {
             String error = format("DataSource {0} not known.", datasourceName);
             throw new IllegalArgumentException(error);
         }
+        return SequenceCache.nextval(dataSource, sequence, () -> SequenceCache.readDefinition(dataSource, sequence),
+                () -> nextvalInternal(sequence, dataSource, tableName));
+    }
+
+    /**
+     * Takes the next value of the sequence from the database, creating the sequence if needed.
+     *
+     * @param sequence the sequence
+     * @param dataSource the data source
+     * @param tableName the table name
+     * @return the nextval
+     * @throws SQLException the SQL exception
+     */
+    private static long nextvalInternal(String sequence, DataSource dataSource, String tableName) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
             try {
                 return getNextVal(sequence, connection);
@@ -605,9 +740,8 @@ public class DatabaseFacade implements InitializingBean {
      * @throws SQLException the SQL exception
      */
     private static long getNextVal(String sequence, Connection connection) throws SQLException {
-        String sql = SqlFactory.getNative(connection)
-                               .nextval(sequence)
-                               .build();
+        String sql = SqlStatementCache.get(SqlFactory.deriveDialect(connection), "nextval:" + sequence, factory -> factory.nextval(sequence)
+                                                                                                                          .build());
         try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
             ResultSet resultSet = preparedStatement.executeQuery();
             if (resultSet.next()) {
@@ -692,11 +826,12 @@ public class DatabaseFacade implements InitializingBean {
      * @throws SQLException the SQL exception
      */
     public static final void createSequence(String sequence, Integer start, String datasourceName) throws SQLException {
-        DataSource dataSource = getDataSource(datasourceName);
+        DirigibleDataSource dataSource = getDataSource(datasourceName);
         if (dataSource == null) {
             String error = format("DataSource {0} not known.", datasourceName);
             throw new IllegalArgumentException(error);
         }
+        SequenceCache.invalidate(dataSource, sequence);
         try (Connection connection = dataSource.getConnection()) {
             createSequenceInternal(sequence, start, connection, null);
 
@@ -734,11 +869,12 @@ public class DatabaseFacade implements InitializingBean {
      * @throws SQLException the SQL exception
      */
     public static final void dropSequence(String sequence, String datasourceName) throws SQLException {
-        DataSource dataSource = getDataSource(datasourceName);
+        DirigibleDataSource dataSource = getDataSource(datasourceName);
         if (dataSource == null) {
             String error = format("DataSource {0} not known.", datasourceName);
             throw new IllegalArgumentException(error);
         }
+        SequenceCache.invalidate(dataSource, sequence);
         try (Connection connection = dataSource.getConnection()) {
             String sql = SqlFactory.getNative(connection)
                                    .drop()
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.db;
+
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.lang.ref.Cleaner;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.eclipse.dirigible.components.base.context.ThreadContextFacade;
+import org.eclipse.dirigible.components.data.management.format.ColumnPlan;
+import org.eclipse.dirigible.components.data.management.format.ResultSetJsonWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Cursor over the result of a query. The rows are fetched from the database in chunks of the
+ * configured fetch size and each row is converted to JSON only when it is requested, so the whole
+ * result is never held in memory. The cursor holds its connection until it is exhausted or closed.
+ *
+ * A cursor opened in a thread context, e.g. of an HTTP request, is closed at the latest when the
+ * context is torn down. The connection of a cursor, which is neither exhausted nor closed, is
+ * released once the cursor is garbage collected.
+ */
+public class QueryCursor implements AutoCloseable {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(QueryCursor.class);
+
+    /** The Constant JSON_FACTORY. */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /** The Constant CLEANER, which releases the resources of the abandoned cursors. */
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    /** The resources. */
+    private final Resources resources;
+
+    /** The cleanable, which releases the resources. */
+    private final Cleaner.Cleanable cleanable;
+
+    /** The result set. */
+    private final ResultSet resultSet;
+
+    /** The writer. */
+    private final ResultSetJsonWriter writer;
+
+    /** The column plan, built on the first written row. */
+    private ColumnPlan plan;
+
+    /** Whether the result set has been moved to the next row, which is not consumed yet. */
+    private boolean advanced;
+
+    /** Whether the result set is positioned on a row. */
+    private boolean hasRow;
+
+    /** The closed. */
+    private boolean closed;
+
+    /**
+     * Instantiates a new query cursor and registers it in the current thread context, if any.
+     *
+     * @param connection the connection
+     * @param statement the statement
+     * @param resultSet the result set
+     * @param restoreAutoCommit whether the auto-commit of the connection has been disabled for the
+     *        cursor and has to be restored on close
+     */
+    QueryCursor(Connection connection, AutoCloseable statement, ResultSet resultSet, boolean restoreAutoCommit) {
+        this.resultSet = resultSet;
+        this.writer = new ResultSetJsonWriter();
+        this.writer.setLimited(false);
+        this.writer.setStringified(false);
+        this.resources = new Resources(connection, statement, resultSet, restoreAutoCommit);
+        this.cleanable = CLEANER.register(this, resources);
+        ThreadContextFacade.addCloseable(this);
+    }
+
+    /**
+     * Checks if there is a next row.
+     *
+     * @return true, if there is a next row
+     * @throws SQLException the SQL exception
+     */
+    public boolean hasNext() throws SQLException {
+        if (!advanced) {
+            hasRow = !closed && resultSet.next();
+            advanced = true;
+            if (!hasRow) {
+                close();
+            }
+        }
+        return hasRow;
+    }
+
+    /**
+     * Gets the next row as a JSON object.
+     *
+     * @return the row or null, if there are no more rows
+     * @throws Exception the exception
+     */
+    public String next() throws Exception {
+        if (!hasNext()) {
+            return null;
+        }
+        StringWriter output = new StringWriter();
+        try (JsonGenerator jsonGenerator = JSON_FACTORY.createGenerator(output)) {
+            writeNext(jsonGenerator);
+        }
+        return output.toString();
+    }
+
+    /**
+     * Gets up to the given number of next rows as a JSON array.
+     *
+     * @param size the max number of rows
+     * @return the rows, an empty array if there are no more rows
+     * @throws Exception the exception
+     */
+    public String nextBatch(int size) throws Exception {
+        StringWriter output = new StringWriter();
+        try (JsonGenerator jsonGenerator = JSON_FACTORY.createGenerator(output)) {
+            jsonGenerator.writeStartArray();
+            for (int i = 0; i < size && hasNext(); i++) {
+                writeNext(jsonGenerator);
+            }
+            jsonGenerator.writeEndArray();
+        }
+        return output.toString();
+    }
+
+    /**
+     * Writes all the remaining rows as a JSON array to the output. The output is flushed, but not
+     * closed.
+     *
+     * @param output the output
+     * @throws Exception the exception
+     */
+    public void writeAll(OutputStream output) throws Exception {
+        JsonGenerator jsonGenerator = JSON_FACTORY.createGenerator(output);
+        jsonGenerator.writeStartArray();
+        while (hasNext()) {
+            writeNext(jsonGenerator);
+        }
+        jsonGenerator.writeEndArray();
+        jsonGenerator.flush();
+    }
+
+    /**
+     * Writes the current row and marks it as consumed.
+     *
+     * @param jsonGenerator the JSON generator
+     * @throws Exception the exception
+     */
+    private void writeNext(JsonGenerator jsonGenerator) throws Exception {
+        advanced = false;
+        plan = plan == null ? ColumnPlan.of(resultSet) : plan.forRow(resultSet);
+        writer.writeRow(resultSet, jsonGenerator, plan);
+    }
+
+    /**
+     * Closes the result set, the statement and releases the connection.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        hasRow = false;
+        advanced = true;
+        ThreadContextFacade.removeCloseable(this);
+        resources.closed = true;
+        cleanable.clean();
+    }
+
+    /**
+     * The resources of a cursor. They are released either on close or by the cleaner, once the cursor
+     * is not reachable anymore, so they must not refer to the cursor.
+     */
+    private static class Resources implements Runnable {
+
+        /** The connection. */
+        private final Connection connection;
+
+        /** The statement. */
+        private final AutoCloseable statement;
+
+        /** The result set. */
+        private final ResultSet resultSet;
+
+        /** Whether the auto-commit has been disabled for the cursor and has to be restored. */
+        private final boolean restoreAutoCommit;
+
+        /** Whether the cursor has been closed. */
+        private volatile boolean closed;
+
+        /**
+         * Instantiates new resources.
+         *
+         * @param connection the connection
+         * @param statement the statement
+         * @param resultSet the result set
+         * @param restoreAutoCommit the restore auto commit
+         */
+        Resources(Connection connection, AutoCloseable statement, ResultSet resultSet, boolean restoreAutoCommit) {
+            this.connection = connection;
+            this.statement = statement;
+            this.resultSet = resultSet;
+            this.restoreAutoCommit = restoreAutoCommit;
+        }
+
+        /**
+         * Releases the resources.
+         */
+        @Override
+        public void run() {
+            if (!closed) {
+                logger.warn("Query cursor has been neither exhausted nor closed, releasing its connection");
+            }
+            closeQuietly(resultSet);
+            closeQuietly(statement);
+            if (restoreAutoCommit) {
+                closeQuietly(() -> connection.setAutoCommit(true));
+            }
+            closeQuietly(connection);
+        }
+
+    }
+
+    /**
+     * Close quietly.
+     *
+     * @param closeable the closeable
+     */
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            logger.warn("Failed to close the query cursor resource", e);
+        }
+    }
+
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.db;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.components.database.DirigibleDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Hi/lo cache of sequence values per data source and sequence.
+ *
+ * A single value taken from the database (the hi value) is the n-th value of the sequence, where n =
+ * (hi - start) / increment, and reserves the values from the n * block size-th to the ((n + 1) *
+ * block size - 1)-th one, i.e. start + (n * block size + i) * increment, which are then handed out
+ * from memory. So the values keep the start and the increment of the sequence, e.g. a sequence
+ * starting at 1 and incremented by 1 still starts at 1. As the reserved blocks depend only on the hi
+ * value, several instances sharing the same database never hand out the same value, as long as they
+ * use the same block size. The block size of existing sequences may be increased, but must not be
+ * decreased, as the new blocks may overlap with the already used ones.
+ *
+ * The start and the increment are read from INFORMATION_SCHEMA.SEQUENCES after the first hi value
+ * has been taken. The values of sequences, whose definition cannot be read, e.g. on databases
+ * without this view or without sequences at all, are not cached.
+ *
+ * The blocks are kept per resolved data source, weakly referenced and compared by identity, as the
+ * same logical data source name resolves to a different data source in each tenant.
+ *
+ * The cache is disabled by default (block size of 1). It may be enabled only for sequences, whose
+ * values are taken exclusively through DatabaseFacade.nextval, as other consumers reading the
+ * database sequence directly, e.g. the persistence or the SQL builders, would get values from the
+ * reserved blocks.
+ */
+class SequenceCache {
+
+    /** The Constant DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE. */
+    static final String DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE = "DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE";
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(SequenceCache.class);
+
+    /** The query of the start and the increment of a sequence. */
+    private static final String SQL_SEQUENCE_DEFINITION =
+            "SELECT START_VALUE, INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES WHERE UPPER(SEQUENCE_NAME) = UPPER(?)";
+
+    /** The blocks per sequence per data source. */
+    private static final Cache<DirigibleDataSource, Map<String, Block>> BLOCKS = Caffeine.newBuilder()
+                                                                                         .weakKeys()
+                                                                                         .build();
+
+    /**
+     * Instantiates a new sequence cache.
+     */
+    private SequenceCache() {}
+
+    /**
+     * Gets the next value of the sequence. The hi supplier is called only when the current block of the
+     * sequence is exhausted, and the definition supplier only after the first hi value of the sequence
+     * has been taken.
+     *
+     * @param dataSource the data source
+     * @param sequence the sequence
+     * @param definitionSupplier the supplier of the definition of the sequence
+     * @param hiSupplier the supplier of the next hi value
+     * @return the next value
+     * @throws SQLException the SQL exception
+     */
+    static long nextval(DirigibleDataSource dataSource, String sequence, DefinitionSupplier definitionSupplier, HiSupplier hiSupplier)
+            throws SQLException {
+        int blockSize = Configuration.getAsInt(DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE, 1);
+        if (blockSize <= 1) {
+            return hiSupplier.next();
+        }
+        Block block = BLOCKS.get(dataSource, k -> new ConcurrentHashMap<>())
+                            .computeIfAbsent(sequence, k -> new Block());
+        synchronized (block) {
+            if (block.uncached) {
+                return hiSupplier.next();
+            }
+            if (block.index >= block.blockSize || block.blockSize != blockSize) {
+                long hi = hiSupplier.next();
+                if (block.definition == null) {
+                    block.definition = definitionSupplier.get();
+                    if (block.definition == null || block.definition.increment() == 0) {
+                        logger.debug("The definition of sequence [{}] is not known, its values are not cached", sequence);
+                        block.uncached = true;
+                        return hi;
+                    }
+                }
+                long offset = Math.subtractExact(hi, block.definition.start());
+                if (offset % block.definition.increment() != 0 || offset / block.definition.increment() < 0) {
+                    // e.g. the sequence has been altered, so the hi value is handed out alone
+                    block.index = block.blockSize;
+                    return hi;
+                }
+                long first = Math.multiplyExact(offset / block.definition.increment(), blockSize);
+                block.base = Math.addExact(block.definition.start(), Math.multiplyExact(first, block.definition.increment()));
+                block.blockSize = blockSize;
+                block.index = 0;
+            }
+            return Math.addExact(block.base, Math.multiplyExact(block.index++, block.definition.increment()));
+        }
+    }
+
+    /**
+     * Reads the start and the increment of the sequence from the INFORMATION_SCHEMA.SEQUENCES view.
+     *
+     * @param dataSource the data source
+     * @param sequence the sequence
+     * @return the definition or null, if it cannot be read or is ambiguous
+     */
+    static Definition readDefinition(DataSource dataSource, String sequence) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(SQL_SEQUENCE_DEFINITION)) {
+            statement.setString(1, sequence);
+            Definition definition = null;
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    // the values are character data in some databases, e.g. PostgreSQL
+                    Definition found = new Definition(Long.parseLong(resultSet.getString(1)
+                                                                              .trim()),
+                            Long.parseLong(resultSet.getString(2)
+                                                    .trim()));
+                    if (definition != null && !definition.equals(found)) {
+                        // sequences with the same name in several schemas
+                        return null;
+                    }
+                    definition = found;
+                }
+            }
+            return definition;
+        } catch (SQLException | RuntimeException e) {
+            logger.debug("The definition of sequence [{}] cannot be read", sequence, e);
+            return null;
+        }
+    }
+
+    /**
+     * Drops the cached block of the sequence, e.g. after the sequence has been dropped or recreated.
+     *
+     * @param dataSource the data source
+     * @param sequence the sequence
+     */
+    static void invalidate(DirigibleDataSource dataSource, String sequence) {
+        Map<String, Block> blocks = BLOCKS.getIfPresent(dataSource);
+        if (blocks != null) {
+            blocks.remove(sequence);
+        }
+    }
+
+    /**
+     * The supplier of the hi values.
+     */
+    @FunctionalInterface
+    interface HiSupplier {
+
+        /**
+         * Gets the next hi value from the database.
+         *
+         * @return the hi value
+         * @throws SQLException the SQL exception
+         */
+        long next() throws SQLException;
+    }
+
+    /**
+     * The supplier of the definition of a sequence.
+     */
+    @FunctionalInterface
+    interface DefinitionSupplier {
+
+        /**
+         * Gets the definition of the sequence.
+         *
+         * @return the definition or null, if not known
+         */
+        Definition get();
+    }
+
+    /**
+     * The definition of a sequence.
+     *
+     * @param start the start value
+     * @param increment the increment
+     */
+    record Definition(long start, long increment) {
+    }
+
+    /**
+     * The reserved block of values.
+     */
+    private static class Block {
+
+        /** The definition of the sequence or null, if not read yet. */
+        private Definition definition;
+
+        /** Whether the values are not cached, as the definition of the sequence is not known. */
+        private boolean uncached;
+
+        /** The first value of the block. */
+        private long base;
+
+        /** The index of the next value in the block. */
+        private long index;
+
+        /** The block size. */
+        private int blockSize;
+    }
+
+}
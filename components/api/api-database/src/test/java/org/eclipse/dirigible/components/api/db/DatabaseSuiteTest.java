@@ -85,6 +85,16 @@ public class DatabaseSuiteTest {
         javascriptService.handleRequest("db-tests", "query-execute.js", null, null, false);
     }
 
+    /**
+     * Execute query cursor test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void executeQueryCursorTest() throws Exception {
+        javascriptService.handleRequest("db-tests", "query-cursor.js", null, null, false);
+    }
+
     /**
      * Execute update test.
      *
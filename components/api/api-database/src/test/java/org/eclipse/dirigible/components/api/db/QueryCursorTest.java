@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import org.eclipse.dirigible.components.base.context.ThreadContextFacade;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class QueryCursorTest.
+ */
+public class QueryCursorTest {
+
+    /** The data source. */
+    private JdbcDataSource dataSource;
+
+    /**
+     * Sets the up.
+     */
+    @BeforeEach
+    public void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:cursor;DB_CLOSE_DELAY=-1");
+    }
+
+    /**
+     * Tear down.
+     */
+    @AfterEach
+    public void tearDown() {
+        while (ThreadContextFacade.isValid()) {
+            ThreadContextFacade.tearDown();
+        }
+    }
+
+    /**
+     * Test the cursor left open is closed and its connection restored, when the context is torn down.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testClosedOnContextTearDown() throws Exception {
+        ThreadContextFacade.setUp();
+        Connection connection = dataSource.getConnection();
+        QueryCursor cursor = open(connection);
+        assertTrue(cursor.hasNext());
+        assertEquals("{\"X\":1}", cursor.next());
+
+        ThreadContextFacade.tearDown();
+
+        assertTrue(connection.isClosed());
+        assertFalse(cursor.hasNext());
+    }
+
+    /**
+     * Test the exhausted cursor releases its connection.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testClosedWhenExhausted() throws Exception {
+        ThreadContextFacade.setUp();
+        Connection connection = dataSource.getConnection();
+        QueryCursor cursor = open(connection);
+
+        assertEquals("[{\"X\":1},{\"X\":2}]", cursor.nextBatch(10));
+        assertFalse(cursor.hasNext());
+        assertTrue(connection.isClosed());
+
+        ThreadContextFacade.tearDown();
+    }
+
+    /**
+     * Opens a cursor over two rows.
+     *
+     * @param connection the connection
+     * @return the query cursor
+     * @throws Exception the exception
+     */
+    private static QueryCursor open(Connection connection) throws Exception {
+        connection.setAutoCommit(false);
+        PreparedStatement statement = connection.prepareStatement("SELECT X FROM SYSTEM_RANGE(1, 2)");
+        return new QueryCursor(connection, statement, statement.executeQuery(), true);
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.components.database.DirigibleDataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class SequenceCacheTest.
+ */
+public class SequenceCacheTest {
+
+    /** The definition of a sequence starting at 1 and incremented by 1. */
+    private static final SequenceCache.DefinitionSupplier DEFAULT = () -> new SequenceCache.Definition(1, 1);
+
+    /** The data source. */
+    private final DirigibleDataSource dataSource = mock(DirigibleDataSource.class);
+
+    /**
+     * Clean up.
+     */
+    @AfterEach
+    public void cleanUp() {
+        Configuration.remove(SequenceCache.DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE);
+        SequenceCache.invalidate(dataSource, "TEST_SEQUENCE");
+    }
+
+    /**
+     * Test values are handed out in blocks.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testBlocks() throws Exception {
+        Configuration.set(SequenceCache.DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE, "3");
+        AtomicLong sequence = new AtomicLong();
+        for (long expected = 1; expected <= 7; expected++) {
+            assertEquals(expected, SequenceCache.nextval(dataSource, "TEST_SEQUENCE", DEFAULT, sequence::incrementAndGet));
+        }
+        assertEquals(3, sequence.get());
+    }
+
+    /**
+     * Test the data sources of two tenants, resolved from the same data source name, do not share the
+     * blocks of a sequence with the same name.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testBlocksPerTenantDataSource() throws Exception {
+        Configuration.set(SequenceCache.DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE, "3");
+        DirigibleDataSource tenantDataSource = mock(DirigibleDataSource.class);
+        AtomicLong sequence = new AtomicLong();
+        AtomicLong tenantSequence = new AtomicLong();
+        try {
+            assertEquals(1, SequenceCache.nextval(dataSource, "TEST_SEQUENCE", DEFAULT, sequence::incrementAndGet));
+            assertEquals(1, SequenceCache.nextval(tenantDataSource, "TEST_SEQUENCE", DEFAULT, tenantSequence::incrementAndGet));
+            assertEquals(2, SequenceCache.nextval(tenantDataSource, "TEST_SEQUENCE", DEFAULT, tenantSequence::incrementAndGet));
+            assertEquals(2, SequenceCache.nextval(dataSource, "TEST_SEQUENCE", DEFAULT, sequence::incrementAndGet));
+            assertEquals(1, sequence.get());
+            assertEquals(1, tenantSequence.get());
+
+            SequenceCache.invalidate(tenantDataSource, "TEST_SEQUENCE");
+            assertEquals(4, SequenceCache.nextval(tenantDataSource, "TEST_SEQUENCE", DEFAULT, tenantSequence::incrementAndGet));
+            assertEquals(3, SequenceCache.nextval(dataSource, "TEST_SEQUENCE", DEFAULT, sequence::incrementAndGet));
+            assertEquals(1, sequence.get());
+        } finally {
+            SequenceCache.invalidate(tenantDataSource, "TEST_SEQUENCE");
+        }
+    }
+
+    /**
+     * Test the values of the blocks keep the start and the increment of the sequence.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testStartAndIncrement() throws Exception {
+        Configuration.set(SequenceCache.DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE, "3");
+        AtomicLong sequence = new AtomicLong(95);
+        for (long expected = 100; expected <= 140; expected += 5) {
+            assertEquals(expected, SequenceCache.nextval(dataSource, "TEST_SEQUENCE", () -> new SequenceCache.Definition(100, 5),
+                    () -> sequence.addAndGet(5)));
+        }
+        assertEquals(110, sequence.get());
+    }
+
+    /**
+     * Test the values of a sequence, whose definition is not known, are not cached.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testUnknownDefinition() throws Exception {
+        Configuration.set(SequenceCache.DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE, "3");
+        AtomicLong sequence = new AtomicLong(10);
+        AtomicInteger reads = new AtomicInteger();
+        for (long expected = 11; expected <= 14; expected++) {
+            assertEquals(expected, SequenceCache.nextval(dataSource, "TEST_SEQUENCE", () -> {
+                reads.incrementAndGet();
+                return null;
+            }, sequence::incrementAndGet));
+        }
+        assertEquals(1, reads.get());
+    }
+
+    /**
+     * Test the definition is read from the information schema.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testReadDefinition() throws Exception {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:sequences;DB_CLOSE_DELAY=-1");
+        try (Connection connection = h2.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SEQUENCE TEST_SEQUENCE START WITH 10 INCREMENT BY 3");
+            try {
+                assertEquals(new SequenceCache.Definition(10, 3), SequenceCache.readDefinition(h2, "test_sequence"));
+                assertNull(SequenceCache.readDefinition(h2, "OTHER_SEQUENCE"));
+            } finally {
+                statement.execute("DROP SEQUENCE TEST_SEQUENCE");
+            }
+        }
+    }
+
+    /**
+     * Test disabled cache.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testDisabled() throws Exception {
+        Configuration.set(SequenceCache.DIRIGIBLE_DATABASE_SEQUENCE_BLOCK_SIZE, "1");
+        AtomicLong sequence = new AtomicLong(10);
+        assertEquals(11, SequenceCache.nextval(dataSource, "TEST_SEQUENCE", DEFAULT, sequence::incrementAndGet));
+        assertEquals(12, SequenceCache.nextval(dataSource, "TEST_SEQUENCE", DEFAULT, sequence::incrementAndGet));
+    }
+
+    /**
+     * Test the cache is disabled by default.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testDisabledByDefault() throws Exception {
+        AtomicLong sequence = new AtomicLong(10);
+        assertEquals(11, SequenceCache.nextval(dataSource, "TEST_SEQUENCE", DEFAULT, sequence::incrementAndGet));
+        assertEquals(12, SequenceCache.nextval(dataSource, "TEST_SEQUENCE", DEFAULT, sequence::incrementAndGet));
+        assertEquals(12, sequence.get());
+    }
+
+}
@@ -0,0 +1,27 @@
+import { Query } from 'sdk/db/query';
+import { Update } from 'sdk/db/update';
+import { Assert } from 'test/assert';
+
+Update.execute("CREATE TABLE QC (A INT, B VARCHAR(10))");
+Update.execute("INSERT INTO QC VALUES (1, 'ABC')");
+Update.execute("INSERT INTO QC VALUES (2, 'DEF')");
+Update.execute("INSERT INTO QC VALUES (3, 'GHI')");
+
+const rows = [];
+for (const row of Query.cursor("SELECT * FROM QC WHERE A > ? ORDER BY A", [1], undefined, 1)) {
+    rows.push(row);
+}
+
+const cursor = Query.cursor("SELECT * FROM QC ORDER BY A");
+const batch = cursor.nextBatch(2);
+const last = cursor.next();
+const hasNext = cursor.hasNext();
+cursor.close();
+
+Update.execute("DROP TABLE QC");
+
+Assert.assertEquals(2, rows.length);
+Assert.assertEquals('DEF', rows[0].B);
+Assert.assertEquals(2, batch.length);
+Assert.assertEquals(3, last.A);
+Assert.assertFalse(hasNext);
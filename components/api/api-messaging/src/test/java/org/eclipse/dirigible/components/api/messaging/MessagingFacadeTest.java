@@ -14,6 +14,8 @@ import static org.junit.Assert.assertThrows;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import java.util.List;
+
 import jakarta.jms.JMSException;
 import org.eclipse.dirigible.components.listeners.service.MessageConsumer;
 import org.eclipse.dirigible.components.listeners.service.MessageProducer;
@@ -164,4 +166,39 @@ class MessagingFacadeTest {
         }
     }
 
+    @Nested
+    class SendBatchToQueueTest {
+
+        @Test
+        void happyPath() throws JMSException {
+            MessagingFacade.sendBatchToQueue(QUEUE, "[\"first\",\"second\"]", false);
+
+            verify(messageProducer).sendMessagesToQueue(QUEUE, List.of("first", "second"), false);
+        }
+
+        @Test
+        void onJMSException() throws JMSException {
+            doThrow(JMSException.class).when(messageProducer)
+                                       .sendMessagesToQueue(QUEUE, List.of(MESSAGE), true);
+
+            assertThrows(MessagingAPIException.class, () -> MessagingFacade.sendBatchToQueue(QUEUE, "[\"" + MESSAGE + "\"]", true));
+        }
+
+        @Test
+        void onInvalidMessages() {
+            assertThrows(MessagingAPIException.class, () -> MessagingFacade.sendBatchToQueue(QUEUE, "", true));
+        }
+    }
+
+    @Nested
+    class SendBatchToTopicTest {
+
+        @Test
+        void happyPath() throws JMSException {
+            MessagingFacade.sendBatchToTopic(TOPIC, "[\"first\",\"second\"]", true);
+
+            verify(messageProducer).sendMessagesToTopic(TOPIC, List.of("first", "second"), true);
+        }
+    }
+
 }
@@ -14,6 +14,8 @@
  *
  */
 
+import { OutputStream } from "sdk/io/streams";
+
 const DatabaseFacade = Java.type("org.eclipse.dirigible.components.api.db.DatabaseFacade");
 
 export interface QueryParameter {
@@ -38,6 +40,72 @@ export class Query {
 		const resultset = DatabaseFacade.queryNamed(sql, parameters ? JSON.stringify(parameters) : undefined, datasourceName);
 		return JSON.parse(resultset);
 	}
+
+	/**
+	 * Opens a cursor over the result, which fetches the rows with the given fetch size and converts them lazily
+	 */
+	public static cursor(sql: string, parameters?: (string | number | boolean | Date | QueryParameter)[], datasourceName?: string, fetchSize?: number): QueryCursor {
+		const native = DatabaseFacade.queryCursor(sql, parameters ? JSON.stringify(parameters) : undefined, datasourceName, fetchSize ?? 0);
+		return new QueryCursor(native);
+	}
+
+	/**
+	 * Opens a cursor over the result of a query with named parameters, which fetches the rows lazily
+	 */
+	public static cursorNamed(sql: string, parameters?: NamedQueryParameter[], datasourceName?: string, fetchSize?: number): QueryCursor {
+		const native = DatabaseFacade.queryNamedCursor(sql, parameters ? JSON.stringify(parameters) : undefined, datasourceName, fetchSize ?? 0);
+		return new QueryCursor(native);
+	}
+
+	/**
+	 * Streams the result as JSON array directly to the output stream, e.g. response.getOutputStream()
+	 */
+	public static stream(sql: string, parameters: (string | number | boolean | Date | QueryParameter)[] | undefined, datasourceName: string | undefined, output: OutputStream): void {
+		DatabaseFacade.queryToStream(sql, parameters ? JSON.stringify(parameters) : undefined, datasourceName, output.native);
+	}
+
+	/**
+	 * Streams the result of a query with named parameters as JSON array directly to the output stream
+	 */
+	public static streamNamed(sql: string, parameters: NamedQueryParameter[] | undefined, datasourceName: string | undefined, output: OutputStream): void {
+		DatabaseFacade.queryNamedToStream(sql, parameters ? JSON.stringify(parameters) : undefined, datasourceName, output.native);
+	}
+}
+
+export class QueryCursor implements Iterable<any> {
+
+	private readonly native: any;
+
+	constructor(native: any) {
+		this.native = native;
+	}
+
+	public hasNext(): boolean {
+		return this.native.hasNext();
+	}
+
+	public next(): any | undefined {
+		const row = this.native.next();
+		return row === null || row === undefined ? undefined : JSON.parse(row);
+	}
+
+	public nextBatch(size: number): any[] {
+		return JSON.parse(this.native.nextBatch(size));
+	}
+
+	public close(): void {
+		this.native.close();
+	}
+
+	*[Symbol.iterator](): Iterator<any> {
+		try {
+			while (this.native.hasNext()) {
+				yield JSON.parse(this.native.next());
+			}
+		} finally {
+			this.native.close();
+		}
+	}
 }
 
 // @ts-ignore
@@ -15,6 +15,13 @@
 
 const MessagingFacade = Java.type("org.eclipse.dirigible.components.api.messaging.MessagingFacade");
 
+export interface SendOptions {
+	/**
+	 * Whether the message is persistent (the default), or sent asynchronously without waiting for the broker otherwise
+	 */
+	persistent?: boolean;
+}
+
 export class Producer {
 
 	public static queue(destination: string) {
@@ -34,8 +41,12 @@ class Queue {
 		this.destination = destination;
 	}
 
-	public send(message: string) {
-		MessagingFacade.sendToQueue(this.destination, message);
+	public send(message: string, options: SendOptions = {}) {
+		MessagingFacade.sendToQueue(this.destination, message, options.persistent ?? true);
+	}
+
+	public sendBatch(messages: string[], options: SendOptions = {}) {
+		MessagingFacade.sendBatchToQueue(this.destination, JSON.stringify(messages), options.persistent ?? true);
 	}
 }
 
@@ -47,8 +58,12 @@ class Topic {
 		this.destination = destination;
 	}
 
-	public send(message: string) {
-		MessagingFacade.sendToTopic(this.destination, message);
+	public send(message: string, options: SendOptions = {}) {
+		MessagingFacade.sendToTopic(this.destination, message, options.persistent ?? true);
+	}
+
+	public sendBatch(messages: string[], options: SendOptions = {}) {
+		MessagingFacade.sendBatchToTopic(this.destination, JSON.stringify(messages), options.persistent ?? true);
 	}
 }
 
@@ -10,16 +10,32 @@
 package org.eclipse.dirigible.components.base.artefact.topology;
 
 import org.eclipse.dirigible.components.base.artefact.ArtefactPhase;
+import org.eclipse.dirigible.components.base.context.ContextException;
+import org.eclipse.dirigible.components.base.context.ThreadContextFacade;
+import org.eclipse.dirigible.components.base.tenant.Tenant;
+import org.eclipse.dirigible.components.base.tenant.TenantContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * The Class TopologicalDepleter.
  *
+ * If an executor is provided, the depletables are grouped by their dependency level and the ones on
+ * the same level are completed in parallel, level by level. The tenant and the thread context of
+ * the calling thread are passed to the parallel completions.
+ *
  * @param <T> the generic type
  */
 public class TopologicalDepleter<T extends TopologicallyDepletable> {
@@ -27,6 +43,42 @@ public class TopologicalDepleter<T extends TopologicallyDepletable> {
     /** The Constant logger. */
     private static final Logger logger = LoggerFactory.getLogger(TopologicalDepleter.class);
 
+    /** The executor, if the depletables of the same level are completed in parallel. */
+    private final ExecutorService executor;
+
+    /**
+     * The tenant context, if the tenant of the calling thread is passed to the parallel completions.
+     */
+    private final TenantContext tenantContext;
+
+    /**
+     * Instantiates a new sequential topological depleter.
+     */
+    public TopologicalDepleter() {
+        this(null);
+    }
+
+    /**
+     * Instantiates a new topological depleter.
+     *
+     * @param executor the executor for the parallel completion or null for sequential completion
+     */
+    public TopologicalDepleter(ExecutorService executor) {
+        this(executor, null);
+    }
+
+    /**
+     * Instantiates a new topological depleter, which completes the depletables in the tenant of the
+     * calling thread.
+     *
+     * @param executor the executor for the parallel completion or null for sequential completion
+     * @param tenantContext the tenant context
+     */
+    public TopologicalDepleter(ExecutorService executor, TenantContext tenantContext) {
+        this.executor = executor;
+        this.tenantContext = tenantContext;
+    }
+
     /**
      * Deplete.
      *
@@ -35,6 +87,9 @@ public class TopologicalDepleter<T extends TopologicallyDepletable> {
      * @return the list
      */
     public Set<T> deplete(Set<T> list, ArtefactPhase flow) {
+        if (executor != null) {
+            return depleteByLevels(list, flow);
+        }
         Set<T> depletables = new HashSet<>();
         depletables.addAll(list);
         int count = depletables.size();
@@ -58,4 +113,163 @@ public class TopologicalDepleter<T extends TopologicallyDepletable> {
         return depletables;
     }
 
+    /**
+     * Deplete the depletables of the same dependency level in parallel.
+     *
+     * @param list the list
+     * @param flow the flow
+     * @return the list
+     */
+    private Set<T> depleteByLevels(Set<T> list, ArtefactPhase flow) {
+        Set<T> depletables = new HashSet<>(list);
+        List<List<T>> levels = getLevels(depletables);
+        if (ArtefactPhase.PREPARE.equals(flow)) {
+            // the dependent artefacts are prepared before their dependencies
+            Collections.reverse(levels);
+        }
+        Tenant tenant = tenantContext != null && tenantContext.isInitialized() ? tenantContext.getCurrentTenant() : null;
+        Map<String, Object> context = getThreadContext();
+        int count = depletables.size();
+        boolean repeat = true;
+        do {
+            for (List<T> level : levels) {
+                List<T> pending = level.stream()
+                                       .filter(depletables::contains)
+                                       .toList();
+                List<Future<Boolean>> futures = new ArrayList<>(pending.size());
+                for (T depletable : pending) {
+                    futures.add(executor.submit(() -> complete(depletable, flow, tenant, context)));
+                }
+                for (int i = 0; i < pending.size(); i++) {
+                    T depletable = pending.get(i);
+                    try {
+                        if (Boolean.TRUE.equals(futures.get(i)
+                                                       .get())) {
+                            depletables.remove(depletable);
+                        }
+                    } catch (ExecutionException e) {
+                        logger.error("Error has been thrown on depleting artefact: [{}] at phase: [{}]", depletable.getId(),
+                                flow.getValue());
+                        depletables.remove(depletable);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread()
+                              .interrupt();
+                        return depletables;
+                    }
+                }
+            }
+            repeat = count > depletables.size();
+            count = depletables.size();
+        } while (repeat);
+        return depletables;
+    }
+
+    /**
+     * Gets a copy of the thread context of the calling thread.
+     *
+     * @return the context objects, empty if there is no thread context
+     */
+    private static Map<String, Object> getThreadContext() {
+        if (!ThreadContextFacade.isValid()) {
+            return Map.of();
+        }
+        try {
+            return ThreadContextFacade.getObjects();
+        } catch (ContextException e) {
+            logger.warn("Cannot get the thread context", e);
+            return Map.of();
+        }
+    }
+
+    /**
+     * Completes the depletable on the executor thread in the tenant and in its own copy of the thread
+     * context of the calling thread. The previous context of the executor thread is restored
+     * afterwards.
+     *
+     * @param depletable the depletable
+     * @param flow the flow
+     * @param tenant the tenant or null, if there is no current tenant
+     * @param context the thread context objects of the calling thread
+     * @return true, if successful
+     */
+    private boolean complete(T depletable, ArtefactPhase flow, Tenant tenant, Map<String, Object> context) {
+        ThreadContextFacade.setUp(context);
+        try {
+            return completeInTenant(depletable, flow, tenant);
+        } finally {
+            ThreadContextFacade.tearDown();
+        }
+    }
+
+    /**
+     * Completes the depletable in the tenant.
+     *
+     * @param depletable the depletable
+     * @param flow the flow
+     * @param tenant the tenant or null, if there is no current tenant
+     * @return true, if successful
+     */
+    private boolean completeInTenant(T depletable, ArtefactPhase flow, Tenant tenant) {
+        if (tenant == null) {
+            return depletable.complete(flow);
+        }
+        return tenantContext.execute(tenant, () -> depletable.complete(flow));
+    }
+
+    /**
+     * Groups the depletables by dependency level. Only the dependencies within the given set are
+     * considered, so the depletables without such dependencies are on the first level.
+     *
+     * @param depletables the depletables
+     * @return the levels
+     */
+    private List<List<T>> getLevels(Set<T> depletables) {
+        Map<String, T> byId = new HashMap<>();
+        for (T depletable : depletables) {
+            byId.put(depletable.getId(), depletable);
+        }
+        Map<String, Integer> levelById = new HashMap<>();
+        List<List<T>> levels = new ArrayList<>();
+        for (T depletable : depletables) {
+            int level = getLevel(depletable, byId, levelById, new HashSet<>());
+            while (levels.size() <= level) {
+                levels.add(new ArrayList<>());
+            }
+            levels.get(level)
+                  .add(depletable);
+        }
+        return levels;
+    }
+
+    /**
+     * Gets the dependency level of the depletable. Cyclic dependencies are ignored.
+     *
+     * @param depletable the depletable
+     * @param byId the depletables by id
+     * @param levelById the already calculated levels by id
+     * @param visiting the ids of the depletables being visited
+     * @return the level
+     */
+    private int getLevel(T depletable, Map<String, T> byId, Map<String, Integer> levelById, Set<String> visiting) {
+        Integer known = levelById.get(depletable.getId());
+        if (known != null) {
+            return known;
+        }
+        if (!visiting.add(depletable.getId())) {
+            return 0;
+        }
+        int level = 0;
+        if (depletable instanceof TopologicallySortable sortable) {
+            for (TopologicallySortable dependency : sortable.getDependencies()) {
+                T dependent = byId.get(dependency.getId());
+                if (dependent != null && dependent != depletable) {
+                    level = Math.max(level, getLevel(dependent, byId, levelById, visiting) + 1);
+                }
+            }
+        }
+        visiting.remove(depletable.getId());
+        levelById.put(depletable.getId(), level);
+        return level;
+    }
+
 }
@@ -71,6 +71,21 @@ public class ThreadContextFacade {
         }
     }
 
+    /**
+     * Initializes a context with a copy of the given objects only, instead of the objects of the parent
+     * contexts, e.g. on a worker thread acting on behalf of another thread. The previous context of the
+     * worker thread, if any, is restored on {@link #tearDown()}.
+     *
+     * @param objects the objects
+     */
+    public static void setUp(Map<String, Object> objects) {
+        setUp();
+        Map<String, Object> current = STACKED_CONTEXT.get()
+                                                     .get(STACK_ID.get());
+        current.clear();
+        current.putAll(objects);
+    }
+
     /**
      * Collect parent objects.
      *
@@ -107,7 +122,8 @@ public class ThreadContextFacade {
         if (stackedCloseablesIsNotEmpty()) {
             Map<String, AutoCloseable> CLOSEABLES = STACKED_CLOSEABLES.get()
                                                                       .get(stackId);
-            for (Entry<String, AutoCloseable> closeable : CLOSEABLES.entrySet()) {
+            // a copy, as the closeables may remove themselves on close
+            for (Entry<String, AutoCloseable> closeable : new ArrayList<>(CLOSEABLES.entrySet())) {
                 try {
                     if (logger.isErrorEnabled()) {
                         logger.error("Object of type {} from the context {} has not been closed properly.", closeable.getValue()
@@ -204,6 +220,18 @@ public class ThreadContextFacade {
         }
     }
 
+    /**
+     * Gets a copy of the objects of the current context, so that they can be set up in the context of
+     * another thread.
+     *
+     * @return the objects
+     * @throws ContextException in case of an error
+     */
+    public static Map<String, Object> getObjects() throws ContextException {
+        checkContext();
+        return new HashMap<>(STACKED_CONTEXT.get()
+                                            .get(STACK_ID.get()));
+    }
 
     /**
      * Check context.
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.base.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The execution metrics of a single job, listener or another handler.
+ *
+ * The counters can be shared by concurrent executions and are updated without locking nor
+ * allocation. The execution times are also counted in a histogram with fixed buckets.
+ */
+public class ExecutionMetrics {
+
+    /**
+     * The upper bounds of the buckets in milliseconds. The last bucket counts the longer executions.
+     */
+    private static final long[] BOUNDS = {1, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000, 60000, 300000};
+
+    /** The name. */
+    private final String name;
+
+    /** The creation time. */
+    private final long createdAt = System.currentTimeMillis();
+
+    /** The succeeded executions. */
+    private final LongAdder succeeded = new LongAdder();
+
+    /** The failed executions. */
+    private final LongAdder failed = new LongAdder();
+
+    /** The total execution time in nanoseconds. */
+    private final LongAdder totalTime = new LongAdder();
+
+    /** The maximum execution time in nanoseconds. */
+    private final LongAccumulator maxTime = new LongAccumulator(Math::max, 0);
+
+    /** The time of the last execution. */
+    private final AtomicLong lastExecutedAt = new AtomicLong();
+
+    /** The counts by bucket. */
+    private final LongAdder[] buckets = new LongAdder[BOUNDS.length + 1];
+
+    /**
+     * Instantiates a new execution metrics.
+     *
+     * @param name the name
+     */
+    public ExecutionMetrics(String name) {
+        this.name = name;
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records an execution.
+     *
+     * @param nanos the execution time in nanoseconds
+     * @param success whether the execution succeeded
+     */
+    public void record(long nanos, boolean success) {
+        if (success) {
+            succeeded.increment();
+        } else {
+            failed.increment();
+        }
+        totalTime.add(nanos);
+        maxTime.accumulate(nanos);
+        long millis = nanos / 1_000_000;
+        int bucket = 0;
+        while (bucket < BOUNDS.length && millis > BOUNDS[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+        lastExecutedAt.set(System.currentTimeMillis());
+    }
+
+    /**
+     * Gets the name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the count of the succeeded executions.
+     *
+     * @return the succeeded executions
+     */
+    public long getSucceeded() {
+        return succeeded.sum();
+    }
+
+    /**
+     * Gets the count of the failed executions.
+     *
+     * @return the failed executions
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /**
+     * Gets the count of all the executions.
+     *
+     * @return the executions
+     */
+    public long getExecutions() {
+        return getSucceeded() + getFailed();
+    }
+
+    /**
+     * Gets the average executions per second since the metrics have been created.
+     *
+     * @return the throughput
+     */
+    public double getThroughput() {
+        return getExecutions() / (Math.max(1, System.currentTimeMillis() - createdAt) / 1000d);
+    }
+
+    /**
+     * Gets the average execution time in milliseconds.
+     *
+     * @return the average time
+     */
+    public double getAverageTime() {
+        long executions = getExecutions();
+        return executions > 0 ? totalTime.sum() / 1_000_000d / executions : 0;
+    }
+
+    /**
+     * Gets the maximum execution time in milliseconds.
+     *
+     * @return the max time
+     */
+    public long getMaxTime() {
+        return maxTime.get() / 1_000_000;
+    }
+
+    /**
+     * Gets the time of the last execution.
+     *
+     * @return the last executed at
+     */
+    public long getLastExecutedAt() {
+        return lastExecutedAt.get();
+    }
+
+    /**
+     * Gets the count of the executions by the upper bound of their bucket in milliseconds.
+     *
+     * @return the histogram
+     */
+    public Map<String, Long> getHistogram() {
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < buckets.length; i++) {
+            histogram.put(i < BOUNDS.length ? String.valueOf(BOUNDS[i]) : "+Inf", buckets[i].sum());
+        }
+        return histogram;
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.base.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * The execution metrics by name, e.g. of all the jobs or of all the listener destinations.
+ *
+ * @param <M> the type of the execution metrics
+ */
+public class ExecutionMetricsRegistry<M extends ExecutionMetrics> {
+
+    /** The metrics by name. */
+    private final Map<String, M> metrics = new ConcurrentHashMap<>();
+
+    /** The factory of the metrics of a name. */
+    private final Function<String, M> factory;
+
+    /**
+     * Instantiates a new execution metrics registry.
+     *
+     * @param factory the factory of the metrics of a name
+     */
+    protected ExecutionMetricsRegistry(Function<String, M> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Gets the metrics of the name, creating them if needed.
+     *
+     * @param name the name
+     * @return the metrics
+     */
+    public M getMetrics(String name) {
+        return metrics.computeIfAbsent(name, factory);
+    }
+
+    /**
+     * Gets the metrics of all the names, sorted by name.
+     *
+     * @return the metrics
+     */
+    public List<M> getAllMetrics() {
+        List<M> all = new ArrayList<>(metrics.values());
+        all.sort(Comparator.comparing(ExecutionMetrics::getName));
+        return all;
+    }
+
+}
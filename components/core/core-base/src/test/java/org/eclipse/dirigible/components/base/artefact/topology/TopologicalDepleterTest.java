@@ -10,12 +10,21 @@
 package org.eclipse.dirigible.components.base.artefact.topology;
 
 import org.eclipse.dirigible.components.base.artefact.ArtefactPhase;
+import org.eclipse.dirigible.components.base.context.ContextException;
+import org.eclipse.dirigible.components.base.context.ThreadContextFacade;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * The Class TopologicalDepleterTest.
@@ -168,4 +177,176 @@ public class TopologicalDepleterTest {
 
     }
 
+    /**
+     * The Class SortableDepletableNode.
+     */
+    public static class SortableDepletableNode extends DepletableNode implements TopologicallySortable {
+
+        /** The dependencies. */
+        private final List<TopologicallySortable> dependencies = new ArrayList<>();
+
+        /** The completed ids. */
+        private final List<String> completed;
+
+        /**
+         * Instantiates a new sortable depletable node.
+         *
+         * @param id the id
+         * @param completable the completable
+         * @param completed the completed ids
+         * @param dependencies the dependencies
+         */
+        public SortableDepletableNode(String id, int completable, List<String> completed, SortableDepletableNode... dependencies) {
+            super(id, completable);
+            this.completed = completed;
+            Collections.addAll(this.dependencies, dependencies);
+        }
+
+        /**
+         * Gets the dependencies.
+         *
+         * @return the dependencies
+         */
+        @Override
+        public List<TopologicallySortable> getDependencies() {
+            return dependencies;
+        }
+
+        /**
+         * Complete.
+         *
+         * @param flow the flow
+         * @return true, if successful
+         */
+        @Override
+        public boolean complete(ArtefactPhase flow) {
+            if (super.complete(flow)) {
+                completed.add(id);
+                return true;
+            }
+            return false;
+        }
+
+    }
+
+    /**
+     * Test depleted in parallel by dependency levels.
+     */
+    @Test
+    public void testDepletedByLevels() {
+        List<String> completed = Collections.synchronizedList(new ArrayList<>());
+        SortableDepletableNode nodeA = new SortableDepletableNode("A", 0, completed);
+        SortableDepletableNode nodeB = new SortableDepletableNode("B", 1, completed);
+        SortableDepletableNode nodeC = new SortableDepletableNode("C", 0, completed, nodeA);
+        SortableDepletableNode nodeD = new SortableDepletableNode("D", 0, completed, nodeA, nodeC);
+        SortableDepletableNode nodeE = new SortableDepletableNode("E", 9, completed, nodeB);
+
+        Set<SortableDepletableNode> list = new HashSet<>(List.of(nodeE, nodeD, nodeC, nodeB, nodeA));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            TopologicalDepleter<SortableDepletableNode> depleter = new TopologicalDepleter<>(executor);
+            Set<SortableDepletableNode> results = depleter.deplete(list, ArtefactPhase.CREATE);
+
+            assertEquals(Set.of(nodeE), results);
+            assertEquals(4, completed.size());
+            assertTrue(completed.indexOf("A") < completed.indexOf("C"));
+            assertTrue(completed.indexOf("C") < completed.indexOf("D"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Test the thread context of the calling thread is passed to the parallel completions.
+     *
+     * @throws ContextException the context exception
+     */
+    @Test
+    public void testDepletedByLevelsInThreadContext() throws ContextException {
+        List<Object> contexts = Collections.synchronizedList(new ArrayList<>());
+        List<String> completed = Collections.synchronizedList(new ArrayList<>());
+        SortableDepletableNode nodeA = new SortableDepletableNode("A", 0, completed) {
+            @Override
+            public boolean complete(ArtefactPhase flow) {
+                try {
+                    contexts.add(ThreadContextFacade.get("key"));
+                } catch (ContextException e) {
+                    contexts.add(e);
+                }
+                return super.complete(flow);
+            }
+        };
+        SortableDepletableNode nodeB = new SortableDepletableNode("B", 0, completed, nodeA);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        ThreadContextFacade.setUp();
+        try {
+            ThreadContextFacade.set("key", "value");
+            TopologicalDepleter<SortableDepletableNode> depleter = new TopologicalDepleter<>(executor);
+            Set<SortableDepletableNode> results = depleter.deplete(Set.of(nodeA, nodeB), ArtefactPhase.CREATE);
+
+            assertTrue(results.isEmpty());
+            assertEquals(List.of("value"), contexts);
+        } finally {
+            ThreadContextFacade.tearDown();
+            executor.shutdown();
+        }
+        assertFalse(ThreadContextFacade.isValid());
+    }
+
+    /**
+     * Test each parallel completion has its own copy of the thread context, which neither changes the
+     * context of the calling thread nor sees the previous context of the executor thread, which is
+     * restored afterwards.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testDepletedByLevelsInOwnThreadContext() throws Exception {
+        List<Object> contexts = Collections.synchronizedList(new ArrayList<>());
+        List<String> completed = Collections.synchronizedList(new ArrayList<>());
+        List<SortableDepletableNode> nodes = new ArrayList<>();
+        for (String id : List.of("A", "B")) {
+            nodes.add(new SortableDepletableNode(id, 0, completed) {
+                @Override
+                public boolean complete(ArtefactPhase flow) {
+                    try {
+                        contexts.add(ThreadContextFacade.get("key") + ":" + ThreadContextFacade.get("previous"));
+                        ThreadContextFacade.set("key", id);
+                    } catch (ContextException e) {
+                        contexts.add(e);
+                    }
+                    return super.complete(flow);
+                }
+            });
+        }
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        // the executor thread has a context of its own
+        executor.submit(() -> {
+            ThreadContextFacade.setUp();
+            ThreadContextFacade.set("previous", "value");
+            return null;
+        })
+                .get();
+        ThreadContextFacade.setUp();
+        try {
+            ThreadContextFacade.set("key", "value");
+            TopologicalDepleter<SortableDepletableNode> depleter = new TopologicalDepleter<>(executor);
+            Set<SortableDepletableNode> results = depleter.deplete(new HashSet<>(nodes), ArtefactPhase.CREATE);
+
+            assertTrue(results.isEmpty());
+            assertEquals(List.of("value:null", "value:null"), contexts);
+            assertEquals("value", ThreadContextFacade.get("key"));
+            assertEquals("value:null", executor.submit(() -> ThreadContextFacade.get("previous") + ":" + ThreadContextFacade.get("key"))
+                                               .get());
+        } finally {
+            ThreadContextFacade.tearDown();
+            executor.submit(ThreadContextFacade::tearDown)
+                    .get();
+            executor.shutdown();
+        }
+    }
+
 }
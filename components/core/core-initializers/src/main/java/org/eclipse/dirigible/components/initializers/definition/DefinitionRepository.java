@@ -9,6 +9,7 @@
  */
 package org.eclipse.dirigible.components.initializers.definition;
 
+import java.util.List;
 import java.util.Set;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -22,6 +23,14 @@ import org.springframework.transaction.annotation.Transactional;
 @Repository("definitionRepository")
 public interface DefinitionRepository extends JpaRepository<Definition, Long> {
 
+    /**
+     * Find by type.
+     *
+     * @param type the type
+     * @return the list
+     */
+    List<Definition> findByType(String type);
+
     /**
      * Update checksums.
      *
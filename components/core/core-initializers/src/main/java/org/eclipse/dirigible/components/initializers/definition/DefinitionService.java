@@ -40,6 +40,17 @@ public class DefinitionService {
         return definitionRepository.findAll();
     }
 
+    /**
+     * Gets all the definitions of the given type.
+     *
+     * @param type the type
+     * @return the definitions
+     */
+    @Transactional(readOnly = true)
+    public List<Definition> getByType(String type) {
+        return definitionRepository.findByType(type);
+    }
+
     /**
      * Gets the pages.
      *
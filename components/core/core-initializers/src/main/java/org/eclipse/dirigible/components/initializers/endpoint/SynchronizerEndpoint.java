@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.initializers.endpoint;
+
+import java.util.Map;
+
+import org.eclipse.dirigible.components.base.endpoint.BaseEndpoint;
+import org.eclipse.dirigible.components.initializers.synchronizer.SynchronizationProcessor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * The Class SynchronizerEndpoint.
+ */
+@RestController
+@RequestMapping(BaseEndpoint.PREFIX_ENDPOINT_CORE + "synchronizers")
+public class SynchronizerEndpoint extends BaseEndpoint {
+
+    /** The synchronization processor. */
+    private final SynchronizationProcessor synchronizationProcessor;
+
+    /**
+     * Instantiates a new synchronizer endpoint.
+     *
+     * @param synchronizationProcessor the synchronization processor
+     */
+    @Autowired
+    public SynchronizerEndpoint(SynchronizationProcessor synchronizationProcessor) {
+        this.synchronizationProcessor = synchronizationProcessor;
+    }
+
+    /**
+     * Gets the processing time in millis of the last synchronization per synchronizer artefact type.
+     *
+     * @return the response entity
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<Map<String, Long>> getMetrics() {
+        return ResponseEntity.ok(synchronizationProcessor.getSynchronizerTimings());
+    }
+
+}
@@ -23,6 +23,7 @@ import org.eclipse.dirigible.components.base.healthcheck.status.HealthCheckStatu
 import org.eclipse.dirigible.components.base.healthcheck.status.HealthCheckStatus.Jobs.JobStatus;
 import org.eclipse.dirigible.components.base.synchronizer.Synchronizer;
 import org.eclipse.dirigible.components.base.synchronizer.SynchronizerCallback;
+import org.eclipse.dirigible.components.base.tenant.TenantContext;
 import org.eclipse.dirigible.components.ide.problems.domain.Problem;
 import org.eclipse.dirigible.components.initializers.definition.Definition;
 import org.eclipse.dirigible.components.initializers.definition.DefinitionService;
@@ -31,19 +32,27 @@ import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.IRepositoryStructure;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.text.ParseException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -51,7 +60,7 @@ import java.util.stream.Collectors;
  */
 @Component
 @Scope("singleton")
-public class SynchronizationProcessor implements SynchronizationWalkerCallback, SynchronizerCallback {
+public class SynchronizationProcessor implements SynchronizationWalkerCallback, SynchronizerCallback, DisposableBean {
 
     /** The Constant logger. */
     private static final Logger logger = LoggerFactory.getLogger(SynchronizationProcessor.class);
@@ -69,6 +78,21 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
     /** The synchronizers. */
     private final List<Synchronizer<?, ?>> synchronizers;
 
+    /** The files collected by the walker in the current cycle. */
+    private final List<CollectedFile> collectedFiles = Collections.synchronizedList(new ArrayList<>());
+
+    /** The size, last modified time and checksum of the already collected files per location. */
+    private final Map<String, FileStat> fileStats = new ConcurrentHashMap<>();
+
+    /** The processing time in millis of the last synchronization per synchronizer. */
+    private final Map<String, Long> synchronizerTimings = new ConcurrentHashMap<>();
+
+    /** The keys of the artefacts completed in the current cycle. */
+    private final Set<String> completed = ConcurrentHashMap.newKeySet();
+
+    /** The keys of the artefacts completed since the last cross-processing round. */
+    private final Queue<String> completions = new ConcurrentLinkedQueue<>();
+
     /** The errors. */
     private final Set<String> errors = Collections.synchronizedSet(new HashSet<>());
 
@@ -78,6 +102,9 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
     /** The synchronization watcher. */
     private final SynchronizationWatcher synchronizationWatcher;
 
+    /** The tenant context. */
+    private final TenantContext tenantContext;
+
     /** The initialized. */
     private final AtomicBoolean initialized = new AtomicBoolean(false);
 
@@ -87,6 +114,21 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
     /** The processing. */
     private final AtomicBoolean processing = new AtomicBoolean(false);
 
+    /**
+     * The executor of the parallel completion of the artefacts. It is opt-in, as the artefacts of the
+     * same dependency level may still depend on each other implicitly.
+     */
+    private final ParallelExecutor executor = new ParallelExecutor("DIRIGIBLE_SYNCHRONIZER_PARALLELISM", 1, "dirigible-synchronizer-");
+
+    /**
+     * The executor of the parallel reading and hashing of the collected files, which is independent per
+     * file, hence parallel by default. It matters mostly on startup, as the stats of the already read
+     * files are kept in memory only and all the files are read and hashed again.
+     */
+    private final ParallelExecutor loader = new ParallelExecutor("DIRIGIBLE_SYNCHRONIZER_LOAD_PARALLELISM", Runtime.getRuntime()
+                                                                                                                   .availableProcessors(),
+            "dirigible-synchronizer-loader-");
+
     /**
      * Instantiates a new synchronization processor.
      *
@@ -94,15 +136,17 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
      * @param synchronizers the synchronizers
      * @param definitionService the definition service
      * @param synchronizationWatcher the synchronization watcher
+     * @param tenantContext the tenant context
      */
     @Autowired
     public SynchronizationProcessor(IRepository repository, List<Synchronizer<?, ?>> synchronizers, DefinitionService definitionService,
-            SynchronizationWatcher synchronizationWatcher) {
+            SynchronizationWatcher synchronizationWatcher, TenantContext tenantContext) {
         this.repository = repository;
         this.synchronizers = Collections.synchronizedList(synchronizers);
         logger.info("Registered [{}] synchronizers: [{}]", synchronizers.size(), synchronizers);
         this.definitionService = definitionService;
         this.synchronizationWatcher = synchronizationWatcher;
+        this.tenantContext = tenantContext;
         this.synchronizers.forEach(s -> s.setCallback(this));
     }
 
@@ -210,8 +254,10 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
 
             if (countNew > 0 || countModified > 0 || !initialized.get()) {
 
+                // artefacts of the same dependency level are processed in parallel, if configured
                 TopologicalSorter<TopologyWrapper<? extends Artefact>> sorter = new TopologicalSorter<>();
-                TopologicalDepleter<TopologyWrapper<? extends Artefact>> depleter = new TopologicalDepleter<>();
+                TopologicalDepleter<TopologyWrapper<? extends Artefact>> depleter = new TopologicalDepleter<>(executor.get(), tenantContext);
+                Map<String, Long> timings = new LinkedHashMap<>();
 
                 Collection<? extends Artefact> values = artefacts.values();
                 List<TopologyWrapper<? extends Artefact>> wrappers = TopologyFactory.wrap(values, synchronizers);
@@ -234,6 +280,7 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
                                                                                     .filter(w -> w.getSynchronizer()
                                                                                                   .equals(synchronizer))
                                                                                     .collect(Collectors.toSet());
+                    long start = System.currentTimeMillis();
                     try {
                         Set<TopologyWrapper<? extends Artefact>> results = depleter.deplete(unmodifiable, ArtefactPhase.PREPARE);
                         undepleted.addAll(results);
@@ -242,6 +289,7 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
                         logger.error(e.getMessage(), e);
                         addError(e.getMessage());
                     }
+                    timings.put(synchronizer.getArtefactType(), System.currentTimeMillis() - start);
                 }
                 logger.trace("Preparing for processing done.");
 
@@ -260,6 +308,7 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
                                                                                     .filter(w -> w.getSynchronizer()
                                                                                                   .equals(synchronizer))
                                                                                     .collect(Collectors.toSet());
+                    long start = System.currentTimeMillis();
                     try {
 
                         // phase create
@@ -291,54 +340,23 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
                                      .setStatus(synchronizer.getClass()
                                                             .getSimpleName(),
                                              JobStatus.Succeeded);
+                    long time = timings.merge(synchronizer.getArtefactType(), System.currentTimeMillis() - start, Long::sum);
+                    if (!unmodifiable.isEmpty()) {
+                        logger.debug("Synchronizer [{}] processed [{}] artefacts in [{}] ms", synchronizer.getArtefactType(),
+                                unmodifiable.size(), time);
+                    }
                 }
+                synchronizerTimings.putAll(timings);
 
                 // Processing of cross-synchronizer artefacts once again due to eventual dependency issues
-                int crossRetryCount = Configuration.getAsInt("DIRIGIBLE_SYNCHRONIZER_CROSS_RETRY_COUNT", 10);
-                int crossRetryInterval = Configuration.getAsInt("DIRIGIBLE_SYNCHRONIZER_CROSS_RETRY_INTERVAL", 10000);
-                int retryCount = 0;
                 if (!undepleted.isEmpty()) {
                     logger.warn("Cross-processing of undepleated artefacts...");
                     try {
-                        while (!undepleted.isEmpty()) {
-                            logger.info("Wait [{}] millis before next retry", crossRetryInterval);
-                            Thread.sleep(crossRetryInterval);
-
-                            logger.info("Retry [{}] - cross-processing of [{}] undepleated artefacts: [{}]", (retryCount + 1),
-                                    undepleted.size(), undepleted);
-                            Set<TopologyWrapper<? extends Artefact>> cross = new HashSet<>();
-                            Set<TopologyWrapper<? extends Artefact>> results = depleter.deplete(undepleted, ArtefactPhase.PREPARE);
-                            cross.addAll(results);
-                            registerErrors(results, ArtefactLifecycle.PREPARED);
-
-                            results = depleter.deplete(undepleted, ArtefactPhase.CREATE);
-                            cross.addAll(results);
-                            registerErrors(results, ArtefactLifecycle.CREATED);
-
-                            results = depleter.deplete(undepleted, ArtefactPhase.UPDATE);
-                            cross.addAll(results);
-                            registerErrors(results, ArtefactLifecycle.UPDATED);
-
-                            results = depleter.deplete(undepleted, ArtefactPhase.START);
-                            cross.addAll(results);
-                            registerErrors(results, ArtefactLifecycle.STARTED);
-
-                            String crossArtefactsLeft = cross.stream()
-                                                             .map(e -> e.getArtefact()
-                                                                        .getKey())
-                                                             .collect(Collectors.joining(", "));
-                            if (!cross.isEmpty()) {
-                                undepleted.clear();
-                                undepleted.addAll(cross);
-                                logger.warn("Retrying to deplete artefacts left after cross-processing: [{}] ", crossArtefactsLeft);
-                            }
-                            if (++retryCount == crossRetryCount) {
-                                logger.error("Final retry completed. Left artefacts after cross-processing: [{}]", crossArtefactsLeft);
-                                break;
-                            }
-                            logger.info("Retry [{}] completed - left [{}] undepleated artefacts: [{}].", retryCount, undepleted.size(),
-                                    undepleted);
-                        }
+                        crossProcess(depleter, undepleted);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread()
+                              .interrupt();
+                        logger.error("Cross-processing of undepleated artefacts has been interrupted", e);
                     } catch (Exception e) {
                         logger.error("Error occurred while cross-processing of undepleated artefacts", e);
                     }
@@ -360,6 +378,9 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
                         if (!repository.getResource(IRepositoryStructure.PATH_REGISTRY_PUBLIC + artefact.getLocation())
                                        .exists()) {
                             synchronizer.cleanup(artefact);
+                            if (artefact.getLocation() != null) {
+                                fileStats.remove(artefact.getLocation());
+                            }
                         }
                     }
                 }
@@ -403,11 +424,114 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
         }
     }
 
+    /**
+     * Cross-process the undepleted artefacts. The artefacts, which depend on an artefact completed
+     * since the previous round, are retried immediately. If there are no such artefacts, all the
+     * undepleted artefacts are retried with an exponential backoff, as they are most probably waiting
+     * for an external resource. The backoff starts at DIRIGIBLE_SYNCHRONIZER_CROSS_RETRY_INTERVAL
+     * (1000 ms by default, the former fixed interval was 10000 ms) and is doubled up to
+     * DIRIGIBLE_SYNCHRONIZER_CROSS_RETRY_MAX_INTERVAL (10000 ms by default).
+     *
+     * @param depleter the depleter
+     * @param undepleted the undepleted artefacts
+     * @throws InterruptedException the interrupted exception
+     */
+    void crossProcess(TopologicalDepleter<TopologyWrapper<? extends Artefact>> depleter,
+            Set<TopologyWrapper<? extends Artefact>> undepleted) throws InterruptedException {
+        int crossRetryCount = Configuration.getAsInt("DIRIGIBLE_SYNCHRONIZER_CROSS_RETRY_COUNT", 10);
+        long backoff = Configuration.getAsInt("DIRIGIBLE_SYNCHRONIZER_CROSS_RETRY_INTERVAL", 1000);
+        long maxBackoff = Configuration.getAsInt("DIRIGIBLE_SYNCHRONIZER_CROSS_RETRY_MAX_INTERVAL", 10000);
+        int retryCount = 0;
+        Set<TopologyWrapper<? extends Artefact>> remaining = new HashSet<>(undepleted);
+        while (!remaining.isEmpty()) {
+            Set<String> completedSinceLastRound = new HashSet<>();
+            String key;
+            while ((key = completions.poll()) != null) {
+                completedSinceLastRound.add(key);
+            }
+            Set<TopologyWrapper<? extends Artefact>> ready = remaining.stream()
+                                                                      .filter(w -> w.getArtefact()
+                                                                                    .getDependencies() != null
+                                                                              && w.getArtefact()
+                                                                                  .getDependencies()
+                                                                                  .stream()
+                                                                                  .anyMatch(completedSinceLastRound::contains))
+                                                                      .collect(Collectors.toSet());
+            if (ready.isEmpty()) {
+                if (retryCount++ == crossRetryCount) {
+                    logger.error("Final retry completed. Left artefacts after cross-processing: [{}]", getKeys(remaining));
+                    break;
+                }
+                logger.info("Wait [{}] millis before retry [{}]", backoff, retryCount);
+                Thread.sleep(backoff);
+                backoff = Math.min(backoff * 2, maxBackoff);
+                ready = remaining;
+            }
+
+            logger.info("Cross-processing of [{}] undepleated artefacts: [{}]", ready.size(), getKeys(ready));
+            Set<TopologyWrapper<? extends Artefact>> cross = new HashSet<>();
+            Set<TopologyWrapper<? extends Artefact>> results = depleter.deplete(ready, ArtefactPhase.PREPARE);
+            cross.addAll(results);
+            registerErrors(results, ArtefactLifecycle.PREPARED);
+
+            results = depleter.deplete(ready, ArtefactPhase.CREATE);
+            cross.addAll(results);
+            registerErrors(results, ArtefactLifecycle.CREATED);
+
+            results = depleter.deplete(ready, ArtefactPhase.UPDATE);
+            cross.addAll(results);
+            registerErrors(results, ArtefactLifecycle.UPDATED);
+
+            results = depleter.deplete(ready, ArtefactPhase.START);
+            cross.addAll(results);
+            registerErrors(results, ArtefactLifecycle.STARTED);
+
+            remaining.removeAll(ready);
+            remaining.addAll(cross);
+            if (!remaining.isEmpty()) {
+                logger.warn("Artefacts left after cross-processing: [{}]", getKeys(remaining));
+            }
+        }
+    }
+
+    /**
+     * Gets the keys of the artefacts.
+     *
+     * @param wrappers the wrappers
+     * @return the keys
+     */
+    private static String getKeys(Set<TopologyWrapper<? extends Artefact>> wrappers) {
+        return wrappers.stream()
+                       .map(e -> e.getArtefact()
+                                  .getKey())
+                       .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Shuts down the executors of the parallel synchronization tasks.
+     */
+    @Override
+    public void destroy() {
+        executor.shutdown();
+        loader.shutdown();
+    }
+
+    /**
+     * Gets the processing time in millis of the last synchronization per synchronizer artefact type.
+     *
+     * @return the synchronizer timings
+     */
+    public Map<String, Long> getSynchronizerTimings() {
+        return Collections.unmodifiableMap(synchronizerTimings);
+    }
+
     /**
      * Prepare.
      */
     private void prepare() {
         errors.clear();
+        completed.clear();
+        completions.clear();
         definitions.clear();
         artefacts.clear();
     }
@@ -418,11 +542,15 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
     private void collectFiles() {
         String registryFolder = getRegistryFolder();
         SynchronizationWalker synchronizationWalker = new SynchronizationWalker(this);
+        collectedFiles.clear();
         try {
             synchronizationWalker.walk(registryFolder);
+            checkAndCollect();
         } catch (IOException e) {
             logger.error(e.getMessage(), e);
             addError(e.getMessage());
+        } finally {
+            collectedFiles.clear();
         }
     }
 
@@ -457,7 +585,9 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
             Collection<Definition> immutableDefinitions = Collections.synchronizedCollection(map.values());
             for (Definition definition : immutableDefinitions) {
                 try {
-                    if (definition.getContent() == null) {
+                    // the content of the unchanged parsed and broken definitions is not loaded, as it is not needed
+                    if (definition.getContent() == null && !DefinitionState.PARSED.equals(definition.getState())
+                            && !DefinitionState.BROKEN.equals(definition.getState())) {
                         String error = String.format("Content of %s has not been loaded correctly", definition.getLocation());
                         registerBrokenState(definition, error);
                         continue;
@@ -591,6 +721,7 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
         definition.setState(DefinitionState.DELETED);
         definition.setMessage(msg);
         definitionService.save(definition);
+        fileStats.remove(definition.getLocation());
     }
 
     /**
@@ -628,41 +759,130 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
         for (Synchronizer<? extends Artefact, ?> synchronizer : synchronizers) {
             if (synchronizer.isAccepted(file, attrs)) {
                 // synchronizer knows this artifact, hence check whether to process it or not
-                try {
-                    checkAndCollect(file, location, synchronizer);
-                } catch (IOException e) {
-                    logger.error(e.getMessage(), e);
-                }
+                collectedFiles.add(new CollectedFile(file, attrs, location, synchronizer));
                 break;
             }
         }
     }
 
     /**
-     * Collect for processing, if new or modified.
+     * Collect the files found by the walker for processing, if new or modified. The known definitions
+     * are loaded with a single query per synchronizer, and the new and changed files are read and
+     * hashed in parallel by the loader executor.
+     */
+    void checkAndCollect() {
+        ExecutorService loader = this.loader.get();
+        Map<Synchronizer<? extends Artefact, ?>, List<CollectedFile>> filesPerSynchronizer = new LinkedHashMap<>();
+        for (CollectedFile collectedFile : collectedFiles) {
+            filesPerSynchronizer.computeIfAbsent(collectedFile.synchronizer(), k -> new ArrayList<>())
+                                .add(collectedFile);
+        }
+        for (Map.Entry<Synchronizer<? extends Artefact, ?>, List<CollectedFile>> entry : filesPerSynchronizer.entrySet()) {
+            Synchronizer<? extends Artefact, ?> synchronizer = entry.getKey();
+            Map<String, Definition> known = new HashMap<>();
+            definitionService.getByType(synchronizer.getArtefactType())
+                             .forEach(d -> known.put(d.getKey(), d));
+            List<Definition> loaded = load(entry.getValue(), known, loader);
+            for (Definition definition : loaded) {
+                if (definition != null) {
+                    checkAndCollect(definition, known.get(definition.getKey()), synchronizer);
+                }
+            }
+        }
+        collectedFiles.clear();
+    }
+
+    /**
+     * Load the definitions of the collected files.
      *
-     * @param file the file
-     * @param location the location
-     * @param synchronizer the synchronizer
-     * @throws IOException Signals that an I/O exception has occurred.
-     * @throws FileNotFoundException the file not found exception
+     * @param files the collected files
+     * @param known the known definitions by key
+     * @param loader the executor, which reads the files, or null, if they are read sequentially
+     * @return the definitions, or null for the files, which cannot be read
      */
-    private void checkAndCollect(Path file, String location, Synchronizer<? extends Artefact, ?> synchronizer)
-            throws IOException, FileNotFoundException {
+    private List<Definition> load(List<CollectedFile> files, Map<String, Definition> known, ExecutorService loader) {
+        if (loader == null) {
+            return files.stream()
+                        .map(f -> load(f, known))
+                        .toList();
+        }
+        List<Future<Definition>> futures = files.stream()
+                                                .map(f -> loader.submit(() -> load(f, known)))
+                                                .toList();
+        List<Definition> loaded = new ArrayList<>(futures.size());
+        for (Future<Definition> future : futures) {
+            try {
+                loaded.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                futures.forEach(f -> f.cancel(true));
+                throw new IllegalStateException("Loading of the definitions has been interrupted", e);
+            } catch (ExecutionException e) {
+                logger.error(e.getCause()
+                              .getMessage(),
+                        e.getCause());
+                loaded.add(null);
+            }
+        }
+        return loaded;
+    }
 
-        String type = synchronizer.getArtefactType();
+    /**
+     * Load the definition of the collected file. The file is neither read nor hashed, if its size and
+     * last modified time have not been changed since it was parsed successfully or found broken.
+     *
+     * @param collectedFile the collected file
+     * @param known the known definitions by key
+     * @return the definition or null, if the file cannot be read
+     */
+    private Definition load(CollectedFile collectedFile, Map<String, Definition> known) {
+        String location = collectedFile.location();
+        String name = FilenameUtils.getBaseName(collectedFile.file()
+                                                             .getFileName()
+                                                             .toString());
+        String type = collectedFile.synchronizer()
+                                   .getArtefactType();
+        long size = collectedFile.attrs()
+                                 .size();
+        long lastModified = collectedFile.attrs()
+                                         .lastModifiedTime()
+                                         .toMillis();
+
+        Definition definition = new Definition();
+        definition.setLocation(location);
+        definition.setName(name);
+        definition.setType(type);
+        definition.updateKey();
+        Definition maybe = known.get(definition.getKey());
+        FileStat stat = fileStats.get(location);
+        boolean unchanged = maybe != null && stat != null && stat.size() == size && stat.lastModified() == lastModified
+                && Objects.equals(stat.checksum(), maybe.getChecksum());
+        if (unchanged && (DefinitionState.PARSED.equals(maybe.getState()) || DefinitionState.BROKEN.equals(maybe.getState()))) {
+            definition.setChecksum(stat.checksum());
+            return definition;
+        }
 
         // load the content to calculate the checksum
-        byte[] content = Files.readAllBytes(file);
-        if (content == null) {
-            logger.error("Reading file {} returns null content", file.toString());
-            return;
+        try {
+            byte[] content = Files.readAllBytes(collectedFile.file());
+            definition = new Definition(location, name, type, content);
+            fileStats.put(location, new FileStat(size, lastModified, definition.getChecksum()));
+            return definition;
+        } catch (IOException e) {
+            logger.error(e.getMessage(), e);
+            return null;
         }
-        Definition definition = new Definition(location, FilenameUtils.getBaseName(file.getFileName()
-                                                                                       .toString()),
-                type, content);
-        // check whether this artefact has been processed in the past already
-        Definition maybe = definitionService.findByKey(definition.getKey());
+    }
+
+    /**
+     * Collect for processing, if new or modified.
+     *
+     * @param definition the definition of the collected file
+     * @param maybe the known definition with the same key, if any
+     * @param synchronizer the synchronizer
+     */
+    private void checkAndCollect(Definition definition, Definition maybe, Synchronizer<? extends Artefact, ?> synchronizer) {
         Map<String, Definition> map = checkSynchronizerMap(synchronizer);
         if (maybe != null) {
             // artefact has been processed in the past
@@ -839,6 +1059,16 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
         }
         Synchronizer s = synchronizer;
         s.setStatus(artefact, lifecycle, message);
+        switch (lifecycle) {
+            case CREATED:
+            case UPDATED:
+            case STARTED:
+                if (completed.add(artefact.getKey())) {
+                    completions.add(artefact.getKey());
+                }
+                break;
+            default:
+        }
     }
 
     public void registerState(Synchronizer<? extends Artefact, ?> synchronizer, TopologyWrapper<? extends Artefact> wrapper,
@@ -876,5 +1106,122 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
         registerState(synchronizer, wrapper.getArtefact(), lifecycle, message, cause);
     }
 
-}
+    /**
+     * The file found by the walker and the synchronizer, which accepted it.
+     *
+     * @param file the file
+     * @param attrs the attrs
+     * @param location the location
+     * @param synchronizer the synchronizer
+     */
+    private record CollectedFile(Path file, BasicFileAttributes attrs, String location, Synchronizer<? extends Artefact, ?> synchronizer) {
+    }
+
+    /**
+     * The executor of parallel synchronization tasks, which is kept between the cycles and recreated
+     * only when the configured parallelism changes.
+     */
+    private static class ParallelExecutor {
+
+        /** The configuration key of the parallelism. */
+        private final String parallelismKey;
+
+        /** The default parallelism. */
+        private final int defaultParallelism;
+
+        /** The prefix of the thread names. */
+        private final String threadPrefix;
+
+        /** The executor or null, if the tasks are processed sequentially. */
+        private ExecutorService executor;
+
+        /** The parallelism of the executor. */
+        private int parallelism = 1;
+
+        /**
+         * Instantiates a new parallel executor.
+         *
+         * @param parallelismKey the configuration key of the parallelism
+         * @param defaultParallelism the default parallelism
+         * @param threadPrefix the prefix of the thread names
+         */
+        ParallelExecutor(String parallelismKey, int defaultParallelism, String threadPrefix) {
+            this.parallelismKey = parallelismKey;
+            this.defaultParallelism = defaultParallelism;
+            this.threadPrefix = threadPrefix;
+        }
+
+        /**
+         * Gets the executor with the configured parallelism.
+         *
+         * @return the executor or null, if the tasks are processed sequentially
+         */
+        synchronized ExecutorService get() {
+            int configured = Math.max(1, Configuration.getAsInt(parallelismKey, defaultParallelism));
+            if (configured != parallelism) {
+                if (executor != null) {
+                    executor.shutdown();
+                }
+                executor = configured > 1 ? Executors.newFixedThreadPool(configured, new SynchronizerThreadFactory(threadPrefix)) : null;
+                parallelism = configured;
+            }
+            return executor;
+        }
+
+        /**
+         * Shuts down the executor.
+         */
+        synchronized void shutdown() {
+            if (executor != null) {
+                executor.shutdownNow();
+                executor = null;
+            }
+            parallelism = 1;
+        }
+    }
+
+    /**
+     * Creates the daemon threads of the parallel synchronization tasks.
+     */
+    private static class SynchronizerThreadFactory implements ThreadFactory {
+
+        /** The count of the created threads. */
+        private final AtomicInteger count = new AtomicInteger();
+
+        /** The prefix of the thread names. */
+        private final String prefix;
 
+        /**
+         * Instantiates a new synchronizer thread factory.
+         *
+         * @param prefix the prefix of the thread names
+         */
+        SynchronizerThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        /**
+         * New thread.
+         *
+         * @param runnable the runnable
+         * @return the thread
+         */
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    /**
+     * The size, last modified time and checksum of a file at the time it was last read.
+     *
+     * @param size the size
+     * @param lastModified the last modified
+     * @param checksum the checksum
+     */
+    private record FileStat(long size, long lastModified, String checksum) {
+    }
+
+}
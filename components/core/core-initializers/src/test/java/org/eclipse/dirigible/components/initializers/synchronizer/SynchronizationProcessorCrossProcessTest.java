@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.initializers.synchronizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mockStatic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.components.api.platform.ProblemsFacade;
+import org.eclipse.dirigible.components.base.artefact.Artefact;
+import org.eclipse.dirigible.components.base.artefact.ArtefactLifecycle;
+import org.eclipse.dirigible.components.base.artefact.ArtefactPhase;
+import org.eclipse.dirigible.components.base.artefact.topology.TopologicalDepleter;
+import org.eclipse.dirigible.components.base.artefact.topology.TopologyWrapper;
+import org.eclipse.dirigible.components.base.synchronizer.Synchronizer;
+import org.eclipse.dirigible.components.base.tenant.TenantContext;
+import org.eclipse.dirigible.components.initializers.definition.DefinitionService;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Tests the cross-processing of the artefacts, which have not been depleted in the processing of
+ * their synchronizers.
+ */
+@ExtendWith(MockitoExtension.class)
+public class SynchronizationProcessorCrossProcessTest {
+
+    /** The Constant TYPE. */
+    private static final String TYPE = "test";
+
+    /** The repository. */
+    @Mock
+    private IRepository repository;
+
+    /** The definition service. */
+    @Mock
+    private DefinitionService definitionService;
+
+    /** The synchronization watcher. */
+    @Mock
+    private SynchronizationWatcher synchronizationWatcher;
+
+    /** The tenant context. */
+    @Mock
+    private TenantContext tenantContext;
+
+    /** The synchronizer. */
+    @Mock
+    private Synchronizer<TestArtefact, Long> synchronizer;
+
+    /** The wrappers by key. */
+    private final Map<String, TopologyWrapper<TestArtefact>> wrappers = new HashMap<>();
+
+    /** The names of the artefacts, which can be created. */
+    private final Set<String> creatable = Collections.synchronizedSet(new HashSet<>());
+
+    /** The times in millis of the attempts to create an artefact. */
+    private final List<Long> attempts = Collections.synchronizedList(new ArrayList<>());
+
+    /** The processor. */
+    private SynchronizationProcessor processor;
+
+    /**
+     * Sets the up.
+     *
+     * @throws Exception the exception
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+        lenient().when(synchronizer.isAccepted(TYPE))
+                 .thenReturn(true);
+        // an artefact is completed in all the phases, except in the create phase until it becomes creatable
+        lenient().when(synchronizer.complete(any(), any()))
+                 .thenAnswer(invocation -> {
+                     TopologyWrapper<TestArtefact> wrapper = invocation.getArgument(0);
+                     if (!ArtefactPhase.CREATE.equals(invocation.getArgument(1))) {
+                         return true;
+                     }
+                     attempts.add(System.currentTimeMillis());
+                     if (!creatable.contains(wrapper.getArtefact()
+                                                    .getName())) {
+                         return false;
+                     }
+                     processor.registerState(synchronizer, wrapper.getArtefact(), ArtefactLifecycle.CREATED);
+                     return true;
+                 });
+        processor = new SynchronizationProcessor(repository, new ArrayList<>(List.of(synchronizer)), definitionService,
+                synchronizationWatcher, tenantContext);
+    }
+
+    /**
+     * Tear down.
+     */
+    @AfterEach
+    public void tearDown() {
+        processor.destroy();
+        Configuration.remove("DIRIGIBLE_SYNCHRONIZER_CROSS_RETRY_COUNT");
+        Configuration.remove("DIRIGIBLE_SYNCHRONIZER_CROSS_RETRY_INTERVAL");
+        Configuration.remove("DIRIGIBLE_SYNCHRONIZER_CROSS_RETRY_MAX_INTERVAL");
+    }
+
+    /**
+     * Test the artefacts, which depend on an artefact completed since the previous round, are retried
+     * immediately, without waiting for the backoff.
+     *
+     * @throws InterruptedException the interrupted exception
+     */
+    @Test
+    public void testImmediateRetryOnCompletedDependency() throws InterruptedException {
+        Configuration.set("DIRIGIBLE_SYNCHRONIZER_CROSS_RETRY_INTERVAL", "60000");
+        TestArtefact table = new TestArtefact("table");
+        TestArtefact view = new TestArtefact("view", table);
+        TestArtefact report = new TestArtefact("report", view);
+        creatable.addAll(Set.of("table", "view", "report"));
+        // the table has been completed in the processing of its synchronizer after the view and the report
+        processor.registerState(synchronizer, table, ArtefactLifecycle.CREATED);
+
+        long start = System.currentTimeMillis();
+        processor.crossProcess(new TopologicalDepleter<>(), Set.of(wrap(view), wrap(report)));
+
+        assertTrue(System.currentTimeMillis() - start < 30000, "The cross-processing should not wait for the backoff");
+        // the view is retried after the table, the report after the view
+        assertEquals(2, attempts.size());
+    }
+
+    /**
+     * Test the artefacts, which wait for an external resource, are retried with an exponential backoff
+     * capped at the max interval, until the retries are exhausted.
+     *
+     * @throws InterruptedException the interrupted exception
+     */
+    @Test
+    public void testCappedExponentialBackoff() throws InterruptedException {
+        Configuration.set("DIRIGIBLE_SYNCHRONIZER_CROSS_RETRY_COUNT", "4");
+        Configuration.set("DIRIGIBLE_SYNCHRONIZER_CROSS_RETRY_INTERVAL", "50");
+        Configuration.set("DIRIGIBLE_SYNCHRONIZER_CROSS_RETRY_MAX_INTERVAL", "100");
+        TestArtefact external = new TestArtefact("external");
+
+        long start = System.currentTimeMillis();
+        // the undepleted artefacts are reported as problems after each retry
+        try (MockedStatic<ProblemsFacade> problems = mockStatic(ProblemsFacade.class)) {
+            processor.crossProcess(new TopologicalDepleter<>(), Set.of(wrap(external)));
+        }
+
+        // 4 retries after 50, 100, 100 and 100 millis instead of 50, 100, 200 and 400 millis
+        assertEquals(4, attempts.size());
+        long[] minimums = {50, 100, 100, 100};
+        long previous = start;
+        for (int i = 0; i < minimums.length; i++) {
+            long wait = attempts.get(i) - previous;
+            assertTrue(wait >= minimums[i], "Retry " + (i + 1) + " after " + wait + " millis");
+            previous = attempts.get(i);
+        }
+        assertTrue(attempts.get(3) - attempts.get(2) < 400, "The backoff should be capped");
+    }
+
+    /**
+     * Wraps the artefact.
+     *
+     * @param artefact the artefact
+     * @return the topology wrapper
+     */
+    private TopologyWrapper<? extends Artefact> wrap(TestArtefact artefact) {
+        return new TopologyWrapper<>(artefact, wrappers, synchronizer);
+    }
+
+    /**
+     * The artefact of the test synchronizer.
+     */
+    static class TestArtefact extends Artefact {
+
+        /** The Constant serialVersionUID. */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Instantiates a new test artefact.
+         *
+         * @param name the name
+         * @param dependencies the artefacts it depends on
+         */
+        TestArtefact(String name, TestArtefact... dependencies) {
+            super("/" + name, name, TYPE, null, toKeys(dependencies));
+        }
+
+        /**
+         * Gets the keys of the artefacts.
+         *
+         * @param artefacts the artefacts
+         * @return the keys
+         */
+        private static Set<String> toKeys(TestArtefact... artefacts) {
+            Set<String> keys = new HashSet<>();
+            for (TestArtefact artefact : artefacts) {
+                keys.add(artefact.getKey());
+            }
+            return keys;
+        }
+    }
+
+}
@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.initializers.synchronizer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.components.base.artefact.Artefact;
+import org.eclipse.dirigible.components.base.synchronizer.Synchronizer;
+import org.eclipse.dirigible.components.base.tenant.TenantContext;
+import org.eclipse.dirigible.components.initializers.definition.Definition;
+import org.eclipse.dirigible.components.initializers.definition.DefinitionService;
+import org.eclipse.dirigible.components.initializers.definition.DefinitionState;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Tests the collecting of the files found by the walker, which reads only the new and the changed
+ * files.
+ */
+@ExtendWith(MockitoExtension.class)
+public class SynchronizationProcessorTest {
+
+    /** The Constant TYPE. */
+    private static final String TYPE = "test";
+
+    /** The folder. */
+    @TempDir
+    Path folder;
+
+    /** The repository. */
+    @Mock
+    private IRepository repository;
+
+    /** The definition service. */
+    @Mock
+    private DefinitionService definitionService;
+
+    /** The synchronization watcher. */
+    @Mock
+    private SynchronizationWatcher synchronizationWatcher;
+
+    /** The tenant context. */
+    @Mock
+    private TenantContext tenantContext;
+
+    /** The synchronizer. */
+    @Mock
+    private Synchronizer<Artefact, Long> synchronizer;
+
+    /** The stored definitions by key. */
+    private final Map<String, Definition> stored = new LinkedHashMap<>();
+
+    /** The processor. */
+    private SynchronizationProcessor processor;
+
+    /**
+     * Sets the up.
+     */
+    @BeforeEach
+    public void setUp() {
+        lenient().when(synchronizer.getArtefactType())
+                 .thenReturn(TYPE);
+        lenient().when(synchronizer.isAccepted(any(Path.class), any(BasicFileAttributes.class)))
+                 .thenReturn(true);
+        lenient().when(definitionService.getByType(TYPE))
+                 .thenAnswer(invocation -> stored.values()
+                                                 .stream()
+                                                 .map(SynchronizationProcessorTest::copy)
+                                                 .toList());
+        lenient().when(definitionService.save(any(Definition.class)))
+                 .thenAnswer(invocation -> {
+                     Definition definition = invocation.getArgument(0);
+                     stored.put(definition.getKey(), copy(definition));
+                     return definition;
+                 });
+        processor = new SynchronizationProcessor(repository, new ArrayList<>(List.of(synchronizer)), definitionService,
+                synchronizationWatcher, tenantContext);
+    }
+
+    /**
+     * Tear down.
+     */
+    @AfterEach
+    public void tearDown() {
+        processor.destroy();
+    }
+
+    /**
+     * Test a new file is read and collected as new.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testNewFile() throws IOException {
+        Path file = write("a.test", "first");
+
+        Definition definition = collect(file).get(key(file));
+
+        assertEquals(DefinitionState.NEW, definition.getState());
+        assertArrayEquals("first".getBytes(StandardCharsets.UTF_8), definition.getContent());
+        assertEquals(DefinitionState.NEW, stored.get(key(file))
+                                                .getState());
+    }
+
+    /**
+     * Test an unchanged parsed file is neither read nor hashed and is collected without content.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testUnchangedParsedFile() throws IOException {
+        assertUnchangedFileIsNotRead(DefinitionState.PARSED);
+    }
+
+    /**
+     * Test an unchanged broken file is neither read nor hashed and is collected without content.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testUnchangedBrokenFile() throws IOException {
+        assertUnchangedFileIsNotRead(DefinitionState.BROKEN);
+    }
+
+    /**
+     * Test an unchanged file, which processing has not been completed, is read again, as its content is
+     * needed for the processing.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testUnchangedNewFile() throws IOException {
+        Path file = write("a.test", "first");
+        collect(file);
+
+        Definition definition = collect(file).get(key(file));
+
+        assertEquals(DefinitionState.NEW, definition.getState());
+        assertArrayEquals("first".getBytes(StandardCharsets.UTF_8), definition.getContent());
+    }
+
+    /**
+     * Test a file with a changed size is read and collected as modified.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testSizeChanged() throws IOException {
+        Path file = write("a.test", "first");
+        collect(file);
+        setState(file, DefinitionState.PARSED);
+
+        FileTime lastModified = Files.getLastModifiedTime(file);
+        Files.writeString(file, "changed");
+        Files.setLastModifiedTime(file, lastModified);
+        Definition definition = collect(file).get(key(file));
+
+        assertEquals(DefinitionState.MODIFIED, definition.getState());
+        assertArrayEquals("changed".getBytes(StandardCharsets.UTF_8), definition.getContent());
+    }
+
+    /**
+     * Test a file with a changed last modified time and the same size is read and collected as
+     * modified, if its content has been changed, or as parsed with its content otherwise.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testLastModifiedChanged() throws IOException {
+        Path file = write("a.test", "first");
+        collect(file);
+        setState(file, DefinitionState.PARSED);
+
+        long lastModified = Files.getLastModifiedTime(file)
+                                 .toMillis();
+        Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified + 1000));
+        Definition definition = collect(file).get(key(file));
+        assertEquals(DefinitionState.PARSED, definition.getState());
+        assertArrayEquals("first".getBytes(StandardCharsets.UTF_8), definition.getContent());
+
+        Files.writeString(file, "fir5t");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified + 2000));
+        definition = collect(file).get(key(file));
+        assertEquals(DefinitionState.MODIFIED, definition.getState());
+        assertArrayEquals("fir5t".getBytes(StandardCharsets.UTF_8), definition.getContent());
+    }
+
+    /**
+     * Test a file, which has been deleted since it was parsed, is read again, when it appears again.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testDeletedFile() throws IOException {
+        Path file = write("a.test", "first");
+        collect(file);
+        setState(file, DefinitionState.PARSED);
+
+        processor.registerDeleteState(copy(stored.get(key(file))));
+        assertEquals(DefinitionState.DELETED, stored.get(key(file))
+                                                    .getState());
+
+        Definition definition = collect(file).get(key(file));
+        assertEquals(DefinitionState.NEW, definition.getState());
+        assertArrayEquals("first".getBytes(StandardCharsets.UTF_8), definition.getContent());
+    }
+
+    /**
+     * Test a file deleted after it has been found by the walker is not collected.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testFileDeletedAfterWalk() throws IOException {
+        Path file = write("a.test", "first");
+        BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+        Files.delete(file);
+
+        assertTrue(collect(file, attrs).isEmpty());
+        assertTrue(stored.isEmpty());
+    }
+
+    /**
+     * Test the files are read in parallel by the loader executor.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testParallelLoad() throws IOException {
+        Configuration.set("DIRIGIBLE_SYNCHRONIZER_LOAD_PARALLELISM", "4");
+        try {
+            int count = 50;
+            Map<Path, BasicFileAttributes> files = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                Path file = write("file" + i + ".test", "content " + i);
+                files.put(file, Files.readAttributes(file, BasicFileAttributes.class));
+            }
+            files.forEach((file, attrs) -> processor.visitFile(file, attrs, location(file)));
+            processor.checkAndCollect();
+
+            Map<String, Definition> collected = processor.checkSynchronizerMap(synchronizer);
+            assertEquals(count, collected.size());
+            for (int i = 0; i < count; i++) {
+                Definition definition = collected.get(key(folder.resolve("file" + i + ".test")));
+                assertNotNull(definition);
+                assertArrayEquals(("content " + i).getBytes(StandardCharsets.UTF_8), definition.getContent());
+            }
+        } finally {
+            Configuration.remove("DIRIGIBLE_SYNCHRONIZER_LOAD_PARALLELISM");
+        }
+    }
+
+    /**
+     * Asserts an unchanged file in the given state is neither read nor hashed, as it is collected even
+     * if it cannot be read anymore, and that it is collected without content.
+     *
+     * @param state the state
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private void assertUnchangedFileIsNotRead(DefinitionState state) throws IOException {
+        Path file = write("a.test", "first");
+        BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+        collect(file, attrs);
+        setState(file, state);
+        Files.delete(file);
+
+        Definition definition = collect(file, attrs).get(key(file));
+
+        assertNotNull(definition);
+        assertEquals(state, definition.getState());
+        assertNull(definition.getContent());
+    }
+
+    /**
+     * Runs the collecting of a single file as found by the walker now.
+     *
+     * @param file the file
+     * @return the collected definitions by key
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private Map<String, Definition> collect(Path file) throws IOException {
+        return collect(file, Files.readAttributes(file, BasicFileAttributes.class));
+    }
+
+    /**
+     * Runs the collecting of a single file with the given attributes.
+     *
+     * @param file the file
+     * @param attrs the attrs
+     * @return the collected definitions by key
+     */
+    private Map<String, Definition> collect(Path file, BasicFileAttributes attrs) {
+        processor.checkSynchronizerMap(synchronizer)
+                 .clear();
+        processor.visitFile(file, attrs, location(file));
+        processor.checkAndCollect();
+        return processor.checkSynchronizerMap(synchronizer);
+    }
+
+    /**
+     * Sets the state of the stored definition of the file, as its processing would do.
+     *
+     * @param file the file
+     * @param state the state
+     */
+    private void setState(Path file, DefinitionState state) {
+        stored.get(key(file))
+              .setState(state);
+    }
+
+    /**
+     * Writes the file.
+     *
+     * @param name the name
+     * @param content the content
+     * @return the path
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(folder.resolve(name), content);
+    }
+
+    /**
+     * Gets the location of the file.
+     *
+     * @param file the file
+     * @return the location
+     */
+    private static String location(Path file) {
+        return "/" + file.getFileName();
+    }
+
+    /**
+     * Gets the key of the definition of the file.
+     *
+     * @param file the file
+     * @return the key
+     */
+    private static String key(Path file) {
+        Definition definition = new Definition();
+        definition.setLocation(location(file));
+        definition.setName(file.getFileName()
+                               .toString()
+                               .replace(".test", ""));
+        definition.setType(TYPE);
+        definition.updateKey();
+        return definition.getKey();
+    }
+
+    /**
+     * Copies the stored fields of the definition, i.e. without its content, as loaded by a query.
+     *
+     * @param definition the definition
+     * @return the copy
+     */
+    private static Definition copy(Definition definition) {
+        Definition copy = new Definition();
+        copy.setLocation(definition.getLocation());
+        copy.setName(definition.getName());
+        copy.setType(definition.getType());
+        copy.setKey(definition.getKey());
+        copy.setChecksum(definition.getChecksum());
+        copy.setState(definition.getState());
+        copy.setMessage(definition.getMessage());
+        return copy;
+    }
+
+}
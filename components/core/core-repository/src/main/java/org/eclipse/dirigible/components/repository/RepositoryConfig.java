@@ -26,11 +26,11 @@ import java.nio.file.Paths;
 public class RepositoryConfig {
 
     /**
-     * Repository.
+     * Repository, which is disposed together with the context, so that its search index is closed.
      *
      * @return the i repository
      */
-    @Bean
+    @Bean(destroyMethod = "dispose")
     public IRepository repository() {
         String repoFolderPath = DirigibleConfig.REPOSITORY_LOCAL_ROOT_FOLDER.getStringValue();
         Path path = Paths.get(repoFolderPath);
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.anonymize.domain;
+
+/**
+ * The Class DataAnonymizeEstimate.
+ */
+public class DataAnonymizeEstimate {
+
+    /** The records. */
+    private long records;
+
+    /** The sampled records. */
+    private long sampledRecords;
+
+    /** The sample time in milliseconds. */
+    private long sampleTime;
+
+    /** The throughput in records per second. */
+    private long throughput;
+
+    /** The estimated time in milliseconds. */
+    private long estimatedTime;
+
+    /**
+     * Gets the records.
+     *
+     * @return the records
+     */
+    public long getRecords() {
+        return records;
+    }
+
+    /**
+     * Sets the records.
+     *
+     * @param records the records to set
+     */
+    public void setRecords(long records) {
+        this.records = records;
+    }
+
+    /**
+     * Gets the sampled records.
+     *
+     * @return the sampled records
+     */
+    public long getSampledRecords() {
+        return sampledRecords;
+    }
+
+    /**
+     * Sets the sampled records.
+     *
+     * @param sampledRecords the sampled records to set
+     */
+    public void setSampledRecords(long sampledRecords) {
+        this.sampledRecords = sampledRecords;
+    }
+
+    /**
+     * Gets the sample time.
+     *
+     * @return the sample time in milliseconds
+     */
+    public long getSampleTime() {
+        return sampleTime;
+    }
+
+    /**
+     * Sets the sample time.
+     *
+     * @param sampleTime the sample time in milliseconds to set
+     */
+    public void setSampleTime(long sampleTime) {
+        this.sampleTime = sampleTime;
+    }
+
+    /**
+     * Gets the throughput.
+     *
+     * @return the throughput in records per second
+     */
+    public long getThroughput() {
+        return throughput;
+    }
+
+    /**
+     * Sets the throughput.
+     *
+     * @param throughput the throughput in records per second to set
+     */
+    public void setThroughput(long throughput) {
+        this.throughput = throughput;
+    }
+
+    /**
+     * Gets the estimated time.
+     *
+     * @return the estimated time in milliseconds
+     */
+    public long getEstimatedTime() {
+        return estimatedTime;
+    }
+
+    /**
+     * Sets the estimated time.
+     *
+     * @param estimatedTime the estimated time in milliseconds to set
+     */
+    public void setEstimatedTime(long estimatedTime) {
+        this.estimatedTime = estimatedTime;
+    }
+
+}
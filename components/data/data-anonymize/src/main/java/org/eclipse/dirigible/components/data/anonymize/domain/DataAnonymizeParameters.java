@@ -32,6 +32,9 @@ public class DataAnonymizeParameters {
     /** The type. */
     private String type;
 
+    /** The dry run. */
+    private boolean dryRun;
+
     /**
      * Gets the datasource.
      *
@@ -140,6 +143,24 @@ public class DataAnonymizeParameters {
         this.type = type;
     }
 
+    /**
+     * Checks if is dry run.
+     *
+     * @return true, if only the throughput has to be estimated
+     */
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    /**
+     * Sets the dry run.
+     *
+     * @param dryRun the dry run to set
+     */
+    public void setDryRun(boolean dryRun) {
+        this.dryRun = dryRun;
+    }
+
 
 
 }
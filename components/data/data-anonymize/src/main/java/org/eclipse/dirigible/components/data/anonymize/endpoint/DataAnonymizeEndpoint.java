@@ -12,6 +12,7 @@ package org.eclipse.dirigible.components.data.anonymize.endpoint;
 import static java.text.MessageFormat.format;
 
 import java.sql.SQLException;
+import java.util.Objects;
 
 import jakarta.validation.Valid;
 
@@ -92,6 +93,16 @@ public class DataAnonymizeEndpoint {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, error);
         }
 
+        if (Objects.equals(content.getColumn(), content.getPrimaryKey())) {
+            String error = format("Column {0} is the primary key and cannot be anonymized.", content.getColumn());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, error);
+        }
+
+        if (content.isDryRun()) {
+            return ResponseEntity.ok(dataAnonymizeService.estimateColumn(content.getDatasource(), content.getSchema(), content.getTable(),
+                    content.getColumn(), content.getPrimaryKey(), content.getType()));
+        }
+
         dataAnonymizeService.anonymizeColumn(content.getDatasource(), content.getSchema(), content.getTable(), content.getColumn(),
                 content.getPrimaryKey(), content.getType());
 
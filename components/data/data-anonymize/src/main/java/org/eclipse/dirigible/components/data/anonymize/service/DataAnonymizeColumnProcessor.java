@@ -0,0 +1,419 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.anonymize.service;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.components.data.anonymize.domain.DataAnonymizeEstimate;
+import org.eclipse.dirigible.components.data.anonymize.domain.DataAnonymizeType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import net.datafaker.Faker;
+
+/**
+ * Anonymizes a column of a relational table.
+ *
+ * The records are read in chunks ordered by the primary key, each chunk continuing after the last
+ * key of the previous one. The replacement values of a chunk are generated in parallel, applied
+ * with batch updates and committed, so that neither a cursor nor a transaction spans the whole
+ * table.
+ */
+class DataAnonymizeColumnProcessor {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(DataAnonymizeColumnProcessor.class);
+
+    /** The Constant DIRIGIBLE_DATA_ANONYMIZE_CHUNK_SIZE. */
+    private static final String DIRIGIBLE_DATA_ANONYMIZE_CHUNK_SIZE = "DIRIGIBLE_DATA_ANONYMIZE_CHUNK_SIZE";
+
+    /** The Constant DIRIGIBLE_DATA_ANONYMIZE_PARALLELISM. */
+    private static final String DIRIGIBLE_DATA_ANONYMIZE_PARALLELISM = "DIRIGIBLE_DATA_ANONYMIZE_PARALLELISM";
+
+    /** The Constant DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE. */
+    private static final String DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE = "DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE";
+
+    /** The Constant DEFAULT_CHUNK_SIZE. */
+    private static final int DEFAULT_CHUNK_SIZE = 10000;
+
+    /** The Constant DEFAULT_BATCH_SIZE. */
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /** The table name. */
+    private final String tableName;
+
+    /** The column name. */
+    private final String columnName;
+
+    /** The type value. */
+    private final DataAnonymizeType typeValue;
+
+    /** The connection. */
+    private final Connection connection;
+
+    /** The fakers, one per parallel generation. */
+    private final Faker[] fakers;
+
+    /** The chunk size. */
+    private final int chunkSize;
+
+    /** The batch size. */
+    private final int batchSize;
+
+    /** The query of the first chunk. */
+    private final String firstChunk;
+
+    /** The query of the chunks after a key. */
+    private final String nextChunk;
+
+    /** The count query. */
+    private final String count;
+
+    /** The update statement. */
+    private final String update;
+
+    /** The display size of the column. */
+    private int size = -1;
+
+    /**
+     * Instantiates a new data anonymize column processor.
+     *
+     * @param schema the schema
+     * @param table the table
+     * @param column the column
+     * @param primaryKey the primary key
+     * @param faker the faker
+     * @param typeValue the type value
+     * @param connection the connection
+     * @throws IllegalArgumentException if the column is the primary key, by which the chunks are read
+     */
+    DataAnonymizeColumnProcessor(String schema, String table, String column, String primaryKey, Faker faker, DataAnonymizeType typeValue,
+            Connection connection) {
+        if (column.equals(primaryKey)) {
+            throw new IllegalArgumentException("The anonymized column [" + column + "] cannot be the primary key of table [" + table + "]");
+        }
+        this.tableName = "\"" + schema + "\".\"" + table + "\"";
+        this.columnName = "\"" + column + "\"";
+        this.typeValue = typeValue;
+        this.connection = connection;
+        this.chunkSize = Math.max(1, Configuration.getAsInt(DIRIGIBLE_DATA_ANONYMIZE_CHUNK_SIZE, DEFAULT_CHUNK_SIZE));
+        this.batchSize = Math.max(1, Configuration.getAsInt(DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE, DEFAULT_BATCH_SIZE));
+        int parallelism = Math.max(1, Configuration.getAsInt(DIRIGIBLE_DATA_ANONYMIZE_PARALLELISM, Runtime.getRuntime()
+                                                                                                          .availableProcessors()));
+        this.fakers = new Faker[parallelism];
+        this.fakers[0] = faker;
+        for (int i = 1; i < parallelism; i++) {
+            fakers[i] = new Faker(faker.getContext()
+                                       .getLocale());
+        }
+
+        String primaryKeyName = "\"" + primaryKey + "\"";
+        String select = "SELECT " + primaryKeyName + ", " + columnName + " FROM " + tableName;
+        this.firstChunk = select + " WHERE " + primaryKeyName + " IS NOT NULL ORDER BY " + primaryKeyName;
+        this.nextChunk = select + " WHERE " + primaryKeyName + " > ? ORDER BY " + primaryKeyName;
+        this.count = "SELECT COUNT(*) FROM " + tableName;
+        this.update = "UPDATE " + tableName + " SET " + columnName + " = ? WHERE " + primaryKeyName + " = ? ";
+    }
+
+    /**
+     * Anonymizes all the records of the column, committing after each chunk.
+     *
+     * @return the number of the anonymized records
+     * @throws SQLException the SQL exception
+     */
+    long anonymize() throws SQLException {
+        long total = count();
+        long records = 0;
+        long start = System.currentTimeMillis();
+        boolean autoCommit = connection.getAutoCommit();
+        ExecutorService executor = Executors.newFixedThreadPool(fakers.length);
+        try (PreparedStatement statement = connection.prepareStatement(update)) {
+            connection.setAutoCommit(false);
+            Chunk chunk = read(null);
+            while (!chunk.keys()
+                         .isEmpty()) {
+                apply(statement, chunk, generate(chunk, executor));
+                connection.commit();
+                records += chunk.keys()
+                                .size();
+                if (logger.isInfoEnabled()) {
+                    long duration = Math.max(1, System.currentTimeMillis() - start);
+                    logger.info("Anonymized [{}] of [{}] records of column [{}] in table [{}] ([{}] records/s)", records, total, columnName,
+                            tableName, records * 1000 / duration);
+                }
+                chunk = read(chunk.lastKey());
+            }
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            executor.shutdownNow();
+            connection.setAutoCommit(autoCommit);
+        }
+        return records;
+    }
+
+    /**
+     * Estimates the throughput by anonymizing the first chunk and rolling it back.
+     *
+     * @return the estimate
+     * @throws SQLException the SQL exception
+     */
+    DataAnonymizeEstimate estimate() throws SQLException {
+        DataAnonymizeEstimate estimate = new DataAnonymizeEstimate();
+        estimate.setRecords(count());
+        boolean autoCommit = connection.getAutoCommit();
+        ExecutorService executor = Executors.newFixedThreadPool(fakers.length);
+        try (PreparedStatement statement = connection.prepareStatement(update)) {
+            connection.setAutoCommit(false);
+            long start = System.currentTimeMillis();
+            Chunk chunk = read(null);
+            apply(statement, chunk, generate(chunk, executor));
+            estimate.setSampleTime(System.currentTimeMillis() - start);
+            estimate.setSampledRecords(chunk.keys()
+                                            .size());
+        } finally {
+            connection.rollback();
+            executor.shutdownNow();
+            connection.setAutoCommit(autoCommit);
+        }
+        long sampleTime = Math.max(1, estimate.getSampleTime());
+        estimate.setThroughput(estimate.getSampledRecords() * 1000 / sampleTime);
+        if (estimate.getSampledRecords() > 0) {
+            estimate.setEstimatedTime(estimate.getRecords() * sampleTime / estimate.getSampledRecords());
+        }
+        logger.info("Estimated anonymization of [{}] records of column [{}] in table [{}] to [{}] ms ([{}] records/s)",
+                estimate.getRecords(), columnName, tableName, estimate.getEstimatedTime(), estimate.getThroughput());
+        return estimate;
+    }
+
+    /**
+     * Counts the records of the table.
+     *
+     * @return the count
+     * @throws SQLException the SQL exception
+     */
+    private long count() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(count); ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next() ? resultSet.getLong(1) : 0;
+        }
+    }
+
+    /**
+     * Reads the chunk after the key.
+     *
+     * @param lastKey the last key of the previous chunk or null for the first one
+     * @return the chunk
+     * @throws SQLException the SQL exception
+     */
+    private Chunk read(Object lastKey) throws SQLException {
+        List<Object> keys = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(lastKey == null ? firstChunk : nextChunk)) {
+            statement.setMaxRows(chunkSize);
+            statement.setFetchSize(Math.min(chunkSize, batchSize));
+            if (lastKey != null) {
+                statement.setObject(1, lastKey);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (size < 0) {
+                    size = resultSet.getMetaData()
+                                    .getColumnDisplaySize(2);
+                }
+                while (resultSet.next()) {
+                    keys.add(resultSet.getObject(1));
+                    values.add(DataAnonymizeType.DATE.equals(typeValue) ? resultSet.getDate(2) : resultSet.getString(2));
+                }
+            }
+        }
+        return new Chunk(keys, values);
+    }
+
+    /**
+     * Generates the replacement values of the chunk, splitting it between the fakers.
+     *
+     * @param chunk the chunk
+     * @param executor the executor
+     * @return the replacement values
+     * @throws SQLException the SQL exception
+     */
+    private Object[] generate(Chunk chunk, ExecutorService executor) throws SQLException {
+        int rows = chunk.keys()
+                        .size();
+        Object[] replacements = new Object[rows];
+        int slice = (rows + fakers.length - 1) / fakers.length;
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < fakers.length && i * slice < rows; i++) {
+            Faker faker = fakers[i];
+            int from = i * slice;
+            int to = Math.min(rows, from + slice);
+            futures.add(executor.submit(() -> {
+                for (int j = from; j < to; j++) {
+                    replacements[j] = anonymize(faker, chunk.values()
+                                                            .get(j));
+                }
+            }));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw new SQLException(e);
+        } catch (ExecutionException e) {
+            throw new SQLException(e.getCause()
+                                    .getMessage(),
+                    e.getCause());
+        }
+        return replacements;
+    }
+
+    /**
+     * Applies the replacement values of the chunk with batch updates.
+     *
+     * @param statement the update statement
+     * @param chunk the chunk
+     * @param replacements the replacement values
+     * @throws SQLException the SQL exception
+     */
+    private void apply(PreparedStatement statement, Chunk chunk, Object[] replacements) throws SQLException {
+        int batched = 0;
+        for (int i = 0; i < replacements.length; i++) {
+            Object replacement = replacements[i];
+            if (replacement == null) {
+                statement.setNull(1, DataAnonymizeType.DATE.equals(typeValue) ? Types.DATE : Types.VARCHAR);
+            } else if (replacement instanceof Date date) {
+                statement.setDate(1, date);
+            } else {
+                statement.setString(1, (String) replacement);
+            }
+            statement.setObject(2, chunk.keys()
+                                        .get(i));
+            statement.addBatch();
+            if (++batched % batchSize == 0) {
+                statement.executeBatch();
+            }
+        }
+        if (batched % batchSize != 0) {
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * Generates the replacement of a value.
+     *
+     * @param faker the faker
+     * @param current the current value
+     * @return the replacement value, a string, a date or null
+     */
+    private Object anonymize(Faker faker, Object current) {
+        String value = current instanceof String string ? string : null;
+        switch (typeValue) {
+            case FULL_NAME:
+                return truncate(faker.name()
+                                     .fullName(),
+                        size);
+            case FIRST_NAME:
+                return truncate(faker.name()
+                                     .firstName(),
+                        size);
+            case LAST_NAME:
+                return truncate(faker.name()
+                                     .lastName(),
+                        size);
+            case USER_NAME:
+                return truncate(faker.internet()
+                                     .username(),
+                        size);
+            case EMAIL:
+                return truncate((faker.internet()
+                                      .username()
+                        + "@acme.com"), size);
+            case ADDRESS:
+                return truncate(faker.address()
+                                     .streetAddress(),
+                        size);
+            case CITY:
+                return truncate(faker.address()
+                                     .city(),
+                        size);
+            case COUNTRY:
+                return truncate(faker.address()
+                                     .country(),
+                        size);
+            case DATE:
+                if (current instanceof Date date) {
+                    java.util.Date past = faker.date()
+                                               .past(10, TimeUnit.DAYS, new java.util.Date(date.getTime()));
+                    return new Date(past.getTime());
+                }
+                return null;
+            case PHONE:
+            case RANDOM:
+                return value != null ? faker.examplify(value) : null;
+            case MASK:
+                return "*".repeat(value != null ? value.length() : 0);
+            case EMPTY:
+                return "";
+            case NULL:
+                return null;
+            default:
+                throw new IllegalArgumentException("Unexpected value: " + typeValue);
+        }
+    }
+
+    /**
+     * Truncate.
+     *
+     * @param value the value
+     * @param size the size
+     * @return the string
+     */
+    static String truncate(String value, int size) {
+        if (value != null) {
+            if (value.length() > size) {
+                return value.substring(0, size);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * The keys and the current values of a chunk.
+     *
+     * @param keys the keys
+     * @param values the values
+     */
+    private record Chunk(List<Object> keys, List<Object> values) {
+
+        /**
+         * Gets the last key.
+         *
+         * @return the last key
+         */
+        Object lastKey() {
+            return keys.get(keys.size() - 1);
+        }
+    }
+
+}
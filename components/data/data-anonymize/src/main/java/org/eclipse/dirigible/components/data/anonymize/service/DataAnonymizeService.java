@@ -11,15 +11,14 @@ package org.eclipse.dirigible.components.data.anonymize.service;
 
 import java.sql.Connection;
 import java.sql.Date;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.sql.Types;
 import java.util.StringTokenizer;
 import java.util.concurrent.TimeUnit;
 import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.base.helpers.JsonHelper;
+import org.eclipse.dirigible.components.data.anonymize.domain.DataAnonymizeEstimate;
 import org.eclipse.dirigible.components.data.anonymize.domain.DataAnonymizeType;
 import org.eclipse.dirigible.components.data.sources.manager.DataSourcesManager;
 import org.eclipse.dirigible.database.sql.DatabaseType;
@@ -50,9 +49,6 @@ public class DataAnonymizeService {
      */
     private final DataSourcesManager datasourceManager;
 
-    /** The batch size. */
-    private static int BATCH_SIZE = 1000;
-
     /** The Constant DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE. */
     private static final String DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE = "DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE";
 
@@ -84,13 +80,6 @@ public class DataAnonymizeService {
         if (dataSource != null) {
 
             Faker faker = new Faker();
-            try {
-                BATCH_SIZE = Configuration.getAsInt(DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE, DEFAULT_BATCH_SIZE);
-            } catch (NumberFormatException e1) {
-                if (logger.isWarnEnabled()) {
-                    logger.warn("Wrong configuration for " + DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE);
-                }
-            }
 
             DataAnonymizeType typeValue = DataAnonymizeType.valueOf(type);
 
@@ -108,6 +97,36 @@ public class DataAnonymizeService {
         }
     }
 
+    /**
+     * Estimates the throughput of the anonymization of a column by anonymizing a sample chunk, which is
+     * rolled back afterwards.
+     *
+     * @param datasource the datasource
+     * @param schema the schema
+     * @param table the table
+     * @param column the column
+     * @param primaryKey the primary key
+     * @param type the type
+     * @return the estimate
+     * @throws SQLException the SQL exception
+     */
+    public DataAnonymizeEstimate estimateColumn(String datasource, String schema, String table, String column, String primaryKey,
+            String type) throws SQLException {
+        javax.sql.DataSource dataSource = datasourceManager.getDataSource(datasource);
+        if (dataSource == null) {
+            throw new SQLException("DataSource does not exist: " + datasource);
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            if (SqlFactory.deriveDialect(connection)
+                          .getDatabaseType(connection)
+                          .equals(DatabaseType.NOSQL.getName())) {
+                throw new SQLException("Estimation is not supported for NoSQL databases");
+            }
+            return new DataAnonymizeColumnProcessor(schema, table, column, primaryKey, new Faker(), DataAnonymizeType.valueOf(type),
+                    connection).estimate();
+        }
+    }
+
     /**
      * Anonymize RDBMS column.
      *
@@ -123,132 +142,8 @@ public class DataAnonymizeService {
      */
     public void anonymizeRDBMSColumn(String schema, String table, String column, String primaryKey, javax.sql.DataSource dataSource,
             Faker faker, DataAnonymizeType typeValue, Connection connection) throws SQLException {
-
-        String tableName = "\"" + schema + "\".\"" + table + "\"";
-        String columnName = "\"" + column + "\"";
-        String primaryKeyName = "\"" + primaryKey + "\"";
-        String select = "SELECT " + primaryKeyName + ", " + columnName + " FROM " + tableName;
-        String update = "UPDATE " + tableName + " SET " + columnName + " = ? WHERE " + primaryKeyName + " = ? ";
-
-        try (Statement statement = connection.createStatement()) {
-            int updatedRecords = 0;
-            try (PreparedStatement preparedStatement = connection.prepareStatement(update)) {
-                ResultSet rs = statement.executeQuery(select);
-                int size = rs.getMetaData()
-                             .getColumnDisplaySize(2);
-                while (rs.next()) {
-                    String value = rs.getString(2);
-                    int length = value != null ? value.length() : 0;
-                    switch (typeValue) {
-                        case FULL_NAME: {
-                            preparedStatement.setString(1, truncate(faker.name()
-                                                                         .fullName(),
-                                    size));
-                            break;
-                        }
-                        case FIRST_NAME: {
-                            preparedStatement.setString(1, truncate(faker.name()
-                                                                         .firstName(),
-                                    size));
-                            break;
-                        }
-                        case LAST_NAME: {
-                            preparedStatement.setString(1, truncate(faker.name()
-                                                                         .lastName(),
-                                    size));
-                            break;
-                        }
-                        case USER_NAME: {
-                            preparedStatement.setString(1, truncate(faker.internet()
-                                                                         .username(),
-                                    size));
-                            break;
-                        }
-                        case EMAIL: {
-                            preparedStatement.setString(1, truncate((faker.internet()
-                                                                          .username()
-                                    + "@acme.com"), size));
-                            break;
-                        }
-                        case PHONE: {
-                            if (value != null) {
-                                preparedStatement.setString(1, faker.examplify(value));
-                            } else {
-                                preparedStatement.setNull(1, Types.VARCHAR);
-                            }
-                            break;
-                        }
-                        case ADDRESS: {
-                            preparedStatement.setString(1, truncate(faker.address()
-                                                                         .streetAddress(),
-                                    size));
-                            break;
-                        }
-                        case CITY: {
-                            preparedStatement.setString(1, truncate(faker.address()
-                                                                         .city(),
-                                    size));
-                            break;
-                        }
-                        case COUNTRY: {
-                            preparedStatement.setString(1, truncate(faker.address()
-                                                                         .country(),
-                                    size));
-                            break;
-                        }
-                        case DATE: {
-                            Date date = rs.getDate(2);
-                            if (date != null) {
-                                java.util.Date past = faker.date()
-                                                           .past(10, TimeUnit.DAYS, new java.util.Date(date.getTime()));
-                                preparedStatement.setDate(1, new Date(past.getTime()));
-                            } else {
-                                preparedStatement.setNull(1, Types.DATE);
-                            }
-                            break;
-                        }
-                        case RANDOM: {
-                            if (value != null) {
-                                preparedStatement.setString(1, faker.examplify(value));
-                            } else {
-                                preparedStatement.setNull(1, Types.VARCHAR);
-                            }
-                            break;
-                        }
-                        case MASK: {
-                            preparedStatement.setString(1, "*".repeat(length));
-                            break;
-                        }
-                        case EMPTY: {
-                            preparedStatement.setString(1, "");
-                            break;
-                        }
-                        case NULL: {
-                            preparedStatement.setNull(1, Types.VARCHAR);
-                            break;
-                        }
-                        default:
-                            throw new IllegalArgumentException("Unexpected value: " + typeValue);
-                    }
-                    updatedRecords++;
-
-                    Object key = rs.getObject(1);
-                    if (key != null) {
-                        preparedStatement.setObject(2, key);
-                        preparedStatement.addBatch();
-                        if (updatedRecords % BATCH_SIZE == 0) {
-                            preparedStatement.executeBatch();
-                        }
-                    } else {
-                        logger.error("Primary key cannot be null for the record: " + updatedRecords);
-                    }
-                }
-                if (updatedRecords % BATCH_SIZE != 0) {
-                    preparedStatement.executeBatch();
-                }
-            }
-        }
-
+        long records = new DataAnonymizeColumnProcessor(schema, table, column, primaryKey, faker, typeValue, connection).anonymize();
+        logger.info("Anonymized [{}] records of column [{}] in table [{}.{}]", records, column, schema, table);
     }
 
     /**
@@ -268,6 +163,14 @@ public class DataAnonymizeService {
             DataAnonymizeType typeValue, Connection connection) throws SQLException {
 
         String find = "{find:\"" + collection + "\"}";
+        int batchSize = DEFAULT_BATCH_SIZE;
+        try {
+            batchSize = Math.max(1, Configuration.getAsInt(DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE, DEFAULT_BATCH_SIZE));
+        } catch (NumberFormatException e) {
+            if (logger.isWarnEnabled()) {
+                logger.warn("Wrong configuration for " + DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE);
+            }
+        }
 
         try (Statement statement = connection.createStatement()) {
             int updatedRecords = 0;
@@ -404,11 +307,11 @@ public class DataAnonymizeService {
 
                 statement.addBatch("UPDATE" + document.toString());
 
-                if (updatedRecords % BATCH_SIZE == 0) {
+                if (updatedRecords % batchSize == 0) {
                     statement.executeBatch();
                 }
             }
-            if (updatedRecords % BATCH_SIZE != 0) {
+            if (updatedRecords % batchSize != 0) {
                 statement.executeBatch();
             }
         }
@@ -440,20 +343,4 @@ public class DataAnonymizeService {
         return object;
     }
 
-    /**
-     * Truncate.
-     *
-     * @param value the value
-     * @param size the size
-     * @return the string
-     */
-    String truncate(String value, int size) {
-        if (value != null) {
-            if (value.length() > size) {
-                return value.substring(0, size);
-            }
-        }
-        return value;
-    }
-
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.anonymize.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.components.data.anonymize.domain.DataAnonymizeEstimate;
+import org.eclipse.dirigible.components.data.anonymize.domain.DataAnonymizeType;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import net.datafaker.Faker;
+
+/**
+ * The Class DataAnonymizeColumnProcessorTest.
+ */
+public class DataAnonymizeColumnProcessorTest {
+
+    /** The Constant CUSTOMERS. */
+    private static final int CUSTOMERS = 25;
+
+    /** The connection. */
+    private Connection connection;
+
+    /**
+     * Sets the up.
+     *
+     * @throws Exception the exception
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+        Configuration.set("DIRIGIBLE_DATA_ANONYMIZE_CHUNK_SIZE", "7");
+        Configuration.set("DIRIGIBLE_DATA_ANONYMIZE_PARALLELISM", "3");
+        Configuration.set("DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE", "3");
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:anonymize;DB_CLOSE_DELAY=-1");
+        connection = dataSource.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE CUSTOMERS (ID INTEGER PRIMARY KEY, NAME VARCHAR(10))");
+        }
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO CUSTOMERS VALUES (?, ?)")) {
+            for (int i = 1; i <= CUSTOMERS; i++) {
+                insert.setInt(1, i);
+                insert.setString(2, i % 4 == 0 ? null : "name " + i);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    /**
+     * Tear down.
+     *
+     * @throws Exception the exception
+     */
+    @AfterEach
+    public void tearDown() throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+        Configuration.remove("DIRIGIBLE_DATA_ANONYMIZE_CHUNK_SIZE");
+        Configuration.remove("DIRIGIBLE_DATA_ANONYMIZE_PARALLELISM");
+        Configuration.remove("DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE");
+    }
+
+    /**
+     * Anonymize in chunks test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void anonymizeInChunksTest() throws Exception {
+        assertEquals(CUSTOMERS, processor(DataAnonymizeType.MASK).anonymize());
+
+        assertTrue(connection.getAutoCommit());
+        try (PreparedStatement statement = connection.prepareStatement("SELECT ID, NAME FROM CUSTOMERS ORDER BY ID");
+                ResultSet resultSet = statement.executeQuery()) {
+            int count = 0;
+            while (resultSet.next()) {
+                int i = ++count;
+                assertEquals(i, resultSet.getInt(1));
+                assertEquals(i % 4 == 0 ? "" : "*".repeat(("name " + i).length()), resultSet.getString(2));
+            }
+            assertEquals(CUSTOMERS, count);
+        }
+    }
+
+    /**
+     * Estimate test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void estimateTest() throws Exception {
+        DataAnonymizeEstimate estimate = processor(DataAnonymizeType.NULL).estimate();
+
+        assertEquals(CUSTOMERS, estimate.getRecords());
+        assertEquals(7, estimate.getSampledRecords());
+        assertTrue(estimate.getThroughput() > 0);
+        assertTrue(connection.getAutoCommit());
+        assertEquals(CUSTOMERS - CUSTOMERS / 4, countNames());
+    }
+
+    /**
+     * Anonymize to null test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void anonymizeToNullTest() throws Exception {
+        processor(DataAnonymizeType.NULL).anonymize();
+
+        assertEquals(0, countNames());
+        try (PreparedStatement statement = connection.prepareStatement("SELECT NAME FROM CUSTOMERS WHERE ID = 1");
+                ResultSet resultSet = statement.executeQuery()) {
+            assertTrue(resultSet.next());
+            assertNull(resultSet.getString(1));
+        }
+    }
+
+    /**
+     * Primary key rejected test.
+     */
+    @Test
+    public void primaryKeyRejectedTest() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DataAnonymizeColumnProcessor("PUBLIC", "CUSTOMERS", "ID", "ID", new Faker(), DataAnonymizeType.NULL, connection));
+    }
+
+    /**
+     * Creates the processor.
+     *
+     * @param type the type
+     * @return the data anonymize column processor
+     */
+    private DataAnonymizeColumnProcessor processor(DataAnonymizeType type) {
+        return new DataAnonymizeColumnProcessor("PUBLIC", "CUSTOMERS", "NAME", "ID", new Faker(), type, connection);
+    }
+
+    /**
+     * Counts the not null names.
+     *
+     * @return the count
+     * @throws SQLException the SQL exception
+     */
+    private int countNames() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT COUNT(NAME) FROM CUSTOMERS");
+                ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+}
@@ -10,6 +10,8 @@
 package org.eclipse.dirigible.components.data.csvim.domain;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 import org.apache.commons.csv.CSVRecord;
 import org.eclipse.dirigible.components.data.management.domain.ColumnMetadata;
@@ -35,6 +37,11 @@ public class CsvRecord {
      */
     private List<String> headerNames;
 
+    /**
+     * The indexes of the case folded header names.
+     */
+    private Map<String, Integer> headerIndexes;
+
     /**
      * The distinguish empty from null.
      */
@@ -56,12 +63,15 @@ public class CsvRecord {
      * @param csvRecord the csv record
      * @param table the table metadata model
      * @param headerNames the header names
+     * @param headerIndexes the indexes of the header names, folded by {@link #foldHeaderName(String)}
      * @param distinguishEmptyFromNull the distinguish empty from null
      */
-    public CsvRecord(CSVRecord csvRecord, TableMetadata table, List<String> headerNames, boolean distinguishEmptyFromNull) {
+    public CsvRecord(CSVRecord csvRecord, TableMetadata table, List<String> headerNames, Map<String, Integer> headerIndexes,
+            boolean distinguishEmptyFromNull) {
         this.csvRecord = csvRecord;
         this.table = table;
         this.headerNames = headerNames;
+        this.headerIndexes = headerIndexes;
         this.distinguishEmptyFromNull = distinguishEmptyFromNull;
     }
 
@@ -73,8 +83,8 @@ public class CsvRecord {
      */
     public String getCsvValueForColumn(String columnName) {
         if (headerNames.size() > 0) {
-            int csvValueIndex = headerNames.indexOf(columnName);
-            if (csvValueIndex == -1) {
+            Integer csvValueIndex = headerIndexes.get(foldHeaderName(columnName));
+            if (csvValueIndex == null) {
                 return null;
             }
             return csvRecord.get(csvValueIndex);
@@ -83,6 +93,16 @@ public class CsvRecord {
         return null;
     }
 
+    /**
+     * Folds the case of a header or a column name, so that they are matched ignoring the case.
+     *
+     * @param name the name
+     * @return the folded name
+     */
+    public static String foldHeaderName(String name) {
+        return name.toUpperCase(Locale.ROOT);
+    }
+
     /**
      * Gets the pk column name.
      *
@@ -37,14 +37,22 @@ import javax.sql.DataSource;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.eclipse.dirigible.components.api.platform.RepositoryFacade.getResource;
@@ -68,7 +76,12 @@ public class CsvimProcessor {
     /**
      * The Constant DIRIGIBLE_CSV_DATA_BATCH_SIZE_DEFAULT.
      */
-    private static final int DIRIGIBLE_CSV_DATA_BATCH_SIZE_DEFAULT = 100;
+    private static final int DIRIGIBLE_CSV_DATA_BATCH_SIZE_DEFAULT = 1000;
+
+    /**
+     * The Constant MAX_KEYS_PER_QUERY.
+     */
+    private static final int MAX_KEYS_PER_QUERY = 1000;
 
     /**
      * The Constant MODULE.
@@ -172,20 +185,19 @@ public class CsvimProcessor {
 
             String pkName = getPkName(tableMetadata, csvParser.getHeaderNames());
 
-            List<CSVRecord> recordsToInsert = new ArrayList<>();
-            List<CSVRecord> recordsToUpdate = new ArrayList<>();
-
             String pkNameForCSVRecord = getPkNameForCSVRecord(connection, tableName, targetSchema, csvParser.getHeaderNames());
+            Map<String, Integer> headerIndexes = getHeaderIndexes(csvParser.getHeaderNames());
+            int pkIndexForCSVRecord = getPkIndexForCSVRecord(tableMetadata, headerIndexes);
 
             List<ColumnMetadata> tableColumns = tableMetadata.getColumns();
             boolean skipComparing = isEmptyTable(targetSchema, tableName, connection);
 
+            long start = System.currentTimeMillis();
             int countAll = 0;
-            int countBatch = 0;
             int batchSize = getCsvDataBatchSize();
+            List<CSVRecord> batch = new ArrayList<>(batchSize);
             for (CSVRecord csvRecord : csvParser) {
                 countAll++;
-                countBatch++;
                 if (csvRecord.size() != tableColumns.size()) {
                     if (isStrictMode()) {
                         CsvimUtils.logProcessorErrors(String.format(PROBLEM_MESSAGE_DIFFERENT_COLUMNS_SIZE, csvFile.getFile()),
@@ -193,37 +205,22 @@ public class CsvimProcessor {
                         throw new Exception(String.format(ERROR_MESSAGE_DIFFERENT_COLUMNS_SIZE, csvFile.getFile()));
                     }
                 }
-                if (skipComparing) {
-                    recordsToInsert.add(csvRecord);
-                } else {
-                    String pkValueForCSVRecord = getPkValueForCSVRecord(csvRecord, tableMetadata, csvParser.getHeaderNames());
-
-                    if (pkValueForCSVRecord == null) {
-                        recordsToInsert.add(csvRecord);
-                    } else {
-                        if (!recordExists(targetSchema, tableName, pkNameForCSVRecord, pkValueForCSVRecord, connection)) {
-                            recordsToInsert.add(csvRecord);
-                        } else {
-                            recordsToUpdate.add(csvRecord);
-                        }
-                    }
-                }
-                if (countBatch >= batchSize) {
-                    countBatch = 0;
-                    insertCsvRecords(connection, targetSchema, tableMetadata, recordsToInsert, csvParser.getHeaderNames(), csvFile);
-                    if (Boolean.TRUE.equals(csvFile.getUpsert())) {
-                        updateCsvRecords(connection, targetSchema, tableMetadata, recordsToUpdate, csvParser.getHeaderNames(), pkName,
-                                csvFile);
-                    }
-                    recordsToInsert.clear();
-                    recordsToUpdate.clear();
+                batch.add(csvRecord);
+                if (batch.size() >= batchSize) {
+                    processBatch(connection, targetSchema, tableMetadata, batch, csvParser.getHeaderNames(), headerIndexes, pkName,
+                            pkNameForCSVRecord, pkIndexForCSVRecord, skipComparing, csvFile);
+                    batch.clear();
                 }
             }
+            processBatch(connection, targetSchema, tableMetadata, batch, csvParser.getHeaderNames(), headerIndexes, pkName,
+                    pkNameForCSVRecord, pkIndexForCSVRecord, skipComparing, csvFile);
 
-            insertCsvRecords(connection, targetSchema, tableMetadata, recordsToInsert, csvParser.getHeaderNames(), csvFile);
-            if (Boolean.TRUE.equals(csvFile.getUpsert())) {
-                updateCsvRecords(connection, targetSchema, tableMetadata, recordsToUpdate, csvParser.getHeaderNames(), pkName, csvFile);
+            long time = System.currentTimeMillis() - start;
+            if (logger.isInfoEnabled()) {
+                logger.info("Processed [{}] records from [{}] into table [{}] for [{}] ms ([{}] records/s)", countAll, csvFile.getFile(),
+                        tableName, time, time > 0 ? countAll * 1000L / time : countAll);
             }
+
             if (countAll > 0 && csvFile.getSequence() != null) {
                 int sequenceStart = countAll + 1;
 
@@ -384,6 +381,55 @@ public class CsvimProcessor {
         return Configuration.getAsInt(DIRIGIBLE_CSV_DATA_BATCH_SIZE, DIRIGIBLE_CSV_DATA_BATCH_SIZE_DEFAULT);
     }
 
+    /**
+     * Process a batch of records. The existing primary keys of the whole batch are loaded with a single
+     * query to decide which records are to be inserted and which - updated.
+     *
+     * @param connection the connection
+     * @param schema the schema
+     * @param tableModel the table model
+     * @param batch the batch
+     * @param headerNames the header names
+     * @param headerIndexes the indexes of the case folded header names
+     * @param pkName the pk name
+     * @param pkNameForCSVRecord the pk name for CSV record
+     * @param pkIndexForCSVRecord the index of the pk value in the CSV records or -1
+     * @param skipComparing whether the table was empty before the import
+     * @param csvFile the csv file
+     * @throws SQLException the SQL exception
+     */
+    private void processBatch(Connection connection, String schema, TableMetadata tableModel, List<CSVRecord> batch,
+            List<String> headerNames, Map<String, Integer> headerIndexes, String pkName, String pkNameForCSVRecord,
+            int pkIndexForCSVRecord, boolean skipComparing, CsvFile csvFile)
+            throws SQLException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<CSVRecord> recordsToInsert = new ArrayList<>();
+        List<CSVRecord> recordsToUpdate = new ArrayList<>();
+        if (skipComparing || pkNameForCSVRecord == null) {
+            recordsToInsert.addAll(batch);
+        } else {
+            List<String> pkValues = new ArrayList<>(batch.size());
+            for (CSVRecord csvRecord : batch) {
+                pkValues.add(getPkValueForCSVRecord(csvRecord, pkIndexForCSVRecord));
+            }
+            Set<String> existingKeys = getExistingKeys(schema, tableModel.getName(), pkNameForCSVRecord, pkValues, connection);
+            for (int i = 0; i < batch.size(); i++) {
+                String pkValue = pkValues.get(i);
+                if (pkValue == null || !existingKeys.contains(pkValue)) {
+                    recordsToInsert.add(batch.get(i));
+                } else {
+                    recordsToUpdate.add(batch.get(i));
+                }
+            }
+        }
+        insertCsvRecords(connection, schema, tableModel, recordsToInsert, headerNames, headerIndexes, csvFile);
+        if (Boolean.TRUE.equals(csvFile.getUpsert())) {
+            updateCsvRecords(connection, schema, tableModel, recordsToUpdate, headerNames, headerIndexes, pkName, csvFile);
+        }
+    }
+
     /**
      * Insert csv records.
      *
@@ -392,13 +438,14 @@ public class CsvimProcessor {
      * @param tableModel the table model
      * @param recordsToProcess the records to process
      * @param headerNames the header names
+     * @param headerIndexes the indexes of the case folded header names
      * @param csvFile the csv file
      */
     private void insertCsvRecords(Connection connection, String schema, TableMetadata tableModel, List<CSVRecord> recordsToProcess,
-            List<String> headerNames, CsvFile csvFile) {
+            List<String> headerNames, Map<String, Integer> headerIndexes, CsvFile csvFile) {
         try {
             List<CsvRecord> csvRecords = recordsToProcess.stream()
-                                                         .map(e -> new CsvRecord(e, tableModel, headerNames,
+                                                         .map(e -> new CsvRecord(e, tableModel, headerNames, headerIndexes,
                                                                  csvFile.getDistinguishEmptyFromNull()))
                                                          .collect(Collectors.toList());
             csvProcessor.insert(connection, schema, tableModel, csvRecords, headerNames, csvFile);
@@ -420,14 +467,15 @@ public class CsvimProcessor {
      * @param tableModel the table model
      * @param recordsToProcess the records to process
      * @param headerNames the header names
+     * @param headerIndexes the indexes of the case folded header names
      * @param pkName the pk name
      * @param csvFile the csv file
      */
     private void updateCsvRecords(Connection connection, String schema, TableMetadata tableModel, List<CSVRecord> recordsToProcess,
-            List<String> headerNames, String pkName, CsvFile csvFile) {
+            List<String> headerNames, Map<String, Integer> headerIndexes, String pkName, CsvFile csvFile) {
         try {
             List<CsvRecord> csvRecords = recordsToProcess.stream()
-                                                         .map(e -> new CsvRecord(e, tableModel, headerNames,
+                                                         .map(e -> new CsvRecord(e, tableModel, headerNames, headerIndexes,
                                                                  csvFile.getDistinguishEmptyFromNull()))
                                                          .collect(Collectors.toList());
             csvProcessor.update(connection, schema, tableModel, csvRecords, headerNames, pkName, csvFile);
@@ -442,39 +490,62 @@ public class CsvimProcessor {
     }
 
     /**
-     * Gets the pk value for CSV record.
+     * Gets the indexes of the header names. The names are case folded once per file, so that the
+     * columns are matched ignoring the case, without looking up the header for each value of each
+     * record.
      *
-     * @param csvRecord the csv record
-     * @param tableModel the table model
      * @param headerNames the header names
-     * @return the pk value for CSV record
+     * @return the indexes by case folded header name
      */
-    private String getPkValueForCSVRecord(CSVRecord csvRecord, TableMetadata tableModel, List<String> headerNames) {
-        if (tableModel != null) {
-            List<ColumnMetadata> columnModels = tableModel.getColumns();
-            if (headerNames.size() > 0) {
-                ColumnMetadata found = columnModels.stream()
-                                                   .filter(ColumnMetadata::isKey)
-                                                   .findFirst()
-                                                   .orElse(null);
-                String pkColumnName = found != null ? found.getName() : null;
-                if (pkColumnName != null) {
-                    int csvRecordPkValueIndex = headerNames.indexOf(pkColumnName);
-                    return csvRecordPkValueIndex >= 0 ? csvRecord.get(csvRecordPkValueIndex) : null;
-                }
-                return null;
-            }
+    private static Map<String, Integer> getHeaderIndexes(List<String> headerNames) {
+        Map<String, Integer> headerIndexes = new HashMap<>();
+        for (int i = 0; i < headerNames.size(); i++) {
+            headerIndexes.putIfAbsent(CsvRecord.foldHeaderName(headerNames.get(i)), i);
+        }
+        return headerIndexes;
+    }
 
-            for (int i = 0; i < csvRecord.size(); i++) {
-                boolean isColumnPk = columnModels.get(i)
-                                                 .isKey();
-                if (isColumnPk && !StringUtils.isEmpty(csvRecord.get(i))) {
-                    return csvRecord.get(i);
-                }
+    /**
+     * Gets the index of the pk value in the CSV records.
+     *
+     * @param tableModel the table model
+     * @param headerIndexes the indexes of the case folded header names
+     * @return the index of the pk value or -1, if the records do not contain it
+     */
+    private static int getPkIndexForCSVRecord(TableMetadata tableModel, Map<String, Integer> headerIndexes) {
+        if (tableModel == null) {
+            return -1;
+        }
+        List<ColumnMetadata> columnModels = tableModel.getColumns();
+        if (headerIndexes.size() > 0) {
+            ColumnMetadata found = columnModels.stream()
+                                               .filter(ColumnMetadata::isKey)
+                                               .findFirst()
+                                               .orElse(null);
+            return found != null ? headerIndexes.getOrDefault(CsvRecord.foldHeaderName(found.getName()), -1) : -1;
+        }
+
+        for (int i = 0; i < columnModels.size(); i++) {
+            if (columnModels.get(i)
+                            .isKey()) {
+                return i;
             }
         }
+        return -1;
+    }
 
-        return null;
+    /**
+     * Gets the pk value for CSV record.
+     *
+     * @param csvRecord the csv record
+     * @param pkIndexForCSVRecord the index of the pk value in the CSV records or -1
+     * @return the pk value for CSV record
+     */
+    private static String getPkValueForCSVRecord(CSVRecord csvRecord, int pkIndexForCSVRecord) {
+        if (pkIndexForCSVRecord < 0 || pkIndexForCSVRecord >= csvRecord.size()) {
+            return null;
+        }
+        return csvRecord.get(pkIndexForCSVRecord);
     }
 
     /**
@@ -499,44 +570,127 @@ public class CsvimProcessor {
     }
 
     /**
-     * Record exists.
+     * Gets the primary keys, which already exist in the table, out of the given ones. The keys are
+     * queried in chunks of up to MAX_KEYS_PER_QUERY and the returned keys are matched in memory, after
+     * they are normalized according to the type of the key column, e.g. "007" matches 7 and "ab"
+     * matches a padded CHAR "ab ". Returned keys, which still do not match any of the given ones, e.g.
+     * because of a case insensitive collation, are matched ignoring the case.
      *
      * @param schema the schema name
      * @param tableName the table name
      * @param pkNameForCSVRecord the pk name for CSV record
-     * @param pkValueForCSVRecord the pk value for CSV record
+     * @param pkValuesForCSVRecords the pk values for CSV records, may contain nulls
      * @param connection the connection
-     * @return true, if successful
+     * @return the existing keys, as given in the CSV records
      * @throws SQLException the SQL exception
      */
-    private boolean recordExists(String schema, String tableName, String pkNameForCSVRecord, String pkValueForCSVRecord,
+    private Set<String> getExistingKeys(String schema, String tableName, String pkNameForCSVRecord, List<String> pkValuesForCSVRecords,
             Connection connection) throws SQLException {
-        boolean exists = false;
-        SelectBuilder selectBuilder = new SelectBuilder(SqlFactory.deriveDialect(connection));
-        String sql = selectBuilder.distinct()
-                                  .column("1 " + pkNameForCSVRecord)
-                                  .from(tableName)
-                                  .schema(schema)
-                                  .where(pkNameForCSVRecord + " = ?")
-                                  .build();
-        try (PreparedStatement pstmt = connection.prepareCall(sql)) {
-            ResultSet rs;
-            try {
-                pstmt.setString(1, pkValueForCSVRecord);
-                rs = pstmt.executeQuery();
-            } catch (Throwable e) {
-                pstmt.setInt(1, Integer.parseInt(pkValueForCSVRecord));
-                rs = pstmt.executeQuery();
-            }
-            if (rs.next()) {
+        List<String> pkValues = pkValuesForCSVRecords.stream()
+                                                     .filter(Objects::nonNull)
+                                                     .distinct()
+                                                     .collect(Collectors.toList());
+        Set<String> foundKeys = new HashSet<>();
+        int pkType = Types.OTHER;
+        for (int from = 0; from < pkValues.size(); from += MAX_KEYS_PER_QUERY) {
+            List<String> chunk = pkValues.subList(from, Math.min(from + MAX_KEYS_PER_QUERY, pkValues.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            SelectBuilder selectBuilder = new SelectBuilder(SqlFactory.deriveDialect(connection));
+            String sql = selectBuilder.column(pkNameForCSVRecord)
+                                      .from(tableName)
+                                      .schema(schema)
+                                      .where(pkNameForCSVRecord + " IN (" + placeholders + ")")
+                                      .build();
+            try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+                ResultSet rs;
                 try {
-                    exists = "1".equals(rs.getString(1));
-                } catch (Throwable e) {
-                    exists = 1 == rs.getInt(1);
+                    for (int i = 0; i < chunk.size(); i++) {
+                        pstmt.setString(i + 1, chunk.get(i));
+                    }
+                    rs = pstmt.executeQuery();
+                } catch (SQLException e) {
+                    // the key column is numeric and the database does not convert the string parameters
+                    try {
+                        for (int i = 0; i < chunk.size(); i++) {
+                            pstmt.setBigDecimal(i + 1, new BigDecimal(chunk.get(i)
+                                                                           .trim()));
+                        }
+                    } catch (NumberFormatException nfe) {
+                        throw e;
+                    }
+                    rs = pstmt.executeQuery();
                 }
+                pkType = rs.getMetaData()
+                           .getColumnType(1);
+                while (rs.next()) {
+                    foundKeys.add(normalizeKey(rs.getString(1), pkType));
+                }
+            }
+        }
+        Set<String> existingKeys = new HashSet<>();
+        List<String> unmatchedValues = new ArrayList<>();
+        Map<String, String> unmatchedKeys = new HashMap<>();
+        for (String key : foundKeys) {
+            unmatchedKeys.put(key.toLowerCase(Locale.ROOT), key);
+        }
+        for (String pkValue : pkValues) {
+            String key = normalizeKey(pkValue, pkType);
+            if (foundKeys.contains(key)) {
+                existingKeys.add(pkValue);
+                unmatchedKeys.remove(key.toLowerCase(Locale.ROOT), key);
+            } else {
+                unmatchedValues.add(pkValue);
+            }
+        }
+        for (String pkValue : unmatchedValues) {
+            if (unmatchedKeys.containsKey(normalizeKey(pkValue, pkType).toLowerCase(Locale.ROOT))) {
+                existingKeys.add(pkValue);
             }
         }
-        return exists;
+        return existingKeys;
+    }
+
+    /**
+     * Normalizes the key for comparison. Keys of exact numeric types are converted to their plain
+     * numeric representation, keys of character types are stripped of the trailing padding and keys of
+     * other types (e.g. UUID) are trimmed and lower cased.
+     *
+     * @param key the key
+     * @param type the JDBC type of the key column
+     * @return the normalized key
+     */
+    private static String normalizeKey(String key, int type) {
+        if (key == null) {
+            return null;
+        }
+        if (isExactNumericType(type)) {
+            try {
+                return new BigDecimal(key.trim()).stripTrailingZeros()
+                                                 .toPlainString();
+            } catch (NumberFormatException e) {
+                return key;
+            }
+        }
+        return switch (type) {
+            case Types.CHAR, Types.NCHAR, Types.VARCHAR, Types.NVARCHAR, Types.LONGVARCHAR, Types.LONGNVARCHAR -> StringUtils.stripEnd(key,
+                    " ");
+            case Types.OTHER, Types.BINARY -> key.trim()
+                                                 .toLowerCase(Locale.ROOT);
+            default -> key.trim();
+        };
+    }
+
+    /**
+     * Checks if is exact numeric type.
+     *
+     * @param type the JDBC type
+     * @return true, if is exact numeric type
+     */
+    private static boolean isExactNumericType(int type) {
+        return switch (type) {
+            case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT, Types.NUMERIC, Types.DECIMAL -> true;
+            default -> false;
+        };
     }
 
     /**
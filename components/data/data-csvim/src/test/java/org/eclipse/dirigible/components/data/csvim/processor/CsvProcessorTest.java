@@ -25,6 +25,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 /**
@@ -209,4 +210,108 @@ public class CsvProcessorTest {
 
         }
     }
+
+    /**
+     * Import upsert.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void importUpsert() throws SQLException {
+        try (Connection connection = dataSourceManager.getDefaultDataSource()
+                                                      .getConnection()) {
+            connection.createStatement()
+                      .execute("CREATE TABLE CSV_A (A1 INT PRIMARY KEY, A2 VARCHAR(20), A3 VARCHAR(20))");
+            try {
+                csvimProcessor.setStrictMode(true);
+                CsvFile csvFile = new CsvFile(null, "CSV_A", null, "import", true, true, ",", "\"", null, false, null);
+                csvFile.setUpsert(true);
+                csvimProcessor.process(csvFile, "A1,A2,A3\n1,a2_1,a3_1\n2,a2_2,a3_2".getBytes(), defaultDataSourceName);
+                csvimProcessor.process(csvFile, "A1,A2,A3\n2,a2_2_updated,a3_2\n3,a2_3,a3_3".getBytes(), defaultDataSourceName);
+                ResultSet rs = connection.createStatement()
+                                         .executeQuery("SELECT COUNT(*) FROM CSV_A");
+                assertTrue(rs.next());
+                assertEquals(3, rs.getInt(1), "Existing records have been inserted again or new ones have not been inserted");
+                rs = connection.createStatement()
+                               .executeQuery("SELECT A2 FROM CSV_A WHERE A1 = 2");
+                assertTrue(rs.next());
+                assertEquals("a2_2_updated", rs.getString(1), "Existing record has not been updated");
+            } catch (Exception e) {
+                fail(e.getMessage(), e);
+            } finally {
+                connection.createStatement()
+                          .execute("DROP TABLE CSV_A");
+            }
+
+        }
+    }
+
+    /**
+     * Import upsert with padded keys, which are returned by the database in a different form than in
+     * the CSV file.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void importUpsertNormalizedKeys() throws SQLException {
+        try (Connection connection = dataSourceManager.getDefaultDataSource()
+                                                      .getConnection()) {
+            connection.createStatement()
+                      .execute("CREATE TABLE CSV_B (B1 CHAR(5) PRIMARY KEY, B2 VARCHAR(20))");
+            try {
+                csvimProcessor.setStrictMode(true);
+                CsvFile charFile = new CsvFile(null, "CSV_B", null, "import", true, true, ",", "\"", null, false, null);
+                charFile.setUpsert(true);
+                csvimProcessor.process(charFile, "B1,B2\nab,b2_1\ncd,b2_2".getBytes(), defaultDataSourceName);
+                csvimProcessor.process(charFile, "B1,B2\nab,b2_1_updated\nef,b2_3".getBytes(), defaultDataSourceName);
+                ResultSet rs = connection.createStatement()
+                                         .executeQuery("SELECT COUNT(*) FROM CSV_B");
+                assertTrue(rs.next());
+                assertEquals(3, rs.getInt(1), "Existing records with padded keys have been inserted again");
+                rs = connection.createStatement()
+                               .executeQuery("SELECT B2 FROM CSV_B WHERE B1 = 'ab'");
+                assertTrue(rs.next());
+                assertEquals("b2_1_updated", rs.getString(1), "Existing record with a padded key has not been updated");
+            } catch (Exception e) {
+                fail(e.getMessage(), e);
+            } finally {
+                connection.createStatement()
+                          .execute("DROP TABLE CSV_B");
+            }
+        }
+    }
+
+    /**
+     * Import upsert with header names, which differ from the column names by case only.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void importUpsertCaseInsensitiveHeader() throws SQLException {
+        try (Connection connection = dataSourceManager.getDefaultDataSource()
+                                                      .getConnection()) {
+            connection.createStatement()
+                      .execute("CREATE TABLE CSV_C (C1 INT PRIMARY KEY, C2 VARCHAR(20))");
+            try {
+                csvimProcessor.setStrictMode(true);
+                CsvFile csvFile = new CsvFile(null, "CSV_C", null, "import", true, true, ",", "\"", null, false, null);
+                csvFile.setUpsert(true);
+                csvimProcessor.process(csvFile, "c1,c2\n1,c2_1\n2,c2_2".getBytes(), defaultDataSourceName);
+                csvimProcessor.process(csvFile, "C2,c1\nc2_2_updated,2\nc2_3,3".getBytes(), defaultDataSourceName);
+                ResultSet rs = connection.createStatement()
+                                         .executeQuery("SELECT COUNT(*) FROM CSV_C");
+                assertTrue(rs.next());
+                assertEquals(3, rs.getInt(1), "Records have not been matched to the columns ignoring the case");
+                rs = connection.createStatement()
+                               .executeQuery("SELECT C2 FROM CSV_C WHERE C1 = 2");
+                assertTrue(rs.next());
+                assertEquals("c2_2_updated", rs.getString(1), "Existing record has not been updated");
+            } catch (Exception e) {
+                fail(e.getMessage(), e);
+            } finally {
+                connection.createStatement()
+                          .execute("DROP TABLE CSV_C");
+            }
+        }
+    }
 }
@@ -11,6 +11,7 @@ package org.eclipse.dirigible.components.data.export.endpoint;
 
 import static java.text.MessageFormat.format;
 
+import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -29,6 +30,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
@@ -89,12 +91,14 @@ public class DataExportEndpoint {
      *
      * @param datasource the datasource
      * @param schema the schema name
+     * @param compress whether to export the csvs and csvim in a compressed archive
      * @return the response
      * @throws URISyntaxException the URI syntax exception
      * @throws SQLException the SQL exception
      */
     @PutMapping(value = "/csv/{datasource}/{schema}")
-    public ResponseEntity<URI> exportDataAsProject(@PathVariable("datasource") String datasource, @PathVariable("schema") String schema)
+    public ResponseEntity<URI> exportDataAsProject(@PathVariable("datasource") String datasource, @PathVariable("schema") String schema,
+            @RequestParam(name = "compress", required = false, defaultValue = "false") boolean compress)
             throws URISyntaxException, SQLException {
 
         if (!databaseMetadataService.existsDataSourceMetadata(datasource)) {
@@ -102,7 +106,12 @@ public class DataExportEndpoint {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, error);
         }
 
-        dataExportService.exportSchemaInCsvs(datasource, schema);
+        try {
+            dataExportService.exportSchemaInCsvs(datasource, schema, compress);
+        } catch (SQLException | IOException e) {
+            String error = format("Failed to export schema {0} of datasource {1}: {2}", schema, datasource, e.getMessage());
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, error, e);
+        }
 
         return ResponseEntity.ok(new URI("/" + BaseEndpoint.PREFIX_ENDPOINT_IDE + "workspaces" + "/" + schema));
     }
@@ -12,15 +12,16 @@ package org.eclipse.dirigible.components.data.export.service;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import org.apache.commons.io.output.WriterOutputStream;
+import org.apache.commons.io.FileUtils;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.api.platform.WorkspaceFacade;
 import org.eclipse.dirigible.components.base.helpers.JsonHelper;
 import org.eclipse.dirigible.components.data.csvim.domain.CsvFile;
+import org.eclipse.dirigible.components.data.management.format.ResultSetCsvWriter;
 import org.eclipse.dirigible.components.data.management.helpers.DatabaseMetadataHelper;
 import org.eclipse.dirigible.components.data.management.load.DataSourceMetadataLoader;
 import org.eclipse.dirigible.components.data.management.service.DatabaseDefinitionService;
-import org.eclipse.dirigible.components.data.management.service.DatabaseExecutionService;
 import org.eclipse.dirigible.components.data.sources.manager.DataSourcesManager;
 import org.eclipse.dirigible.components.data.structures.domain.Table;
 import org.eclipse.dirigible.components.data.structures.domain.TableColumn;
@@ -32,19 +33,32 @@ import org.eclipse.dirigible.components.ide.workspace.domain.Workspace;
 import org.eclipse.dirigible.components.ide.workspace.service.WorkspaceService;
 import org.eclipse.dirigible.database.sql.ISqlKeywords;
 import org.eclipse.dirigible.database.sql.dialects.SqlDialectFactory;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.RepositoryException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.StringWriter;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static java.text.MessageFormat.format;
 
@@ -64,6 +78,16 @@ public class DataExportService {
      */
     private static final String DEFAULT_WORKSPACE_NAME = "workspace";
 
+    /**
+     * The Constant DIRIGIBLE_DATA_EXPORT_PARALLELISM.
+     */
+    private static final String DIRIGIBLE_DATA_EXPORT_PARALLELISM = "DIRIGIBLE_DATA_EXPORT_PARALLELISM";
+
+    /**
+     * The Constant DIRIGIBLE_DATA_EXPORT_FETCH_SIZE.
+     */
+    private static final String DIRIGIBLE_DATA_EXPORT_FETCH_SIZE = "DIRIGIBLE_DATA_EXPORT_FETCH_SIZE";
+
     /**
      * The data sources manager.
      */
@@ -74,11 +98,6 @@ public class DataExportService {
      */
     private final WorkspaceService workspaceService;
 
-    /**
-     * The database execution service.
-     */
-    private final DatabaseExecutionService databaseExecutionService;
-
     /**
      * The database execution service.
      */
@@ -99,18 +118,16 @@ public class DataExportService {
      *
      * @param datasourceManager the datasource manager
      * @param workspaceService the workspace service
-     * @param databaseExecutionService the database execution service
      * @param databaseDefinitionService the database definition service
      * @param dataTransferSchemaTopologyService the data transfer schema topology service
      * @param dataSourceMetadataLoader the data source metadata loader service
      */
     @Autowired
     public DataExportService(DataSourcesManager datasourceManager, WorkspaceService workspaceService,
-            DatabaseExecutionService databaseExecutionService, DatabaseDefinitionService databaseDefinitionService,
-            DataTransferSchemaTopologyService dataTransferSchemaTopologyService, DataSourceMetadataLoader dataSourceMetadataLoader) {
+            DatabaseDefinitionService databaseDefinitionService, DataTransferSchemaTopologyService dataTransferSchemaTopologyService,
+            DataSourceMetadataLoader dataSourceMetadataLoader) {
         this.datasourceManager = datasourceManager;
         this.workspaceService = workspaceService;
-        this.databaseExecutionService = databaseExecutionService;
         this.databaseDefinitionService = databaseDefinitionService;
         this.dataTransferSchemaTopologyService = dataTransferSchemaTopologyService;
         this.dataSourceMetadataLoader = dataSourceMetadataLoader;
@@ -121,82 +138,250 @@ public class DataExportService {
      *
      * @param datasource the datasource
      * @param schema the schema
+     * @throws SQLException the SQL exception
+     * @throws IOException Signals that an I/O exception has occurred.
      */
-    public void exportSchemaInCsvs(String datasource, String schema) {
-        try {
-            DirigibleDataSource dataSource = datasourceManager.getDataSource(datasource);
-            if (dataSource != null) {
-                Workspace workspace;
-                ArrayList<CsvFile> csvFiles = new ArrayList<>();
+    public void exportSchemaInCsvs(String datasource, String schema) throws SQLException, IOException {
+        exportSchemaInCsvs(datasource, schema, false);
+    }
+
+    /**
+     * Export schema in csvs. The tables are exported in parallel and streamed to their files, which are
+     * either created in the project or packed in a compressed archive in the project. If a table cannot
+     * be exported, the files created so far are deleted and the failure is rethrown.
+     *
+     * @param datasource the datasource
+     * @param schema the schema
+     * @param compress whether to produce a compressed archive instead of separate files
+     * @throws SQLException the SQL exception
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public void exportSchemaInCsvs(String datasource, String schema, boolean compress) throws SQLException, IOException {
+        DirigibleDataSource dataSource = datasourceManager.getDataSource(datasource);
+        if (dataSource != null) {
+            List<String> tables = getTableNames(dataSource, schema);
 
-                String metadata = DatabaseMetadataHelper.getMetadataAsJson(dataSource);
-                JsonElement database = GsonHelper.parseJson(metadata);
-                JsonArray schemes = database.getAsJsonObject()
-                                            .get("schemas")
-                                            .getAsJsonArray();
+            Workspace workspace =
+                    workspaceService.existsWorkspace(DEFAULT_WORKSPACE_NAME) ? WorkspaceFacade.getWorkspace(DEFAULT_WORKSPACE_NAME)
+                            : WorkspaceFacade.createWorkspace(DEFAULT_WORKSPACE_NAME);
 
-                workspace = workspaceService.existsWorkspace(DEFAULT_WORKSPACE_NAME) ? WorkspaceFacade.getWorkspace(DEFAULT_WORKSPACE_NAME)
-                        : WorkspaceFacade.createWorkspace(DEFAULT_WORKSPACE_NAME);
+            Project project = workspace.createProject(datasource);
 
-                Project project = workspace.createProject(datasource);
+            Path directory = Files.createTempDirectory("dirigible-export-");
+            List<File> createdFiles = new ArrayList<>();
+            try {
+                ArrayList<CsvFile> csvFiles = new ArrayList<>();
+                List<TableExport> exports = new ArrayList<>();
+                for (String artifact : tables) {
+                    String name = schema.toLowerCase() + "." + artifact.toLowerCase() + ".csv";
+                    exports.add(new TableExport(artifact, name, directory.resolve(name)));
+
+                    CsvFile csvFile = new CsvFile();
+                    setCsvFileFields(csvFile, schema, artifact, IRepository.SEPARATOR + project.getName() + IRepository.SEPARATOR + name);
+                    csvFiles.add(csvFile);
+                }
 
-                for (int i = 0; i < schemes.size(); i++) {
-                    JsonObject scheme = schemes.get(i)
-                                               .getAsJsonObject();
-                    if (!scheme.get("name")
-                               .getAsString()
-                               .equalsIgnoreCase(schema)) {
-                        continue;
-                    }
-                    JsonArray tables = scheme.get("tables")
-                                             .getAsJsonArray();
-                    for (int j = 0; j < tables.size(); j++) {
-                        File file;
-                        CsvFile csvFile = new CsvFile();
-
-                        JsonObject table = tables.get(j)
-                                                 .getAsJsonObject();
-                        String artifact = table.get("name")
-                                               .getAsString();
-                        String sql = "SELECT * FROM \"" + schema + "\".\"" + artifact + "\"";
-                        try {
-                            sql = SqlDialectFactory.getDialect(dataSource)
-                                                   .allQuery("\"" + schema + "\".\"" + artifact + "\"");
-                        } catch (Exception e) {
-                            logger.error(e.getMessage(), e);
-                        }
-
-                        StringWriter sw = new StringWriter();
-                        OutputStream output;
-                        try {
-                            output = WriterOutputStream.builder()
-                                                       .setWriter(sw)
-                                                       .setCharset(StandardCharsets.UTF_8)
-                                                       .get();
-                        } catch (IOException e) {
-                            throw new SQLException(e);
-                        }
-                        databaseExecutionService.executeStatement(dataSource, sql, true, false, true, false, output);
-                        String tableExport = sw.toString();
-
-                        file = project.createFile(schema.toLowerCase() + "." + artifact.toLowerCase() + ".csv", tableExport.getBytes());
-
-                        setCsvFileFields(csvFile, schema, artifact, file.getProjectPath());
-                        csvFiles.add(csvFile);
+                exportTables(dataSource, schema, exports);
+
+                byte[] csvimContent = transformCsvFilesToJson(csvFiles).toString()
+                                                                       .getBytes();
+                if (compress) {
+                    String archiveName = schema.toLowerCase() + ".zip";
+                    Path archivePath = directory.resolve(archiveName);
+                    writeArchive(archivePath, project.getName(), exports, schema + ".csvim", csvimContent);
+                    createdFiles.add(createFile(project, archiveName, archivePath));
+                } else {
+                    for (TableExport export : exports) {
+                        createdFiles.add(createFile(project, export.name(), export.path()));
                     }
+                    project.createFile(schema + ".csvim", csvimContent);
                 }
-                JsonObject csvimContent = transformCsvFilesToJson(csvFiles);
+            } catch (SQLException | IOException | RuntimeException e) {
+                logger.error("Failed to export schema [{}] of data source [{}], deleting the created files", schema, datasource, e);
+                deleteQuietly(createdFiles);
+                throw e;
+            } finally {
+                FileUtils.deleteQuietly(directory.toFile());
+            }
 
-                project.createFile(schema + ".csvim", csvimContent.toString()
-                                                                  .getBytes());
+            logger.info(format("Created requested files in Project [{0}] in Workspace [{1}]", project.getName(), workspace.getName()));
+        }
+    }
 
-                logger.info(format("Created requested files in Project [{0}] in Workspace [{1}]", project.getName(), workspace.getName()));
+    /**
+     * Deletes the files, logging the failures.
+     *
+     * @param files the files
+     */
+    private static void deleteQuietly(List<File> files) {
+        for (File file : files) {
+            try {
+                file.delete();
+            } catch (RepositoryException e) {
+                logger.error("Failed to delete the file [{}]", file.getPath(), e);
             }
-        } catch (SQLException e) {
-            if (logger.isErrorEnabled()) {
-                logger.error(e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the names of the tables in the schema.
+     *
+     * @param dataSource the data source
+     * @param schema the schema
+     * @return the table names
+     * @throws SQLException the SQL exception
+     */
+    private List<String> getTableNames(DirigibleDataSource dataSource, String schema) throws SQLException {
+        List<String> names = new ArrayList<>();
+        String metadata = DatabaseMetadataHelper.getMetadataAsJson(dataSource);
+        JsonElement database = GsonHelper.parseJson(metadata);
+        JsonArray schemes = database.getAsJsonObject()
+                                    .get("schemas")
+                                    .getAsJsonArray();
+        for (int i = 0; i < schemes.size(); i++) {
+            JsonObject scheme = schemes.get(i)
+                                       .getAsJsonObject();
+            if (!scheme.get("name")
+                       .getAsString()
+                       .equalsIgnoreCase(schema)) {
+                continue;
+            }
+            JsonArray tables = scheme.get("tables")
+                                     .getAsJsonArray();
+            for (int j = 0; j < tables.size(); j++) {
+                names.add(tables.get(j)
+                                .getAsJsonObject()
+                                .get("name")
+                                .getAsString());
             }
         }
+        return names;
+    }
+
+    /**
+     * Creates the file in the project, streaming its content from the exported file through the
+     * repository.
+     *
+     * @param project the project
+     * @param name the name
+     * @param path the path of the exported file
+     * @return the file
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static File createFile(Project project, String name, Path path) throws IOException {
+        File file = project.getFile(name);
+        try (InputStream content = Files.newInputStream(path)) {
+            file.setContent(content);
+        }
+        return file;
+    }
+
+    /**
+     * Exports the tables on a bounded pool.
+     *
+     * @param dataSource the data source
+     * @param schema the schema
+     * @param exports the exports
+     * @throws SQLException the SQL exception
+     */
+    private void exportTables(DirigibleDataSource dataSource, String schema, List<TableExport> exports) throws SQLException {
+        if (exports.isEmpty()) {
+            return;
+        }
+        int parallelism = Math.max(1, Math.min(Configuration.getAsInt(DIRIGIBLE_DATA_EXPORT_PARALLELISM, 4), exports.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (TableExport export : exports) {
+                futures.add(executor.submit(() -> {
+                    exportTable(dataSource, schema, export.table(), export.path());
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw new SQLException(e);
+        } catch (ExecutionException e) {
+            throw new SQLException(e.getCause()
+                                    .getMessage(),
+                    e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Exports the table as csv, streaming its rows to the file.
+     *
+     * @param dataSource the data source
+     * @param schema the schema
+     * @param table the table
+     * @param path the path of the file
+     * @throws Exception the exception
+     */
+    private void exportTable(DirigibleDataSource dataSource, String schema, String table, Path path) throws Exception {
+        String sql = "SELECT * FROM \"" + schema + "\".\"" + table + "\"";
+        try {
+            sql = SqlDialectFactory.getDialect(dataSource)
+                                   .allQuery("\"" + schema + "\".\"" + table + "\"");
+        } catch (Exception e) {
+            logger.error(e.getMessage(), e);
+        }
+
+        ResultSetCsvWriter writer = new ResultSetCsvWriter();
+        writer.setLimited(false);
+        writer.setStringified(false);
+        writer.setStrict(true);
+
+        long start = System.currentTimeMillis();
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            // some drivers, e.g. PostgreSQL, fetch the rows in portions only within a transaction
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(Configuration.getAsInt(DIRIGIBLE_DATA_EXPORT_FETCH_SIZE, 1000));
+                try (ResultSet resultSet = statement.executeQuery();
+                        OutputStream output = new BufferedOutputStream(Files.newOutputStream(path))) {
+                    writer.write(resultSet, output);
+                }
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+        long duration = Math.max(1, System.currentTimeMillis() - start);
+        if (logger.isInfoEnabled()) {
+            logger.info("Exported table [{}.{}] with [{}] rows and [{}] bytes in [{}] ms ([{}] rows/s)", schema, table,
+                    writer.getRowCount(), Files.size(path), duration, writer.getRowCount() * 1000 / duration);
+        }
+    }
+
+    /**
+     * Writes the exported files and the csvim in a compressed archive.
+     *
+     * @param archivePath the archive path
+     * @param folder the folder of the entries in the archive
+     * @param exports the exports
+     * @param csvimName the csvim name
+     * @param csvimContent the csvim content
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static void writeArchive(Path archivePath, String folder, List<TableExport> exports, String csvimName, byte[] csvimContent)
+            throws IOException {
+        try (ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(archivePath)))) {
+            for (TableExport export : exports) {
+                zip.putNextEntry(new ZipEntry(folder + IRepository.SEPARATOR + export.name()));
+                Files.copy(export.path(), zip);
+                zip.closeEntry();
+            }
+            zip.putNextEntry(new ZipEntry(folder + IRepository.SEPARATOR + csvimName));
+            zip.write(csvimContent);
+            zip.closeEntry();
+        }
     }
 
     /**
@@ -409,4 +594,14 @@ public class DataExportService {
         csvFile.setDistinguishEmptyFromNull(true);
 
     }
+
+    /**
+     * The export of a table.
+     *
+     * @param table the table
+     * @param name the name of the file
+     * @param path the path, where the rows are streamed to
+     */
+    private record TableExport(String table, String name, Path path) {
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.eclipse.dirigible.components.data.export.endpoint;
 
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.data.sources.domain.DataSource;
 import org.eclipse.dirigible.components.data.sources.manager.DataSourcesManager;
 import org.eclipse.dirigible.components.data.sources.repository.DataSourceRepository;
@@ -92,6 +93,23 @@ public class DataExportEndpointTest {
         assertNotNull(project);
     }
 
+    /**
+     * Export data as project failed test. The invalid fetch size fails the export of every table.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void exportDataAsProjectFailedTest() throws Exception {
+        Configuration.set("DIRIGIBLE_DATA_EXPORT_FETCH_SIZE", "-1");
+        try {
+            mockMvc.perform(put("/services/data/project/csv/{datasource}/{schema}", "TestDB", "INFORMATION_SCHEMA").with(csrf()))
+                   .andDo(print())
+                   .andExpect(status().isInternalServerError());
+        } finally {
+            Configuration.remove("DIRIGIBLE_DATA_EXPORT_FETCH_SIZE");
+        }
+    }
+
     /**
      * Export metadata as project test.
      *
@@ -10,11 +10,26 @@
 package org.eclipse.dirigible.components.data.export.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.components.api.platform.WorkspaceFacade;
 import org.eclipse.dirigible.components.data.sources.domain.DataSource;
 import org.eclipse.dirigible.components.data.sources.repository.DataSourceRepository;
 import org.eclipse.dirigible.components.ide.workspace.domain.File;
@@ -49,6 +64,9 @@ import org.springframework.web.context.WebApplicationContext;
 @Transactional
 public class DataExportServiceTest {
 
+    /** The Constant FAILING_ROWS. */
+    private static final int FAILING_ROWS = 5000;
+
     /** The datasource repository. */
     @Autowired
     private DataSourceRepository datasourceRepository;
@@ -134,6 +152,103 @@ public class DataExportServiceTest {
         assertNotNull(foundFile);
     }
 
+    /**
+     * Export schema in csvs test.
+     *
+     * @throws SQLException the SQL exception
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void exportSchemaInCsvsTest() throws SQLException, IOException {
+        dataExportService.exportSchemaInCsvs("TestDB", "INFORMATION_SCHEMA");
+        Project project = workspaceService.getWorkspace("workspace")
+                                          .getProject("TestDB");
+
+        assertTrue(project.existsFile("INFORMATION_SCHEMA.csvim"));
+        File csvFile = project.getFile("information_schema.settings.csv");
+        assertTrue(csvFile.exists());
+        String content = new String(csvFile.getContent(), StandardCharsets.UTF_8);
+        assertTrue(content.startsWith("SETTING_NAME,SETTING_VALUE"), content);
+        assertTrue(content.contains("info.VERSION_MAJOR"), content);
+    }
+
+    /**
+     * Export schema in compressed csvs test.
+     *
+     * @throws SQLException the SQL exception
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void exportSchemaInCompressedCsvsTest() throws SQLException, IOException {
+        dataExportService.exportSchemaInCsvs("TestDB", "INFORMATION_SCHEMA", true);
+        Project project = workspaceService.getWorkspace("workspace")
+                                          .getProject("TestDB");
+
+        Set<String> entries = new HashSet<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(project.getFile("information_schema.zip")
+                                                                                     .getContent()))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.add(entry.getName());
+            }
+        }
+        assertTrue(entries.contains("TestDB/INFORMATION_SCHEMA.csvim"), entries.toString());
+        assertTrue(entries.contains("TestDB/information_schema.settings.csv"), entries.toString());
+    }
+
+    /**
+     * Export schema in csvs failed test. The invalid fetch size fails the export of every table.
+     */
+    @Test
+    public void exportSchemaInCsvsFailedTest() {
+        Workspace workspace = workspaceService.existsWorkspace("workspace") ? workspaceService.getWorkspace("workspace")
+                : WorkspaceFacade.createWorkspace("workspace");
+        Project project = workspace.createProject("TestDB");
+        if (project.existsFile("INFORMATION_SCHEMA.csvim")) {
+            project.deleteFile("INFORMATION_SCHEMA.csvim");
+        }
+        Configuration.set("DIRIGIBLE_DATA_EXPORT_FETCH_SIZE", "-1");
+        try {
+            assertThrows(SQLException.class, () -> dataExportService.exportSchemaInCsvs("TestDB", "INFORMATION_SCHEMA"));
+        } finally {
+            Configuration.remove("DIRIGIBLE_DATA_EXPORT_FETCH_SIZE");
+        }
+
+        assertFalse(project.existsFile("INFORMATION_SCHEMA.csvim"));
+        assertFalse(project.existsFile("information_schema.settings.csv"));
+    }
+
+    /**
+     * Export schema in csvs failed while streaming test. The object in the last row of the table cannot
+     * be deserialized, so the export fails after the first rows have been written.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void exportSchemaInCsvsFailedWhileStreamingTest() throws SQLException {
+        datasourceRepository.save(new DataSource("/test/FailingDB.datasource", "FailingDB", "", "org.h2.Driver",
+                "jdbc:h2:mem:failing;DB_CLOSE_DELAY=-1", "sa", ""));
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:failing;DB_CLOSE_DELAY=-1", "sa", "");
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS FAILING");
+            statement.execute("DROP TABLE IF EXISTS FAILING.ITEMS");
+            statement.execute("CREATE TABLE FAILING.ITEMS (ID INTEGER, PAYLOAD JAVA_OBJECT)");
+            statement.execute("INSERT INTO FAILING.ITEMS SELECT X, CASE WHEN X = " + FAILING_ROWS
+                    + " THEN CAST(X'00' AS JAVA_OBJECT) END FROM SYSTEM_RANGE(1, " + FAILING_ROWS + ")");
+        }
+
+        Workspace workspace = workspaceService.existsWorkspace("workspace") ? workspaceService.getWorkspace("workspace")
+                : WorkspaceFacade.createWorkspace("workspace");
+        Project project = workspace.createProject("FailingDB");
+        if (project.existsFile("FAILING.csvim")) {
+            project.deleteFile("FAILING.csvim");
+        }
+
+        assertThrows(SQLException.class, () -> dataExportService.exportSchemaInCsvs("FailingDB", "FAILING"));
+
+        assertFalse(project.existsFile("FAILING.csvim"));
+        assertFalse(project.existsFile("failing.items.csv"));
+    }
+
     /**
      * The Class TestConfiguration.
      */
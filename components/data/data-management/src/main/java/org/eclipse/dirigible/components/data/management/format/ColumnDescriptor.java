@@ -26,6 +26,9 @@ public class ColumnDescriptor {
     /** The display size. */
     private int displaySize;
 
+    /** The index of the column or 0, if the column has to be read by its label. */
+    private int index;
+
     /**
      * Gets the name.
      *
@@ -98,6 +101,24 @@ public class ColumnDescriptor {
         this.displaySize = displaySize;
     }
 
+    /**
+     * Gets the index.
+     *
+     * @return the index or 0, if the column has to be read by its label
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the index.
+     *
+     * @param index the new index
+     */
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
     /**
      * Hash code.
      *
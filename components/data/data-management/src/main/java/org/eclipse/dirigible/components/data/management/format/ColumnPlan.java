@@ -0,0 +1,470 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.management.format;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Date;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * The plan for reading the columns of a result set, shared by the result set writers.
+ *
+ * The plan is built once per result set from its metadata. Every column is read by its index with a
+ * getter chosen by its SQL type, and its JSON field name is encoded once. The values of the columns
+ * without a typed getter are read as objects and classified by their class, which is cached per
+ * class. The documents of the schemaless stores may have different fields, so for them the plan is
+ * rebuilt from the metadata of every row and the columns are read by label.
+ */
+public final class ColumnPlan {
+
+    /** The Constant SCHEMALESS_RESULT_SET_PACKAGE. */
+    private static final String SCHEMALESS_RESULT_SET_PACKAGE = "org.eclipse.dirigible.mongodb.";
+
+    /** The columns. */
+    private final Column[] columns;
+
+    /** The schemaless. */
+    private final boolean schemaless;
+
+    /**
+     * Instantiates a new column plan.
+     *
+     * @param columns the columns
+     * @param schemaless the schemaless
+     */
+    private ColumnPlan(Column[] columns, boolean schemaless) {
+        this.columns = columns;
+        this.schemaless = schemaless;
+    }
+
+    /**
+     * Creates the plan for the result set.
+     *
+     * @param resultSet the result set
+     * @return the column plan
+     * @throws SQLException the SQL exception
+     */
+    public static ColumnPlan of(ResultSet resultSet) throws SQLException {
+        boolean schemaless = resultSet.getClass()
+                                      .getName()
+                                      .startsWith(SCHEMALESS_RESULT_SET_PACKAGE);
+        return of(resultSet.getMetaData(), schemaless);
+    }
+
+    /**
+     * Creates the plan from the metadata.
+     *
+     * @param metaData the meta data
+     * @param schemaless the schemaless
+     * @return the column plan
+     * @throws SQLException the SQL exception
+     */
+    private static ColumnPlan of(ResultSetMetaData metaData, boolean schemaless) throws SQLException {
+        Column[] columns = new Column[metaData.getColumnCount()];
+        for (int i = 1; i <= columns.length; i++) {
+            String name = metaData.getColumnName(i);
+            String label = metaData.getColumnLabel(i);
+            int sqlType = metaData.getColumnType(i);
+            ColumnKind kind = ColumnKind.of(sqlType, !schemaless && metaData.isSigned(i));
+            if (schemaless && kind.isTyped()) {
+                kind = ColumnKind.OBJECT;
+            }
+            columns[i - 1] = new Column(i, name, label, sqlType, metaData.getColumnDisplaySize(i), kind, schemaless);
+        }
+        return new ColumnPlan(columns, schemaless);
+    }
+
+    /**
+     * Gets the plan for the current row, which is this plan unless the result set is schemaless.
+     *
+     * @param resultSet the result set positioned on the row
+     * @return the column plan
+     * @throws SQLException the SQL exception
+     */
+    public ColumnPlan forRow(ResultSet resultSet) throws SQLException {
+        return schemaless ? of(resultSet.getMetaData(), true) : this;
+    }
+
+    /**
+     * Gets the columns.
+     *
+     * @return the columns
+     */
+    public Column[] getColumns() {
+        return columns;
+    }
+
+    /**
+     * Checks if is schemaless.
+     *
+     * @return true, if is schemaless
+     */
+    public boolean isSchemaless() {
+        return schemaless;
+    }
+
+    /**
+     * The way a column is read.
+     */
+    public enum ColumnKind {
+
+        /** Read with getString. */
+        STRING,
+        /** Read with getLong. */
+        INTEGER,
+        /** Read with getBigDecimal. */
+        DECIMAL,
+        /** Read with getDouble. */
+        DOUBLE,
+        /** Read with getFloat. */
+        FLOAT,
+        /** Read with getBoolean. */
+        BOOLEAN,
+        /** Binary large object, read with getBinaryStream. */
+        BINARY_STREAM,
+        /** Character large object, read with getClob. */
+        CLOB,
+        /** Vendor specific object. */
+        OTHER,
+        /** Read with getObject. */
+        OBJECT;
+
+        /**
+         * Chooses the kind for the SQL type.
+         *
+         * @param sqlType the SQL type
+         * @param signed whether the column is signed, unsigned integers may not fit in a long
+         * @return the column kind
+         */
+        static ColumnKind of(int sqlType, boolean signed) {
+            return switch (sqlType) {
+                case Types.CHAR, Types.VARCHAR, Types.NCHAR, Types.NVARCHAR -> STRING;
+                case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT -> signed ? INTEGER : OBJECT;
+                case Types.DECIMAL, Types.NUMERIC -> DECIMAL;
+                case Types.DOUBLE, Types.FLOAT -> DOUBLE;
+                case Types.REAL -> FLOAT;
+                case Types.BOOLEAN -> BOOLEAN;
+                case Types.BLOB, Types.BINARY, Types.LONGVARBINARY -> BINARY_STREAM;
+                case Types.CLOB, Types.LONGVARCHAR -> CLOB;
+                case Types.OTHER -> OTHER;
+                default -> OBJECT;
+            };
+        }
+
+        /**
+         * Checks if the kind has a typed getter.
+         *
+         * @return true, if is typed
+         */
+        boolean isTyped() {
+            return this == STRING || this == INTEGER || this == DECIMAL || this == DOUBLE || this == FLOAT || this == BOOLEAN;
+        }
+    }
+
+    /**
+     * The type of a value read as an object.
+     */
+    public enum ValueType {
+
+        /** The string. */
+        STRING,
+        /** The character. */
+        CHARACTER,
+        /** The float. */
+        FLOAT,
+        /** The double. */
+        DOUBLE,
+        /** The big decimal. */
+        BIG_DECIMAL,
+        /** The long. */
+        LONG,
+        /** The big integer. */
+        BIG_INTEGER,
+        /** The integer. */
+        INTEGER,
+        /** The byte. */
+        BYTE,
+        /** The short. */
+        SHORT,
+        /** The boolean. */
+        BOOLEAN,
+        /** The date, time and timestamp. */
+        DATE,
+        /** A document of a schemaless store, written as text. */
+        DOCUMENT,
+        /** Any other value, treated as binary. */
+        BINARY;
+
+        /** The types by class. */
+        private static final ClassValue<ValueType> TYPES = new ClassValue<>() {
+            @Override
+            protected ValueType computeValue(Class<?> type) {
+                return classify(type);
+            }
+        };
+
+        /**
+         * Gets the type of the value.
+         *
+         * @param value the value, not null
+         * @return the value type
+         */
+        public static ValueType of(Object value) {
+            return TYPES.get(value.getClass());
+        }
+
+        /**
+         * Classifies the class.
+         *
+         * @param type the type
+         * @return the value type
+         */
+        private static ValueType classify(Class<?> type) {
+            if (type == String.class) {
+                return STRING;
+            } else if (type == Character.class) {
+                return CHARACTER;
+            } else if (type == Float.class) {
+                return FLOAT;
+            } else if (type == Double.class) {
+                return DOUBLE;
+            } else if (BigDecimal.class.isAssignableFrom(type)) {
+                return BIG_DECIMAL;
+            } else if (type == Long.class) {
+                return LONG;
+            } else if (BigInteger.class.isAssignableFrom(type)) {
+                return BIG_INTEGER;
+            } else if (type == Integer.class) {
+                return INTEGER;
+            } else if (type == Byte.class) {
+                return BYTE;
+            } else if (type == Short.class) {
+                return SHORT;
+            } else if (type == Boolean.class) {
+                return BOOLEAN;
+            } else if (Date.class.isAssignableFrom(type)) {
+                return DATE;
+            }
+            String name = type.getName();
+            if ("org.bson.Document".equals(name) || "org.bson.types.ObjectId".equals(name) || "java.util.ArrayList".equals(name)) {
+                return DOCUMENT;
+            }
+            return BINARY;
+        }
+
+        /**
+         * Checks if the value is a primitive wrapper, a string, a date or a big number.
+         *
+         * @return true, if is scalar
+         */
+        public boolean isScalar() {
+            return this != DOCUMENT && this != BINARY;
+        }
+    }
+
+    /**
+     * A column of the plan.
+     */
+    public static final class Column {
+
+        /** The index. */
+        private final int index;
+
+        /** The name. */
+        private final String name;
+
+        /** The label. */
+        private final String label;
+
+        /** The SQL type. */
+        private final int sqlType;
+
+        /** The display size. */
+        private final int displaySize;
+
+        /** The kind. */
+        private final ColumnKind kind;
+
+        /** Whether the column is read by its label. */
+        private final boolean byLabel;
+
+        /** The encoded JSON field name. */
+        private final SerializedString fieldName;
+
+        /**
+         * Instantiates a new column.
+         *
+         * @param index the index
+         * @param name the name
+         * @param label the label
+         * @param sqlType the SQL type
+         * @param displaySize the display size
+         * @param kind the kind
+         * @param byLabel the by label
+         */
+        Column(int index, String name, String label, int sqlType, int displaySize, ColumnKind kind, boolean byLabel) {
+            this.index = index;
+            this.name = name;
+            this.label = label;
+            this.sqlType = sqlType;
+            this.displaySize = displaySize;
+            this.kind = kind;
+            this.byLabel = byLabel;
+            this.fieldName = new SerializedString(label != null ? label : name);
+        }
+
+        /**
+         * Gets the index.
+         *
+         * @return the index
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Gets the name.
+         *
+         * @return the name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the label.
+         *
+         * @return the label
+         */
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * Gets the SQL type.
+         *
+         * @return the SQL type
+         */
+        public int getSqlType() {
+            return sqlType;
+        }
+
+        /**
+         * Gets the display size.
+         *
+         * @return the display size
+         */
+        public int getDisplaySize() {
+            return displaySize;
+        }
+
+        /**
+         * Gets the kind.
+         *
+         * @return the kind
+         */
+        public ColumnKind getKind() {
+            return kind;
+        }
+
+        /**
+         * Gets the encoded JSON field name.
+         *
+         * @return the field name
+         */
+        public SerializedString getFieldName() {
+            return fieldName;
+        }
+
+        /**
+         * Gets the value of the column in the current row with the getter of its kind.
+         *
+         * @param resultSet the result set
+         * @return the value or null
+         * @throws SQLException the SQL exception
+         */
+        public Object getValue(ResultSet resultSet) throws SQLException {
+            return switch (kind) {
+                case STRING -> resultSet.getString(index);
+                case INTEGER -> wasNull(resultSet, resultSet.getLong(index));
+                case DECIMAL -> resultSet.getBigDecimal(index);
+                case DOUBLE -> wasNull(resultSet, resultSet.getDouble(index));
+                case FLOAT -> wasNull(resultSet, resultSet.getFloat(index));
+                case BOOLEAN -> wasNull(resultSet, resultSet.getBoolean(index));
+                default -> getObject(resultSet);
+            };
+        }
+
+        /**
+         * Gets the value of the column in the current row as an object.
+         *
+         * @param resultSet the result set
+         * @return the object
+         * @throws SQLException the SQL exception
+         */
+        public Object getObject(ResultSet resultSet) throws SQLException {
+            return byLabel ? resultSet.getObject(name) : resultSet.getObject(index);
+        }
+
+        /**
+         * Gets the value of the column in the current row as a string.
+         *
+         * @param resultSet the result set
+         * @return the string
+         * @throws SQLException the SQL exception
+         */
+        public String getString(ResultSet resultSet) throws SQLException {
+            return byLabel ? resultSet.getString(label) : resultSet.getString(index);
+        }
+
+        /**
+         * Gets the binary stream of the column in the current row.
+         *
+         * @param resultSet the result set
+         * @return the binary stream
+         * @throws SQLException the SQL exception
+         */
+        public InputStream getBinaryStream(ResultSet resultSet) throws SQLException {
+            return byLabel ? resultSet.getBinaryStream(name) : resultSet.getBinaryStream(index);
+        }
+
+        /**
+         * Gets the clob of the column in the current row.
+         *
+         * @param resultSet the result set
+         * @return the clob
+         * @throws SQLException the SQL exception
+         */
+        public Clob getClob(ResultSet resultSet) throws SQLException {
+            return byLabel ? resultSet.getClob(name) : resultSet.getClob(index);
+        }
+
+        /**
+         * Returns the value or null, if the last read column was SQL NULL.
+         *
+         * @param resultSet the result set
+         * @param value the value
+         * @return the value or null
+         * @throws SQLException the SQL exception
+         */
+        private static Object wasNull(ResultSet resultSet, Object value) throws SQLException {
+            return resultSet.wasNull() ? null : value;
+        }
+    }
+
+}
@@ -14,15 +14,12 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.sql.Clob;
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
-import java.sql.Types;
-import java.util.ArrayList;
 import java.util.Base64;
-import java.util.List;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
 import org.apache.commons.io.IOUtils;
-import org.apache.commons.lang3.ClassUtils;
+import org.eclipse.dirigible.components.data.management.format.ColumnPlan.Column;
+import org.eclipse.dirigible.components.data.management.format.ColumnPlan.ValueType;
 import org.postgresql.util.PGobject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,6 +40,12 @@ public class ResultSetCsvWriter extends AbstractResultSetWriter<String> {
     /** The stringify. */
     private boolean stringify = true;
 
+    /** Whether the failures are propagated instead of logged. */
+    private boolean strict;
+
+    /** The rows written by the last write. */
+    private long rowCount;
+
     /**
      * Checks if is limited.
      *
@@ -83,6 +86,34 @@ public class ResultSetCsvWriter extends AbstractResultSetWriter<String> {
         this.stringify = stringify;
     }
 
+    /**
+     * Checks if is strict.
+     *
+     * @return true, if the failures are propagated instead of logged
+     */
+    public boolean isStrict() {
+        return strict;
+    }
+
+    /**
+     * Sets the strict. In strict mode a failure to read or to write a row fails the write, instead of
+     * being logged and producing a partial output.
+     *
+     * @param strict whether to propagate the failures instead of logging them
+     */
+    public void setStrict(boolean strict) {
+        this.strict = strict;
+    }
+
+    /**
+     * Gets the number of rows written by the last write.
+     *
+     * @return the row count
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
     /**
      * Write.
      *
@@ -94,96 +125,115 @@ public class ResultSetCsvWriter extends AbstractResultSetWriter<String> {
     public void write(ResultSet resultSet, OutputStream output) throws Exception {
 
         OutputStreamWriter sw = new OutputStreamWriter(output);
-
-        ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
-
-        int count = 0;
-        List<String> names = new ArrayList<>();
-        if (resultSet.next()) {
-            if (resultSetMetaData == null) {
-                resultSetMetaData = resultSet.getMetaData(); // dynamic result set metadata
-            }
-            for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
-                String name = resultSetMetaData.getColumnName(i);
-                names.add(name);
+        rowCount = 0;
+
+        ColumnPlan plan = null;
+        String[] names = new String[0];
+        boolean hasRow = resultSet.next();
+        if (hasRow) {
+            plan = ColumnPlan.of(resultSet);
+            Column[] columns = plan.getColumns();
+            names = new String[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                names[i] = columns[i].getName();
             }
         }
 
         CSVFormat csvFormat = CSVFormat.DEFAULT.builder()
-                                               .setHeader(names.stream()
-                                                               .toArray(String[]::new))
+                                               .setHeader(names)
                                                .build();
         try {
             try (final CSVPrinter printer = new CSVPrinter(sw, csvFormat)) {
-                count = 0;
-                do {
-                    List<Object> values = new ArrayList<>();
-                    for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
-                        Object value = null;
-                        String name = resultSetMetaData.getColumnName(i);
-                        int dbt = resultSetMetaData.getColumnType(i);
-                        if (dbt == Types.BLOB || dbt == Types.BINARY || dbt == Types.LONGVARBINARY) {
-                            InputStream is = resultSet.getBinaryStream(name);
-                            if (is == null && stringify) {
-                                value = "[NULL]";
-                            } else if (is != null) {
-                                byte[] ba = IOUtils.toByteArray(is);
-                                if (stringify) {
-                                    value = "[BLOB]";
-                                } else {
-                                    value = Base64.getEncoder()
-                                                  .encodeToString(ba);
-                                }
-                            }
-                        } else if (dbt == Types.CLOB || dbt == Types.LONGVARCHAR) {
-                            Clob clob = resultSet.getClob(name);
-                            if (clob == null && stringify) {
-                                value = "[NULL]";
-                            } else if (clob != null) {
-                                byte[] ba = IOUtils.toByteArray(clob.getAsciiStream());
-                                if (stringify) {
-                                    value = "[CLOB]";
-                                } else {
-                                    value = Base64.getEncoder()
-                                                  .encodeToString(ba);
-                                }
-                            }
-                        } else if (dbt == Types.OTHER) {
-                            Object dataObject = resultSet.getObject(name);
-                            if (dataObject instanceof PGobject) {
-                                value = ((PGobject) dataObject).getValue();
-                            }
-                        } else {
-                            value = resultSet.getObject(name);
-                            if (value == null && stringify) {
-                                value = "[NULL]";
-                            }
-                            if (value != null && !ClassUtils.isPrimitiveOrWrapper(value.getClass()) && value.getClass() != String.class
-                                    && !java.util.Date.class.isAssignableFrom(value.getClass())
-                                    && !java.math.BigInteger.class.isAssignableFrom(value.getClass())
-                                    && !java.math.BigDecimal.class.isAssignableFrom(value.getClass())) {
-                                if (stringify) {
-                                    value = "[BINARY]";
-                                }
-                            }
-                        }
-                        values.add(value);
+                int count = 0;
+                Object[] values = new Object[names.length];
+                while (hasRow) {
+                    Column[] columns = plan.getColumns();
+                    for (int i = 0; i < columns.length; i++) {
+                        values[i] = getValue(resultSet, columns[i]);
                     }
                     try {
                         printer.printRecord(values);
+                        rowCount++;
                     } catch (Exception e) {
+                        if (strict) {
+                            throw e;
+                        }
                         logger.error(e.getMessage());
                     }
 
                     if (this.isLimited() && (++count > getLimit())) {
                         break;
                     }
-                } while (resultSet.next());
+                    hasRow = resultSet.next();
+                }
 
             }
         } catch (Exception e) {
+            if (strict) {
+                throw e;
+            }
             logger.error(e.getMessage(), e);
         }
     }
 
+    /**
+     * Gets the value of the column in the current row.
+     *
+     * @param resultSet the result set
+     * @param column the column
+     * @return the value
+     * @throws Exception the exception
+     */
+    private Object getValue(ResultSet resultSet, Column column) throws Exception {
+        Object value = null;
+        switch (column.getKind()) {
+            case BINARY_STREAM -> {
+                InputStream is = column.getBinaryStream(resultSet);
+                if (is == null && stringify) {
+                    value = "[NULL]";
+                } else if (is != null) {
+                    byte[] ba = IOUtils.toByteArray(is);
+                    if (stringify) {
+                        value = "[BLOB]";
+                    } else {
+                        value = Base64.getEncoder()
+                                      .encodeToString(ba);
+                    }
+                }
+            }
+            case CLOB -> {
+                Clob clob = column.getClob(resultSet);
+                if (clob == null && stringify) {
+                    value = "[NULL]";
+                } else if (clob != null) {
+                    byte[] ba = IOUtils.toByteArray(clob.getAsciiStream());
+                    if (stringify) {
+                        value = "[CLOB]";
+                    } else {
+                        value = Base64.getEncoder()
+                                      .encodeToString(ba);
+                    }
+                }
+            }
+            case OTHER -> {
+                Object dataObject = column.getObject(resultSet);
+                if (dataObject instanceof PGobject) {
+                    value = ((PGobject) dataObject).getValue();
+                }
+            }
+            default -> {
+                value = column.getValue(resultSet);
+                if (value == null && stringify) {
+                    value = "[NULL]";
+                } else if (value != null && stringify && !column.getKind()
+                                                                .isTyped()
+                        && !ValueType.of(value)
+                                     .isScalar()) {
+                    value = "[BINARY]";
+                }
+            }
+        }
+        return value;
+    }
+
 }
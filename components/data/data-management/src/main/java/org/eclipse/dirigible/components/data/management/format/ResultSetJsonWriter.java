@@ -13,18 +13,12 @@ import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
-import java.sql.SQLException;
 
-import jakarta.annotation.PostConstruct;
-
-import org.apache.commons.lang3.ClassUtils;
-import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.eclipse.dirigible.components.data.management.format.ColumnPlan.Column;
+import org.eclipse.dirigible.components.data.management.format.ColumnPlan.ValueType;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonPrimitive;
 
 /**
  * The ResultSet JSON Writer.
@@ -91,76 +85,160 @@ public class ResultSetJsonWriter extends AbstractResultSetWriter<String> {
 
         jsonGenerator.writeStartArray();
 
+        ColumnPlan plan = null;
         int count = 0;
         while (resultSet.next()) {
-            ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+            plan = plan == null ? ColumnPlan.of(resultSet) : plan.forRow(resultSet);
+            writeRow(resultSet, jsonGenerator, plan);
+
+            if (this.isLimited() && (++count > getLimit())) {
+                break;
+            }
+        }
+
+        jsonGenerator.writeEndArray();
+        jsonGenerator.flush();
+    }
 
-            jsonGenerator.writeStartObject();
+    /**
+     * Writes the current row of the result set as a JSON object.
+     *
+     * @param resultSet the result set positioned on the row
+     * @param jsonGenerator the JSON generator
+     * @throws Exception the exception
+     */
+    public void writeRow(ResultSet resultSet, JsonGenerator jsonGenerator) throws Exception {
+        writeRow(resultSet, jsonGenerator, ColumnPlan.of(resultSet));
+    }
 
-            for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
-                String name = resultSetMetaData.getColumnName(i);
-                String label = resultSetMetaData.getColumnLabel(i);
-                Object value = resultSet.getObject(name);
-                if (value == null && stringify) {
-                    value = "[NULL]";
+    /**
+     * Writes the current row of the result set as a JSON object using the column plan of the result
+     * set.
+     *
+     * @param resultSet the result set positioned on the row
+     * @param jsonGenerator the JSON generator
+     * @param plan the column plan, for the schemaless result sets the one for the current row
+     * @throws Exception the exception
+     */
+    public void writeRow(ResultSet resultSet, JsonGenerator jsonGenerator, ColumnPlan plan) throws Exception {
+        jsonGenerator.writeStartObject();
+
+        for (Column column : plan.getColumns()) {
+            jsonGenerator.writeFieldName(column.getFieldName());
+            writeValue(resultSet, jsonGenerator, column);
+        }
+
+        jsonGenerator.writeEndObject();
+    }
+
+    /**
+     * Writes the value of the column with the getter of its kind.
+     *
+     * @param resultSet the result set
+     * @param jsonGenerator the JSON generator
+     * @param column the column
+     * @throws Exception the exception
+     */
+    private void writeValue(ResultSet resultSet, JsonGenerator jsonGenerator, Column column) throws Exception {
+        int index = column.getIndex();
+        switch (column.getKind()) {
+            case STRING -> {
+                String value = resultSet.getString(index);
+                if (value == null) {
+                    writeNull(jsonGenerator);
+                } else {
+                    jsonGenerator.writeString(value);
+                }
+            }
+            case INTEGER -> {
+                long value = resultSet.getLong(index);
+                if (resultSet.wasNull()) {
+                    writeNull(jsonGenerator);
+                } else {
+                    jsonGenerator.writeNumber(value);
                 }
-                if (value != null && ("org.bson.Document".equals(value.getClass()
-                                                                      .getCanonicalName())
-                        || "org.bson.types.ObjectId".equals(value.getClass()
-                                                                 .getCanonicalName())
-                        || "java.util.ArrayList".equals(value.getClass()
-                                                             .getCanonicalName()))) {
-                    if (stringify) {
-                        value = value.toString();
-                    }
+            }
+            case DECIMAL -> {
+                BigDecimal value = resultSet.getBigDecimal(index);
+                if (value == null) {
+                    writeNull(jsonGenerator);
+                } else {
+                    jsonGenerator.writeNumber(value);
                 }
-                if (value != null && !ClassUtils.isPrimitiveOrWrapper(value.getClass()) && value.getClass() != String.class
-                        && !java.util.Date.class.isAssignableFrom(value.getClass())
-                        && !java.math.BigInteger.class.isAssignableFrom(value.getClass())
-                        && !java.math.BigDecimal.class.isAssignableFrom(value.getClass())) {
-                    if (stringify) {
-                        value = "[BINARY]";
-                    }
+            }
+            case DOUBLE -> {
+                double value = resultSet.getDouble(index);
+                if (resultSet.wasNull()) {
+                    writeNull(jsonGenerator);
+                } else {
+                    jsonGenerator.writeNumber(value);
                 }
-
-                jsonGenerator.writeFieldName(label != null ? label : name);
-
-                if (value instanceof String) {
-                    jsonGenerator.writeString((String) value);
-                } else if (value instanceof Character) {
-                    jsonGenerator.writeString(new String(new char[] {(char) value}));
-                } else if (value instanceof Float) {
-                    jsonGenerator.writeNumber((Float) value);
-                } else if (value instanceof Double) {
-                    jsonGenerator.writeNumber((Double) value);
-                } else if (value instanceof BigDecimal) {
-                    jsonGenerator.writeNumber((BigDecimal) value);
-                } else if (value instanceof Long) {
-                    jsonGenerator.writeNumber((Long) value);
-                } else if (value instanceof BigInteger) {
-                    jsonGenerator.writeNumber((BigInteger) value);
-                } else if (value instanceof Integer) {
-                    jsonGenerator.writeNumber((Integer) value);
-                } else if (value instanceof Byte) {
-                    jsonGenerator.writeNumber((Byte) value);
-                } else if (value instanceof Short) {
-                    jsonGenerator.writeNumber((Short) value);
-                } else if (value instanceof Boolean) {
-                    jsonGenerator.writeBoolean((Boolean) value);
+            }
+            case FLOAT -> {
+                float value = resultSet.getFloat(index);
+                if (resultSet.wasNull()) {
+                    writeNull(jsonGenerator);
                 } else {
-                    jsonGenerator.writeString(value == null ? null : value.toString());
+                    jsonGenerator.writeNumber(value);
                 }
             }
-
-            jsonGenerator.writeEndObject();
-
-            if (this.isLimited() && (++count > getLimit())) {
-                break;
+            case BOOLEAN -> {
+                boolean value = resultSet.getBoolean(index);
+                if (resultSet.wasNull()) {
+                    writeNull(jsonGenerator);
+                } else {
+                    jsonGenerator.writeBoolean(value);
+                }
             }
+            default -> writeObject(jsonGenerator, column.getObject(resultSet));
         }
+    }
 
-        jsonGenerator.writeEndArray();
-        jsonGenerator.flush();
+    /**
+     * Writes the null value.
+     *
+     * @param jsonGenerator the JSON generator
+     * @throws Exception the exception
+     */
+    private void writeNull(JsonGenerator jsonGenerator) throws Exception {
+        if (stringify) {
+            jsonGenerator.writeString("[NULL]");
+        } else {
+            jsonGenerator.writeNull();
+        }
+    }
+
+    /**
+     * Writes the value read as an object.
+     *
+     * @param jsonGenerator the JSON generator
+     * @param value the value
+     * @throws Exception the exception
+     */
+    private void writeObject(JsonGenerator jsonGenerator, Object value) throws Exception {
+        if (value == null) {
+            writeNull(jsonGenerator);
+            return;
+        }
+        ValueType type = ValueType.of(value);
+        if (stringify && !type.isScalar()) {
+            jsonGenerator.writeString(type == ValueType.DOCUMENT ? value.toString() : "[BINARY]");
+            return;
+        }
+        switch (type) {
+            case STRING -> jsonGenerator.writeString((String) value);
+            case CHARACTER -> jsonGenerator.writeString(String.valueOf((char) value));
+            case FLOAT -> jsonGenerator.writeNumber((Float) value);
+            case DOUBLE -> jsonGenerator.writeNumber((Double) value);
+            case BIG_DECIMAL -> jsonGenerator.writeNumber((BigDecimal) value);
+            case LONG -> jsonGenerator.writeNumber((Long) value);
+            case BIG_INTEGER -> jsonGenerator.writeNumber((BigInteger) value);
+            case INTEGER -> jsonGenerator.writeNumber((Integer) value);
+            case BYTE -> jsonGenerator.writeNumber((Byte) value);
+            case SHORT -> jsonGenerator.writeNumber((Short) value);
+            case BOOLEAN -> jsonGenerator.writeBoolean((Boolean) value);
+            default -> jsonGenerator.writeString(value.toString());
+        }
     }
 
 }
@@ -80,9 +80,26 @@ public class ResultSetMonospacedWriter extends AbstractResultSetWriter<String> {
                 sw.append(headers);
             }
 
+            ColumnPlan plan = null;
             int count = 0;
             while (resultSet.next()) {
 
+                if (plan == null) {
+                    plan = ColumnPlan.of(resultSet);
+                    if (!plan.isSchemaless()) {
+                        resultSetMetaData = resultSet.getMetaData();
+                        addColumnDescriptors(plan, columnHeaderDescriptors);
+                    }
+                }
+                if (!plan.isSchemaless()) {
+                    sw.append(this.rowFormat.write(columnHeaderDescriptors, resultSetMetaData, resultSet));
+                    if (this.isLimited() && (++count > getLimit())) {
+                        sw.append("..."); //$NON-NLS-1$
+                        break;
+                    }
+                    continue;
+                }
+
                 resultSetMetaData = resultSet.getMetaData();// needs an update on each iteration for nosql dbs as it can
                                                             // change with each document
 
@@ -131,11 +148,31 @@ public class ResultSetMonospacedWriter extends AbstractResultSetWriter<String> {
             if (columnHeaderDescriptors.size() == 0) {
                 sw.append(EMPTY_RESULT_SET);
             }
+            sw.flush();
         } catch (IOException e) {
             throw new SQLException(e);
         }
     }
 
+    /**
+     * Adds the descriptors of the columns of the plan, which are read by their index.
+     *
+     * @param plan the plan
+     * @param columnDescriptors the column descriptors
+     */
+    private void addColumnDescriptors(ColumnPlan plan, List<ColumnDescriptor> columnDescriptors) {
+        for (ColumnPlan.Column column : plan.getColumns()) {
+            ColumnDescriptor columnDescriptor = new ColumnDescriptor();
+            String label = column.getLabel() != null ? column.getLabel() : column.getName();
+            columnDescriptor.setName(label);
+            columnDescriptor.setLabel(label);
+            columnDescriptor.setSqlType(column.getSqlType());
+            columnDescriptor.setIndex(column.getIndex());
+            columnDescriptor.setDisplaySize(Math.max(Math.min(column.getDisplaySize(), 256), label.length()));
+            columnDescriptors.add(columnDescriptor);
+        }
+    }
+
     /**
      * Gets the colum index by name.
      *
@@ -56,7 +56,8 @@ public class StringRowFormatter implements RowFormatter {
                 if (this.isBinaryType(columnDescriptor.getSqlType())) {
                     value = VALUE_BINARY;
                 } else {
-                    value = resultSet.getString(columnDescriptor.getLabel());
+                    value = columnDescriptor.getIndex() > 0 ? resultSet.getString(columnDescriptor.getIndex())
+                            : resultSet.getString(columnDescriptor.getLabel());
                 }
 
                 if (value == null) {
@@ -72,7 +73,9 @@ public class StringRowFormatter implements RowFormatter {
                             value = value.substring(0, value.length() - 3) + "...";
                         }
                     } else if (delta < 0) {
-                        value = String.format("%-" + columnDescriptor.getDisplaySize() + "s", value);
+                        buff.append(value);
+                        buff.append(" ".repeat(-delta));
+                        value = "";
                     }
 
                 }
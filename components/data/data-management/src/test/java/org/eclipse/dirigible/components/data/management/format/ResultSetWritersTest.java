@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.management.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class ResultSetWritersTest.
+ */
+public class ResultSetWritersTest {
+
+    /** The Constant QUERY. */
+    private static final String QUERY = "SELECT ID AS \"key\", I.* FROM ITEMS I ORDER BY ID";
+
+    /** The Constant QUERY_SCALARS. */
+    private static final String QUERY_SCALARS =
+            "SELECT ID AS \"key\", ID, SMALL, BIG, NAME, CODE, PRICE, RATE, RATIO, ACTIVE, CREATED, BORN FROM ITEMS ORDER BY ID";
+
+    /** The Constant QUERY_WITHOUT_BYTES. */
+    private static final String QUERY_WITHOUT_BYTES =
+            "SELECT ID AS \"key\", ID, SMALL, BIG, NAME, CODE, PRICE, RATE, RATIO, ACTIVE, CREATED, BORN, DOC, BLOBBY FROM ITEMS ORDER BY ID";
+
+    /** The connection. */
+    private Connection connection;
+
+    /**
+     * Sets the up.
+     *
+     * @throws Exception the exception
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:h2:mem:writers;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(
+                    "CREATE TABLE ITEMS (ID INTEGER, SMALL SMALLINT, BIG BIGINT, NAME VARCHAR(20), CODE CHAR(3), PRICE DECIMAL(10,2), "
+                            + "RATE DOUBLE PRECISION, RATIO REAL, ACTIVE BOOLEAN, CREATED TIMESTAMP, BORN DATE, DATA VARBINARY(10), DOC CLOB, BLOBBY BLOB)");
+            statement.execute("INSERT INTO ITEMS VALUES (1, 2, 3000000000, 'first \"one\"', 'ABC', 12.50, 1.25, 1.1, TRUE, "
+                    + "TIMESTAMP '2024-01-02 03:04:05.6', DATE '2024-01-02', X'0102', 'clob text', X'0304')");
+            statement.execute(
+                    "INSERT INTO ITEMS VALUES (NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL)");
+        }
+    }
+
+    /**
+     * Tear down.
+     *
+     * @throws Exception the exception
+     */
+    @AfterEach
+    public void tearDown() throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE ITEMS");
+        }
+        connection.close();
+    }
+
+    /**
+     * Write stringified json test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void writeStringifiedJsonTest() throws Exception {
+        ResultSetJsonWriter writer = new ResultSetJsonWriter();
+        writer.setStringified(true);
+        assertEquals("[{\"key\":\"[NULL]\",\"ID\":\"[NULL]\",\"SMALL\":\"[NULL]\",\"BIG\":\"[NULL]\",\"NAME\":\"[NULL]\","
+                + "\"CODE\":\"[NULL]\",\"PRICE\":\"[NULL]\",\"RATE\":\"[NULL]\",\"RATIO\":\"[NULL]\",\"ACTIVE\":\"[NULL]\","
+                + "\"CREATED\":\"[NULL]\",\"BORN\":\"[NULL]\",\"DATA\":\"[NULL]\",\"DOC\":\"[NULL]\",\"BLOBBY\":\"[NULL]\"},"
+                + "{\"key\":1,\"ID\":1,\"SMALL\":2,\"BIG\":3000000000,\"NAME\":\"first \\\"one\\\"\",\"CODE\":\"ABC\",\"PRICE\":12.50,"
+                + "\"RATE\":1.25,\"RATIO\":1.1,\"ACTIVE\":true,\"CREATED\":\"2024-01-02 03:04:05.6\",\"BORN\":\"2024-01-02\","
+                + "\"DATA\":\"[BINARY]\",\"DOC\":\"[BINARY]\",\"BLOBBY\":\"[BINARY]\"}]", write(writer, QUERY));
+    }
+
+    /**
+     * Write json test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void writeJsonTest() throws Exception {
+        ResultSetJsonWriter writer = new ResultSetJsonWriter();
+        writer.setStringified(false);
+        assertEquals("[{\"key\":null,\"ID\":null,\"SMALL\":null,\"BIG\":null,\"NAME\":null,\"CODE\":null,\"PRICE\":null,"
+                + "\"RATE\":null,\"RATIO\":null,\"ACTIVE\":null,\"CREATED\":null,\"BORN\":null},"
+                + "{\"key\":1,\"ID\":1,\"SMALL\":2,\"BIG\":3000000000,\"NAME\":\"first \\\"one\\\"\",\"CODE\":\"ABC\",\"PRICE\":12.50,"
+                + "\"RATE\":1.25,\"RATIO\":1.1,\"ACTIVE\":true,\"CREATED\":\"2024-01-02 03:04:05.6\",\"BORN\":\"2024-01-02\"}]",
+                write(writer, QUERY_SCALARS));
+    }
+
+    /**
+     * Write stringified csv test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void writeStringifiedCsvTest() throws Exception {
+        ResultSetCsvWriter writer = new ResultSetCsvWriter();
+        writer.setStringified(true);
+        assertEquals("ID,ID,SMALL,BIG,NAME,CODE,PRICE,RATE,RATIO,ACTIVE,CREATED,BORN,DATA,DOC,BLOBBY\r\n"
+                + "[NULL],[NULL],[NULL],[NULL],[NULL],[NULL],[NULL],[NULL],[NULL],[NULL],[NULL],[NULL],[NULL],[NULL],[NULL]\r\n"
+                + "1,1,2,3000000000,\"first \"\"one\"\"\",ABC,12.50,1.25,1.1,true,2024-01-02 03:04:05.6,2024-01-02,[BINARY],[CLOB],[BLOB]\r\n",
+                write(writer, QUERY));
+    }
+
+    /**
+     * Write csv test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void writeCsvTest() throws Exception {
+        ResultSetCsvWriter writer = new ResultSetCsvWriter();
+        writer.setStringified(false);
+        assertEquals("ID,ID,SMALL,BIG,NAME,CODE,PRICE,RATE,RATIO,ACTIVE,CREATED,BORN,DOC,BLOBBY\r\n" + ",,,,,,,,,,,,,\r\n"
+                + "1,1,2,3000000000,\"first \"\"one\"\"\",ABC,12.50,1.25,1.1,true,2024-01-02 03:04:05.6,2024-01-02,Y2xvYiB0ZXh0,AwQ=\r\n",
+                write(writer, QUERY_WITHOUT_BYTES));
+    }
+
+    /**
+     * Write strict csv test. The output fails after some of the rows have been written.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void writeStrictCsvTest() throws Exception {
+        ResultSetCsvWriter writer = new ResultSetCsvWriter();
+        writer.setLimited(false);
+        writer.setStrict(true);
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        OutputStream output = new FilterOutputStream(written) {
+            @Override
+            public void write(int b) throws IOException {
+                if (written.size() >= 20000) {
+                    throw new IOException("No space left on device");
+                }
+                super.write(b);
+            }
+        };
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT X, 'row ' || X FROM SYSTEM_RANGE(1, 10000)")) {
+            IOException e = assertThrows(IOException.class, () -> writer.write(resultSet, output));
+            assertEquals("No space left on device", e.getMessage());
+        }
+        assertTrue(writer.getRowCount() > 0 && writer.getRowCount() < 10000, String.valueOf(writer.getRowCount()));
+    }
+
+    /**
+     * Write monospaced test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void writeMonospacedTest() throws Exception {
+        String output = write(new ResultSetMonospacedWriter(), "SELECT ID, NAME, PRICE, ACTIVE, DATA FROM ITEMS ORDER BY ID");
+        assertTrue(output.contains("|[NULL]     |[NULL]              |[NULL]      |[NULL]|[BINARY]            |"), output);
+        assertTrue(output.contains("|1          |first \"one\"         |12.50       |TRUE  |[BINARY]            |"), output);
+    }
+
+    /**
+     * Writes the result of the query.
+     *
+     * @param writer the writer
+     * @param sql the sql
+     * @return the output
+     * @throws Exception the exception
+     */
+    private String write(AbstractResultSetWriter<String> writer, String sql) throws Exception {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            writer.write(resultSet, output);
+            output.flush();
+            return output.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.transfer.callback;
+
+import java.util.List;
+
+import org.eclipse.dirigible.components.data.transfer.domain.DataTransferConfiguration;
+import org.eclipse.dirigible.database.persistence.model.PersistenceTableModel;
+
+/**
+ * The callback handler, which serializes the calls to another handler, so that it can be notified
+ * by the concurrent workers of a transfer.
+ */
+public class SynchronizedDataTransferCallbackHandler implements DataTransferCallbackHandler {
+
+    /** The handler. */
+    private final DataTransferCallbackHandler handler;
+
+    /**
+     * Instantiates a new synchronized data transfer callback handler.
+     *
+     * @param handler the handler
+     */
+    public SynchronizedDataTransferCallbackHandler(DataTransferCallbackHandler handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * Gets the identifier.
+     *
+     * @return the identifier
+     */
+    @Override
+    public synchronized String getIdentifier() {
+        return handler.getIdentifier();
+    }
+
+    /**
+     * Sets the identifier.
+     *
+     * @param identifier the new identifier
+     */
+    @Override
+    public synchronized void setIdentifier(String identifier) {
+        handler.setIdentifier(identifier);
+    }
+
+    /**
+     * Transfer started.
+     *
+     * @param configuration the configuration
+     */
+    @Override
+    public synchronized void transferStarted(DataTransferConfiguration configuration) {
+        handler.transferStarted(configuration);
+    }
+
+    /**
+     * Transfer finished.
+     *
+     * @param count the count
+     */
+    @Override
+    public synchronized void transferFinished(int count) {
+        handler.transferFinished(count);
+    }
+
+    /**
+     * Transfer failed.
+     *
+     * @param error the error
+     */
+    @Override
+    public synchronized void transferFailed(String error) {
+        handler.transferFailed(error);
+    }
+
+    /**
+     * Metadata loading started.
+     */
+    @Override
+    public synchronized void metadataLoadingStarted() {
+        handler.metadataLoadingStarted();
+    }
+
+    /**
+     * Metadata loading error.
+     *
+     * @param error the error
+     */
+    @Override
+    public synchronized void metadataLoadingError(String error) {
+        handler.metadataLoadingError(error);
+    }
+
+    /**
+     * Metadata loading finished.
+     *
+     * @param count the count
+     */
+    @Override
+    public synchronized void metadataLoadingFinished(int count) {
+        handler.metadataLoadingFinished(count);
+    }
+
+    /**
+     * Sorting started.
+     *
+     * @param tables the tables
+     */
+    @Override
+    public synchronized void sortingStarted(List<PersistenceTableModel> tables) {
+        handler.sortingStarted(tables);
+    }
+
+    /**
+     * Sorting finished.
+     *
+     * @param result the result
+     */
+    @Override
+    public synchronized void sortingFinished(List<PersistenceTableModel> result) {
+        handler.sortingFinished(result);
+    }
+
+    /**
+     * Data transfer started.
+     */
+    @Override
+    public synchronized void dataTransferStarted() {
+        handler.dataTransferStarted();
+    }
+
+    /**
+     * Data transfer finished.
+     */
+    @Override
+    public synchronized void dataTransferFinished() {
+        handler.dataTransferFinished();
+    }
+
+    /**
+     * Table transfer started.
+     *
+     * @param table the table
+     */
+    @Override
+    public synchronized void tableTransferStarted(String table) {
+        handler.tableTransferStarted(table);
+    }
+
+    /**
+     * Table transfer finished.
+     *
+     * @param table the table
+     * @param transferedRecords the transfered records
+     */
+    @Override
+    public synchronized void tableTransferFinished(String table, int transferedRecords) {
+        handler.tableTransferFinished(table, transferedRecords);
+    }
+
+    /**
+     * Table transfer failed.
+     *
+     * @param table the table
+     * @param error the error
+     */
+    @Override
+    public synchronized void tableTransferFailed(String table, String error) {
+        handler.tableTransferFailed(table, error);
+    }
+
+    /**
+     * Record transfer finished.
+     *
+     * @param tableName the table name
+     * @param i the i
+     */
+    @Override
+    public synchronized void recordTransferFinished(String tableName, int i) {
+        handler.recordTransferFinished(tableName, i);
+    }
+
+    /**
+     * Table select SQL.
+     *
+     * @param selectSQL the select SQL
+     */
+    @Override
+    public synchronized void tableSelectSQL(String selectSQL) {
+        handler.tableSelectSQL(selectSQL);
+    }
+
+    /**
+     * Table insert SQL.
+     *
+     * @param insertSQL the insert SQL
+     */
+    @Override
+    public synchronized void tableInsertSQL(String insertSQL) {
+        handler.tableInsertSQL(insertSQL);
+    }
+
+    /**
+     * Table skipped.
+     *
+     * @param table the table
+     * @param reason the reason
+     */
+    @Override
+    public synchronized void tableSkipped(String table, String reason) {
+        handler.tableSkipped(table, reason);
+    }
+
+    /**
+     * Stop transfer.
+     */
+    @Override
+    public synchronized void stopTransfer() {
+        handler.stopTransfer();
+    }
+
+    /**
+     * Checks if is stopped.
+     *
+     * @return true, if is stopped
+     */
+    @Override
+    public synchronized boolean isStopped() {
+        return handler.isStopped();
+    }
+
+}
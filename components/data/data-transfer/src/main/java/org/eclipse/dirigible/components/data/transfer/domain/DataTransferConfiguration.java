@@ -20,6 +20,26 @@ public class DataTransferConfiguration {
     /** The target schema. */
     private String targetSchema;
 
+    /** The number of tables or chunks copied concurrently or null for the default. */
+    private Integer parallelism;
+
+    /**
+     * The width of the primary key ranges, in which large tables are split, or null for the default.
+     */
+    private Integer chunkSize;
+
+    /** The fetch size of the source queries or null for the default. */
+    private Integer fetchSize;
+
+    /** The batch size of the target inserts or null for the default. */
+    private Integer batchSize;
+
+    /** The number of records between the commits or null for the default. */
+    private Integer commitSize;
+
+    /** Whether to resume a previous transfer into non-empty target tables. */
+    private boolean resume;
+
     /**
      * Gets the source schema.
      *
@@ -56,4 +76,112 @@ public class DataTransferConfiguration {
         this.targetSchema = targetSchema;
     }
 
+    /**
+     * Gets the parallelism.
+     *
+     * @return the parallelism
+     */
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the parallelism.
+     *
+     * @param parallelism the parallelism
+     */
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Gets the chunk size.
+     *
+     * @return the chunk size
+     */
+    public Integer getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Sets the chunk size.
+     *
+     * @param chunkSize the chunk size
+     */
+    public void setChunkSize(Integer chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Gets the fetch size.
+     *
+     * @return the fetch size
+     */
+    public Integer getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Sets the fetch size.
+     *
+     * @param fetchSize the fetch size
+     */
+    public void setFetchSize(Integer fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Gets the batch size.
+     *
+     * @return the batch size
+     */
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the batch size.
+     *
+     * @param batchSize the batch size
+     */
+    public void setBatchSize(Integer batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Gets the commit size.
+     *
+     * @return the commit size
+     */
+    public Integer getCommitSize() {
+        return commitSize;
+    }
+
+    /**
+     * Sets the commit size.
+     *
+     * @param commitSize the commit size
+     */
+    public void setCommitSize(Integer commitSize) {
+        this.commitSize = commitSize;
+    }
+
+    /**
+     * Checks if the transfer has to be resumed.
+     *
+     * @return true, if the transfer has to be resumed
+     */
+    public boolean isResume() {
+        return resume;
+    }
+
+    /**
+     * Sets whether the transfer has to be resumed.
+     *
+     * @param resume the resume
+     */
+    public void setResume(boolean resume) {
+        this.resume = resume;
+    }
+
 }
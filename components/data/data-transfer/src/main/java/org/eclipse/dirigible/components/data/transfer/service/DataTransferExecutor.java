@@ -0,0 +1,810 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.transfer.service;
+
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.components.data.transfer.callback.DataTransferCallbackHandler;
+import org.eclipse.dirigible.components.data.transfer.callback.SynchronizedDataTransferCallbackHandler;
+import org.eclipse.dirigible.components.data.transfer.domain.DataTransferConfiguration;
+import org.eclipse.dirigible.database.persistence.model.PersistenceTableColumnModel;
+import org.eclipse.dirigible.database.persistence.model.PersistenceTableModel;
+import org.eclipse.dirigible.database.persistence.model.PersistenceTableRelationModel;
+import org.eclipse.dirigible.database.persistence.processors.table.PersistenceCreateTableProcessor;
+import org.eclipse.dirigible.database.sql.SqlFactory;
+import org.eclipse.dirigible.database.sql.builders.records.InsertBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Copies the data of the sorted tables from the source to the target data source.
+ *
+ * The tables are copied by a pool of workers. A table is started, when all the tables it depends on
+ * and which precede it in the sorted order are finished. A table with a single integral primary key
+ * is split into key ranges, which are copied concurrently, each in the order of the key and with a
+ * commit every commit size records. When resuming a transfer, the records of a range, whose keys are
+ * already in the target table, are skipped. The keys are compared one by one, as the ranges of the
+ * previous transfer differ, if the source table has been changed since. The tables without such a
+ * key are copied with a single query and are skipped on resume, if not empty.
+ */
+class DataTransferExecutor {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(DataTransferExecutor.class);
+
+    /** The Constant DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE. */
+    private static final String DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE = "DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE";
+
+    /** The Constant DIRIGIBLE_DATABASE_TRANSFER_PARALLELISM. */
+    private static final String DIRIGIBLE_DATABASE_TRANSFER_PARALLELISM = "DIRIGIBLE_DATABASE_TRANSFER_PARALLELISM";
+
+    /** The Constant DIRIGIBLE_DATABASE_TRANSFER_CHUNK_SIZE. */
+    private static final String DIRIGIBLE_DATABASE_TRANSFER_CHUNK_SIZE = "DIRIGIBLE_DATABASE_TRANSFER_CHUNK_SIZE";
+
+    /** The Constant DIRIGIBLE_DATABASE_TRANSFER_FETCH_SIZE. */
+    private static final String DIRIGIBLE_DATABASE_TRANSFER_FETCH_SIZE = "DIRIGIBLE_DATABASE_TRANSFER_FETCH_SIZE";
+
+    /** The Constant DIRIGIBLE_DATABASE_TRANSFER_COMMIT_SIZE. */
+    private static final String DIRIGIBLE_DATABASE_TRANSFER_COMMIT_SIZE = "DIRIGIBLE_DATABASE_TRANSFER_COMMIT_SIZE";
+
+    /** The Constant MAX_RANGES. */
+    private static final long MAX_RANGES = 10000;
+
+    /** The Constant THREADS. */
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    /** The source. */
+    private final DataSource source;
+
+    /** The target. */
+    private final DataSource target;
+
+    /** The configuration. */
+    private final DataTransferConfiguration configuration;
+
+    /** The handler. */
+    private final DataTransferCallbackHandler handler;
+
+    /** The parallelism. */
+    private final int parallelism;
+
+    /** The chunk size. */
+    private final long chunkSize;
+
+    /** The fetch size. */
+    private final int fetchSize;
+
+    /** The batch size. */
+    private final int batchSize;
+
+    /** The commit size. */
+    private final int commitSize;
+
+    /** The workers. */
+    private ExecutorService workers;
+
+    /** The tables, which are not completed yet. */
+    private CountDownLatch pendingTables;
+
+    /**
+     * Instantiates a new data transfer executor.
+     *
+     * @param source the source
+     * @param target the target
+     * @param configuration the configuration
+     * @param handler the handler
+     */
+    DataTransferExecutor(DataSource source, DataSource target, DataTransferConfiguration configuration,
+            DataTransferCallbackHandler handler) {
+        this.source = source;
+        this.target = target;
+        this.configuration = configuration;
+        this.parallelism = Math.max(1, valueOf(configuration.getParallelism(), DIRIGIBLE_DATABASE_TRANSFER_PARALLELISM, 1));
+        this.handler = parallelism > 1 ? new SynchronizedDataTransferCallbackHandler(handler) : handler;
+        this.chunkSize = Math.max(1, valueOf(configuration.getChunkSize(), DIRIGIBLE_DATABASE_TRANSFER_CHUNK_SIZE, 100000));
+        this.fetchSize = Math.max(1, valueOf(configuration.getFetchSize(), DIRIGIBLE_DATABASE_TRANSFER_FETCH_SIZE, 1000));
+        this.batchSize = Math.max(1, valueOf(configuration.getBatchSize(), DIRIGIBLE_DATABASE_TRANSFER_BATCH_SIZE, 1000));
+        this.commitSize = Math.max(batchSize, valueOf(configuration.getCommitSize(), DIRIGIBLE_DATABASE_TRANSFER_COMMIT_SIZE, 10000));
+    }
+
+    /**
+     * Gets the value from the configuration of the transfer or from the environment.
+     *
+     * @param value the value in the configuration of the transfer
+     * @param key the key of the environment variable
+     * @param defaultValue the default value
+     * @return the value
+     */
+    private static int valueOf(Integer value, String key, int defaultValue) {
+        return value != null ? value : Configuration.getAsInt(key, defaultValue);
+    }
+
+    /**
+     * Copies the tables.
+     *
+     * @param tables the tables in topological order
+     * @throws InterruptedException the interrupted exception
+     */
+    void execute(List<PersistenceTableModel> tables) throws InterruptedException {
+        List<TableTransfer> transfers = new ArrayList<>();
+        Map<String, TableTransfer> transfersByName = new HashMap<>();
+        for (PersistenceTableModel table : tables) {
+            TableTransfer transfer = new TableTransfer(table);
+            for (PersistenceTableRelationModel relation : table.getRelations()) {
+                TableTransfer dependency = transfersByName.get(relation.getToTableName());
+                if (dependency != null && !dependency.dependents.contains(transfer)) {
+                    dependency.dependents.add(transfer);
+                    transfer.pendingDependencies.incrementAndGet();
+                }
+            }
+            transfers.add(transfer);
+            transfersByName.put(table.getTableName(), transfer);
+        }
+
+        pendingTables = new CountDownLatch(transfers.size());
+        workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "dirigible-data-transfer-" + THREADS.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (TableTransfer transfer : transfers) {
+                if (transfer.pendingDependencies.get() == 0) {
+                    workers.execute(() -> start(transfer));
+                }
+            }
+            pendingTables.await();
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Prepares the target table and schedules the copying of its chunks.
+     *
+     * @param transfer the table transfer
+     */
+    private void start(TableTransfer transfer) {
+        String tableName = transfer.table.getTableName();
+        if (handler.isStopped()) {
+            complete(transfer);
+            return;
+        }
+        if (logger.isInfoEnabled()) {
+            logger.info(String.format("Data transfer of table %s has been started...", tableName));
+        }
+        handler.tableTransferStarted(tableName);
+        try (Connection sourceConnection = source.getConnection(); Connection targetConnection = target.getConnection()) {
+            sourceConnection.setSchema(configuration.getSourceSchema());
+            targetConnection.setSchema(configuration.getTargetSchema());
+
+            boolean empty = true;
+            if (!SqlFactory.getNative(sourceConnection)
+                           .existsTable(targetConnection, tableName)) {
+                PersistenceCreateTableProcessor createTableProcessor = new PersistenceCreateTableProcessor(null);
+                createTableProcessor.create(targetConnection, transfer.table);
+            } else {
+                empty = isEmpty(targetConnection, tableName);
+            }
+
+            String key = getKey(transfer.table);
+            List<long[]> ranges = key != null ? getRanges(sourceConnection, tableName, key) : null;
+            if (!empty && (!configuration.isResume() || ranges == null)) {
+                String reason = configuration.isResume() ? "table exists, it is not empty and it has no integral primary key to resume by"
+                        : "table exists and it is not empty";
+                handler.tableSkipped(tableName, reason);
+                transfer.skipped = true;
+                complete(transfer);
+                return;
+            }
+
+            transfer.key = ranges != null ? key : null;
+            transfer.resume = !empty;
+            handler.tableSelectSQL(select(sourceConnection, transfer, false));
+            if (ranges == null || ranges.isEmpty()) {
+                ranges = new ArrayList<>();
+                ranges.add(null);
+            }
+            transfer.pendingChunks.set(ranges.size());
+            for (long[] range : ranges) {
+                workers.execute(() -> copy(transfer, range));
+            }
+        } catch (Exception e) {
+            fail(transfer, e);
+            complete(transfer);
+        }
+    }
+
+    /**
+     * Checks if the table is empty.
+     *
+     * @param connection the connection
+     * @param tableName the table name
+     * @return true, if the table is empty
+     * @throws SQLException the SQL exception
+     */
+    private boolean isEmpty(Connection connection, String tableName) throws SQLException {
+        String countSQL = SqlFactory.getNative(connection)
+                                    .select()
+                                    .column("count(*)")
+                                    .from(tableName)
+                                    .build();
+        try (PreparedStatement statement = connection.prepareStatement(countSQL); ResultSet resultSet = statement.executeQuery()) {
+            return !resultSet.next() || resultSet.getLong(1) == 0;
+        }
+    }
+
+    /**
+     * Gets the name of the single primary key column.
+     *
+     * @param table the table
+     * @return the name or null, if the table has no or a composite primary key
+     */
+    private static String getKey(PersistenceTableModel table) {
+        String key = null;
+        for (PersistenceTableColumnModel column : table.getColumns()) {
+            if (column.isPrimaryKey()) {
+                if (key != null) {
+                    return null;
+                }
+                key = column.getName();
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Splits the values of the key in ranges of equal width, so that each of them contains about chunk
+     * size records on an even distribution of the keys. The number of the ranges is limited by
+     * MAX_RANGES for sparse keys. The ranges depend on the current records of the source table, so a
+     * resumed transfer does not rely on the ranges of the previous one.
+     *
+     * @param connection the connection
+     * @param tableName the table name
+     * @param key the key
+     * @return the inclusive ranges, empty if the table is empty, or null if the key is not integral
+     * @throws SQLException the SQL exception
+     */
+    private List<long[]> getRanges(Connection connection, String tableName, String key) throws SQLException {
+        String quotedKey = quote(connection, key);
+        String rangeSQL = "SELECT MIN(" + quotedKey + "), MAX(" + quotedKey + "), COUNT(*) FROM " + quote(connection, tableName);
+        try (PreparedStatement statement = connection.prepareStatement(rangeSQL); ResultSet resultSet = statement.executeQuery()) {
+            if (!isIntegral(resultSet.getMetaData()
+                                     .getColumnType(1))) {
+                return null;
+            }
+            List<long[]> ranges = new ArrayList<>();
+            if (resultSet.next()) {
+                long min = resultSet.getLong(1);
+                if (resultSet.wasNull()) {
+                    return ranges;
+                }
+                long max = resultSet.getLong(2);
+                long count = resultSet.getLong(3);
+                long chunks = Math.min(MAX_RANGES, Math.max(1, (count + chunkSize - 1) / chunkSize));
+                BigInteger span = BigInteger.valueOf(max)
+                                            .subtract(BigInteger.valueOf(min))
+                                            .add(BigInteger.ONE);
+                BigInteger width = span.add(BigInteger.valueOf(chunks - 1))
+                                       .divide(BigInteger.valueOf(chunks));
+                BigInteger last = BigInteger.valueOf(max);
+                for (BigInteger from = BigInteger.valueOf(min); from.compareTo(last) <= 0; from = from.add(width)) {
+                    BigInteger to = from.add(width)
+                                        .subtract(BigInteger.ONE)
+                                        .min(last);
+                    ranges.add(new long[] {from.longValue(), to.longValue()});
+                }
+            }
+            return ranges;
+        }
+    }
+
+    /**
+     * Quotes the name with the escape symbol of the dialect of the connection.
+     *
+     * @param connection the connection
+     * @param name the name
+     * @return the quoted name
+     * @throws SQLException the SQL exception
+     */
+    private static String quote(Connection connection, String name) throws SQLException {
+        String escape = String.valueOf(SqlFactory.deriveDialect(connection)
+                                                 .getEscapeSymbol());
+        return escape + name.replace(escape, escape + escape) + escape;
+    }
+
+    /**
+     * Checks if the type is integral.
+     *
+     * @param type the type
+     * @return true, if is integral
+     */
+    private static boolean isIntegral(int type) {
+        return type == Types.BIGINT || type == Types.INTEGER || type == Types.SMALLINT || type == Types.TINYINT;
+    }
+
+    /**
+     * Builds the query selecting the records of the table.
+     *
+     * @param connection the connection
+     * @param transfer the table transfer
+     * @param range whether the query is restricted to a key range
+     * @return the select SQL
+     * @throws SQLException the SQL exception
+     */
+    private static String select(Connection connection, TableTransfer transfer, boolean range) throws SQLException {
+        if (range) {
+            String quotedKey = quote(connection, transfer.key);
+            return "SELECT * FROM " + quote(connection, transfer.table.getTableName()) + " WHERE " + quotedKey + " >= ? AND " + quotedKey
+                    + " <= ? ORDER BY " + quotedKey;
+        }
+        return SqlFactory.getNative(connection)
+                         .select()
+                         .column("*")
+                         .from(transfer.table.getTableName())
+                         .build();
+    }
+
+    /**
+     * Copies the records of the table in the range.
+     *
+     * @param transfer the table transfer
+     * @param range the inclusive range of the key or null for all the records
+     */
+    private void copy(TableTransfer transfer, long[] range) {
+        try {
+            if (!handler.isStopped() && !transfer.failed.get()) {
+                copyChunk(transfer, range);
+            }
+        } catch (Exception e) {
+            fail(transfer, e);
+        } finally {
+            if (transfer.pendingChunks.decrementAndGet() == 0) {
+                complete(transfer);
+            }
+        }
+    }
+
+    /**
+     * Copies the records of the table in the range within its own connections.
+     *
+     * @param transfer the table transfer
+     * @param range the inclusive range of the key or null for all the records
+     * @throws SQLException the SQL exception
+     */
+    private void copyChunk(TableTransfer transfer, long[] range) throws SQLException {
+        String tableName = transfer.table.getTableName();
+        try (Connection sourceConnection = source.getConnection(); Connection targetConnection = target.getConnection()) {
+            sourceConnection.setSchema(configuration.getSourceSchema());
+            targetConnection.setSchema(configuration.getTargetSchema());
+            boolean sourceAutoCommit = sourceConnection.getAutoCommit();
+            boolean targetAutoCommit = targetConnection.getAutoCommit();
+            // some drivers, e.g. PostgreSQL, stream the results with the fetch size only within a transaction
+            sourceConnection.setAutoCommit(false);
+            targetConnection.setAutoCommit(false);
+            try {
+                String selectSQL = select(sourceConnection, transfer, range != null);
+                try (PreparedStatement sourceStatement = sourceConnection.prepareStatement(selectSQL)) {
+                    sourceStatement.setFetchSize(fetchSize);
+                    if (range != null) {
+                        sourceStatement.setLong(1, range[0]);
+                        sourceStatement.setLong(2, range[1]);
+                    }
+                    try (ResultSet resultSet = sourceStatement.executeQuery();
+                            CopiedKeys copiedKeys = range != null && transfer.resume ? new CopiedKeys(transfer, range) : null) {
+                        copyRecords(transfer, resultSet, targetConnection, copiedKeys);
+                    }
+                }
+                sourceConnection.commit();
+            } catch (SQLException | RuntimeException e) {
+                targetConnection.rollback();
+                throw e;
+            } finally {
+                sourceConnection.setAutoCommit(sourceAutoCommit);
+                targetConnection.setAutoCommit(targetAutoCommit);
+            }
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Chunk [{}] of table [{}] has been transferred", range != null ? range[0] + ".." + range[1] : "*", tableName);
+        }
+    }
+
+    /**
+     * Inserts the records of the result set into the target table in batches, committing every commit
+     * size records.
+     *
+     * @param transfer the table transfer
+     * @param resultSet the result set
+     * @param targetConnection the target connection
+     * @param copiedKeys the keys of the records to skip, as already copied, or null
+     * @throws SQLException the SQL exception
+     */
+    private void copyRecords(TableTransfer transfer, ResultSet resultSet, Connection targetConnection, CopiedKeys copiedKeys)
+            throws SQLException {
+        String tableName = transfer.table.getTableName();
+        ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+        int columnCount = resultSetMetaData.getColumnCount();
+        InsertBuilder insertBuilder = SqlFactory.getNative(targetConnection)
+                                                .insert()
+                                                .into(tableName);
+        ColumnCopier[] copiers = new ColumnCopier[columnCount + 1];
+        for (int i = 1; i <= columnCount; i++) {
+            insertBuilder.column(resultSetMetaData.getColumnName(i));
+            copiers[i] = ColumnCopier.of(resultSetMetaData.getColumnType(i));
+        }
+        String insertSQL = insertBuilder.build();
+        int keyIndex = copiedKeys != null ? resultSet.findColumn(transfer.key) : 0;
+        if (transfer.insertReported.compareAndSet(false, true)) {
+            handler.tableInsertSQL(insertSQL);
+        }
+
+        try (PreparedStatement targetStatement = targetConnection.prepareStatement(insertSQL)) {
+            int batched = 0;
+            int uncommitted = 0;
+            while (resultSet.next()) {
+                if (copiedKeys != null && copiedKeys.contains(resultSet.getLong(keyIndex))) {
+                    continue;
+                }
+                for (int i = 1; i <= columnCount; i++) {
+                    copiers[i].copy(resultSet, targetStatement, i);
+                }
+                targetStatement.addBatch();
+                if (++batched == batchSize) {
+                    targetStatement.executeBatch();
+                    uncommitted += batched;
+                    batched = 0;
+                    if (uncommitted >= commitSize) {
+                        targetConnection.commit();
+                        progress(transfer, uncommitted);
+                        uncommitted = 0;
+                        if (handler.isStopped()) {
+                            return;
+                        }
+                    }
+                }
+            }
+            if (batched > 0) {
+                targetStatement.executeBatch();
+                uncommitted += batched;
+            }
+            targetConnection.commit();
+            progress(transfer, uncommitted);
+        }
+    }
+
+    /**
+     * Reports the committed records.
+     *
+     * @param transfer the table transfer
+     * @param committed the committed records
+     */
+    private void progress(TableTransfer transfer, int committed) {
+        if (committed > 0) {
+            handler.recordTransferFinished(transfer.table.getTableName(), (int) transfer.transferred.addAndGet(committed));
+        }
+    }
+
+    /**
+     * Marks the table transfer as failed.
+     *
+     * @param transfer the table transfer
+     * @param e the exception
+     */
+    private void fail(TableTransfer transfer, Exception e) {
+        String error = "Error occured while transferring the data for table: " + transfer.table.getTableName();
+        if (logger.isErrorEnabled()) {
+            logger.error(error, e);
+        }
+        if (transfer.failed.compareAndSet(false, true)) {
+            transfer.error = error + " -> " + e.getMessage();
+        }
+    }
+
+    /**
+     * Reports the completed table and starts the tables, which depend only on completed ones.
+     *
+     * @param transfer the table transfer
+     */
+    private void complete(TableTransfer transfer) {
+        String tableName = transfer.table.getTableName();
+        try {
+            if (transfer.failed.get()) {
+                handler.tableTransferFailed(tableName, transfer.error);
+            } else if (!transfer.skipped && !handler.isStopped()) {
+                if (logger.isInfoEnabled()) {
+                    logger.info(String.format("Data of table %s has been transferred successfully.", tableName));
+                }
+                handler.tableTransferFinished(tableName, (int) transfer.transferred.get());
+            }
+        } finally {
+            for (TableTransfer dependent : transfer.dependents) {
+                if (dependent.pendingDependencies.decrementAndGet() == 0) {
+                    workers.execute(() -> start(dependent));
+                }
+            }
+            pendingTables.countDown();
+        }
+    }
+
+    /**
+     * The keys in a range, which have already been copied to the target table. They are read in the
+     * order of the key on a connection of their own, as the connection inserting the records commits.
+     */
+    private class CopiedKeys implements AutoCloseable {
+
+        /** The connection. */
+        private final Connection connection;
+
+        /** The auto commit of the connection. */
+        private final boolean autoCommit;
+
+        /** The result set. */
+        private final ResultSet resultSet;
+
+        /** The current key or null, if there are no more keys. */
+        private Long current;
+
+        /**
+         * Instantiates the copied keys in the range.
+         *
+         * @param transfer the table transfer
+         * @param range the inclusive range of the key
+         * @throws SQLException the SQL exception
+         */
+        CopiedKeys(TableTransfer transfer, long[] range) throws SQLException {
+            connection = target.getConnection();
+            autoCommit = connection.getAutoCommit();
+            try {
+                connection.setSchema(configuration.getTargetSchema());
+                connection.setAutoCommit(false);
+                String quotedKey = quote(connection, transfer.key);
+                String keysSQL = "SELECT " + quotedKey + " FROM " + quote(connection, transfer.table.getTableName()) + " WHERE "
+                        + quotedKey + " >= ? AND " + quotedKey + " <= ? ORDER BY " + quotedKey;
+                PreparedStatement statement = connection.prepareStatement(keysSQL);
+                statement.setFetchSize(fetchSize);
+                statement.setLong(1, range[0]);
+                statement.setLong(2, range[1]);
+                resultSet = statement.executeQuery();
+                next();
+            } catch (SQLException | RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        /**
+         * Checks whether the key has been copied. The keys must be checked in ascending order.
+         *
+         * @param key the key
+         * @return true, if copied
+         * @throws SQLException the SQL exception
+         */
+        boolean contains(long key) throws SQLException {
+            while (current != null && current < key) {
+                next();
+            }
+            return current != null && current == key;
+        }
+
+        /**
+         * Moves to the next copied key.
+         *
+         * @throws SQLException the SQL exception
+         */
+        private void next() throws SQLException {
+            current = resultSet.next() ? resultSet.getLong(1) : null;
+        }
+
+        /**
+         * Closes the connection, which closes its statement too.
+         *
+         * @throws SQLException the SQL exception
+         */
+        @Override
+        public void close() throws SQLException {
+            try (Connection closed = connection) {
+                connection.rollback();
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    /**
+     * The state of the transfer of a table.
+     */
+    private static class TableTransfer {
+
+        /** The table. */
+        private final PersistenceTableModel table;
+
+        /** The transfers of the tables, which depend on this one. */
+        private final List<TableTransfer> dependents = new ArrayList<>();
+
+        /** The count of the tables, which this one depends on and which are not completed yet. */
+        private final AtomicInteger pendingDependencies = new AtomicInteger();
+
+        /** The count of the chunks, which are not copied yet. */
+        private final AtomicInteger pendingChunks = new AtomicInteger();
+
+        /** The count of the transferred records. */
+        private final AtomicLong transferred = new AtomicLong();
+
+        /** Whether the insert SQL has been reported. */
+        private final AtomicBoolean insertReported = new AtomicBoolean();
+
+        /** Whether a chunk has failed. */
+        private final AtomicBoolean failed = new AtomicBoolean();
+
+        /** The error of the first failed chunk. */
+        private volatile String error;
+
+        /** Whether the table has been skipped. */
+        private volatile boolean skipped;
+
+        /** The key, by which the table is split in ranges, or null. */
+        private volatile String key;
+
+        /** Whether the target table contains records of a previous transfer. */
+        private volatile boolean resume;
+
+        /**
+         * Instantiates a new table transfer.
+         *
+         * @param table the table
+         */
+        TableTransfer(PersistenceTableModel table) {
+            this.table = table;
+        }
+    }
+
+    /**
+     * Copies the value of a column from the source result set to the target statement.
+     */
+    @FunctionalInterface
+    private interface ColumnCopier {
+
+        /**
+         * Copies the value.
+         *
+         * @param resultSet the result set
+         * @param statement the statement
+         * @param i the index of the column
+         * @throws SQLException the SQL exception
+         */
+        void copy(ResultSet resultSet, PreparedStatement statement, int i) throws SQLException;
+
+        /**
+         * Gets the copier for the SQL type, resolved once per column instead of for every value.
+         *
+         * @param type the type
+         * @return the column copier
+         */
+        static ColumnCopier of(int type) {
+            switch (type) {
+                case Types.ARRAY:
+                    return (rs, ps, i) -> ps.setArray(i, rs.getArray(i));
+                case Types.BIGINT:
+                    return (rs, ps, i) -> {
+                        long value = rs.getLong(i);
+                        if (rs.wasNull()) {
+                            ps.setNull(i, type);
+                        } else {
+                            ps.setLong(i, value);
+                        }
+                    };
+                case Types.BINARY:
+                case Types.LONGVARBINARY:
+                    return (rs, ps, i) -> ps.setBinaryStream(i, rs.getBinaryStream(i));
+                case Types.BIT:
+                case Types.BOOLEAN:
+                    return (rs, ps, i) -> {
+                        boolean value = rs.getBoolean(i);
+                        if (rs.wasNull()) {
+                            ps.setNull(i, type);
+                        } else {
+                            ps.setBoolean(i, value);
+                        }
+                    };
+                case Types.BLOB:
+                    return (rs, ps, i) -> ps.setBlob(i, rs.getBlob(i));
+                case Types.CLOB:
+                    return (rs, ps, i) -> ps.setClob(i, rs.getClob(i));
+                case Types.DATE:
+                    return (rs, ps, i) -> ps.setDate(i, rs.getDate(i));
+                case Types.DECIMAL:
+                    return (rs, ps, i) -> ps.setBigDecimal(i, rs.getBigDecimal(i));
+                case Types.DOUBLE:
+                case Types.NUMERIC:
+                    return (rs, ps, i) -> {
+                        double value = rs.getDouble(i);
+                        if (rs.wasNull()) {
+                            ps.setNull(i, type);
+                        } else {
+                            ps.setDouble(i, value);
+                        }
+                    };
+                case Types.FLOAT:
+                case Types.REAL:
+                    return (rs, ps, i) -> {
+                        float value = rs.getFloat(i);
+                        if (rs.wasNull()) {
+                            ps.setNull(i, type);
+                        } else {
+                            ps.setFloat(i, value);
+                        }
+                    };
+                case Types.INTEGER:
+                    return (rs, ps, i) -> {
+                        int value = rs.getInt(i);
+                        if (rs.wasNull()) {
+                            ps.setNull(i, type);
+                        } else {
+                            ps.setInt(i, value);
+                        }
+                    };
+                case Types.SMALLINT:
+                    return (rs, ps, i) -> {
+                        short value = rs.getShort(i);
+                        if (rs.wasNull()) {
+                            ps.setNull(i, type);
+                        } else {
+                            ps.setShort(i, value);
+                        }
+                    };
+                case Types.TINYINT:
+                    return (rs, ps, i) -> {
+                        byte value = rs.getByte(i);
+                        if (rs.wasNull()) {
+                            ps.setNull(i, type);
+                        } else {
+                            ps.setByte(i, value);
+                        }
+                    };
+                case Types.TIME:
+                case Types.TIME_WITH_TIMEZONE:
+                    return (rs, ps, i) -> ps.setTime(i, rs.getTime(i));
+                case Types.TIMESTAMP:
+                case Types.TIMESTAMP_WITH_TIMEZONE:
+                    return (rs, ps, i) -> ps.setTimestamp(i, rs.getTimestamp(i));
+                case Types.CHAR:
+                case Types.LONGNVARCHAR:
+                case Types.LONGVARCHAR:
+                case Types.NCHAR:
+                case Types.NCLOB:
+                case Types.NVARCHAR:
+                case Types.VARBINARY:
+                case Types.VARCHAR:
+                    return (rs, ps, i) -> ps.setString(i, rs.getString(i));
+                default:
+                    return (rs, ps, i) -> ps.setObject(i, rs.getObject(i));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.transfer.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.dirigible.components.data.transfer.callback.DummyDataTransferCallbackHandler;
+import org.eclipse.dirigible.components.data.transfer.domain.DataTransferConfiguration;
+import org.eclipse.dirigible.database.persistence.model.PersistenceTableModel;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class DataTransferExecutorTest.
+ */
+public class DataTransferExecutorTest {
+
+    /** The Constant ITEMS. */
+    private static final int ITEMS = 250;
+
+    /** The source. */
+    private JdbcDataSource source;
+
+    /** The target. */
+    private JdbcDataSource target;
+
+    /** The handler. */
+    private RecordingHandler handler;
+
+    /**
+     * Sets the up.
+     *
+     * @throws Exception the exception
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+        source = dataSource("transfer_source");
+        target = dataSource("transfer_target");
+        handler = new RecordingHandler();
+        try (Connection connection = source.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE ORDERS (ID INTEGER PRIMARY KEY, NAME VARCHAR(20))");
+            statement.execute("CREATE TABLE ITEMS (ID BIGINT PRIMARY KEY, ORDER_ID INTEGER, NOTE VARCHAR(20), AMOUNT INTEGER, "
+                    + "FOREIGN KEY (ORDER_ID) REFERENCES ORDERS(ID))");
+            statement.execute("INSERT INTO ORDERS VALUES (1, 'first'), (2, 'second')");
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO ITEMS VALUES (?, ?, ?, ?)")) {
+                for (int i = 1; i <= ITEMS; i++) {
+                    insert.setLong(1, i);
+                    insert.setInt(2, i % 2 + 1);
+                    insert.setString(3, i % 3 == 0 ? null : "item " + i);
+                    if (i % 5 == 0) {
+                        insert.setNull(4, java.sql.Types.INTEGER);
+                    } else {
+                        insert.setInt(4, i * 10);
+                    }
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+    }
+
+    /**
+     * Tear down.
+     *
+     * @throws Exception the exception
+     */
+    @AfterEach
+    public void tearDown() throws Exception {
+        for (JdbcDataSource dataSource : new JdbcDataSource[] {source, target}) {
+            try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+                statement.execute("DROP ALL OBJECTS");
+            }
+        }
+    }
+
+    /**
+     * Transfer in parallel chunks test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void transferInParallelChunksTest() throws Exception {
+        new DataTransferExecutor(source, target, configuration(false), handler).execute(reverseTables());
+
+        assertEquals(ITEMS, handler.finished.get("ITEMS"));
+        assertEquals(2, handler.finished.get("ORDERS"));
+        assertTrue(handler.failed.isEmpty(), handler.failed.toString());
+        assertItemsCopied();
+    }
+
+    /**
+     * Resume transfer test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void resumeTransferTest() throws Exception {
+        new DataTransferExecutor(source, target, configuration(false), handler).execute(reverseTables());
+        try (Connection connection = target.getConnection(); Statement statement = connection.createStatement()) {
+            // keep a committed prefix of some of the ranges, as left by a failed transfer
+            statement.execute("DELETE FROM ITEMS WHERE ID > 30 AND ID <= 40 OR ID > 100");
+        }
+
+        handler = new RecordingHandler();
+        new DataTransferExecutor(source, target, configuration(true), handler).execute(reverseTables());
+
+        assertEquals(ITEMS - 90, handler.finished.get("ITEMS"));
+        assertEquals(0, handler.finished.get("ORDERS"));
+        assertTrue(handler.failed.isEmpty(), handler.failed.toString());
+        assertItemsCopied();
+    }
+
+    /**
+     * Resume transfer of a changed source test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void resumeTransferOfChangedSourceTest() throws Exception {
+        new DataTransferExecutor(source, target, configuration(false), handler).execute(reverseTables());
+        try (Connection connection = target.getConnection(); Statement statement = connection.createStatement()) {
+            // keep a committed prefix of the ranges 21..40 and 41..60, as left by a failed transfer
+            statement.execute("DELETE FROM ITEMS WHERE ID > 30 AND ID <= 40 OR ID > 50 AND ID <= 60 OR ID > 100");
+        }
+        try (Connection connection = source.getConnection(); Statement statement = connection.createStatement()) {
+            // the new least key shifts the ranges to 20..39 and 40..59, so the range with the record 40
+            // already contains greater keys
+            statement.execute("INSERT INTO ITEMS VALUES (0, 1, NULL, NULL)");
+        }
+
+        handler = new RecordingHandler();
+        new DataTransferExecutor(source, target, configuration(true), handler).execute(reverseTables());
+
+        assertEquals(1 + 10 + 10 + ITEMS - 100, handler.finished.get("ITEMS"));
+        assertTrue(handler.failed.isEmpty(), handler.failed.toString());
+        assertItemsCopied(0);
+    }
+
+    /**
+     * Skip not empty table test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void skipNotEmptyTableTest() throws Exception {
+        new DataTransferExecutor(source, target, configuration(false), handler).execute(reverseTables());
+
+        handler = new RecordingHandler();
+        new DataTransferExecutor(source, target, configuration(false), handler).execute(reverseTables());
+
+        assertTrue(handler.skipped.containsKey("ITEMS"));
+        assertTrue(handler.skipped.containsKey("ORDERS"));
+        assertTrue(handler.finished.isEmpty());
+        assertItemsCopied();
+    }
+
+    /**
+     * Transfer sparse mixed case key test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void transferSparseMixedCaseKeyTest() throws Exception {
+        try (Connection connection = source.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE \"Events\" (\"Id\" BIGINT PRIMARY KEY, \"Name\" VARCHAR(20))");
+            statement.execute("INSERT INTO \"Events\" VALUES (-9000000000000000000, 'first'), (0, 'second'), "
+                    + "(1700000000000000000, 'third'), (9000000000000000000, 'fourth')");
+        }
+
+        new DataTransferExecutor(source, target, configuration(false), handler).execute(
+                List.of(DataTransferReverseTableProcessor.reverseTable(source, "PUBLIC", "Events")));
+
+        assertEquals(4, handler.finished.get("Events"));
+        assertTrue(handler.failed.isEmpty(), handler.failed.toString());
+        try (Connection connection = target.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT \"Name\" FROM \"Events\" ORDER BY \"Id\"")) {
+            for (String name : new String[] {"first", "second", "third", "fourth"}) {
+                assertTrue(resultSet.next());
+                assertEquals(name, resultSet.getString(1));
+            }
+        }
+    }
+
+    /**
+     * Asserts that the items in the target are equal to the ones in the source.
+     *
+     * @throws SQLException the SQL exception
+     */
+    private void assertItemsCopied() throws SQLException {
+        assertItemsCopied(1);
+    }
+
+    /**
+     * Asserts that the items in the target are equal to the ones in the source.
+     *
+     * @param first the first key in the source
+     * @throws SQLException the SQL exception
+     */
+    private void assertItemsCopied(int first) throws SQLException {
+        try (Connection connection = target.getConnection();
+                PreparedStatement statement = connection.prepareStatement("SELECT ID, ORDER_ID, NOTE, AMOUNT FROM ITEMS ORDER BY ID");
+                ResultSet resultSet = statement.executeQuery()) {
+            int count = 0;
+            while (resultSet.next()) {
+                int i = first + count++;
+                assertEquals(i, resultSet.getLong(1));
+                assertEquals(i % 2 + 1, resultSet.getInt(2));
+                if (i % 3 == 0) {
+                    assertNull(resultSet.getString(3));
+                } else {
+                    assertEquals("item " + i, resultSet.getString(3));
+                }
+                assertEquals(i % 5 == 0 ? null : i * 10, resultSet.getObject(4));
+            }
+            assertEquals(ITEMS - first + 1, count);
+        }
+    }
+
+    /**
+     * Creates the configuration.
+     *
+     * @param resume the resume
+     * @return the data transfer configuration
+     */
+    private static DataTransferConfiguration configuration(boolean resume) {
+        DataTransferConfiguration configuration = new DataTransferConfiguration();
+        configuration.setSourceSchema("PUBLIC");
+        configuration.setTargetSchema("PUBLIC");
+        configuration.setParallelism(4);
+        configuration.setChunkSize(20);
+        configuration.setBatchSize(3);
+        configuration.setCommitSize(6);
+        configuration.setResume(resume);
+        return configuration;
+    }
+
+    /**
+     * Reverses the tables of the source in topological order.
+     *
+     * @return the tables
+     * @throws SQLException the SQL exception
+     */
+    private List<PersistenceTableModel> reverseTables() throws SQLException {
+        return List.of(DataTransferReverseTableProcessor.reverseTable(source, "PUBLIC", "ORDERS"),
+                DataTransferReverseTableProcessor.reverseTable(source, "PUBLIC", "ITEMS"));
+    }
+
+    /**
+     * Creates an in-memory data source.
+     *
+     * @param name the name
+     * @return the data source
+     */
+    private static JdbcDataSource dataSource(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+
+    /**
+     * The handler recording the completed tables.
+     */
+    private static class RecordingHandler extends DummyDataTransferCallbackHandler {
+
+        /** The finished tables with their record counts. */
+        private final Map<String, Integer> finished = new ConcurrentHashMap<>();
+
+        /** The failed tables with their errors. */
+        private final Map<String, String> failed = new ConcurrentHashMap<>();
+
+        /** The skipped tables with the reasons. */
+        private final Map<String, String> skipped = new ConcurrentHashMap<>();
+
+        /**
+         * Table transfer finished.
+         *
+         * @param table the table
+         * @param transferedRecords the transfered records
+         */
+        @Override
+        public void tableTransferFinished(String table, int transferedRecords) {
+            finished.put(table, transferedRecords);
+        }
+
+        /**
+         * Table transfer failed.
+         *
+         * @param table the table
+         * @param error the error
+         */
+        @Override
+        public void tableTransferFailed(String table, String error) {
+            failed.put(table, error);
+        }
+
+        /**
+         * Table skipped.
+         *
+         * @param table the table
+         * @param reason the reason
+         */
+        @Override
+        public void tableSkipped(String table, String reason) {
+            skipped.put(table, reason);
+        }
+    }
+
+}
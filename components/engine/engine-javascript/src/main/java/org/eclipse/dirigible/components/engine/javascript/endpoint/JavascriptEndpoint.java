@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 import org.eclipse.dirigible.components.base.endpoint.BaseEndpoint;
 import org.eclipse.dirigible.components.engine.javascript.service.JavascriptService;
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunnerPool;
 import org.eclipse.dirigible.graalium.core.JavascriptSourceProvider;
 import org.eclipse.dirigible.graalium.core.modules.DirigibleSourceProvider;
 import org.eclipse.dirigible.repository.api.IRepository;
@@ -106,6 +107,17 @@ public class JavascriptEndpoint extends BaseEndpoint {
         }
     }
 
+    /**
+     * Gets the counters of the pool of the JavaScript runners.
+     *
+     * @return the response entity
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<DirigibleJavascriptCodeRunnerPool.Snapshot> getMetrics() {
+        return ResponseEntity.ok(DirigibleJavascriptCodeRunnerPool.get()
+                                                                  .getSnapshot());
+    }
+
     /**
      * Gets the.
      *
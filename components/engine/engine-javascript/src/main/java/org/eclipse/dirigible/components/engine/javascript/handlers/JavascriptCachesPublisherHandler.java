@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.engine.javascript.handlers;
+
+import org.eclipse.dirigible.components.base.publisher.PublisherHandler;
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunnerPool;
+import org.eclipse.dirigible.graalium.core.javascript.GraalJSCodeCache;
+import org.springframework.stereotype.Component;
+
+/**
+ * Invalidates the JavaScript code cache and the pooled JavaScript runners on publish and unpublish,
+ * as they may hold already loaded versions of the changed modules.
+ */
+@Component
+public class JavascriptCachesPublisherHandler implements PublisherHandler {
+
+    /**
+     * After publish.
+     *
+     * @param workspaceLocation the workspace location
+     * @param registryLocation the registry location
+     * @param metadata the metadata
+     */
+    @Override
+    public void afterPublish(String workspaceLocation, String registryLocation, AfterPublishMetadata metadata) {
+        invalidate();
+    }
+
+    /**
+     * After unpublish.
+     *
+     * @param location the location
+     */
+    @Override
+    public void afterUnpublish(String location) {
+        invalidate();
+    }
+
+    /**
+     * Invalidate.
+     */
+    private void invalidate() {
+        GraalJSCodeCache.get()
+                        .invalidate();
+        DirigibleJavascriptCodeRunnerPool.get()
+                                         .invalidate();
+    }
+
+}
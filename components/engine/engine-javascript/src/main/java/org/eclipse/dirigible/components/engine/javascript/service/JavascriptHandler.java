@@ -10,7 +10,10 @@
 package org.eclipse.dirigible.components.engine.javascript.service;
 
 import org.eclipse.dirigible.components.base.http.access.UserRequestVerifier;
+import org.eclipse.dirigible.components.base.spring.BeanProvider;
+import org.eclipse.dirigible.components.base.tenant.TenantContext;
 import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunner;
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunnerPool;
 import org.eclipse.dirigible.graalium.core.JavascriptSourceProvider;
 import org.eclipse.dirigible.graalium.core.modules.DirigibleSourceProvider;
 import org.eclipse.dirigible.repository.api.IRepository;
@@ -22,6 +25,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.eclipse.dirigible.graalium.core.graal.ValueTransformer.transformValue;
 
@@ -39,6 +43,9 @@ public class JavascriptHandler {
     /** The repository. */
     private final IRepository repository;
 
+    /** The runners pool. */
+    private final DirigibleJavascriptCodeRunnerPool runnersPool;
+
     /**
      * Instantiates a new javascript handler.
      *
@@ -57,6 +64,7 @@ public class JavascriptHandler {
     public JavascriptHandler(IRepository repository, JavascriptSourceProvider sourceProvider) {
         this.repository = repository;
         this.sourceProvider = sourceProvider;
+        this.runnersPool = DirigibleJavascriptCodeRunnerPool.get();
     }
 
     /**
@@ -117,17 +125,23 @@ public class JavascriptHandler {
             }
 
             Path absoluteSourcePath = sourceProvider.getAbsoluteSourcePath(projectName, projectFilePath);
-            try (DirigibleJavascriptCodeRunner runner = new DirigibleJavascriptCodeRunner(parameters, debug)) {
-                Source source = runner.prepareSource(absoluteSourcePath);
-                runner.getGraalJSInterceptor()
-                      .onBeforeRun(sourceFilePath, absoluteSourcePath, source, runner.getCodeRunner()
-                                                                                     .getGraalContext());
-                Value value = runner.run(source);
-                runner.getGraalJSInterceptor()
-                      .onAfterRun(sourceFilePath, absoluteSourcePath, source, runner.getCodeRunner()
-                                                                                    .getGraalContext(),
-                              value);
-                return transformValue(value);
+            try (DirigibleJavascriptCodeRunnerPool.Lease lease = runnersPool.borrow(getCurrentTenantId(), projectName, parameters, debug)) {
+                try {
+                    Source source = lease.prepareSource(absoluteSourcePath);
+                    DirigibleJavascriptCodeRunner runner = lease.getRunner();
+                    runner.getGraalJSInterceptor()
+                          .onBeforeRun(sourceFilePath, absoluteSourcePath, source, runner.getCodeRunner()
+                                                                                         .getGraalContext());
+                    Value value = lease.run(source);
+                    runner.getGraalJSInterceptor()
+                          .onAfterRun(sourceFilePath, absoluteSourcePath, source, runner.getCodeRunner()
+                                                                                        .getGraalContext(),
+                                  value);
+                    return transformValue(value);
+                } catch (Throwable ex) {
+                    lease.discard();
+                    throw ex;
+                }
             }
         } catch (Throwable ex) {
             if (ex.getMessage() == null) {
@@ -147,4 +161,23 @@ public class JavascriptHandler {
         }
     }
 
+    /**
+     * Gets the id of the current tenant, which the pooled runners are keyed by.
+     *
+     * @return the tenant id or null, if unknown
+     */
+    private static String getCurrentTenantId() {
+        if (!BeanProvider.isInitialzed()) {
+            return null;
+        }
+        Optional<TenantContext> tenantContext = BeanProvider.getOptionalBean(TenantContext.class);
+        if (tenantContext.isEmpty() || tenantContext.get()
+                                                    .isNotInitialized()) {
+            return null;
+        }
+        return tenantContext.get()
+                            .getCurrentTenant()
+                            .getId();
+    }
+
 }
@@ -72,6 +72,14 @@ public class Job extends Artefact {
     @Expose
     private String engine;
 
+    /**
+     * The function exported by the handler and invoked on every trigger. If set, the handler module is
+     * evaluated once and kept in a long-lived runtime.
+     */
+    @Column(name = "JOB_FUNCTION", columnDefinition = "VARCHAR", nullable = true, length = 255)
+    @Expose
+    private String function;
+
     /**
      * The singleton.
      */
@@ -290,6 +298,24 @@ public class Job extends Artefact {
         this.engine = engine;
     }
 
+    /**
+     * Gets the function.
+     *
+     * @return the function
+     */
+    public String getFunction() {
+        return function;
+    }
+
+    /**
+     * Sets the function.
+     *
+     * @param function the new function
+     */
+    public void setFunction(String function) {
+        this.function = function;
+    }
+
     /**
      * Checks if is singleton.
      *
@@ -422,9 +448,9 @@ public class Job extends Artefact {
     @Override
     public String toString() {
         return "Job {" + " id=" + id + ", group=" + group + ", clazz=" + clazz + ", expression=" + expression + ", handler=" + handler
-                + ", engine=" + engine + ", singleton=" + singleton + ", enabled=" + enabled + ", parameters=" + parameters + ", status="
-                + status + ", message=" + message + ", executedAt=" + executedAt + ", location=" + location + ", name=" + name + ", type="
-                + type + ", description=" + description + ", key=" + key + ", dependencies=" + dependencies + ", createdBy=" + createdBy
-                + ", createdAt=" + createdAt + ", updatedBy=" + updatedBy + ", updatedAt=" + updatedAt + '}';
+                + ", engine=" + engine + ", function=" + function + ", singleton=" + singleton + ", enabled=" + enabled + ", parameters="
+                + parameters + ", status=" + status + ", message=" + message + ", executedAt=" + executedAt + ", location=" + location
+                + ", name=" + name + ", type=" + type + ", description=" + description + ", key=" + key + ", dependencies=" + dependencies
+                + ", createdBy=" + createdBy + ", createdAt=" + createdAt + ", updatedBy=" + updatedBy + ", updatedAt=" + updatedAt + '}';
     }
 }
@@ -49,7 +49,7 @@ public class JobEmailProcessor {
     /** The Constant logger. */
     private static final Logger logger = LoggerFactory.getLogger(JobEmailProcessor.class);
     /** The Constant DIRIGIBLE_SCHEDULER_LOGS_RETENTION_PERIOD. */
-    private static final String DIRIGIBLE_SCHEDULER_LOGS_RETENTION_PERIOD = "DIRIGIBLE_SCHEDULER_LOGS_RETENTION_PERIOD";
+    public static final String DIRIGIBLE_SCHEDULER_LOGS_RETENTION_PERIOD = "DIRIGIBLE_SCHEDULER_LOGS_RETENTION_PERIOD";
     /** The Constant DIRIGIBLE_SCHEDULER_EMAIL_SENDER. */
     private static final String DIRIGIBLE_SCHEDULER_EMAIL_SENDER = "DIRIGIBLE_SCHEDULER_EMAIL_SENDER";
     /** The Constant DIRIGIBLE_SCHEDULER_EMAIL_RECIPIENTS. */
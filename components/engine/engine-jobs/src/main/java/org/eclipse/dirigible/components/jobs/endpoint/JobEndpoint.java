@@ -23,7 +23,9 @@ import org.eclipse.dirigible.components.jobs.domain.JobLog;
 import org.eclipse.dirigible.components.jobs.domain.JobParameter;
 import org.eclipse.dirigible.components.jobs.service.JobEmailService;
 import org.eclipse.dirigible.components.jobs.service.JobLogService;
+import org.eclipse.dirigible.components.jobs.service.JobMetrics;
 import org.eclipse.dirigible.components.jobs.service.JobService;
+import org.eclipse.dirigible.components.jobs.tenant.JobNameCreator;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -59,6 +61,14 @@ public class JobEndpoint extends BaseEndpoint {
     @Autowired
     private JobEmailService jobEmailService;
 
+    /** The job metrics. */
+    @Autowired
+    private JobMetrics jobMetrics;
+
+    /** The job name creator. */
+    @Autowired
+    private JobNameCreator jobNameCreator;
+
 
 
     /**
@@ -107,6 +117,24 @@ public class JobEndpoint extends BaseEndpoint {
         return ResponseEntity.ok(jobService.getAll());
     }
 
+    /**
+     * Gets the execution time metrics of the jobs of the current tenant.
+     *
+     * @return the response entity
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<List<JobMetrics.Snapshot>> getMetrics() {
+        List<JobMetrics.Snapshot> snapshots = jobMetrics.getSnapshots()
+                                                        .stream()
+                                                        .filter(snapshot -> snapshot.name()
+                                                                                    .equals(jobNameCreator.toTenantName(
+                                                                                            jobNameCreator.fromTenantName(
+                                                                                                    snapshot.name()))))
+                                                        .map(snapshot -> snapshot.withName(jobNameCreator.fromTenantName(snapshot.name())))
+                                                        .toList();
+        return ResponseEntity.ok(snapshots);
+    }
+
     /**
      * Enable job.
      *
@@ -12,7 +12,8 @@ package org.eclipse.dirigible.components.jobs.handler;
 import org.eclipse.dirigible.components.base.tenant.Tenant;
 import org.eclipse.dirigible.components.base.tenant.TenantContext;
 import org.eclipse.dirigible.components.jobs.domain.JobLog;
-import org.eclipse.dirigible.components.jobs.service.JobLogService;
+import org.eclipse.dirigible.components.jobs.service.JobLogWriter;
+import org.eclipse.dirigible.components.jobs.service.JobMetrics;
 import org.eclipse.dirigible.components.jobs.tenant.JobNameCreator;
 import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunner;
 import org.quartz.Job;
@@ -24,7 +25,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.nio.file.Path;
-import java.util.Date;
 
 /**
  * The built-in scripting service job handler.
@@ -41,10 +41,12 @@ public class JobHandler implements Job {
     public static String JOB_PARAMETER_HANDLER = "dirigible-job-handler";
     /** The engine type. */
     public static String JOB_PARAMETER_ENGINE = "dirigible-engine-type";
+    /** The function invoked in the long-lived runtime of the job. */
+    public static String JOB_PARAMETER_FUNCTION = "dirigible-job-function";
 
-    /** The job log service. */
+    /** The job log writer. */
     @Autowired
-    private JobLogService jobLogService;
+    private JobLogWriter jobLogWriter;
 
     /** The tenant context. */
     @Autowired
@@ -54,6 +56,14 @@ public class JobHandler implements Job {
     @Autowired
     private JobNameCreator jobNameCreator;
 
+    /** The job runtimes. */
+    @Autowired
+    private JobRuntimes jobRuntimes;
+
+    /** The job metrics. */
+    @Autowired
+    private JobMetrics jobMetrics;
+
     /**
      * Execute.
      *
@@ -96,16 +106,23 @@ public class JobHandler implements Job {
         JobDataMap params = context.getJobDetail()
                                    .getJobDataMap();
         String handler = params.getString(JOB_PARAMETER_HANDLER);
+        String function = params.getString(JOB_PARAMETER_FUNCTION);
 
         JobLog triggered = registerTriggered(name, handler);
         if (triggered != null) {
             context.put("handler", handler);
-            Path handlerPath = Path.of(handler);
 
-            try (DirigibleJavascriptCodeRunner runner = new DirigibleJavascriptCodeRunner()) {
-                runner.run(handlerPath);
+            long start = System.nanoTime();
+            try {
+                if (function == null || function.isBlank()) {
+                    runHandler(handler);
+                } else {
+                    jobRuntimes.execute(tenantJobName, handler, function);
+                }
+                jobMetrics.record(tenantJobName, System.nanoTime() - start, true);
                 registeredFinished(name, handler, triggered);
             } catch (RuntimeException ex) {
+                jobMetrics.record(tenantJobName, System.nanoTime() - start, false);
                 registeredFailed(name, handler, triggered, ex);
                 String msg = "Failed to execute JS. Job name [" + name + "], handler [" + handler + "]";
                 LOGGER.error(msg, ex);
@@ -114,6 +131,17 @@ public class JobHandler implements Job {
         }
     }
 
+    /**
+     * Runs the handler in a new runner.
+     *
+     * @param handler the handler
+     */
+    private void runHandler(String handler) {
+        try (DirigibleJavascriptCodeRunner runner = new DirigibleJavascriptCodeRunner()) {
+            runner.run(Path.of(handler));
+        }
+    }
+
     /**
      * Register triggered.
      *
@@ -124,7 +152,7 @@ public class JobHandler implements Job {
     private JobLog registerTriggered(String name, String module) {
         JobLog triggered = null;
         try {
-            triggered = jobLogService.jobTriggered(name, module);
+            triggered = jobLogWriter.jobTriggered(name, module);
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
         }
@@ -140,8 +168,7 @@ public class JobHandler implements Job {
      */
     private void registeredFinished(String name, String module, JobLog triggered) {
         try {
-            jobLogService.jobFinished(name, module, triggered.getId(), new Date(triggered.getTriggeredAt()
-                                                                                         .getTime()));
+            jobLogWriter.jobFinished(triggered);
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
         }
@@ -157,9 +184,7 @@ public class JobHandler implements Job {
      */
     private void registeredFailed(String name, String module, JobLog triggered, Exception e) {
         try {
-            jobLogService.jobFailed(name, module, triggered.getId(), new Date(triggered.getTriggeredAt()
-                                                                                       .getTime()),
-                    e.getMessage());
+            jobLogWriter.jobFailed(triggered, e.getMessage());
         } catch (Exception se) {
             LOGGER.error(se.getMessage(), se);
         }
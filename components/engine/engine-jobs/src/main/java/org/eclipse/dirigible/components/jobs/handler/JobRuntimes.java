@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.jobs.handler;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunner;
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptWarmRuntime;
+import org.eclipse.dirigible.graalium.core.javascript.modules.Module;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * The long-lived runtimes of the jobs, which export a function to be invoked on every trigger.
+ *
+ * The handler module of such a job is evaluated once and kept loaded in its own
+ * {@link DirigibleJavascriptWarmRuntime}, so the triggers do not pay for the creation of the
+ * context and the loading of the modules. The triggers of a job are executed one at a time. The
+ * runtime is recreated after a failed execution, after a configurable number of executions, when
+ * the handler or the function of the job have changed and when the JavaScript runners are
+ * invalidated on publish. It is closed when the job is unscheduled.
+ */
+@Component
+public class JobRuntimes implements ApplicationListener<ContextClosedEvent> {
+
+    /** The Constant DIRIGIBLE_JOB_RUNTIME_MAX_RUNS. */
+    private static final String DIRIGIBLE_JOB_RUNTIME_MAX_RUNS = "DIRIGIBLE_JOB_RUNTIME_MAX_RUNS";
+
+    /** The runtimes by job key. */
+    private final Map<String, JobRuntime> runtimes = new ConcurrentHashMap<>();
+
+    /**
+     * Executes the function of the job in its runtime, creating the runtime if needed.
+     *
+     * @param jobKey the job key
+     * @param handler the handler
+     * @param function the function
+     */
+    public void execute(String jobKey, String handler, String function) {
+        while (true) {
+            JobRuntime runtime = runtimes.computeIfAbsent(jobKey, key -> new JobRuntime(key, this::createJSCodeRunner));
+            synchronized (runtime) {
+                if (!runtime.closed) {
+                    execute(runtime, handler, function);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Executes the function in the runtime. Must be called while holding the lock of the runtime.
+     *
+     * @param runtime the runtime
+     * @param handler the handler
+     * @param function the function
+     */
+    private void execute(JobRuntime runtime, String handler, String function) {
+        runtime.warmRuntime.execute(List.of(handler, function), runner -> load(runner, handler, function),
+                (runner, module) -> runner.runMethod(module, function), Configuration.getAsInt(DIRIGIBLE_JOB_RUNTIME_MAX_RUNS, 100));
+    }
+
+    /**
+     * Evaluates the handler module in the runner of the runtime.
+     *
+     * @param runner the runner
+     * @param handler the handler
+     * @param function the function
+     * @return the handler module
+     */
+    private Module load(DirigibleJavascriptCodeRunner runner, String handler, String function) {
+        Module module = runner.run(Path.of(handler));
+        if (!module.module()
+                   .hasMember(function)) {
+            throw new IllegalStateException("Handler [" + handler + "] does not export function [" + function + "]");
+        }
+        return module;
+    }
+
+    /**
+     * Closes the runtime of the job, if any.
+     *
+     * @param jobKey the job key
+     */
+    public void close(String jobKey) {
+        JobRuntime runtime = runtimes.remove(jobKey);
+        if (runtime != null) {
+            synchronized (runtime) {
+                runtime.closed = true;
+                runtime.warmRuntime.close();
+            }
+        }
+    }
+
+    /**
+     * Closes all the runtimes.
+     *
+     * @param event the event
+     */
+    @Override
+    public void onApplicationEvent(ContextClosedEvent event) {
+        runtimes.keySet()
+                .forEach(this::close);
+    }
+
+    /**
+     * Creates the JS code runner.
+     *
+     * @return the dirigible javascript code runner
+     */
+    DirigibleJavascriptCodeRunner createJSCodeRunner() {
+        return new DirigibleJavascriptCodeRunner();
+    }
+
+    /**
+     * The runtime of a job.
+     */
+    private static class JobRuntime {
+
+        /** The warm runtime with the loaded handler module. */
+        private final DirigibleJavascriptWarmRuntime warmRuntime;
+
+        /** Whether the runtime has been closed and removed. */
+        private boolean closed;
+
+        /**
+         * Instantiates a new job runtime.
+         *
+         * @param jobKey the job key
+         * @param runnerFactory the runner factory
+         */
+        JobRuntime(String jobKey, Supplier<DirigibleJavascriptCodeRunner> runnerFactory) {
+            this.warmRuntime = new DirigibleJavascriptWarmRuntime("job " + jobKey, runnerFactory);
+        }
+    }
+
+}
@@ -12,6 +12,7 @@ package org.eclipse.dirigible.components.jobs.manager;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.dirigible.components.base.tenant.TenantContext;
 import org.eclipse.dirigible.components.jobs.handler.JobHandler;
+import org.eclipse.dirigible.components.jobs.handler.JobRuntimes;
 import org.eclipse.dirigible.components.jobs.tenant.JobNameCreator;
 import org.quartz.*;
 import org.slf4j.Logger;
@@ -41,17 +42,22 @@ public class JobsManager {
     /** The job name creator. */
     private final JobNameCreator jobNameCreator;
 
+    /** The job runtimes. */
+    private final JobRuntimes jobRuntimes;
+
     /**
      * Instantiates a new jobs manager.
      *
      * @param scheduler the scheduler
      * @param tenantContext the tenant context
      * @param jobNameCreator the job name creator
+     * @param jobRuntimes the job runtimes
      */
-    JobsManager(Scheduler scheduler, TenantContext tenantContext, JobNameCreator jobNameCreator) {
+    JobsManager(Scheduler scheduler, TenantContext tenantContext, JobNameCreator jobNameCreator, JobRuntimes jobRuntimes) {
         this.scheduler = scheduler;
         this.tenantContext = tenantContext;
         this.jobNameCreator = jobNameCreator;
+        this.jobRuntimes = jobRuntimes;
     }
 
     /**
@@ -66,6 +72,7 @@ public class JobsManager {
             if (scheduler.checkExists(jobKey)) {
                 LOGGER.debug("Deleting job with key [{}]...", jobKey);
                 scheduler.deleteJob(jobKey);
+                jobRuntimes.close(jobKey.getName());
             }
             LOGGER.debug("Job [{}] is NOT enabled and will not be scheduled.", jobDefinition);
             return;
@@ -108,6 +115,7 @@ public class JobsManager {
             if (scheduler.checkExists(triggerKey)) {
                 scheduler.unscheduleJob(triggerKey);
                 scheduler.deleteJob(jobKey);
+                jobRuntimes.close(jobKey.getName());
                 LOGGER.info("Unscheduled Job: [{}] of group: [{}]", name, group);
             }
         } catch (ObjectAlreadyExistsException ex) {
@@ -223,6 +231,7 @@ public class JobsManager {
                                   .withDescription(jobDefinition.getDescription())
                                   .usingJobData(JobHandler.JOB_PARAMETER_HANDLER, jobDefinition.getHandler())
                                   .usingJobData(JobHandler.JOB_PARAMETER_ENGINE, jobDefinition.getEngine())
+                                  .usingJobData(JobHandler.JOB_PARAMETER_FUNCTION, jobDefinition.getFunction())
                                   .build();
         job.getJobDataMap()
            .put(JobHandler.TENANT_PARAMETER, tenantContext.getCurrentTenant());
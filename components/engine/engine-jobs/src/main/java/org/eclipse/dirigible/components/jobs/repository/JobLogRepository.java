@@ -9,6 +9,8 @@
  */
 package org.eclipse.dirigible.components.jobs.repository;
 
+import java.sql.Timestamp;
+
 import org.eclipse.dirigible.components.base.artefact.ArtefactRepository;
 import org.eclipse.dirigible.components.jobs.domain.JobLog;
 import org.springframework.data.jpa.repository.Modifying;
@@ -33,4 +35,26 @@ public interface JobLogRepository extends ArtefactRepository<JobLog, Long> {
     @Transactional
     @Query(value = "UPDATE JobLog SET running = :running")
     void setRunningToAll(@Param("running") boolean running);
+
+    /**
+     * Deletes all the logs of the job in a single statement.
+     *
+     * @param jobName the job name
+     * @return the count of the deleted logs
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM JobLog WHERE jobName = :jobName")
+    int deleteAllByJobName(@Param("jobName") String jobName);
+
+    /**
+     * Deletes all the logs of the jobs triggered before the given time in a single statement.
+     *
+     * @param triggeredBefore the triggered before
+     * @return the count of the deleted logs
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM JobLog WHERE triggeredAt < :triggeredBefore")
+    int deleteAllTriggeredBefore(@Param("triggeredBefore") Timestamp triggeredBefore);
 }
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.jobs.service;
+
+import org.eclipse.dirigible.components.jobs.domain.JobLog;
+
+/**
+ * The job execution event, queued to be persisted by the {@link JobLogWriter}.
+ *
+ * @param jobLog the not yet persisted job log
+ * @param triggered the log of the triggered execution, which is referenced by the log of the
+ *        finished or failed execution, or null
+ */
+public record JobLogEvent(JobLog jobLog, JobLog triggered) {
+}
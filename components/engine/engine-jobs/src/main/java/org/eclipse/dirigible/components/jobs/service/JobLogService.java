@@ -20,12 +20,18 @@ import org.eclipse.dirigible.components.jobs.email.JobEmailProcessor;
 import org.eclipse.dirigible.components.jobs.repository.JobLogRepository;
 import org.springframework.data.domain.Example;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The Class JobLogService.
@@ -34,9 +40,15 @@ import java.util.List;
 @Transactional
 public class JobLogService extends BaseArtefactService<JobLog, Long> {
 
+    /** The Constant LOGGER. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobLogService.class);
+
     /** The date format. */
     private final String DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
 
+    /** The job log repository. */
+    private final JobLogRepository jobLogRepository;
+
     /** The job email processor. */
     private final JobEmailProcessor jobEmailProcessor;
 
@@ -61,6 +73,7 @@ public class JobLogService extends BaseArtefactService<JobLog, Long> {
     public JobLogService(JobLogRepository repository, JobEmailProcessor jobEmailProcessor, JobService jobService,
             TenantContext tenantContext, @DefaultTenant Tenant defaultTenant) {
         super(repository);
+        this.jobLogRepository = repository;
         this.jobEmailProcessor = jobEmailProcessor;
         this.jobService = jobService;
         this.tenantContext = tenantContext;
@@ -75,6 +88,20 @@ public class JobLogService extends BaseArtefactService<JobLog, Long> {
      * @return the job log definition
      */
     public JobLog jobTriggered(String name, String handler) {
+        JobLog jobLog = createTriggered(name, handler);
+        save(jobLog);
+        return jobLog;
+    }
+
+    /**
+     * Creates the not yet persisted log of a triggered job for the current tenant.
+     *
+     * @param name the name
+     * @param handler the handler
+     * @return the job log
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public JobLog createTriggered(String name, String handler) {
         JobLog jobLog = createJobLog();
         jobLog.setName(name);
         jobLog.setJobName(name);
@@ -83,7 +110,6 @@ public class JobLogService extends BaseArtefactService<JobLog, Long> {
         jobLog.setTriggeredAt(new Timestamp(new Date().getTime()));
         jobLog.setLocation(new SimpleDateFormat(DATE_FORMAT).format(new Date()));
         jobLog.updateKey();
-        save(jobLog);
         return jobLog;
     }
 
@@ -182,27 +208,10 @@ public class JobLogService extends BaseArtefactService<JobLog, Long> {
      * @return the job log definition
      */
     public JobLog jobFinished(String name, String handler, long triggeredId, Date triggeredAt) {
-        JobLog jobLog = createJobLog();
-        jobLog.setName(name);
-        jobLog.setJobName(name);
-        jobLog.setHandler(handler);
-        jobLog.setStatus(JobStatus.FINISHED);
+        JobLog jobLog = createCompleted(name, handler, triggeredAt, JobStatus.FINISHED, null);
         jobLog.setTriggeredId(triggeredId);
-        jobLog.setTriggeredAt(new Timestamp(triggeredAt.getTime()));
-        jobLog.setFinishedAt(new Timestamp(new Date().getTime()));
-        jobLog.setLocation(new SimpleDateFormat(DATE_FORMAT).format(new Date()));
-        jobLog.updateKey();
         save(jobLog);
-        Job job = jobService.findByName(name);
-        boolean statusChanged = job.getStatus() != JobStatus.FINISHED;
-        job.setStatus(JobStatus.FINISHED);
-        job.setMessage("");
-        job.setExecutedAt(jobLog.getFinishedAt());
-        if (statusChanged) {
-            String content =
-                    jobEmailProcessor.prepareEmail(job, JobEmailProcessor.emailTemplateNormal, JobEmailProcessor.EMAIL_TEMPLATE_NORMAL);
-            jobEmailProcessor.sendEmail(job, JobEmailProcessor.emailSubjectNormal, content);
-        }
+        updateJob(jobService.findByName(name), jobLog);
         return jobLog;
     }
 
@@ -217,29 +226,102 @@ public class JobLogService extends BaseArtefactService<JobLog, Long> {
      * @return the job log definition
      */
     public JobLog jobFailed(String name, String handler, long triggeredId, Date triggeredAt, String message) {
+        JobLog jobLog = createCompleted(name, handler, triggeredAt, JobStatus.FAILED, message);
+        jobLog.setTriggeredId(triggeredId);
+        save(jobLog);
+        updateJob(jobService.findByName(name), jobLog);
+        return jobLog;
+    }
+
+    /**
+     * Creates the not yet persisted log of a finished or failed job for the current tenant.
+     *
+     * @param name the name
+     * @param handler the handler
+     * @param triggeredAt the triggered at
+     * @param status the status, either finished or failed
+     * @param message the message
+     * @return the job log
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public JobLog createCompleted(String name, String handler, Date triggeredAt, JobStatus status, String message) {
         JobLog jobLog = createJobLog();
         jobLog.setName(name);
         jobLog.setJobName(name);
         jobLog.setHandler(handler);
-        jobLog.setStatus(JobStatus.FAILED);
-        jobLog.setTriggeredId(triggeredId);
+        jobLog.setStatus(status);
         jobLog.setTriggeredAt(new Timestamp(triggeredAt.getTime()));
         jobLog.setFinishedAt(new Timestamp(new Date().getTime()));
         jobLog.setMessage(message);
         jobLog.setLocation(new SimpleDateFormat(DATE_FORMAT).format(new Date()));
         jobLog.updateKey();
-        save(jobLog);
-        Job job = jobService.findByName(name);
-        boolean statusChanged = job.getStatus() != JobStatus.FAILED;
-        job.setStatus(JobStatus.FAILED);
-        job.setMessage(message);
+        return jobLog;
+    }
+
+    /**
+     * Updates the status of the job after its execution and notifies on status change.
+     *
+     * @param job the job
+     * @param jobLog the log of the finished or failed execution
+     */
+    private void updateJob(Job job, JobLog jobLog) {
+        boolean failed = jobLog.getStatus() == JobStatus.FAILED;
+        boolean statusChanged = job.getStatus() != jobLog.getStatus();
+        job.setStatus(jobLog.getStatus());
+        job.setMessage(failed ? jobLog.getMessage() : "");
         job.setExecutedAt(jobLog.getFinishedAt());
         if (statusChanged) {
-            String content =
-                    jobEmailProcessor.prepareEmail(job, JobEmailProcessor.emailTemplateError, JobEmailProcessor.EMAIL_TEMPLATE_ERROR);
-            jobEmailProcessor.sendEmail(job, JobEmailProcessor.emailSubjectError, content);
+            if (failed) {
+                String content =
+                        jobEmailProcessor.prepareEmail(job, JobEmailProcessor.emailTemplateError, JobEmailProcessor.EMAIL_TEMPLATE_ERROR);
+                jobEmailProcessor.sendEmail(job, JobEmailProcessor.emailSubjectError, content);
+            } else {
+                String content =
+                        jobEmailProcessor.prepareEmail(job, JobEmailProcessor.emailTemplateNormal, JobEmailProcessor.EMAIL_TEMPLATE_NORMAL);
+                jobEmailProcessor.sendEmail(job, JobEmailProcessor.emailSubjectNormal, content);
+            }
+        }
+    }
+
+    /**
+     * Saves a batch of job logs in a single transaction, in the order of the events. The id of the
+     * triggered log of each completed execution is resolved after the triggered log is saved, and every
+     * job, which has been completed in the batch, is loaded and updated once.
+     *
+     * @param events the events
+     */
+    public void saveBatch(List<JobLogEvent> events) {
+        Map<String, Job> jobs = new HashMap<>();
+        for (JobLogEvent event : events) {
+            JobLog jobLog = event.jobLog();
+            JobLog triggered = event.triggered();
+            if (triggered != null) {
+                jobLog.setTriggeredId(triggered.getId());
+            }
+            getRepo().save(jobLog);
+            if (jobLog.getStatus() == JobStatus.FINISHED || jobLog.getStatus() == JobStatus.FAILED) {
+                Job job = jobs.computeIfAbsent(jobLog.getJobName(), this::findJob);
+                if (job != null) {
+                    updateJob(job, jobLog);
+                }
+            }
+        }
+        getRepo().flush();
+    }
+
+    /**
+     * Finds the job.
+     *
+     * @param name the name
+     * @return the job or null, if it does not exist anymore
+     */
+    private Job findJob(String name) {
+        try {
+            return jobService.findByName(name);
+        } catch (IllegalArgumentException e) {
+            LOGGER.debug("Job [{}] does not exist anymore", name);
+            return null;
         }
-        return jobLog;
     }
 
     /**
@@ -248,16 +330,20 @@ public class JobLogService extends BaseArtefactService<JobLog, Long> {
      * @param jobName the job name
      */
     public void deleteAllByJobName(String jobName) {
-        // createJobLog() if we want only logs for the current tenant otherwise new JobLog()
-        JobLog filter = new JobLog();
         if (jobName != null && jobName.startsWith("/")) {
             jobName = jobName.substring(1);
         }
-        filter.setJobName(jobName);
-        Example<JobLog> example = Example.of(filter);
-        List<JobLog> jobLogs = getRepo().findAll(example);
-        getRepo().deleteAll(jobLogs);
+        jobLogRepository.deleteAllByJobName(jobName);
+    }
 
+    /**
+     * Deletes the logs of all the jobs triggered before the given time.
+     *
+     * @param triggeredBefore the triggered before
+     * @return the count of the deleted logs
+     */
+    public int deleteAllTriggeredBefore(Date triggeredBefore) {
+        return jobLogRepository.deleteAllTriggeredBefore(new Timestamp(triggeredBefore.getTime()));
     }
 
     /**
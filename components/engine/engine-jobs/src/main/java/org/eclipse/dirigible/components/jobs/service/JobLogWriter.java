@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.jobs.service;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.components.jobs.domain.JobLog;
+import org.eclipse.dirigible.components.jobs.domain.JobStatus;
+import org.eclipse.dirigible.components.jobs.email.JobEmailProcessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes the job execution logs in the background.
+ *
+ * The events are created on the thread executing the job, so they keep its tenant and time, and are
+ * queued. A single writer thread saves them in batches, each in one transaction, either every flush
+ * interval or as soon as a batch is full. If the queue is full, the caller saves the pending events
+ * itself. If the scheduler logs retention period is configured, the writer also deletes the logs
+ * older than it with a bulk delete, otherwise the logs are kept. The pending events are saved when
+ * the application context is closed.
+ */
+@Component
+public class JobLogWriter implements ApplicationListener<ContextClosedEvent> {
+
+    /** The Constant LOGGER. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobLogWriter.class);
+
+    /** The Constant DIRIGIBLE_JOB_LOG_QUEUE_CAPACITY. */
+    private static final String DIRIGIBLE_JOB_LOG_QUEUE_CAPACITY = "DIRIGIBLE_JOB_LOG_QUEUE_CAPACITY";
+
+    /** The Constant DIRIGIBLE_JOB_LOG_BATCH_SIZE. */
+    private static final String DIRIGIBLE_JOB_LOG_BATCH_SIZE = "DIRIGIBLE_JOB_LOG_BATCH_SIZE";
+
+    /** The Constant DIRIGIBLE_JOB_LOG_FLUSH_INTERVAL. */
+    private static final String DIRIGIBLE_JOB_LOG_FLUSH_INTERVAL = "DIRIGIBLE_JOB_LOG_FLUSH_INTERVAL";
+
+    /** The Constant PRUNE_INTERVAL. */
+    private static final long PRUNE_INTERVAL = TimeUnit.HOURS.toMillis(1);
+
+    /** The job log service. */
+    private final JobLogService jobLogService;
+
+    /** The queue. */
+    private final BlockingQueue<JobLogEvent> queue;
+
+    /** The batch size. */
+    private final int batchSize;
+
+    /** The flush interval in milliseconds. */
+    private final long flushInterval;
+
+    /** The lock held while writing, so that the events are saved in the order of their queueing. */
+    private final Object writeLock = new Object();
+
+    /** The signal to the writer thread. */
+    private final Object signal = new Object();
+
+    /** The writer thread. */
+    private Thread writer;
+
+    /** The stopped. */
+    private volatile boolean stopped;
+
+    /** The time of the last pruning. */
+    private long lastPrunedAt;
+
+    /**
+     * Instantiates a new job log writer.
+     *
+     * @param jobLogService the job log service
+     */
+    JobLogWriter(JobLogService jobLogService) {
+        this.jobLogService = jobLogService;
+        this.queue = new LinkedBlockingQueue<>(Configuration.getAsInt(DIRIGIBLE_JOB_LOG_QUEUE_CAPACITY, 10000));
+        this.batchSize = Math.max(1, Configuration.getAsInt(DIRIGIBLE_JOB_LOG_BATCH_SIZE, 500));
+        this.flushInterval = Math.max(10, Configuration.getAsInt(DIRIGIBLE_JOB_LOG_FLUSH_INTERVAL, 1000));
+    }
+
+    /**
+     * Queues the log of a triggered job.
+     *
+     * @param name the name
+     * @param handler the handler
+     * @return the job log, which is persisted later
+     */
+    public JobLog jobTriggered(String name, String handler) {
+        JobLog jobLog = jobLogService.createTriggered(name, handler);
+        enqueue(new JobLogEvent(jobLog, null));
+        return jobLog;
+    }
+
+    /**
+     * Queues the log of a finished job.
+     *
+     * @param triggered the log of the triggered execution
+     */
+    public void jobFinished(JobLog triggered) {
+        JobLog jobLog = jobLogService.createCompleted(triggered.getJobName(), triggered.getHandler(), triggered.getTriggeredAt(),
+                JobStatus.FINISHED, null);
+        enqueue(new JobLogEvent(jobLog, triggered));
+    }
+
+    /**
+     * Queues the log of a failed job.
+     *
+     * @param triggered the log of the triggered execution
+     * @param message the message
+     */
+    public void jobFailed(JobLog triggered, String message) {
+        JobLog jobLog = jobLogService.createCompleted(triggered.getJobName(), triggered.getHandler(), triggered.getTriggeredAt(),
+                JobStatus.FAILED, message);
+        enqueue(new JobLogEvent(jobLog, triggered));
+    }
+
+    /**
+     * Queues the event or saves it together with the pending ones, if the queue is full or the writer
+     * has been stopped.
+     *
+     * @param event the event
+     */
+    private void enqueue(JobLogEvent event) {
+        if (stopped || !queue.offer(event)) {
+            synchronized (writeLock) {
+                flush();
+                write(List.of(event));
+            }
+            return;
+        }
+        startWriter();
+        if (queue.size() >= batchSize) {
+            synchronized (signal) {
+                signal.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Starts the writer thread, if not started yet.
+     */
+    private synchronized void startWriter() {
+        if (writer != null || stopped) {
+            return;
+        }
+        writer = new Thread(this::run, "dirigible-job-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Runs the writer loop.
+     */
+    private void run() {
+        while (!stopped) {
+            try {
+                synchronized (signal) {
+                    if (queue.size() < batchSize && !stopped) {
+                        signal.wait(flushInterval);
+                    }
+                }
+                flush();
+                prune();
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                return;
+            } catch (RuntimeException e) {
+                LOGGER.error("Job logs writer failed", e);
+            }
+        }
+    }
+
+    /**
+     * Saves all the queued events in batches.
+     */
+    void flush() {
+        synchronized (writeLock) {
+            List<JobLogEvent> batch = new ArrayList<>();
+            while (queue.drainTo(batch, batchSize) > 0) {
+                write(batch);
+                batch = new ArrayList<>();
+            }
+        }
+    }
+
+    /**
+     * Saves the batch. If the batch fails, its transaction is rolled back and the events are saved one
+     * by one, each in its own transaction, so that a failing event loses only its own log.
+     *
+     * @param batch the batch
+     */
+    private void write(List<JobLogEvent> batch) {
+        try {
+            jobLogService.saveBatch(batch);
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                LOGGER.error("Failed to save the job log of [{}]", batch.get(0)
+                                                                        .jobLog()
+                                                                        .getJobName(),
+                        e);
+                return;
+            }
+            LOGGER.warn("Failed to save [{}] job log(s) in a batch, saving them one by one", batch.size(), e);
+            for (JobLogEvent event : batch) {
+                // the ids assigned in the rolled back transaction are not valid
+                event.jobLog()
+                     .setId(null);
+            }
+            for (JobLogEvent event : batch) {
+                write(List.of(event));
+            }
+        }
+    }
+
+    /**
+     * Deletes the logs older than the retention period in hours, at most once per prune interval. The
+     * logs are kept, if the retention period is not configured.
+     */
+    void prune() {
+        if (Configuration.get(JobEmailProcessor.DIRIGIBLE_SCHEDULER_LOGS_RETENTION_PERIOD) == null) {
+            return;
+        }
+        int retentionHours = Configuration.getAsInt(JobEmailProcessor.DIRIGIBLE_SCHEDULER_LOGS_RETENTION_PERIOD, 24 * 7);
+        long now = System.currentTimeMillis();
+        if (retentionHours <= 0 || now - lastPrunedAt < PRUNE_INTERVAL) {
+            return;
+        }
+        lastPrunedAt = now;
+        int deleted = jobLogService.deleteAllTriggeredBefore(new Date(now - TimeUnit.HOURS.toMillis(retentionHours)));
+        if (deleted > 0) {
+            LOGGER.debug("Deleted [{}] job log(s) older than [{}] hours", deleted, retentionHours);
+        }
+    }
+
+    /**
+     * Stops the writer and saves the pending events.
+     *
+     * @param event the event
+     */
+    @Override
+    public void onApplicationEvent(ContextClosedEvent event) {
+        Thread current;
+        synchronized (this) {
+            stopped = true;
+            current = writer;
+        }
+        synchronized (signal) {
+            signal.notifyAll();
+        }
+        if (current != null) {
+            try {
+                current.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+            }
+        }
+        flush();
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.jobs.service;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.dirigible.components.base.metrics.ExecutionMetrics;
+import org.eclipse.dirigible.components.base.metrics.ExecutionMetricsRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * The execution time metrics of the jobs, by the tenant-qualified name of the job.
+ *
+ * The execution times of every job are counted in a histogram with fixed buckets, so recording an
+ * execution does not lock nor allocate.
+ */
+@Component
+public class JobMetrics extends ExecutionMetricsRegistry<ExecutionMetrics> {
+
+    /**
+     * Instantiates a new job metrics.
+     */
+    public JobMetrics() {
+        super(ExecutionMetrics::new);
+    }
+
+    /**
+     * Records an execution of the job.
+     *
+     * @param tenantJobName the tenant-qualified name of the job
+     * @param nanos the execution time in nanoseconds
+     * @param success whether the execution succeeded
+     */
+    public void record(String tenantJobName, long nanos, boolean success) {
+        getMetrics(tenantJobName).record(nanos, success);
+    }
+
+    /**
+     * Gets the snapshots of the metrics of all the jobs.
+     *
+     * @return the snapshots
+     */
+    public List<Snapshot> getSnapshots() {
+        return getAllMetrics().stream()
+                              .map(metrics -> new Snapshot(metrics.getName(), metrics.getExecutions(), metrics.getFailed(),
+                                      metrics.getAverageTime(), metrics.getMaxTime(), metrics.getLastExecutedAt(), metrics.getHistogram()))
+                              .toList();
+    }
+
+    /**
+     * The snapshot of the execution time metrics of a job.
+     *
+     * @param name the name of the job
+     * @param executions the count of the executions
+     * @param failed the count of the failed executions
+     * @param averageTime the average execution time in milliseconds
+     * @param maxTime the maximum execution time in milliseconds
+     * @param lastExecutedAt the time of the last execution
+     * @param histogram the count of the executions by the upper bound of their bucket in milliseconds
+     */
+    public record Snapshot(String name, long executions, long failed, double averageTime, long maxTime, long lastExecutedAt,
+            Map<String, Long> histogram) {
+
+        /**
+         * Creates a copy of the snapshot with another name.
+         *
+         * @param name the name
+         * @return the snapshot
+         */
+        public Snapshot withName(String name) {
+            return new Snapshot(name, executions, failed, averageTime, maxTime, lastExecutedAt, histogram);
+        }
+    }
+
+}
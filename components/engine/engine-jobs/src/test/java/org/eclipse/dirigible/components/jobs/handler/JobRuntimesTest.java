@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.jobs.handler;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunner;
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunnerPool;
+import org.eclipse.dirigible.graalium.core.javascript.modules.Module;
+import org.graalvm.polyglot.Value;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * The Class JobRuntimesTest.
+ */
+@ExtendWith(MockitoExtension.class)
+class JobRuntimesTest {
+
+    /** The Constant JOB_KEY. */
+    private static final String JOB_KEY = "test-job";
+
+    /** The Constant HANDLER. */
+    private static final String HANDLER = "test-handler.mjs";
+
+    /** The Constant FUNCTION. */
+    private static final String FUNCTION = "run";
+
+    /** The runtimes. */
+    private JobRuntimes jobRuntimes;
+
+    /** The JS code runner. */
+    @Mock
+    private DirigibleJavascriptCodeRunner jsCodeRunner;
+
+    /** The module. */
+    @Mock
+    private Module module;
+
+    /** The module value. */
+    @Mock
+    private Value moduleValue;
+
+    /**
+     * Sets the up.
+     */
+    @BeforeEach
+    void setUp() {
+        jobRuntimes = spy(new JobRuntimes());
+        doReturn(jsCodeRunner).when(jobRuntimes)
+                              .createJSCodeRunner();
+        when(jsCodeRunner.run(Path.of(HANDLER))).thenReturn(module);
+        when(module.module()).thenReturn(moduleValue);
+        when(moduleValue.hasMember(FUNCTION)).thenReturn(true);
+    }
+
+    /**
+     * Test the handler module is evaluated once and the function is invoked on every execution.
+     */
+    @Test
+    void testExecuteReusesHandlerModule() {
+        jobRuntimes.execute(JOB_KEY, HANDLER, FUNCTION);
+        jobRuntimes.execute(JOB_KEY, HANDLER, FUNCTION);
+
+        verify(jobRuntimes).createJSCodeRunner();
+        verify(jsCodeRunner).run(Path.of(HANDLER));
+        verify(jsCodeRunner, times(2)).runMethod(module, FUNCTION);
+
+        jobRuntimes.close(JOB_KEY);
+
+        verify(jsCodeRunner).close();
+    }
+
+    /**
+     * Test the runtime is recreated after a failed execution.
+     */
+    @Test
+    void testExecuteRecreatesRuntimeAfterFailure() {
+        when(jsCodeRunner.runMethod(module, FUNCTION)).thenThrow(RuntimeException.class)
+                                                      .thenReturn(null);
+
+        assertThrows(RuntimeException.class, () -> jobRuntimes.execute(JOB_KEY, HANDLER, FUNCTION));
+        jobRuntimes.execute(JOB_KEY, HANDLER, FUNCTION);
+
+        verify(jsCodeRunner, times(2)).run(Path.of(HANDLER));
+        verify(jsCodeRunner).close();
+    }
+
+    /**
+     * Test the runtime is recreated after the JavaScript runners have been invalidated.
+     */
+    @Test
+    void testExecuteRecreatesRuntimeOnPublish() {
+        jobRuntimes.execute(JOB_KEY, HANDLER, FUNCTION);
+        DirigibleJavascriptCodeRunnerPool.get()
+                                         .invalidate();
+        jobRuntimes.execute(JOB_KEY, HANDLER, FUNCTION);
+
+        verify(jsCodeRunner, times(2)).run(Path.of(HANDLER));
+        verify(jsCodeRunner).close();
+    }
+
+    /**
+     * Test the execution fails, if the handler does not export the function.
+     */
+    @Test
+    void testExecuteMissingFunction() {
+        when(moduleValue.hasMember(FUNCTION)).thenReturn(false);
+
+        assertThrows(IllegalStateException.class, () -> jobRuntimes.execute(JOB_KEY, HANDLER, FUNCTION));
+
+        verify(jsCodeRunner).close();
+    }
+
+}
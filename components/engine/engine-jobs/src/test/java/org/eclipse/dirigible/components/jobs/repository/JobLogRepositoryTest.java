@@ -150,4 +150,27 @@ public class JobLogRepositoryTest {
         assertNotNull(extension);
         assertNotNull(extension.getLocation());
     }
+
+    /**
+     * Delete all by job name.
+     */
+    @Test
+    public void deleteAllByJobName() {
+        assertEquals(1, jobLogRepository.deleteAllByJobName("job2"));
+        entityManager.clear();
+        assertEquals(2, jobLogRepository.count());
+    }
+
+    /**
+     * Delete all triggered before.
+     */
+    @Test
+    public void deleteAllTriggeredBefore() {
+        assertEquals(2, jobLogRepository.deleteAllTriggeredBefore(new Timestamp(1667667800)));
+        entityManager.clear();
+        assertEquals("job3", jobLogRepository.findAll()
+                                             .get(0)
+                                             .getJobName());
+        assertEquals(1, jobLogRepository.count());
+    }
 }
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.jobs.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.components.jobs.domain.JobLog;
+import org.eclipse.dirigible.components.jobs.domain.JobStatus;
+import org.eclipse.dirigible.components.jobs.email.JobEmailProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * The Class JobLogWriterTest.
+ */
+@ExtendWith(MockitoExtension.class)
+class JobLogWriterTest {
+
+    /** The Constant JOB. */
+    private static final String JOB = "test-job";
+
+    /** The Constant HANDLER. */
+    private static final String HANDLER = "test-handler.js";
+
+    /** The writer. */
+    @InjectMocks
+    private JobLogWriter writer;
+
+    /** The job log service. */
+    @Mock
+    private JobLogService jobLogService;
+
+    /**
+     * Stops the writer.
+     */
+    @AfterEach
+    void tearDown() {
+        writer.onApplicationEvent(null);
+        Configuration.remove(JobEmailProcessor.DIRIGIBLE_SCHEDULER_LOGS_RETENTION_PERIOD);
+        Configuration.remove("DIRIGIBLE_JOB_LOG_FLUSH_INTERVAL");
+    }
+
+    /**
+     * Test the triggered and the finished logs are saved in order in the background.
+     */
+    @Test
+    void testJobTriggeredAndFinished() {
+        JobLog triggered = createJobLog(JobStatus.TRIGGRED);
+        JobLog finished = createJobLog(JobStatus.FINISHED);
+        when(jobLogService.createTriggered(JOB, HANDLER)).thenReturn(triggered);
+        when(jobLogService.createCompleted(eq(JOB), eq(HANDLER), any(Date.class), eq(JobStatus.FINISHED), any())).thenReturn(finished);
+        List<JobLogEvent> saved = new ArrayList<>();
+        doAnswer(invocation -> saved.addAll(invocation.getArgument(0))).when(jobLogService)
+                                                                       .saveBatch(any());
+
+        assertSame(triggered, writer.jobTriggered(JOB, HANDLER));
+        writer.jobFinished(triggered);
+
+        verify(jobLogService, timeout(5000).atLeastOnce()).saveBatch(any());
+        writer.flush();
+
+        assertEquals(2, saved.size());
+        assertSame(triggered, saved.get(0)
+                                   .jobLog());
+        assertNull(saved.get(0)
+                        .triggered());
+        assertSame(finished, saved.get(1)
+                                  .jobLog());
+        assertSame(triggered, saved.get(1)
+                                   .triggered());
+    }
+
+    /**
+     * Test the pending logs are saved on close.
+     */
+    @Test
+    void testPendingLogsSavedOnClose() {
+        JobLog triggered = createJobLog(JobStatus.TRIGGRED);
+        when(jobLogService.createTriggered(anyString(), anyString())).thenReturn(triggered);
+
+        writer.jobTriggered(JOB, HANDLER);
+        writer.onApplicationEvent(null);
+
+        verify(jobLogService, timeout(5000)).saveBatch(List.of(new JobLogEvent(triggered, null)));
+    }
+
+    /**
+     * Test a failing batch is saved event by event, so that only the failing event is lost. The flush
+     * interval is long, so that both the events are saved in one batch on close.
+     */
+    @Test
+    void testFailedBatchSavedOneByOne() {
+        Configuration.set("DIRIGIBLE_JOB_LOG_FLUSH_INTERVAL", "60000");
+        JobLogWriter writer = new JobLogWriter(jobLogService);
+        JobLog triggered = createJobLog(JobStatus.TRIGGRED);
+        JobLog failed = createJobLog(JobStatus.FAILED);
+        triggered.setId(1L);
+        when(jobLogService.createTriggered(JOB, HANDLER)).thenReturn(triggered);
+        when(jobLogService.createCompleted(eq(JOB), eq(HANDLER), any(Date.class), eq(JobStatus.FAILED), any())).thenReturn(failed);
+        JobLogEvent triggeredEvent = new JobLogEvent(triggered, null);
+        JobLogEvent failedEvent = new JobLogEvent(failed, triggered);
+        List<JobLogEvent> saved = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<JobLogEvent> events = invocation.getArgument(0);
+            if (events.contains(failedEvent)) {
+                throw new IllegalStateException("Cannot save");
+            }
+            return saved.addAll(events);
+        }).when(jobLogService)
+          .saveBatch(any());
+
+        writer.jobTriggered(JOB, HANDLER);
+        writer.jobFailed(triggered, "error");
+        writer.onApplicationEvent(null);
+
+        verify(jobLogService, timeout(5000)).saveBatch(List.of(failedEvent));
+        assertEquals(List.of(triggeredEvent), saved);
+        assertNull(triggered.getId());
+    }
+
+    /**
+     * Test the logs are kept, if the retention period is not configured.
+     */
+    @Test
+    void testLogsKeptByDefault() {
+        writer.prune();
+
+        verify(jobLogService, never()).deleteAllTriggeredBefore(any());
+    }
+
+    /**
+     * Test the logs older than the configured retention period in hours are deleted.
+     */
+    @Test
+    void testLogsPrunedByRetentionPeriod() {
+        Configuration.set(JobEmailProcessor.DIRIGIBLE_SCHEDULER_LOGS_RETENTION_PERIOD, "2");
+        long before = System.currentTimeMillis();
+
+        writer.prune();
+
+        long after = System.currentTimeMillis();
+        long retention = TimeUnit.HOURS.toMillis(2);
+        verify(jobLogService).deleteAllTriggeredBefore(
+                argThat(date -> date.getTime() >= before - retention && date.getTime() <= after - retention));
+    }
+
+    /**
+     * Creates the job log.
+     *
+     * @param status the status
+     * @return the job log
+     */
+    private static JobLog createJobLog(JobStatus status) {
+        JobLog jobLog = new JobLog();
+        jobLog.setJobName(JOB);
+        jobLog.setHandler(HANDLER);
+        jobLog.setStatus(status);
+        jobLog.setTriggeredAt(new Timestamp(System.currentTimeMillis()));
+        return jobLog;
+    }
+
+}
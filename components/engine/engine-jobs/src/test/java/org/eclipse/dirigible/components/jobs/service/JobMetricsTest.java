@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.jobs.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class JobMetricsTest.
+ */
+class JobMetricsTest {
+
+    /**
+     * Test the executions are counted in the buckets of their execution time.
+     */
+    @Test
+    void testRecord() {
+        JobMetrics jobMetrics = new JobMetrics();
+
+        jobMetrics.record("b-job", TimeUnit.MILLISECONDS.toNanos(3), true);
+        jobMetrics.record("a-job", TimeUnit.MILLISECONDS.toNanos(5), true);
+        jobMetrics.record("a-job", TimeUnit.MILLISECONDS.toNanos(7), false);
+        jobMetrics.record("a-job", TimeUnit.MINUTES.toNanos(10), true);
+
+        List<JobMetrics.Snapshot> snapshots = jobMetrics.getSnapshots();
+        assertEquals(2, snapshots.size());
+
+        JobMetrics.Snapshot snapshot = snapshots.get(0);
+        assertEquals("a-job", snapshot.name());
+        assertEquals(3, snapshot.executions());
+        assertEquals(1, snapshot.failed());
+        assertEquals(TimeUnit.MINUTES.toMillis(10), snapshot.maxTime());
+        assertEquals(1, snapshot.histogram()
+                                .get("5"));
+        assertEquals(1, snapshot.histogram()
+                                .get("10"));
+        assertEquals(1, snapshot.histogram()
+                                .get("+Inf"));
+        assertEquals(0, snapshot.histogram()
+                                .get("1"));
+
+        assertEquals("b-job", snapshots.get(1)
+                                       .name());
+    }
+
+    /**
+     * Test the executions of the same job in different tenants are counted separately.
+     */
+    @Test
+    void testRecordPerTenant() {
+        JobMetrics jobMetrics = new JobMetrics();
+
+        jobMetrics.record("job", TimeUnit.MILLISECONDS.toNanos(3), true);
+        jobMetrics.record("tenant###job", TimeUnit.MILLISECONDS.toNanos(3), false);
+
+        List<JobMetrics.Snapshot> snapshots = jobMetrics.getSnapshots();
+        assertEquals(2, snapshots.size());
+        assertEquals(0, snapshots.get(0)
+                                 .failed());
+        assertEquals(1, snapshots.get(1)
+                                 .failed());
+    }
+
+}
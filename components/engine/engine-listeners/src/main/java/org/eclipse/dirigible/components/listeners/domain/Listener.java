@@ -42,6 +42,11 @@ public class Listener extends Artefact {
     @Expose
     private ListenerKind kind;
 
+    /** The number of the concurrent consumers of a queue. */
+    @Column(name = "LISTENER_CONCURRENCY", nullable = true)
+    @Expose
+    private Integer concurrency;
+
     /**
      * Instantiates a new listener.
      *
@@ -116,6 +121,24 @@ public class Listener extends Artefact {
         this.kind = kind;
     }
 
+    /**
+     * Gets the number of the concurrent consumers of a queue.
+     *
+     * @return the concurrency or null, if the default one has to be used
+     */
+    public Integer getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Sets the number of the concurrent consumers of a queue.
+     *
+     * @param concurrency the new concurrency
+     */
+    public void setConcurrency(Integer concurrency) {
+        this.concurrency = concurrency;
+    }
+
     /**
      * To string.
      *
@@ -123,9 +146,9 @@ public class Listener extends Artefact {
      */
     @Override
     public String toString() {
-        return "Listener{" + "id=" + id + ", handler='" + handler + '\'' + ", kind='" + kind + '\'' + ", location='" + location + '\''
-                + ", name='" + name + '\'' + ", type='" + type + '\'' + ", description='" + description + '\'' + ", key='" + key + '\''
-                + ", dependencies='" + dependencies + '\'' + ", createdBy=" + createdBy + ", createdAt=" + createdAt + ", updatedBy="
-                + updatedBy + ", updatedAt=" + updatedAt + '}';
+        return "Listener{" + "id=" + id + ", handler='" + handler + '\'' + ", kind='" + kind + '\'' + ", concurrency=" + concurrency
+                + ", location='" + location + '\'' + ", name='" + name + '\'' + ", type='" + type + '\'' + ", description='" + description
+                + '\'' + ", key='" + key + '\'' + ", dependencies='" + dependencies + '\'' + ", createdBy=" + createdBy + ", createdAt="
+                + createdAt + ", updatedBy=" + updatedBy + ", updatedAt=" + updatedAt + '}';
     }
 }
@@ -15,6 +15,7 @@ import java.util.List;
 
 import org.eclipse.dirigible.components.base.endpoint.BaseEndpoint;
 import org.eclipse.dirigible.components.listeners.domain.Listener;
+import org.eclipse.dirigible.components.listeners.service.ListenerMetrics;
 import org.eclipse.dirigible.components.listeners.service.ListenerService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -40,6 +41,10 @@ public class ListenerEndpoint {
     @Autowired
     private ListenerService listenerService;
 
+    /** The listener metrics. */
+    @Autowired
+    private ListenerMetrics listenerMetrics;
+
     /**
      * Find all.
      *
@@ -96,4 +101,14 @@ public class ListenerEndpoint {
     public ResponseEntity<List<Listener>> listJobs() {
         return ResponseEntity.ok(listenerService.getAll());
     }
+
+    /**
+     * Gets the processing metrics of the listeners per destination.
+     *
+     * @return the response entity
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<List<ListenerMetrics.Snapshot>> getMetrics() {
+        return ResponseEntity.ok(listenerMetrics.getSnapshots());
+    }
 }
@@ -13,9 +13,12 @@ import jakarta.jms.JMSException;
 import jakarta.jms.Message;
 import jakarta.jms.MessageListener;
 import jakarta.jms.TextMessage;
+
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.base.tenant.TenantContext;
+import org.eclipse.dirigible.components.listeners.service.ListenerMetrics.DestinationMetrics;
 import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunner;
-import org.eclipse.dirigible.graalium.core.javascript.modules.Module;
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptWarmRuntime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,12 +28,19 @@ import org.slf4j.LoggerFactory;
  * that class is registered with a component using the component's addAsynchronousMessageListener
  * method. When the asynchronousMessage event occurs, that object's appropriate method is invoked.
  *
+ * Every consumer of a destination has its own listener and the messages of a consumer are delivered
+ * one by one, so the listener keeps the runner with the loaded handler module warm between the
+ * messages. The runtime is recreated for another tenant, after a failed message, after a
+ * configurable number of messages and when the JavaScript runners are invalidated on publish.
  */
-class AsynchronousMessageListener implements MessageListener {
+class AsynchronousMessageListener implements MessageListener, AutoCloseable {
 
     /** The Constant LOGGER. */
     private static final Logger LOGGER = LoggerFactory.getLogger(AsynchronousMessageListener.class);
 
+    /** The Constant DIRIGIBLE_LISTENER_RUNTIME_MAX_MESSAGES. */
+    private static final String DIRIGIBLE_LISTENER_RUNTIME_MAX_MESSAGES = "DIRIGIBLE_LISTENER_RUNTIME_MAX_MESSAGES";
+
     /** The listener. */
     private final ListenerDescriptor listenerDescriptor;
 
@@ -40,18 +50,26 @@ class AsynchronousMessageListener implements MessageListener {
     /** The tenant context. */
     private final TenantContext tenantContext;
 
+    /** The metrics of the destination. */
+    private final DestinationMetrics metrics;
+
+    /** The warm runtime with the loaded handler module or null, before the first message. */
+    private DirigibleJavascriptWarmRuntime runtime;
+
     /**
      * Instantiates a new asynchronous message listener.
      *
      * @param listenerDescriptor the listener
      * @param tenantPropertyManager the tenant property manager
      * @param tenantContext the tenant context
+     * @param listenerMetrics the listener metrics
      */
     AsynchronousMessageListener(ListenerDescriptor listenerDescriptor, TenantPropertyManager tenantPropertyManager,
-            TenantContext tenantContext) {
+            TenantContext tenantContext, ListenerMetrics listenerMetrics) {
         this.listenerDescriptor = listenerDescriptor;
         this.tenantPropertyManager = tenantPropertyManager;
         this.tenantContext = tenantContext;
+        this.metrics = listenerMetrics.getDestinationMetrics(listenerDescriptor.getDestination());
     }
 
     /**
@@ -68,32 +86,65 @@ class AsynchronousMessageListener implements MessageListener {
                     listenerDescriptor.getDestination());
             throw new IllegalStateException(msg);
         }
+        long lag = getLag(message);
+        long start = System.nanoTime();
+        boolean success = false;
         try {
             String tenantId = tenantPropertyManager.getCurrentTenantId(message);
             LOGGER.debug("Processing message WITH context for tenant [{}].", tenantId);
 
             tenantContext.execute(tenantId, () -> {
-                executeOnMessageHandler(textMsg);
+                executeOnMessageHandler(tenantId, textMsg);
                 return null;
             });
+            success = true;
             LOGGER.trace("Done processing the received message in [{}] by [{}]", listenerDescriptor.getDestination(),
                     listenerDescriptor.getHandlerPath());
         } catch (Exception e) {
             throw new IllegalStateException("Failed to handle message: " + message, e);
+        } finally {
+            metrics.record(lag, System.nanoTime() - start, success);
+        }
+    }
+
+    /**
+     * Gets the time since the message has been sent.
+     *
+     * @param message the message
+     * @return the lag in milliseconds or -1, if unknown
+     */
+    private long getLag(Message message) {
+        try {
+            long timestamp = message.getJMSTimestamp();
+            return timestamp > 0 ? Math.max(0, System.currentTimeMillis() - timestamp) : -1;
+        } catch (JMSException ex) {
+            return -1;
         }
     }
 
     /**
      * Execute on message handler.
      *
+     * @param tenantId the tenant id
      * @param textMsg the text msg
      */
-    private void executeOnMessageHandler(TextMessage textMsg) {
+    private synchronized void executeOnMessageHandler(String tenantId, TextMessage textMsg) {
         String extractedMsg = extractMessage(textMsg);
-        try (DirigibleJavascriptCodeRunner runner = createJSCodeRunner()) {
-            String handlerPath = listenerDescriptor.getHandlerPath();
-            Module module = runner.run(handlerPath);
-            runner.runMethod(module, "onMessage", extractedMsg);
+        if (runtime == null) {
+            runtime = new DirigibleJavascriptWarmRuntime("handler " + listenerDescriptor.getHandlerPath(), this::createJSCodeRunner);
+        }
+        runtime.execute(tenantId, runner -> runner.run(listenerDescriptor.getHandlerPath()),
+                (runner, module) -> runner.runMethod(module, "onMessage", extractedMsg),
+                Configuration.getAsInt(DIRIGIBLE_LISTENER_RUNTIME_MAX_MESSAGES, 100));
+    }
+
+    /**
+     * Closes the warm runtime. Has to be called after the consumer has been closed.
+     */
+    @Override
+    public synchronized void close() {
+        if (runtime != null) {
+            runtime.close();
         }
     }
 
@@ -24,15 +24,21 @@ class AsynchronousMessageListenerFactory {
     /** The tenant context. */
     private final TenantContext tenantContext;
 
+    /** The listener metrics. */
+    private final ListenerMetrics listenerMetrics;
+
     /**
      * Instantiates a new asynchronous message listener factory.
      *
      * @param tenantPropertyManager the tenant property manager
      * @param tenantContext the tenant context
+     * @param listenerMetrics the listener metrics
      */
-    AsynchronousMessageListenerFactory(TenantPropertyManager tenantPropertyManager, TenantContext tenantContext) {
+    AsynchronousMessageListenerFactory(TenantPropertyManager tenantPropertyManager, TenantContext tenantContext,
+            ListenerMetrics listenerMetrics) {
         this.tenantPropertyManager = tenantPropertyManager;
         this.tenantContext = tenantContext;
+        this.listenerMetrics = listenerMetrics;
     }
 
     /**
@@ -42,6 +48,6 @@ class AsynchronousMessageListenerFactory {
      * @return the asynchronous message listener
      */
     AsynchronousMessageListener create(ListenerDescriptor listenerDescriptor) {
-        return new AsynchronousMessageListener(listenerDescriptor, tenantPropertyManager, tenantContext);
+        return new AsynchronousMessageListener(listenerDescriptor, tenantPropertyManager, tenantContext, listenerMetrics);
     }
 }
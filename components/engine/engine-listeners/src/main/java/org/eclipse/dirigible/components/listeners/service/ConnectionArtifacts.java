@@ -9,6 +9,8 @@
  */
 package org.eclipse.dirigible.components.listeners.service;
 
+import java.util.List;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import jakarta.jms.Connection;
@@ -26,11 +28,11 @@ public class ConnectionArtifacts {
     /** The connection. */
     private final Connection connection;
 
-    /** The session. */
-    private final Session session;
+    /** The sessions. */
+    private final List<Session> sessions;
 
-    /** The message consumer. */
-    private final MessageConsumer messageConsumer;
+    /** The message consumers. */
+    private final List<MessageConsumer> messageConsumers;
 
     /**
      * Instantiates a new connection artifacts.
@@ -40,17 +42,28 @@ public class ConnectionArtifacts {
      * @param messageConsumer the message consumer
      */
     public ConnectionArtifacts(Connection connection, Session session, MessageConsumer messageConsumer) {
+        this(connection, List.of(session), List.of(messageConsumer));
+    }
+
+    /**
+     * Instantiates a new connection artifacts with multiple concurrent consumers.
+     *
+     * @param connection the connection
+     * @param sessions the sessions
+     * @param messageConsumers the message consumers
+     */
+    public ConnectionArtifacts(Connection connection, List<Session> sessions, List<MessageConsumer> messageConsumers) {
         this.connection = connection;
-        this.session = session;
-        this.messageConsumer = messageConsumer;
+        this.sessions = List.copyOf(sessions);
+        this.messageConsumers = List.copyOf(messageConsumers);
     }
 
     /**
      * Close all.
      */
     public void closeAll() {
-        close(messageConsumer);
-        close(session);
+        messageConsumers.forEach(this::close);
+        sessions.forEach(this::close);
         close(connection);
     }
 
@@ -9,6 +9,7 @@
  */
 package org.eclipse.dirigible.components.listeners.service;
 
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.listeners.domain.ListenerKind;
 import org.springframework.stereotype.Component;
 
@@ -18,6 +19,9 @@ import org.springframework.stereotype.Component;
 @Component
 class ListenerCreator {
 
+    /** The Constant DIRIGIBLE_LISTENER_CONCURRENCY. */
+    private static final String DIRIGIBLE_LISTENER_CONCURRENCY = "DIRIGIBLE_LISTENER_CONCURRENCY";
+
     /** The destination name manager. */
     private final DestinationNameManager destinationNameManager;
 
@@ -40,7 +44,11 @@ class ListenerCreator {
         ListenerType type = fromEntityType(entity.getKind());
 
         String destination = destinationNameManager.toTenantName(entity.getName());
-        return new ListenerDescriptor(type, destination, entity.getHandler());
+        Integer concurrency = entity.getConcurrency();
+        if (null == concurrency) {
+            concurrency = Configuration.getAsInt(DIRIGIBLE_LISTENER_CONCURRENCY, 1);
+        }
+        return new ListenerDescriptor(type, destination, entity.getHandler(), Math.max(1, concurrency));
     }
 
     /**
@@ -25,6 +25,9 @@ class ListenerDescriptor {
     /** The handler path. */
     private final String handlerPath;
 
+    /** The number of the concurrent consumers. */
+    private final int concurrency;
+
     /**
      * Instantiates a new listener descriptor.
      *
@@ -33,9 +36,22 @@ class ListenerDescriptor {
      * @param handlerPath the handler path
      */
     ListenerDescriptor(ListenerType type, String destination, String handlerPath) {
+        this(type, destination, handlerPath, 1);
+    }
+
+    /**
+     * Instantiates a new listener descriptor.
+     *
+     * @param type the type
+     * @param destination the destination
+     * @param handlerPath the handler path
+     * @param concurrency the number of the concurrent consumers
+     */
+    ListenerDescriptor(ListenerType type, String destination, String handlerPath, int concurrency) {
         this.type = type;
         this.destination = destination;
         this.handlerPath = handlerPath;
+        this.concurrency = concurrency;
     }
 
     /**
@@ -65,6 +81,15 @@ class ListenerDescriptor {
         return handlerPath;
     }
 
+    /**
+     * Gets the number of the concurrent consumers. It is not part of the identity of the listener.
+     *
+     * @return the concurrency
+     */
+    int getConcurrency() {
+        return concurrency;
+    }
+
     /**
      * To string.
      *
@@ -72,7 +97,8 @@ class ListenerDescriptor {
      */
     @Override
     public String toString() {
-        return "Listener{" + "type=" + type + ", destination='" + destination + '\'' + ", handlerPath='" + handlerPath + '\'' + '}';
+        return "Listener{" + "type=" + type + ", destination='" + destination + '\'' + ", handlerPath='" + handlerPath + '\''
+                + ", concurrency=" + concurrency + '}';
     }
 
     /**
@@ -20,6 +20,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.IllegalStateException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * The Class BackgroundListenerManager.
@@ -50,6 +52,9 @@ public class ListenerManager {
     /** The connection artifacts. */
     private ConnectionArtifacts connectionArtifacts;
 
+    /** The message listeners of the consumers. */
+    private List<AsynchronousMessageListener> messageListeners;
+
     /**
      * Instantiates a new background listener manager.
      *
@@ -65,7 +70,9 @@ public class ListenerManager {
     }
 
     /**
-     * Start listener.
+     * Start listener. A session with its own consumer and message listener is created for each of the
+     * concurrent consumers of a queue, as the messages of a session are delivered one by one. A topic
+     * has always a single consumer, since each consumer of a topic receives all the messages.
      */
     @SuppressWarnings("resource")
     public synchronized void startListener() {
@@ -75,27 +82,60 @@ public class ListenerManager {
         }
 
         LOGGER.info("Starting a message listener for {} ...", listenerDescriptor);
+        List<Session> sessions = new ArrayList<>();
+        List<MessageConsumer> consumers = new ArrayList<>();
+        List<AsynchronousMessageListener> listeners = new ArrayList<>();
+        Connection connection = null;
         try {
             String handlerPath = listenerDescriptor.getHandlerPath();
             ListenerExceptionHandler exceptionListener = new ListenerExceptionHandler(handlerPath);
 
-            Connection connection = connectionArtifactsFactory.createConnection(exceptionListener);
+            connection = connectionArtifactsFactory.createConnection(exceptionListener);
             Session session = connectionArtifactsFactory.createSession(connection);
+            sessions.add(session);
 
             Destination destination = createDestination(session);
             configureRedeliveryPolicy(connection, destination);
 
-            MessageConsumer consumer = session.createConsumer(destination);
-
-            AsynchronousMessageListener messageListener = asynchronousMessageListenerFactory.create(listenerDescriptor);
-            consumer.setMessageListener(messageListener);
-
-            connectionArtifacts = new ConnectionArtifacts(connection, session, consumer);
+            int concurrency = getConcurrency();
+            for (int i = 0; i < concurrency; i++) {
+                if (i > 0) {
+                    session = connectionArtifactsFactory.createSession(connection);
+                    sessions.add(session);
+                }
+                MessageConsumer consumer = session.createConsumer(destination);
+                consumers.add(consumer);
+
+                AsynchronousMessageListener messageListener = asynchronousMessageListenerFactory.create(listenerDescriptor);
+                listeners.add(messageListener);
+                consumer.setMessageListener(messageListener);
+            }
+
+            connectionArtifacts = new ConnectionArtifacts(connection, sessions, consumers);
+            messageListeners = listeners;
         } catch (JMSException ex) {
+            if (null != connection) {
+                new ConnectionArtifacts(connection, sessions, consumers).closeAll();
+                listeners.forEach(AsynchronousMessageListener::close);
+            }
             throw new IllegalStateException("Failed to start listener for " + listenerDescriptor, ex);
         }
     }
 
+    /**
+     * Gets the number of the concurrent consumers.
+     *
+     * @return the concurrency
+     */
+    private int getConcurrency() {
+        int concurrency = Math.max(1, listenerDescriptor.getConcurrency());
+        if (concurrency > 1 && ListenerType.TOPIC == listenerDescriptor.getType()) {
+            LOGGER.warn("Concurrency [{}] is ignored for topic listener {}", concurrency, listenerDescriptor);
+            return 1;
+        }
+        return concurrency;
+    }
+
     /**
      * Create destination.
      *
@@ -157,6 +197,8 @@ public class ListenerManager {
         LOGGER.info("Stopping message listener for {} ...", listenerDescriptor);
         connectionArtifacts.closeAll();
         connectionArtifacts = null;
+        messageListeners.forEach(AsynchronousMessageListener::close);
+        messageListeners = null;
         LOGGER.info("Stopped message listener for {}", listenerDescriptor);
     }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.listeners.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.dirigible.components.base.metrics.ExecutionMetrics;
+import org.eclipse.dirigible.components.base.metrics.ExecutionMetricsRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * The processing metrics of the message listeners per destination.
+ *
+ * The counters are shared by all the concurrent consumers of a destination and are updated without
+ * locking. The lag of a message is the time between its sending (the JMS timestamp) and the start
+ * of its processing by the handler.
+ */
+@Component
+public class ListenerMetrics extends ExecutionMetricsRegistry<ListenerMetrics.DestinationMetrics> {
+
+    /**
+     * Instantiates a new listener metrics.
+     */
+    public ListenerMetrics() {
+        super(DestinationMetrics::new);
+    }
+
+    /**
+     * Gets the metrics of the destination.
+     *
+     * @param destination the destination
+     * @return the destination metrics
+     */
+    DestinationMetrics getDestinationMetrics(String destination) {
+        return getMetrics(destination);
+    }
+
+    /**
+     * Gets the snapshots of the metrics of all the destinations.
+     *
+     * @return the snapshots
+     */
+    public List<Snapshot> getSnapshots() {
+        return getAllMetrics().stream()
+                              .map(DestinationMetrics::snapshot)
+                              .toList();
+    }
+
+    /**
+     * The metrics of a single destination.
+     */
+    static class DestinationMetrics extends ExecutionMetrics {
+
+        /** The total lag in milliseconds. */
+        private final LongAdder lag = new LongAdder();
+
+        /** The messages with known lag. */
+        private final LongAdder lagged = new LongAdder();
+
+        /** The maximum lag in milliseconds. */
+        private final LongAccumulator maxLag = new LongAccumulator(Math::max, 0);
+
+        /**
+         * Instantiates a new destination metrics.
+         *
+         * @param destination the destination
+         */
+        DestinationMetrics(String destination) {
+            super(destination);
+        }
+
+        /**
+         * Records a processed message.
+         *
+         * @param lagMillis the lag in milliseconds or a negative value, if unknown
+         * @param processingNanos the processing time in nanoseconds
+         * @param success whether the processing succeeded
+         */
+        void record(long lagMillis, long processingNanos, boolean success) {
+            if (lagMillis >= 0) {
+                lag.add(lagMillis);
+                lagged.increment();
+                maxLag.accumulate(lagMillis);
+            }
+            record(processingNanos, success);
+        }
+
+        /**
+         * Creates a snapshot of the metrics.
+         *
+         * @return the snapshot
+         */
+        Snapshot snapshot() {
+            long laggedCount = lagged.sum();
+            return new Snapshot(getName(), getSucceeded(), getFailed(), getThroughput(), getAverageTime(),
+                    laggedCount > 0 ? (double) lag.sum() / laggedCount : 0, maxLag.get(), getLastExecutedAt());
+        }
+    }
+
+    /**
+     * The snapshot of the metrics of a destination.
+     *
+     * @param destination the destination
+     * @param processed the count of the successfully processed messages
+     * @param failed the count of the failed messages
+     * @param throughput the average messages per second since the listener has been started
+     * @param averageProcessingTime the average processing time in milliseconds
+     * @param averageLag the average lag in milliseconds
+     * @param maxLag the maximum lag in milliseconds
+     * @param lastProcessedAt the time of the last processed message
+     */
+    public record Snapshot(String destination, long processed, long failed, double throughput, double averageProcessingTime,
+            double averageLag, long maxLag, long lastProcessedAt) {
+    }
+
+}
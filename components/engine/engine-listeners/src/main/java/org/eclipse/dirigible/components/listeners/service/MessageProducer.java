@@ -9,15 +9,25 @@
  */
 package org.eclipse.dirigible.components.listeners.service;
 
-import jakarta.jms.*;
+import java.util.List;
+
+import org.eclipse.dirigible.components.listeners.service.ProducerSessionPool.PooledSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import jakarta.jms.*;
+
 /**
  * The Class MessageProducer.
+ *
+ * The messages are sent with sessions and producers borrowed from a pool, so concurrent callers do
+ * not share a session and the producers are reused. Persistent messages are sent synchronously.
+ * Non-persistent messages are sent asynchronously by the client, without waiting for the broker to
+ * acknowledge them, and are lost if the broker stops before delivering them. A batch is sent in a
+ * single transaction.
  */
 @Component
 public class MessageProducer {
@@ -25,8 +35,8 @@ public class MessageProducer {
     /** The Constant LOGGER. */
     private static final Logger LOGGER = LoggerFactory.getLogger(MessageProducer.class);
 
-    /** The session. */
-    private final Session session;
+    /** The sessions pool. */
+    private final ProducerSessionPool sessionPool;
 
     /** The destination name manager. */
     private final DestinationNameManager destinationNameManager;
@@ -37,48 +47,50 @@ public class MessageProducer {
     /**
      * Instantiates a new message producer.
      *
-     * @param session the session
+     * @param connection the connection
      * @param destinationNameManager the destination name manager
      * @param tenantPropertyManager the tenant property manager
      */
     @Autowired
-    MessageProducer(@Qualifier("ActiveMQSession") Session session, DestinationNameManager destinationNameManager,
+    MessageProducer(@Qualifier("ActiveMQConnection") Connection connection, DestinationNameManager destinationNameManager,
             TenantPropertyManager tenantPropertyManager) {
-        this.session = session;
+        this.sessionPool = new ProducerSessionPool(connection);
         this.destinationNameManager = destinationNameManager;
         this.tenantPropertyManager = tenantPropertyManager;
     }
 
     /**
-     * Send message to topic.
+     * Send a persistent message to topic.
      *
      * @param topic the topic
      * @param message the message
      * @throws JMSException the JMS exception
      */
     public void sendMessageToTopic(String topic, String message) throws JMSException {
-        String destinationName = destinationNameManager.toTenantName(topic);
-        Destination destination = session.createTopic(destinationName);
-        sendMessage(message, destination);
+        sendMessageToTopic(topic, message, true);
     }
 
     /**
-     * Send message.
+     * Send message to topic.
      *
+     * @param topic the topic
      * @param message the message
-     * @param destination the destination
+     * @param persistent whether the message is persistent, or sent asynchronously otherwise
      * @throws JMSException the JMS exception
      */
-    private void sendMessage(String message, Destination destination) throws JMSException {
-        try (jakarta.jms.MessageProducer producer = session.createProducer(destination)) {
-            producer.setDeliveryMode(DeliveryMode.PERSISTENT);
-
-            TextMessage textMessage = session.createTextMessage(message);
-            tenantPropertyManager.setCurrentTenant(textMessage);
+    public void sendMessageToTopic(String topic, String message, boolean persistent) throws JMSException {
+        sendMessages(ListenerType.TOPIC, topic, List.of(message), persistent, false);
+    }
 
-            producer.send(textMessage);
-            LOGGER.trace("Message sent in [{}]", destination);
-        }
+    /**
+     * Send a persistent message to queue.
+     *
+     * @param queue the queue
+     * @param message the message
+     * @throws JMSException the JMS exception
+     */
+    public void sendMessageToQueue(String queue, String message) throws JMSException {
+        sendMessageToQueue(queue, message, true);
     }
 
     /**
@@ -86,12 +98,92 @@ public class MessageProducer {
      *
      * @param queue the queue
      * @param message the message
+     * @param persistent whether the message is persistent, or sent asynchronously otherwise
      * @throws JMSException the JMS exception
      */
-    public void sendMessageToQueue(String queue, String message) throws JMSException {
-        String destinationName = destinationNameManager.toTenantName(queue);
-        Destination destination = session.createQueue(destinationName);
-        sendMessage(message, destination);
+    public void sendMessageToQueue(String queue, String message, boolean persistent) throws JMSException {
+        sendMessages(ListenerType.QUEUE, queue, List.of(message), persistent, false);
+    }
+
+    /**
+     * Send the messages to topic in a single transaction.
+     *
+     * @param topic the topic
+     * @param messages the messages
+     * @param persistent whether the messages are persistent
+     * @throws JMSException the JMS exception
+     */
+    public void sendMessagesToTopic(String topic, List<String> messages, boolean persistent) throws JMSException {
+        sendMessages(ListenerType.TOPIC, topic, messages, persistent, true);
+    }
+
+    /**
+     * Send the messages to queue in a single transaction.
+     *
+     * @param queue the queue
+     * @param messages the messages
+     * @param persistent whether the messages are persistent
+     * @throws JMSException the JMS exception
+     */
+    public void sendMessagesToQueue(String queue, List<String> messages, boolean persistent) throws JMSException {
+        sendMessages(ListenerType.QUEUE, queue, messages, persistent, true);
+    }
+
+    /**
+     * Send messages.
+     *
+     * @param type the type of the destination
+     * @param name the name of the destination
+     * @param messages the messages
+     * @param persistent the persistent
+     * @param transacted whether to send the messages in a transaction
+     * @throws JMSException the JMS exception
+     */
+    private void sendMessages(ListenerType type, String name, List<String> messages, boolean persistent, boolean transacted)
+            throws JMSException {
+        if (messages.isEmpty()) {
+            return;
+        }
+        String destinationName = destinationNameManager.toTenantName(name);
+        PooledSession pooled = sessionPool.borrow(transacted);
+        try {
+            Session session = pooled.getSession();
+            jakarta.jms.MessageProducer producer = pooled.getProducer(type, destinationName);
+            producer.setDeliveryMode(persistent ? DeliveryMode.PERSISTENT : DeliveryMode.NON_PERSISTENT);
+            for (String message : messages) {
+                TextMessage textMessage = session.createTextMessage(message);
+                tenantPropertyManager.setCurrentTenant(textMessage);
+
+                producer.send(textMessage);
+            }
+            if (transacted) {
+                session.commit();
+            }
+            LOGGER.trace("[{}] message(s) sent in [{}]", messages.size(), destinationName);
+        } catch (JMSException | RuntimeException ex) {
+            rollback(pooled, transacted);
+            sessionPool.discard(pooled);
+            throw ex;
+        }
+        sessionPool.release(pooled);
+    }
+
+    /**
+     * Rolls back the transaction of the session, if any.
+     *
+     * @param pooled the pooled session
+     * @param transacted the transacted
+     */
+    private void rollback(PooledSession pooled, boolean transacted) {
+        if (!transacted) {
+            return;
+        }
+        try {
+            pooled.getSession()
+                  .rollback();
+        } catch (JMSException | RuntimeException ex) {
+            LOGGER.warn("Failed to rollback the messages batch", ex);
+        }
     }
 
 }
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.listeners.service;
+
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.jms.Connection;
+import jakarta.jms.Destination;
+import jakarta.jms.JMSException;
+import jakarta.jms.Session;
+
+/**
+ * Pool of the sessions used for sending messages.
+ *
+ * JMS sessions and producers must not be used by more than one thread at a time, so every send
+ * borrows a session for exclusive use and returns it afterwards. A pooled session keeps its
+ * producers per destination, so they are created once and not for every message. Transacted
+ * sessions, used for sending batches, are pooled separately. A session, which failed to send, is
+ * closed instead of being returned to the pool.
+ */
+class ProducerSessionPool {
+
+    /** The Constant LOGGER. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProducerSessionPool.class);
+
+    /** The Constant DIRIGIBLE_MESSAGING_PRODUCER_POOL_MAX_IDLE. */
+    private static final String DIRIGIBLE_MESSAGING_PRODUCER_POOL_MAX_IDLE = "DIRIGIBLE_MESSAGING_PRODUCER_POOL_MAX_IDLE";
+
+    /** The Constant DIRIGIBLE_MESSAGING_PRODUCER_MAX_DESTINATIONS. */
+    private static final String DIRIGIBLE_MESSAGING_PRODUCER_MAX_DESTINATIONS = "DIRIGIBLE_MESSAGING_PRODUCER_MAX_DESTINATIONS";
+
+    /** The connection. */
+    private final Connection connection;
+
+    /** The idle non-transacted sessions. */
+    private final Deque<PooledSession> idleSessions = new ConcurrentLinkedDeque<>();
+
+    /** The idle transacted sessions. */
+    private final Deque<PooledSession> idleTransactedSessions = new ConcurrentLinkedDeque<>();
+
+    /** The count of the idle sessions. */
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    /**
+     * Instantiates a new producer session pool.
+     *
+     * @param connection the connection
+     */
+    ProducerSessionPool(Connection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Borrows a session.
+     *
+     * @param transacted whether the session has to be transacted
+     * @return the pooled session
+     * @throws JMSException the JMS exception
+     */
+    PooledSession borrow(boolean transacted) throws JMSException {
+        PooledSession pooled = (transacted ? idleTransactedSessions : idleSessions).pollFirst();
+        if (pooled != null) {
+            idleCount.decrementAndGet();
+            return pooled;
+        }
+        Session session = transacted ? connection.createSession(true, Session.SESSION_TRANSACTED)
+                : connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+        return new PooledSession(session, transacted);
+    }
+
+    /**
+     * Returns the session to the pool or closes it, if the pool is full.
+     *
+     * @param pooled the pooled session
+     */
+    void release(PooledSession pooled) {
+        if (idleCount.incrementAndGet() > Configuration.getAsInt(DIRIGIBLE_MESSAGING_PRODUCER_POOL_MAX_IDLE, 16)) {
+            idleCount.decrementAndGet();
+            pooled.close();
+            return;
+        }
+        (pooled.transacted ? idleTransactedSessions : idleSessions).offerFirst(pooled);
+    }
+
+    /**
+     * Closes the session, e.g. after a failed send.
+     *
+     * @param pooled the pooled session
+     */
+    void discard(PooledSession pooled) {
+        pooled.close();
+    }
+
+    /**
+     * The session with its producers per destination.
+     */
+    static class PooledSession {
+
+        /** The session. */
+        private final Session session;
+
+        /** Whether the session is transacted. */
+        private final boolean transacted;
+
+        /** The producers by destination, the least recently used first. */
+        private final Map<String, jakarta.jms.MessageProducer> producers = new LinkedHashMap<>(16, 0.75f, true);
+
+        /**
+         * Instantiates a new pooled session.
+         *
+         * @param session the session
+         * @param transacted the transacted
+         */
+        PooledSession(Session session, boolean transacted) {
+            this.session = session;
+            this.transacted = transacted;
+        }
+
+        /**
+         * Gets the session.
+         *
+         * @return the session
+         */
+        Session getSession() {
+            return session;
+        }
+
+        /**
+         * Gets the producer for the destination, creating it on first use.
+         *
+         * @param type the type of the destination
+         * @param name the name of the destination
+         * @return the producer
+         * @throws JMSException the JMS exception
+         */
+        jakarta.jms.MessageProducer getProducer(ListenerType type, String name) throws JMSException {
+            String key = type + ":" + name;
+            jakarta.jms.MessageProducer producer = producers.get(key);
+            if (producer == null) {
+                Destination destination = type == ListenerType.QUEUE ? session.createQueue(name) : session.createTopic(name);
+                producer = session.createProducer(destination);
+                producers.put(key, producer);
+                evictProducers();
+            }
+            return producer;
+        }
+
+        /**
+         * Closes the least recently used producers above the limit.
+         */
+        private void evictProducers() {
+            int maxDestinations = Configuration.getAsInt(DIRIGIBLE_MESSAGING_PRODUCER_MAX_DESTINATIONS, 32);
+            Iterator<jakarta.jms.MessageProducer> iterator = producers.values()
+                                                                      .iterator();
+            while (producers.size() > maxDestinations && iterator.hasNext()) {
+                jakarta.jms.MessageProducer producer = iterator.next();
+                iterator.remove();
+                try {
+                    producer.close();
+                } catch (JMSException ex) {
+                    LOGGER.warn("Failed to close producer [{}]", producer, ex);
+                }
+            }
+        }
+
+        /**
+         * Closes the session together with its producers.
+         */
+        private void close() {
+            producers.clear();
+            try {
+                session.close();
+            } catch (JMSException ex) {
+                LOGGER.warn("Failed to close session [{}]", session, ex);
+            }
+        }
+    }
+
+}
@@ -9,9 +9,11 @@
  */
 package org.eclipse.dirigible.components.listeners.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -40,6 +42,9 @@ class AsynchronousMessageListenerTest {
     /** The Constant HANDLER. */
     private static final String HANDLER = "test-handler";
 
+    /** The Constant DESTINATION. */
+    private static final String DESTINATION = "test-queue";
+
     /** The Constant TENANT_ID. */
     private static final String TENANT_ID = "1e7252b1-3bca-4285-bd4e-60e19886d063";
 
@@ -70,12 +75,18 @@ class AsynchronousMessageListenerTest {
     @Mock
     private TenantPropertyManager tenantPropertyManager;
 
+    /** The listener metrics. */
+    private ListenerMetrics listenerMetrics;
+
     /**
      * Sets the up.
      */
     @BeforeEach
     void setUp() {
-        asyncMessageListener = spy(new AsynchronousMessageListener(listenerDescriptor, tenantPropertyManager, new TestTenantContext()));
+        when(listenerDescriptor.getDestination()).thenReturn(DESTINATION);
+        listenerMetrics = new ListenerMetrics();
+        asyncMessageListener =
+                spy(new AsynchronousMessageListener(listenerDescriptor, tenantPropertyManager, new TestTenantContext(), listenerMetrics));
     }
 
     /**
@@ -97,6 +108,66 @@ class AsynchronousMessageListenerTest {
         verify(jsCodeRunner).runMethod(module, "onMessage", MESSAGE);
     }
 
+    /**
+     * Test on message reuses the loaded handler module.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testOnMessageReusesHandlerModule() throws JMSException {
+        when(tenantPropertyManager.getCurrentTenantId(textMessage)).thenReturn(TENANT_ID);
+        doReturn(jsCodeRunner).when(asyncMessageListener)
+                              .createJSCodeRunner();
+        when(listenerDescriptor.getHandlerPath()).thenReturn(HANDLER);
+        when(textMessage.getText()).thenReturn(MESSAGE);
+        when(jsCodeRunner.run(HANDLER)).thenReturn(module);
+
+        asyncMessageListener.onMessage(textMessage);
+        asyncMessageListener.onMessage(textMessage);
+
+        verify(asyncMessageListener).createJSCodeRunner();
+        verify(jsCodeRunner).run(HANDLER);
+        verify(jsCodeRunner, times(2)).runMethod(module, "onMessage", MESSAGE);
+
+        asyncMessageListener.close();
+
+        verify(jsCodeRunner).close();
+        assertThat(listenerMetrics.getSnapshots()).singleElement()
+                                                  .satisfies(snapshot -> {
+                                                      assertThat(snapshot.destination()).isEqualTo(DESTINATION);
+                                                      assertThat(snapshot.processed()).isEqualTo(2);
+                                                      assertThat(snapshot.failed()).isZero();
+                                                  });
+    }
+
+    /**
+     * Test on message recreates the runtime after a failed message.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testOnMessageRecreatesRuntimeAfterFailure() throws JMSException {
+        when(tenantPropertyManager.getCurrentTenantId(textMessage)).thenReturn(TENANT_ID);
+        doReturn(jsCodeRunner).when(asyncMessageListener)
+                              .createJSCodeRunner();
+        when(listenerDescriptor.getHandlerPath()).thenReturn(HANDLER);
+        when(textMessage.getText()).thenReturn(MESSAGE);
+        when(jsCodeRunner.run(HANDLER)).thenReturn(module);
+        when(jsCodeRunner.runMethod(module, "onMessage", MESSAGE)).thenThrow(RuntimeException.class)
+                                                                  .thenReturn(null);
+
+        assertThrows(IllegalStateException.class, () -> asyncMessageListener.onMessage(textMessage));
+        asyncMessageListener.onMessage(textMessage);
+
+        verify(jsCodeRunner, times(2)).run(HANDLER);
+        verify(jsCodeRunner).close();
+        assertThat(listenerMetrics.getSnapshots()).singleElement()
+                                                  .satisfies(snapshot -> {
+                                                      assertThat(snapshot.processed()).isEqualTo(1);
+                                                      assertThat(snapshot.failed()).isEqualTo(1);
+                                                  });
+    }
+
     /**
      * Test on message failed to extract message.
      *
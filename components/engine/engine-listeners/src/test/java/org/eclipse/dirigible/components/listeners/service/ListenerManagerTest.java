@@ -145,6 +145,36 @@ class ListenerManagerTest {
         verify(connectionArtifactsFactory).createSession(connection);
     }
 
+    /**
+     * Test start listener for queue with concurrent consumers.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testStartListenerForQueueWithConcurrency() throws JMSException {
+        mockConnectionAndSession();
+        when(listenerDescriptor.getType()).thenReturn(ListenerType.QUEUE);
+        when(listenerDescriptor.getDestination()).thenReturn(QUEUE);
+        when(listenerDescriptor.getConcurrency()).thenReturn(3);
+
+        when(session.createQueue(QUEUE)).thenReturn(queue);
+        when(session.createConsumer(queue)).thenReturn(consumer);
+
+        manager.startListener();
+
+        verify(connectionArtifactsFactory).createConnection(any(ExceptionListener.class));
+        verify(connectionArtifactsFactory, times(3)).createSession(connection);
+        verify(session, times(3)).createConsumer(queue);
+        verify(consumer, times(3)).setMessageListener(asynchronousMessageListener);
+
+        manager.stopListener();
+
+        verify(consumer, times(3)).close();
+        verify(session, times(3)).close();
+        verify(connection).close();
+        verify(asynchronousMessageListener, times(3)).close();
+    }
+
     /**
      * Mock connection and session.
      *
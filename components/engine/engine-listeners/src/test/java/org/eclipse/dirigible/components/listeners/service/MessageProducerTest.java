@@ -16,9 +16,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+
 /**
  * The Class MessageProducerTest.
  */
@@ -44,6 +50,9 @@ class MessageProducerTest {
     /** The producer. */
     @InjectMocks
     private MessageProducer producer;
+    /** The connection. */
+    @Mock
+    private Connection connection;
     /** The session. */
     @Mock
     private Session session;
@@ -75,6 +84,7 @@ class MessageProducerTest {
      */
     @Test
     void testSendMessageToTopic() throws JMSException {
+        when(connection.createSession(false, Session.AUTO_ACKNOWLEDGE)).thenReturn(session);
         when(destinationNameManager.toTenantName(TOPIC)).thenReturn(TENANT_TOPIC);
         when(session.createTopic(TENANT_TOPIC)).thenReturn(topic);
         when(session.createProducer(topic)).thenReturn(jsmProducer);
@@ -93,6 +103,7 @@ class MessageProducerTest {
      */
     @Test
     void testSendMessageToQueue() throws JMSException {
+        when(connection.createSession(false, Session.AUTO_ACKNOWLEDGE)).thenReturn(session);
         when(destinationNameManager.toTenantName(QUEUE)).thenReturn(TENANT_QUEUE);
         when(session.createQueue(TENANT_QUEUE)).thenReturn(queue);
         when(session.createProducer(queue)).thenReturn(jsmProducer);
@@ -104,4 +115,69 @@ class MessageProducerTest {
         verify(tenantPropertyManager).setCurrentTenant(txtMessage);
     }
 
+    /**
+     * Test the session and the producer are reused.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testSendMessagesReusesSessionAndProducer() throws JMSException {
+        when(connection.createSession(false, Session.AUTO_ACKNOWLEDGE)).thenReturn(session);
+        when(destinationNameManager.toTenantName(QUEUE)).thenReturn(TENANT_QUEUE);
+        when(session.createQueue(TENANT_QUEUE)).thenReturn(queue);
+        when(session.createProducer(queue)).thenReturn(jsmProducer);
+        when(session.createTextMessage(MESSAGE)).thenReturn(txtMessage);
+
+        producer.sendMessageToQueue(QUEUE, MESSAGE);
+        producer.sendMessageToQueue(QUEUE, MESSAGE, false);
+
+        verify(connection).createSession(false, Session.AUTO_ACKNOWLEDGE);
+        verify(session).createProducer(queue);
+        verify(jsmProducer).setDeliveryMode(DeliveryMode.PERSISTENT);
+        verify(jsmProducer).setDeliveryMode(DeliveryMode.NON_PERSISTENT);
+        verify(jsmProducer, times(2)).send(txtMessage);
+        verify(jsmProducer, never()).close();
+    }
+
+    /**
+     * Test send messages batch to queue.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testSendMessagesToQueue() throws JMSException {
+        when(connection.createSession(true, Session.SESSION_TRANSACTED)).thenReturn(session);
+        when(destinationNameManager.toTenantName(QUEUE)).thenReturn(TENANT_QUEUE);
+        when(session.createQueue(TENANT_QUEUE)).thenReturn(queue);
+        when(session.createProducer(queue)).thenReturn(jsmProducer);
+        when(session.createTextMessage(MESSAGE)).thenReturn(txtMessage);
+
+        producer.sendMessagesToQueue(QUEUE, List.of(MESSAGE, MESSAGE, MESSAGE), true);
+
+        verify(jsmProducer, times(3)).send(txtMessage);
+        verify(session).commit();
+    }
+
+    /**
+     * Test failed batch is rolled back and its session is closed.
+     *
+     * @throws JMSException the JMS exception
+     */
+    @Test
+    void testSendMessagesToTopicRollbackOnError() throws JMSException {
+        when(connection.createSession(true, Session.SESSION_TRANSACTED)).thenReturn(session);
+        when(destinationNameManager.toTenantName(TOPIC)).thenReturn(TENANT_TOPIC);
+        when(session.createTopic(TENANT_TOPIC)).thenReturn(topic);
+        when(session.createProducer(topic)).thenReturn(jsmProducer);
+        when(session.createTextMessage(MESSAGE)).thenReturn(txtMessage);
+        doThrow(JMSException.class).when(jsmProducer)
+                                   .send(txtMessage);
+
+        assertThrows(JMSException.class, () -> producer.sendMessagesToTopic(TOPIC, List.of(MESSAGE, MESSAGE), true));
+
+        verify(session, never()).commit();
+        verify(session).rollback();
+        verify(session).close();
+    }
+
 }
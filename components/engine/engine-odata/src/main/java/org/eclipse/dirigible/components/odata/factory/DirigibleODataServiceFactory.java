@@ -10,13 +10,11 @@
 package org.eclipse.dirigible.components.odata.factory;
 
 import static org.eclipse.dirigible.engine.odata2.sql.processor.DefaultSQLProcessor.DEFAULT_DATA_SOURCE_CONTEXT_KEY;
-import java.io.InputStream;
 import java.util.ServiceLoader;
 import javax.sql.DataSource;
 import org.apache.olingo.odata2.api.ODataCallback;
 import org.apache.olingo.odata2.api.ODataService;
 import org.apache.olingo.odata2.api.ODataServiceFactory;
-import org.apache.olingo.odata2.api.edm.provider.EdmProvider;
 import org.apache.olingo.odata2.api.ep.EntityProvider;
 import org.apache.olingo.odata2.api.exception.ODataApplicationException;
 import org.apache.olingo.odata2.api.exception.ODataException;
@@ -24,11 +22,9 @@ import org.apache.olingo.odata2.api.processor.ODataContext;
 import org.apache.olingo.odata2.api.processor.ODataErrorCallback;
 import org.apache.olingo.odata2.api.processor.ODataErrorContext;
 import org.apache.olingo.odata2.api.processor.ODataResponse;
-import org.apache.olingo.odata2.core.edm.provider.EdmxProvider;
 import org.eclipse.dirigible.commons.api.context.InvalidStateException;
 import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.data.sources.manager.DataSourcesManager;
-import org.eclipse.dirigible.components.odata.service.ODataMetadataService;
 import org.eclipse.dirigible.engine.odata2.sql.api.OData2EventHandler;
 import org.eclipse.dirigible.engine.odata2.sql.processor.DefaultSQLProcessor;
 import org.slf4j.Logger;
@@ -48,8 +44,8 @@ public class DirigibleODataServiceFactory extends ODataServiceFactory {
     /** The data sources manager. */
     private static DataSourcesManager dataSourcesManager;
 
-    /** The odata metadata service. */
-    private static ODataMetadataService odataMetadataService;
+    /** The odata model cache. */
+    private static ODataModelCache odataModelCache;
 
     /**
      * Instantiates a new dirigible O data service factory.
@@ -62,12 +58,12 @@ public class DirigibleODataServiceFactory extends ODataServiceFactory {
      * Instantiates a new dirigible O data service factory.
      *
      * @param dataSourcesManager the data sources manager
-     * @param odataMetadataService the odata metadata service
+     * @param odataModelCache the odata model cache
      */
     @Autowired
-    public DirigibleODataServiceFactory(DataSourcesManager dataSourcesManager, ODataMetadataService odataMetadataService) {
+    public DirigibleODataServiceFactory(DataSourcesManager dataSourcesManager, ODataModelCache odataModelCache) {
         DirigibleODataServiceFactory.dataSourcesManager = dataSourcesManager;
-        DirigibleODataServiceFactory.odataMetadataService = odataMetadataService;
+        DirigibleODataServiceFactory.odataModelCache = odataModelCache;
     }
 
     /**
@@ -77,7 +73,8 @@ public class DirigibleODataServiceFactory extends ODataServiceFactory {
      * @throws ODataException the o data exception
      */
     public ODataEdmTableMappingProvider getEdmTableMappingProvider() throws ODataException {
-        return new ODataEdmTableMappingProvider();
+        return odataModelCache.getModel()
+                              .tableMappingProvider();
     }
 
     /**
@@ -90,15 +87,13 @@ public class DirigibleODataServiceFactory extends ODataServiceFactory {
     @Override
     public ODataService createService(ODataContext ctx) throws ODataException {
         try {
-            EdmProvider edmProvider = new EdmxProvider();
-            InputStream metadata = odataMetadataService.getMetadata();
-            ((EdmxProvider) edmProvider).parse(metadata, false);
+            ODataModelCache.ODataModel model = odataModelCache.getModel();
 
             setDefaultDataSource(ctx);
 
-            DefaultSQLProcessor singleProcessor = new DefaultSQLProcessor(getEdmTableMappingProvider(), getEventHandler());
+            DefaultSQLProcessor singleProcessor = new DefaultSQLProcessor(model.tableMappingProvider(), getEventHandler());
 
-            return createODataSingleProcessorService(edmProvider, singleProcessor);
+            return createODataSingleProcessorService(model.edmProvider(), singleProcessor);
         } catch (ODataException e) {
             if (logger.isErrorEnabled()) {
                 logger.error(e.getMessage(), e);
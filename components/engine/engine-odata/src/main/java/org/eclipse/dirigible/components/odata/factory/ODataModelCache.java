@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.odata.factory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.olingo.odata2.api.edm.provider.EdmProvider;
+import org.apache.olingo.odata2.api.exception.ODataException;
+import org.apache.olingo.odata2.core.edm.provider.EdmxProvider;
+import org.eclipse.dirigible.components.odata.service.ODataMetadataService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the parsed OData model - the EDM provider and the table bindings of all the published OData
+ * definitions.
+ *
+ * The model is an immutable snapshot, which is shared by all the OData requests. The
+ * {@link org.eclipse.dirigible.components.odata.synchronizer.ODataSynchronizer} invalidates it on
+ * every change of the OData schemas, containers and mappings, and the snapshot is rebuilt once by
+ * the first request after the change and swapped atomically.
+ *
+ * The version is held in memory, so the invalidation is local to this node. In a cluster sharing
+ * the database, the synchronizer of the node, which processed the changed OData definitions,
+ * invalidates only its own model. The other nodes find the definitions already processed and keep
+ * serving their stale model until they are restarted.
+ */
+@Component
+public class ODataModelCache {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(ODataModelCache.class);
+
+    /** The odata metadata service. */
+    private final ODataMetadataService odataMetadataService;
+
+    /** The version, incremented on each invalidation. */
+    private final AtomicLong version = new AtomicLong();
+
+    /** The current snapshot. */
+    private volatile ODataModel model;
+
+    /**
+     * Instantiates a new OData model cache.
+     *
+     * @param odataMetadataService the odata metadata service
+     */
+    ODataModelCache(ODataMetadataService odataMetadataService) {
+        this.odataMetadataService = odataMetadataService;
+    }
+
+    /**
+     * Gets the current model, building it if it has been invalidated.
+     *
+     * @return the model
+     * @throws ODataException the o data exception
+     */
+    public ODataModel getModel() throws ODataException {
+        ODataModel current = model;
+        if (current != null && current.version() == version.get()) {
+            return current;
+        }
+        synchronized (this) {
+            long currentVersion = version.get();
+            current = model;
+            if (current != null && current.version() == currentVersion) {
+                return current;
+            }
+            long start = System.currentTimeMillis();
+            EdmxProvider edmProvider = new EdmxProvider();
+            try (InputStream metadata = odataMetadataService.getMetadata()) {
+                edmProvider.parse(metadata, false);
+            } catch (IOException e) {
+                throw new ODataException(e);
+            }
+            ODataEdmTableMappingProvider tableMappingProvider = new ODataEdmTableMappingProvider();
+            current = new ODataModel(currentVersion, edmProvider, tableMappingProvider);
+            model = current;
+            logger.debug("OData model version [{}] has been built for [{}] ms", currentVersion, System.currentTimeMillis() - start);
+            return current;
+        }
+    }
+
+    /**
+     * Invalidates the model, e.g. after the OData definitions have been changed. The invalidation
+     * affects this node only.
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    /**
+     * The immutable snapshot of the OData model.
+     *
+     * @param version the version
+     * @param edmProvider the EDM provider
+     * @param tableMappingProvider the table mapping provider
+     */
+    public record ODataModel(long version, EdmProvider edmProvider, ODataEdmTableMappingProvider tableMappingProvider) {
+    }
+
+}
@@ -20,6 +20,7 @@ import org.eclipse.dirigible.components.base.synchronizer.BaseSynchronizer;
 import org.eclipse.dirigible.components.base.synchronizer.SynchronizerCallback;
 import org.eclipse.dirigible.components.base.synchronizer.SynchronizersOrder;
 import org.eclipse.dirigible.components.odata.domain.*;
+import org.eclipse.dirigible.components.odata.factory.ODataModelCache;
 import org.eclipse.dirigible.components.odata.service.*;
 import org.eclipse.dirigible.components.odata.transformers.DefaultTableMetadataProvider;
 import org.eclipse.dirigible.components.odata.transformers.OData2ODataHTransformer;
@@ -71,6 +72,9 @@ public class ODataSynchronizer extends BaseSynchronizer<OData, Long> {
     /** The OData schema service. */
     @Autowired
     private ODataSchemaService odataSchemaService;
+    /** The OData model cache. */
+    @Autowired
+    private ODataModelCache odataModelCache;
 
     /**
      * Parses the O data.
@@ -275,6 +279,7 @@ public class ODataSynchronizer extends BaseSynchronizer<OData, Long> {
                     odatah.getNamespace(), odatah.getMethod(), odatah.getKind(), odatah.getHandler());
             odataHandlerService.save(odataHandler);
         }
+        odataModelCache.invalidate();
     }
 
     /**
@@ -288,6 +293,7 @@ public class ODataSynchronizer extends BaseSynchronizer<OData, Long> {
         odataContainerService.removeContainer(odata.getLocation());
         odataMappingService.removeMappings(odata.getLocation());
         odataHandlerService.removeHandlers(odata.getLocation());
+        odataModelCache.invalidate();
     }
 
     /**
@@ -335,6 +341,7 @@ public class ODataSynchronizer extends BaseSynchronizer<OData, Long> {
             odataContainerService.removeContainer(odata.getLocation());
             odataMappingService.removeMappings(odata.getLocation());
             odataHandlerService.removeHandlers(odata.getLocation());
+            odataModelCache.invalidate();
             getService().delete(odata);
         } catch (Exception e) {
             callback.addError(e.getMessage());
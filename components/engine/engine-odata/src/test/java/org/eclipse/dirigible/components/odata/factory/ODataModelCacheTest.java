@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.odata.factory;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.olingo.odata2.api.edm.FullQualifiedName;
+import org.eclipse.dirigible.components.odata.factory.ODataModelCache.ODataModel;
+import org.eclipse.dirigible.components.odata.service.ODataMappingService;
+import org.eclipse.dirigible.components.odata.service.ODataMetadataService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Tests the reuse and the invalidation of the OData model snapshot.
+ */
+@ExtendWith(MockitoExtension.class)
+public class ODataModelCacheTest {
+
+    /** The Constant NAMESPACE. */
+    private static final String NAMESPACE = "org.eclipse.dirigible.test";
+
+    /** The odata metadata service. */
+    @Mock
+    private ODataMetadataService odataMetadataService;
+
+    /** The odata mapping service. */
+    @Mock
+    private ODataMappingService odataMappingService;
+
+    /** The name of the entity type in the current metadata. */
+    private final AtomicReference<String> entityType = new AtomicReference<>("Car");
+
+    /** The cache. */
+    private ODataModelCache cache;
+
+    /**
+     * Sets the up.
+     *
+     * @throws Exception the exception
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+        // the table bindings are loaded through the static instance of the mapping service
+        doCallRealMethod().when(odataMappingService)
+                          .afterPropertiesSet();
+        odataMappingService.afterPropertiesSet();
+        lenient().when(odataMappingService.getAll())
+                 .thenReturn(List.of());
+        lenient().when(odataMetadataService.getMetadata())
+                 .thenAnswer(invocation -> getMetadata(entityType.get()));
+        cache = new ODataModelCache(odataMetadataService);
+    }
+
+    /**
+     * Test the snapshot is built once and shared by the subsequent requests.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testSnapshotReuse() throws Exception {
+        ODataModel model = cache.getModel();
+        assertNotNull(getEntityType(model, "Car"));
+
+        assertSame(model, cache.getModel());
+        assertSame(model, cache.getModel());
+        verify(odataMetadataService, times(1)).getMetadata();
+    }
+
+    /**
+     * Test the snapshot is rebuilt once by the first request after an invalidation.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testRebuildAfterInvalidate() throws Exception {
+        ODataModel model = cache.getModel();
+        entityType.set("Bus");
+        assertSame(model, cache.getModel());
+
+        cache.invalidate();
+        ODataModel rebuilt = cache.getModel();
+
+        assertNotSame(model, rebuilt);
+        assertTrue(rebuilt.version() > model.version());
+        assertNull(getEntityType(rebuilt, "Car"));
+        assertNotNull(getEntityType(rebuilt, "Bus"));
+        assertSame(rebuilt, cache.getModel());
+        verify(odataMetadataService, times(2)).getMetadata();
+    }
+
+    /**
+     * Test an invalidation during a rebuild is not lost, i.e. the snapshot built from the metadata
+     * read before the invalidation is not reused by the subsequent requests.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testInvalidateDuringRebuild() throws Exception {
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+        // the first rebuild reads the metadata and waits for the invalidation before parsing it
+        when(odataMetadataService.getMetadata()).thenAnswer(invocation -> {
+            ByteArrayInputStream metadata = getMetadata(entityType.get());
+            reading.countDown();
+            invalidated.await(10, TimeUnit.SECONDS);
+            return metadata;
+        })
+                                                .thenAnswer(invocation -> getMetadata(entityType.get()));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<ODataModel> building = executor.submit(() -> cache.getModel());
+            assertTrue(reading.await(10, TimeUnit.SECONDS));
+            entityType.set("Bus");
+            cache.invalidate();
+            invalidated.countDown();
+
+            ODataModel stale = building.get(10, TimeUnit.SECONDS);
+            assertNotNull(getEntityType(stale, "Car"));
+
+            ODataModel current = cache.getModel();
+            assertNotSame(stale, current);
+            assertNull(getEntityType(current, "Car"));
+            assertNotNull(getEntityType(current, "Bus"));
+            assertSame(current, cache.getModel());
+            verify(odataMetadataService, times(2)).getMetadata();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Gets the entity type from the model.
+     *
+     * @param model the model
+     * @param name the name
+     * @return the entity type or null if the model does not have it
+     * @throws Exception the exception
+     */
+    private static Object getEntityType(ODataModel model, String name) throws Exception {
+        return model.edmProvider()
+                    .getEntityType(new FullQualifiedName(NAMESPACE, name));
+    }
+
+    /**
+     * Gets the metadata with a single entity type.
+     *
+     * @param entityType the entity type
+     * @return the metadata
+     */
+    private static ByteArrayInputStream getMetadata(String entityType) {
+        String metadata = "<?xml version='1.0' encoding='UTF-8'?>\n"
+                + "<edmx:Edmx xmlns:edmx=\"http://schemas.microsoft.com/ado/2007/06/edmx\" Version=\"1.0\">\n"
+                + "  <edmx:DataServices m:DataServiceVersion=\"1.0\" xmlns:m=\"http://schemas.microsoft.com/ado/2007/08/dataservices/metadata\">\n"
+                + "    <Schema Namespace=\"" + NAMESPACE + "\" xmlns=\"http://schemas.microsoft.com/ado/2008/09/edm\">\n"
+                + "      <EntityType Name=\"" + entityType + "\">\n" + "        <Key><PropertyRef Name=\"Id\"/></Key>\n"
+                + "        <Property Name=\"Id\" Type=\"Edm.Int32\" Nullable=\"false\"/>\n" + "      </EntityType>\n"
+                + "    </Schema>\n" + "  </edmx:DataServices>\n" + "</edmx:Edmx>\n";
+        return new ByteArrayInputStream(metadata.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
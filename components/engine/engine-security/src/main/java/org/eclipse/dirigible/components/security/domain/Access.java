@@ -11,12 +11,14 @@ package org.eclipse.dirigible.components.security.domain;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 
 import org.eclipse.dirigible.components.base.artefact.Artefact;
+import org.eclipse.dirigible.components.security.verifier.AccessChangeListener;
 
 import com.google.gson.annotations.Expose;
 
@@ -25,6 +27,7 @@ import com.google.gson.annotations.Expose;
  */
 
 @Entity
+@EntityListeners(AccessChangeListener.class)
 @Table(name = "DIRIGIBLE_SECURITY_ACCESS")
 public class Access extends Artefact {
 
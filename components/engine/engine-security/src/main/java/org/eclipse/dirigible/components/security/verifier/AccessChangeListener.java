@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.security.verifier;
+
+import org.eclipse.dirigible.components.security.domain.Access;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+
+/**
+ * Invalidates the index of the {@link AccessVerifier} on every change of an {@link Access}.
+ *
+ * The index is invalidated both before and after the change is flushed, so that the change is
+ * visible within the same transaction, and once again after the transaction completion, so that an
+ * index built by a concurrent lookup before the commit is not kept.
+ */
+public class AccessChangeListener {
+
+    /**
+     * On change.
+     *
+     * @param access the access
+     */
+    @PrePersist
+    @PreRemove
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Access access) {
+        AccessVerifier.invalidate();
+        // registered once per transaction
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && !TransactionSynchronizationManager.hasResource(AccessChangeListener.class)) {
+            TransactionSynchronizationManager.bindResource(AccessChangeListener.class, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(AccessChangeListener.class);
+                    AccessVerifier.invalidate();
+                }
+            });
+        }
+    }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.security.verifier;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.dirigible.components.security.domain.Access;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * Immutable index of the security accesses by scope, method and path.
+ *
+ * The paths of the accesses are compiled into a trie of their leading literal segments. An access
+ * with a plain path is registered as exact at the node of its last segment, an access ending with
+ * "/**" is registered as prefix and any other pattern is registered as wildcard at the node of its
+ * last literal segment. A lookup walks the trie along the segments of the requested path and
+ * matches only the accesses registered on the way, so its cost depends on the depth of the path and
+ * not on the number of the accesses.
+ */
+final class AccessIndex {
+
+    /** The Constant ANY_METHOD. */
+    private static final String ANY_METHOD = "*";
+
+    /** The Constant SEPARATOR. */
+    private static final String SEPARATOR = "/";
+
+    /** The Constant PREFIX_SUFFIX. */
+    private static final String PREFIX_SUFFIX = "/**";
+
+    /** The path matcher. */
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    /** The roots by scope and method. */
+    private final Map<String, Map<String, Node>> roots;
+
+    /**
+     * Instantiates a new access index.
+     *
+     * @param roots the roots
+     */
+    private AccessIndex(Map<String, Map<String, Node>> roots) {
+        this.roots = roots;
+    }
+
+    /**
+     * Builds the index of the given accesses.
+     *
+     * @param accesses the accesses
+     * @return the access index
+     */
+    static AccessIndex build(List<Access> accesses) {
+        Map<String, Map<String, Node>> roots = new HashMap<>();
+        int order = 0;
+        for (Access access : accesses) {
+            if (access.getScope() == null || access.getMethod() == null || access.getPath() == null) {
+                continue;
+            }
+            Node node = roots.computeIfAbsent(access.getScope()
+                                                    .toUpperCase(Locale.ROOT),
+                    k -> new HashMap<>())
+                             .computeIfAbsent(access.getMethod(), k -> new Node());
+            String path = access.getPath();
+            boolean prefix = path.endsWith(PREFIX_SUFFIX);
+            String[] segments = tokenize(prefix ? path.substring(0, path.length() - PREFIX_SUFFIX.length()) : path);
+            boolean wildcard = false;
+            for (String segment : segments) {
+                if (isPattern(segment)) {
+                    wildcard = true;
+                    break;
+                }
+                node = node.children.computeIfAbsent(segment, k -> new Node());
+            }
+            Entry entry = new Entry(order++, access);
+            if (wildcard) {
+                node.wildcard.add(entry);
+            } else if (prefix) {
+                node.prefix.add(entry);
+            } else {
+                node.exact.add(entry);
+            }
+        }
+        return new AccessIndex(roots);
+    }
+
+    /**
+     * Gets the most specific accesses matching the path, i.e. the ones with the longest path.
+     *
+     * @param scope the scope
+     * @param path the path
+     * @param method the method
+     * @return the matching accesses
+     */
+    List<Access> getMatchingAccesses(String scope, String path, String method) {
+        Map<String, Node> byMethod = roots.get(scope.toUpperCase(Locale.ROOT));
+        if (byMethod == null) {
+            return new ArrayList<>();
+        }
+        String[] segments = tokenize(path);
+        List<Entry> candidates = new ArrayList<>();
+        collect(byMethod.get(method), segments, candidates);
+        if (!ANY_METHOD.equals(method)) {
+            collect(byMethod.get(ANY_METHOD), segments, candidates);
+        }
+        candidates.sort((first, second) -> Integer.compare(first.order, second.order));
+
+        List<Access> result = new ArrayList<>();
+        int longest = -1;
+        for (Entry candidate : candidates) {
+            Access access = candidate.access;
+            if (!antPathMatcher.match(access.getPath(), path)) {
+                continue;
+            }
+            int length = access.getPath()
+                               .length();
+            if (length > longest) {
+                longest = length;
+                result.clear();
+                result.add(access);
+            } else if (length == longest) {
+                result.add(access);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Collects the candidates on the way of the path segments.
+     *
+     * @param root the root
+     * @param segments the segments
+     * @param candidates the candidates
+     */
+    private static void collect(Node root, String[] segments, List<Entry> candidates) {
+        Node node = root;
+        int depth = 0;
+        while (node != null) {
+            candidates.addAll(node.wildcard);
+            candidates.addAll(node.prefix);
+            if (depth == segments.length) {
+                candidates.addAll(node.exact);
+                return;
+            }
+            node = node.children.get(segments[depth++]);
+        }
+    }
+
+    /**
+     * Splits the path to segments, skipping the empty ones as the path matcher does.
+     *
+     * @param path the path
+     * @return the segments
+     */
+    private static String[] tokenize(String path) {
+        return Arrays.stream(path.split(SEPARATOR))
+                     .filter(segment -> !segment.isEmpty())
+                     .toArray(String[]::new);
+    }
+
+    /**
+     * Checks if the segment is a pattern.
+     *
+     * @param segment the segment
+     * @return true, if it is a pattern
+     */
+    private static boolean isPattern(String segment) {
+        return segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0 || segment.indexOf('{') >= 0;
+    }
+
+    /**
+     * The trie node.
+     */
+    private static class Node {
+
+        /** The children by segment. */
+        private final Map<String, Node> children = new HashMap<>();
+
+        /** The accesses with plain paths ending at this node. */
+        private final List<Entry> exact = new ArrayList<>();
+
+        /** The accesses covering this node and all its descendants. */
+        private final List<Entry> prefix = new ArrayList<>();
+
+        /** The accesses with patterns after this node. */
+        private final List<Entry> wildcard = new ArrayList<>();
+    }
+
+    /**
+     * The indexed access with its definition order.
+     */
+    private record Entry(int order, Access access) {
+    }
+
+}
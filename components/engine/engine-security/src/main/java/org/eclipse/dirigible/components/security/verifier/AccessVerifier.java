@@ -14,13 +14,21 @@ import org.eclipse.dirigible.components.security.service.AccessService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Utility class that checks whether the location is secured via the *.access file
+ *
+ * The accesses are looked up in an in-memory {@link AccessIndex}, which is built on the first
+ * lookup and rebuilt only after the accesses have been changed - the {@link AccessChangeListener}
+ * invalidates it on every change of an access, e.g. by the
+ * {@link org.eclipse.dirigible.components.security.synchronizer.AccessSynchronizer}.
+ *
+ * The listener observes only the changes made through the persistence context of this node, so the
+ * invalidation does not reach the other nodes of a cluster sharing the database. They keep
+ * enforcing their stale accesses until they are restarted or change an access themselves.
  */
 
 @Component
@@ -31,12 +39,24 @@ public class AccessVerifier {
      */
     private static final Logger logger = LoggerFactory.getLogger(AccessVerifier.class);
 
+    /** The version of the accesses, incremented on each change made by this node. */
+    private static final AtomicLong VERSION = new AtomicLong();
+
     private final AccessService accessService;
-    private final AntPathMatcher antPathMatcher;
+
+    /** The current index. */
+    private volatile VersionedIndex index;
 
     AccessVerifier(AccessService accessService) {
         this.accessService = accessService;
-        this.antPathMatcher = new AntPathMatcher();
+    }
+
+    /**
+     * Invalidates the index of the accesses, so that it is rebuilt on the next lookup. The
+     * invalidation affects this node only.
+     */
+    public static void invalidate() {
+        VERSION.incrementAndGet();
     }
 
     /**
@@ -48,31 +68,47 @@ public class AccessVerifier {
      * @return all the most specific security access entry matching the URI if any
      */
     public List<Access> getMatchingSecurityAccesses(String scope, String path, String method) {
-        List<Access> securityAccesses = new ArrayList<>();
-        Access currentSecurityAccess = null;
-        List<Access> existingSecurityAccesses = accessService.getAll();
-        for (Access securityAccess : existingSecurityAccesses) {
-            if (scope.equalsIgnoreCase(securityAccess.getScope()) //
-                    && ("*".equals(securityAccess.getMethod()) || method.equals(securityAccess.getMethod()))//
-                    && antPathMatcher.match(securityAccess.getPath(), path)) {
-                logger.debug("Path [{}] and HTTP method [{}] is secured by definition [{}]", path, method, securityAccess.getLocation());
-                if ((currentSecurityAccess == null) || (securityAccess.getPath()
-                                                                      .length() > currentSecurityAccess.getPath()
-                                                                                                       .length())) {
-                    currentSecurityAccess = securityAccess;
-                    securityAccesses.clear();
-                    securityAccesses.add(securityAccess);
-                } else if (securityAccess.getPath()
-                                         .length() == currentSecurityAccess.getPath()
-                                                                           .length()) {
-                    securityAccesses.add(securityAccess);
-                }
-            }
-        }
+        List<Access> securityAccesses = getIndex().getMatchingAccesses(scope, path, method);
         if (securityAccesses.isEmpty()) {
             logger.trace("URI [{}] with HTTP method {}] is NOT secured", path, method);
+        } else if (logger.isDebugEnabled()) {
+            for (Access securityAccess : securityAccesses) {
+                logger.debug("Path [{}] and HTTP method [{}] is secured by definition [{}]", path, method, securityAccess.getLocation());
+            }
         }
         return securityAccesses;
     }
 
+    /**
+     * Gets the current index, building it if it has been invalidated.
+     *
+     * @return the index
+     */
+    private AccessIndex getIndex() {
+        VersionedIndex current = index;
+        if (current != null && current.version() == VERSION.get()) {
+            return current.index();
+        }
+        synchronized (this) {
+            long currentVersion = VERSION.get();
+            current = index;
+            if (current != null && current.version() == currentVersion) {
+                return current.index();
+            }
+            AccessIndex built = AccessIndex.build(accessService.getAll());
+            index = new VersionedIndex(currentVersion, built);
+            logger.debug("Security accesses index version [{}] has been built", currentVersion);
+            return built;
+        }
+    }
+
+    /**
+     * The index with the version of the accesses it has been built from.
+     *
+     * @param version the version
+     * @param index the index
+     */
+    private record VersionedIndex(long version, AccessIndex index) {
+    }
+
 }
@@ -111,4 +111,41 @@ class AccessVerifierTest {
                                                 .next();
         assertThat(access.getRole()).isEqualTo("somerole");
     }
+
+    /**
+     * Test get matching security accesses with prefix, wildcard and any method.
+     */
+    @Test
+    void testGetMatchingSecurityAccessesMostSpecific() {
+        securityAccessRepository.save(
+                createSecurityAccess("/prefix/access.access", "prefix", "description", "HTTP", "/prefix/**", "*", "prefixrole"));
+        securityAccessRepository.save(createSecurityAccess("/prefix/access.access", "wildcard", "description", "HTTP",
+                "/prefix/folder/*.txt", "GET", "wildcardrole"));
+
+        assertThat(getMatchingRoles("HTTP", "/prefix", "POST")).containsExactly("prefixrole");
+        assertThat(getMatchingRoles("http", "/prefix/folder/file.txt", "GET")).containsExactly("wildcardrole");
+        assertThat(getMatchingRoles("HTTP", "/prefix/folder/file.txt", "POST")).containsExactly("prefixrole");
+        assertThat(getMatchingRoles("HTTP", "/other/folder/file.txt", "GET")).isEmpty();
+
+        securityAccessRepository.deleteAll(securityAccessRepository.findAll()
+                                                                   .stream()
+                                                                   .filter(a -> "wildcardrole".equals(a.getRole()))
+                                                                   .toList());
+        assertThat(getMatchingRoles("HTTP", "/prefix/folder/file.txt", "GET")).containsExactly("prefixrole");
+    }
+
+    /**
+     * Gets the roles of the matching security accesses.
+     *
+     * @param scope the scope
+     * @param path the path
+     * @param method the method
+     * @return the roles
+     */
+    private List<String> getMatchingRoles(String scope, String path, String method) {
+        return securityAccessVerifier.getMatchingSecurityAccesses(scope, path, method)
+                                     .stream()
+                                     .map(Access::getRole)
+                                     .toList();
+    }
 }
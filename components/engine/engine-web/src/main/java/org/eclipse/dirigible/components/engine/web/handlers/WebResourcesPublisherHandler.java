@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.engine.web.handlers;
+
+import org.eclipse.dirigible.components.base.publisher.PublisherHandler;
+import org.eclipse.dirigible.components.engine.web.service.WebResourceCache;
+import org.springframework.stereotype.Component;
+
+/**
+ * Prepares the ETags and the compressed variants of the published web resources on publish and
+ * removes them on unpublish.
+ */
+@Component
+public class WebResourcesPublisherHandler implements PublisherHandler {
+
+    /** The web resource cache. */
+    private final WebResourceCache webResourceCache;
+
+    /**
+     * Instantiates a new web resources publisher handler.
+     *
+     * @param webResourceCache the web resource cache
+     */
+    WebResourcesPublisherHandler(WebResourceCache webResourceCache) {
+        this.webResourceCache = webResourceCache;
+    }
+
+    /**
+     * After publish.
+     *
+     * @param workspaceLocation the workspace location
+     * @param registryLocation the registry location
+     * @param metadata the metadata
+     */
+    @Override
+    public void afterPublish(String workspaceLocation, String registryLocation, AfterPublishMetadata metadata) {
+        webResourceCache.prepare(registryLocation);
+    }
+
+    /**
+     * After unpublish.
+     *
+     * @param location the location
+     */
+    @Override
+    public void afterUnpublish(String location) {
+        webResourceCache.remove(location);
+    }
+
+}
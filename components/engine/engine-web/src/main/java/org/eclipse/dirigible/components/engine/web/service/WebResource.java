@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.engine.web.service;
+
+import java.nio.file.Path;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+/**
+ * Published web resource with its ETag and compressed variant.
+ */
+public class WebResource {
+
+    /** The content type. */
+    private final String contentType;
+
+    /** The binary. */
+    private final boolean binary;
+
+    /** The file, if the resource is served from the file system. */
+    private final Path file;
+
+    /** The content, if the resource is not served from the file system. */
+    private final byte[] content;
+
+    /** The last modified. */
+    private final long lastModified;
+
+    /** The size. */
+    private final long size;
+
+    /** The hash. */
+    private final String hash;
+
+    /** The gzip compressed content or null, if the resource is not compressed. */
+    private final byte[] gzipContent;
+
+    /**
+     * Instantiates a new web resource.
+     *
+     * @param contentType the content type
+     * @param binary the binary
+     * @param file the file
+     * @param content the content
+     * @param lastModified the last modified
+     * @param size the size
+     * @param hash the hash
+     * @param gzipContent the gzip content
+     */
+    WebResource(String contentType, boolean binary, Path file, byte[] content, long lastModified, long size, String hash,
+            byte[] gzipContent) {
+        this.contentType = contentType;
+        this.binary = binary;
+        this.file = file;
+        this.content = content;
+        this.lastModified = lastModified;
+        this.size = size;
+        this.hash = hash;
+        this.gzipContent = gzipContent;
+    }
+
+    /**
+     * Gets the content type.
+     *
+     * @return the content type
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Checks if is binary.
+     *
+     * @return true, if is binary
+     */
+    public boolean isBinary() {
+        return binary;
+    }
+
+    /**
+     * Gets the content.
+     *
+     * @return the content or null, if the resource is served from the file system
+     */
+    byte[] getContent() {
+        return content;
+    }
+
+    /**
+     * Gets the number of bytes, which the resource holds in memory.
+     *
+     * @return the weight
+     */
+    long getWeight() {
+        return (content != null ? content.length : 0) + (gzipContent != null ? gzipContent.length : 0);
+    }
+
+    /**
+     * Gets the last modified.
+     *
+     * @return the last modified
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Gets the size.
+     *
+     * @return the size
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the ETag of the uncompressed content.
+     *
+     * @return the ETag
+     */
+    public String getETag() {
+        return "\"" + hash + "\"";
+    }
+
+    /**
+     * Gets the ETag of the gzip compressed content.
+     *
+     * @return the ETag
+     */
+    public String getGzipETag() {
+        return "\"" + hash + "-gzip\"";
+    }
+
+    /**
+     * Checks if there is a gzip compressed variant.
+     *
+     * @return true, if there is a gzip compressed variant
+     */
+    public boolean hasGzipContent() {
+        return gzipContent != null;
+    }
+
+    /**
+     * Gets the body.
+     *
+     * @return the body
+     */
+    public Resource getBody() {
+        return file != null ? new FileSystemResource(file) : new ByteArrayResource(content);
+    }
+
+    /**
+     * Gets the gzip compressed body.
+     *
+     * @return the gzip compressed body
+     */
+    public Resource getGzipBody() {
+        return new ByteArrayResource(gzipContent);
+    }
+
+}
@@ -0,0 +1,513 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.engine.web.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.dirigible.commons.api.helpers.ContentTypeHelper;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.components.registry.accessor.RegistryAccessor;
+import org.eclipse.dirigible.repository.api.ICollection;
+import org.eclipse.dirigible.repository.api.IEntityInformation;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IRepositoryStructure;
+import org.eclipse.dirigible.repository.api.IResource;
+import org.eclipse.dirigible.repository.api.RepositoryException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Cache of the published web resources.
+ *
+ * For every resource it holds a strong ETag based on the SHA-256 hash of the content and a gzip
+ * compressed variant of the text resources. The entry of a resource in the registry is validated
+ * against the last modified time and the size of the resource, so the hash is calculated once per
+ * published version of the resource and it is the same on all the nodes and after restarts. The
+ * content of the resources in the registry folder is neither cached nor loaded into memory, but
+ * streamed from the file.
+ *
+ * The entries of the published resources are prepared on publish, so the first request does not
+ * wait for the hash and the compressed variant. The resources changed otherwise, e.g. published by
+ * another node or synchronized from the file system, are prepared on their first request.
+ *
+ * When the cache holds more entries or more bytes than its limits, its least recently used entries
+ * are evicted. Only the content held in memory, i.e. of the class path resources and the resources
+ * of a repository, which is not file based, and the compressed variants count to the bytes.
+ */
+@Component
+public class WebResourceCache {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(WebResourceCache.class);
+
+    /** The Constant DIRIGIBLE_WEB_CACHE_MAX_SIZE. */
+    private static final String DIRIGIBLE_WEB_CACHE_MAX_SIZE = "DIRIGIBLE_WEB_CACHE_MAX_SIZE";
+
+    /** The Constant DIRIGIBLE_WEB_CACHE_MAX_BYTES. */
+    private static final String DIRIGIBLE_WEB_CACHE_MAX_BYTES = "DIRIGIBLE_WEB_CACHE_MAX_BYTES";
+
+    /** The Constant DIRIGIBLE_WEB_GZIP_MIN_SIZE. */
+    private static final String DIRIGIBLE_WEB_GZIP_MIN_SIZE = "DIRIGIBLE_WEB_GZIP_MIN_SIZE";
+
+    /** The Constant DIRIGIBLE_WEB_GZIP_MAX_SIZE. */
+    private static final String DIRIGIBLE_WEB_GZIP_MAX_SIZE = "DIRIGIBLE_WEB_GZIP_MAX_SIZE";
+
+    /** The Constant BUFFER_SIZE. */
+    private static final int BUFFER_SIZE = 8192;
+
+    /** The resources. */
+    private final LruCache<String, WebResource> resources = new LruCache<>(Configuration.getAsInt(DIRIGIBLE_WEB_CACHE_MAX_SIZE, 10000),
+            Configuration.getAsInt(DIRIGIBLE_WEB_CACHE_MAX_BYTES, 100 * 1024 * 1024), WebResource::getWeight);
+
+    /** The registry accessor. */
+    private final RegistryAccessor registryAccessor;
+
+    /**
+     * Instantiates a new web resource cache.
+     *
+     * @param registryAccessor the registry accessor
+     */
+    WebResourceCache(RegistryAccessor registryAccessor) {
+        this.registryAccessor = registryAccessor;
+    }
+
+    /**
+     * Gets the resource from the registry or from the class path.
+     *
+     * @param path the path
+     * @return the resource or null, if there is no such resource
+     * @throws IOException Signals that an I/O exception has occurred.
+     * @throws ResponseStatusException with status forbidden, if the resource exists, but is not exposed
+     */
+    public WebResource getResource(String path) throws IOException {
+        if (registryAccessor.existResource(path)) {
+            IResource resource = registryAccessor.getResource(path);
+            if (resource == null) {
+                throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Resource requested is not exposed.");
+            }
+            return getRegistryResource(path, resource);
+        }
+        byte[] content = registryAccessor.getRegistryContent(path);
+        if (content == null) {
+            return null;
+        }
+        WebResource cached = resources.get(path);
+        // the class path content is cached by the registry accessor and does not change
+        if (cached != null && cached.getContent() == content) {
+            return cached;
+        }
+        String contentType = ContentTypeHelper.getContentType(ContentTypeHelper.getExtension(path));
+        return cache(path, create(contentType, ContentTypeHelper.isBinary(contentType), null, content, -1, content.length));
+    }
+
+    /**
+     * Gets the registry resource.
+     *
+     * @param path the path
+     * @param resource the resource
+     * @return the registry resource
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private WebResource getRegistryResource(String path, IResource resource) throws IOException {
+        Path file = getFile(resource);
+        long lastModified;
+        long size;
+        if (file != null) {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            lastModified = attributes.lastModifiedTime()
+                                     .toMillis();
+            size = attributes.size();
+        } else {
+            IEntityInformation information = resource.getInformation();
+            Date modifiedAt = information.getModifiedAt();
+            lastModified = modifiedAt != null ? modifiedAt.getTime() : -1;
+            size = information.getSize() != null ? information.getSize() : -1;
+        }
+        WebResource cached = resources.get(path);
+        if (cached != null && cached.getLastModified() == lastModified && cached.getSize() == size && lastModified != -1) {
+            return cached;
+        }
+        byte[] content = file == null ? resource.getContent() : null;
+        return cache(path, create(resource.getContentType(), resource.isBinary(), file, content, lastModified, size));
+    }
+
+    /**
+     * Prepares the entries of the published resources in the registry.
+     *
+     * @param location the registry location of the published resource or collection
+     */
+    public void prepare(String location) {
+        if (!isRegistryLocation(location)) {
+            return;
+        }
+        IRepository repository = registryAccessor.getRepository();
+        ICollection collection = repository.getCollection(location);
+        if (collection.exists()) {
+            prepare(collection);
+        } else {
+            IResource resource = repository.getResource(location);
+            if (resource.exists()) {
+                prepare(resource);
+            }
+        }
+    }
+
+    /**
+     * Prepares the entries of the resources in the collection and its sub-collections.
+     *
+     * @param collection the collection
+     */
+    private void prepare(ICollection collection) {
+        for (IResource resource : collection.getResources()) {
+            prepare(resource);
+        }
+        for (ICollection child : collection.getCollections()) {
+            prepare(child);
+        }
+    }
+
+    /**
+     * Prepares the entry of the resource.
+     *
+     * @param resource the resource
+     */
+    private void prepare(IResource resource) {
+        String path = resource.getPath()
+                              .substring(IRepositoryStructure.PATH_REGISTRY_PUBLIC.length());
+        try {
+            getRegistryResource(path, resource);
+        } catch (IOException | RepositoryException e) {
+            logger.warn("Failed to prepare the published web resource [{}]", path, e);
+        }
+    }
+
+    /**
+     * Removes the entries of the unpublished resources.
+     *
+     * @param location the registry location of the unpublished resource or collection
+     */
+    public void remove(String location) {
+        if (!isRegistryLocation(location)) {
+            return;
+        }
+        String path = location.substring(IRepositoryStructure.PATH_REGISTRY_PUBLIC.length());
+        String prefix = path.endsWith(IRepository.SEPARATOR) ? path : path + IRepository.SEPARATOR;
+        resources.removeIf(key -> key.equals(path) || key.startsWith(prefix));
+    }
+
+    /**
+     * Checks whether the location is in the public registry.
+     *
+     * @param location the location
+     * @return true, if it is
+     */
+    private static boolean isRegistryLocation(String location) {
+        return location != null && location.startsWith(IRepositoryStructure.PATH_REGISTRY_PUBLIC);
+    }
+
+    /**
+     * Gets the file of the resource, if the repository is file based.
+     *
+     * @param resource the resource
+     * @return the file or null
+     */
+    private Path getFile(IResource resource) {
+        try {
+            Path file = Paths.get(registryAccessor.getRepository()
+                                                  .getInternalResourcePath(resource.getPath()));
+            return Files.isRegularFile(file) ? file : null;
+        } catch (RepositoryException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates the web resource, calculating its hash and compressed variant.
+     *
+     * @param contentType the content type
+     * @param binary the binary
+     * @param file the file
+     * @param content the content
+     * @param lastModified the last modified
+     * @param size the size
+     * @return the web resource
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private WebResource create(String contentType, boolean binary, Path file, byte[] content, long lastModified, long size)
+            throws IOException {
+        MessageDigest digest = createDigest();
+        boolean compress = !binary && size >= Configuration.getAsInt(DIRIGIBLE_WEB_GZIP_MIN_SIZE, 1024)
+                && size <= Configuration.getAsInt(DIRIGIBLE_WEB_GZIP_MAX_SIZE, 10 * 1024 * 1024);
+        ByteArrayOutputStream compressed = compress ? new ByteArrayOutputStream() : null;
+        try (InputStream in = file != null ? Files.newInputStream(file) : new ByteArrayInputStream(content);
+                OutputStream gzip = compress ? new GZIPOutputStream(compressed, BUFFER_SIZE) : OutputStream.nullOutputStream()) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+                gzip.write(buffer, 0, read);
+            }
+        }
+        String hash = Base64.getUrlEncoder()
+                            .withoutPadding()
+                            .encodeToString(digest.digest());
+        byte[] gzipContent = compress && compressed.size() < size ? compressed.toByteArray() : null;
+        return new WebResource(contentType, binary, file, content, lastModified, size, hash, gzipContent);
+    }
+
+    /**
+     * Caches the resource.
+     *
+     * @param path the path
+     * @param resource the resource
+     * @return the web resource
+     */
+    private WebResource cache(String path, WebResource resource) {
+        resources.put(path, resource);
+        return resource;
+    }
+
+    /**
+     * Clears the cache.
+     */
+    public void clear() {
+        resources.clear();
+    }
+
+    /**
+     * Creates the digest.
+     *
+     * @return the message digest
+     */
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A concurrent cache, which evicts its least recently used entries, when it is full by count or by
+     * weight. The reads are not locked, as every entry only records the time of its last access, and
+     * the entries are sorted by it only on eviction, which frees a tenth of both limits at once. A value
+     * heavier than the max weight is not cached at all, so that it does not evict all the others.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     */
+    private static final class LruCache<K, V> {
+
+        /** The entries. */
+        private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+        /** The logical clock of the accesses. */
+        private final AtomicLong clock = new AtomicLong();
+
+        /** The total weight of the entries. */
+        private final AtomicLong weight = new AtomicLong();
+
+        /** The max size. */
+        private final int maxSize;
+
+        /** The max weight. */
+        private final long maxWeight;
+
+        /** The weigher of the values. */
+        private final ToLongFunction<V> weigher;
+
+        /**
+         * Instantiates a new LRU cache.
+         *
+         * @param maxSize the max size
+         * @param maxWeight the max weight
+         * @param weigher the weigher of the values
+         */
+        LruCache(int maxSize, long maxWeight, ToLongFunction<V> weigher) {
+            this.maxSize = Math.max(1, maxSize);
+            this.maxWeight = Math.max(1, maxWeight);
+            this.weigher = weigher;
+        }
+
+        /**
+         * Gets the value and marks it as recently used.
+         *
+         * @param key the key
+         * @return the value or null, if not cached
+         */
+        V get(K key) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            entry.lastAccess = clock.incrementAndGet();
+            return entry.value;
+        }
+
+        /**
+         * Puts the value and evicts the least recently used entries, if the cache is full.
+         *
+         * @param key the key
+         * @param value the value
+         */
+        void put(K key, V value) {
+            Entry<V> entry = new Entry<>(value, weigher.applyAsLong(value), clock.incrementAndGet());
+            if (entry.weight > maxWeight) {
+                Entry<V> previous = entries.remove(key);
+                if (previous != null) {
+                    weight.addAndGet(-previous.weight);
+                }
+                return;
+            }
+            Entry<V> previous = entries.put(key, entry);
+            weight.addAndGet(previous != null ? entry.weight - previous.weight : entry.weight);
+            if (isFull()) {
+                evict();
+            }
+        }
+
+        /**
+         * Checks whether the cache holds more entries or more weight than its limits.
+         *
+         * @return true, if it is full
+         */
+        private boolean isFull() {
+            return entries.size() > maxSize || weight.get() > maxWeight;
+        }
+
+        /**
+         * Evicts the least recently used entries, so that a tenth of the max size and of the max weight is
+         * free.
+         */
+        private synchronized void evict() {
+            if (!isFull()) {
+                // already evicted by a concurrent put
+                return;
+            }
+            int targetSize = maxSize - maxSize / 10;
+            long targetWeight = maxWeight - maxWeight / 10;
+            // the access times are copied, as they may change while sorting
+            List<Access<K, V>> accesses = entries.entrySet()
+                                                 .stream()
+                                                 .map(e -> new Access<>(e.getKey(), e.getValue(), e.getValue().lastAccess))
+                                                 .sorted(Comparator.comparingLong(Access::lastAccess))
+                                                 .toList();
+            int count = 0;
+            for (Access<K, V> access : accesses) {
+                if (entries.size() <= targetSize && weight.get() <= targetWeight) {
+                    break;
+                }
+                remove(access.key(), access.entry());
+                count++;
+            }
+            logger.debug("Web resources cache is full, evicted [{}] least recently used resources", count);
+        }
+
+        /**
+         * Removes the entry, if it is still mapped to the key.
+         *
+         * @param key the key
+         * @param entry the entry
+         */
+        private void remove(K key, Entry<V> entry) {
+            if (entries.remove(key, entry)) {
+                weight.addAndGet(-entry.weight);
+            }
+        }
+
+        /**
+         * Removes the entries with the matching keys.
+         *
+         * @param filter the filter of the keys
+         */
+        void removeIf(Predicate<K> filter) {
+            entries.forEach((key, entry) -> {
+                if (filter.test(key)) {
+                    remove(key, entry);
+                }
+            });
+        }
+
+        /**
+         * Clears the cache.
+         */
+        void clear() {
+            removeIf(key -> true);
+        }
+
+        /**
+         * The access time of an entry, copied for sorting.
+         *
+         * @param <K> the key type
+         * @param <V> the value type
+         * @param key the key
+         * @param entry the entry
+         * @param lastAccess the time of the last access
+         */
+        private record Access<K, V>(K key, Entry<V> entry, long lastAccess) {
+        }
+
+    }
+
+    /**
+     * The entry of the LRU cache.
+     *
+     * @param <V> the value type
+     */
+    private static final class Entry<V> {
+
+        /** The value. */
+        private final V value;
+
+        /** The weight of the value. */
+        private final long weight;
+
+        /** The time of the last access. */
+        private volatile long lastAccess;
+
+        /**
+         * Instantiates a new entry.
+         *
+         * @param value the value
+         * @param weight the weight of the value
+         * @param lastAccess the time of the last access
+         */
+        Entry(V value, long weight, long lastAccess) {
+            this.value = value;
+            this.weight = weight;
+            this.lastAccess = lastAccess;
+        }
+
+    }
+
+}
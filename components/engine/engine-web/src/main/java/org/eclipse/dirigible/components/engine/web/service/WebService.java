@@ -10,15 +10,12 @@
 package org.eclipse.dirigible.components.engine.web.service;
 
 import jakarta.servlet.http.HttpServletRequest;
-import org.eclipse.dirigible.commons.api.helpers.ContentTypeHelper;
 import org.eclipse.dirigible.commons.config.Configuration;
-import org.eclipse.dirigible.commons.config.ResourcesCache;
-import org.eclipse.dirigible.commons.config.ResourcesCache.Cache;
-import org.eclipse.dirigible.components.registry.accessor.RegistryAccessor;
 import org.eclipse.dirigible.repository.api.IRepositoryStructure;
-import org.eclipse.dirigible.repository.api.IResource;
-import org.eclipse.dirigible.repository.api.RepositoryNotFoundException;
+import org.eclipse.dirigible.repository.api.RepositoryException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -28,6 +25,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.context.annotation.RequestScope;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 
 /**
@@ -37,19 +35,22 @@ import java.nio.charset.StandardCharsets;
 @RequestScope
 public class WebService {
 
-    /** The Constant WEB_CACHE. */
-    private static final Cache WEB_CACHE = ResourcesCache.getWebCache();
-
     /** The Constant INDEX_HTML. */
     private static final String INDEX_HTML = "index.html";
 
+    /** The Constant GZIP. */
+    private static final String GZIP = "gzip";
+
+    /** The Constant WEAK_ETAG_PREFIX. */
+    private static final String WEAK_ETAG_PREFIX = "W/";
+
     /** The request. */
     @Autowired
     private HttpServletRequest request;
 
-    /** The registry accessor. */
+    /** The web resource cache. */
     @Autowired
-    private RegistryAccessor registryAccessor;
+    private WebResourceCache webResourceCache;
 
     /**
      * Gets the resource.
@@ -63,114 +64,136 @@ public class WebService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Listing of web folders is forbidden.");
         } else if (path.trim()
                        .endsWith(IRepositoryStructure.SEPARATOR)) {
-            return getResourceByPath(path + INDEX_HTML);
-        }
-        ResponseEntity resourceResponse = getResourceByPath(path);
-        if (!Configuration.isProductiveIFrameEnabled()) {
-            resourceResponse.getHeaders()
-                            .add("X-Frame-Options", "Deny");
+            return getResourceByPath(path + INDEX_HTML, false);
         }
-        return resourceResponse;
+        return getResourceByPath(path, !Configuration.isProductiveIFrameEnabled());
     }
 
     /**
      * Gets the resource by path.
      *
      * @param path the path
+     * @param denyFraming whether to deny the framing of the resource
      * @return the resource by path
      */
-    private ResponseEntity getResourceByPath(String path) {
-        if (isCached(path)) {
-            return sendResourceNotModified();
+    private ResponseEntity getResourceByPath(String path, boolean denyFraming) {
+        WebResource resource;
+        try {
+            resource = webResourceCache.getResource(path);
+        } catch (IOException | RepositoryException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to load resource: " + path, e);
         }
-
-        if (registryAccessor.existResource(path)) {
-            IResource resource = registryAccessor.getResource(path);
-            if (resource == null) {
-                throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Resource requested is not exposed.");
-            }
-            String contentType = resource.getContentType();
-            return sendResource(path, resource.isBinary(), resource.getContent(), contentType);
+        if (resource == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Requested resource not found.");
         }
-
-        String errorMessage = "Resource not found: " + path;
         try {
-            byte[] content = registryAccessor.getRegistryContent(path);
-            if (content != null) {
-                String contentType = ContentTypeHelper.getContentType(ContentTypeHelper.getExtension(path));
-                return sendResource(path, ContentTypeHelper.isBinary(contentType), content, contentType);
-            } else {
-                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Requested resource not found.");
-            }
-        } catch (RepositoryNotFoundException e) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, errorMessage);
+            return sendResource(resource, denyFraming);
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to read resource: " + path, e);
         }
     }
 
     /**
-     * Send resource not modified.
+     * Send resource. The gzip compressed variant is sent, if the client accepts it and it does not
+     * request a range. The ranges of the uncompressed content are served by the resource message
+     * converters.
      *
+     * @param resource the resource
+     * @param denyFraming whether to deny the framing of the resource
      * @return the response
+     * @throws IOException Signals that an I/O exception has occurred.
      */
-    private ResponseEntity sendResourceNotModified() {
-        final HttpHeaders httpHeaders = new HttpHeaders();
-        httpHeaders.add("ETag", getTag());
-        return new ResponseEntity(httpHeaders, HttpStatus.NOT_MODIFIED);
-    }
+    private ResponseEntity sendResource(WebResource resource, boolean denyFraming) throws IOException {
+        boolean range = request.getHeader(HttpHeaders.RANGE) != null;
+        boolean gzip = resource.hasGzipContent() && !range && isGzipAccepted();
 
-    /**
-     * Send resource.
-     *
-     * @param path the path
-     * @param isBinary the is binary
-     * @param content the content
-     * @param contentType the content type
-     * @return the response
-     */
-    private ResponseEntity sendResource(String path, boolean isBinary, byte[] content, String contentType) {
-        String tag = cacheResource(path);
         final HttpHeaders httpHeaders = new HttpHeaders();
-        httpHeaders.setContentType(MediaType.valueOf(contentType));
         httpHeaders.add("Cache-Control", "public, must-revalidate, max-age=0");
-        httpHeaders.add("ETag", tag);
-        if (isBinary) {
-            return new ResponseEntity(content, httpHeaders, HttpStatus.OK);
+        httpHeaders.add("ETag", gzip ? resource.getGzipETag() : resource.getETag());
+        if (resource.hasGzipContent()) {
+            httpHeaders.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
         }
-        return new ResponseEntity(new String(content, StandardCharsets.UTF_8), httpHeaders, HttpStatus.OK);
+        if (denyFraming) {
+            httpHeaders.add("X-Frame-Options", "Deny");
+        }
+        if (isNotModified(resource)) {
+            return new ResponseEntity(httpHeaders, HttpStatus.NOT_MODIFIED);
+        }
+
+        MediaType contentType = MediaType.valueOf(resource.getContentType());
+        if (!resource.isBinary() && contentType.getCharset() == null) {
+            contentType = new MediaType(contentType, StandardCharsets.UTF_8);
+        }
+        httpHeaders.setContentType(contentType);
+        if (gzip) {
+            httpHeaders.add(HttpHeaders.CONTENT_ENCODING, GZIP);
+            return new ResponseEntity(resource.getGzipBody(), httpHeaders, HttpStatus.OK);
+        }
+        Resource body = resource.getBody();
+        if (range && !isIfRangeMatching(resource)) {
+            // the partial content of the client is outdated, so the whole content is sent, which the
+            // message converters do not split to ranges for an input stream resource
+            httpHeaders.setContentLength(body.contentLength());
+            return new ResponseEntity(new InputStreamResource(body.getInputStream()), httpHeaders, HttpStatus.OK);
+        }
+        return new ResponseEntity(body, httpHeaders, HttpStatus.OK);
     }
 
     /**
-     * Cache resource.
+     * Checks if the client accepts gzip compressed content.
      *
-     * @param path the path
-     * @return the string
+     * @return true, if accepted
      */
-    private String cacheResource(String path) {
-        String tag = WEB_CACHE.generateTag();
-        WEB_CACHE.setTag(path, tag);
-        return tag;
+    private boolean isGzipAccepted() {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String encoding : acceptEncoding.split(",")) {
+            String[] parts = encoding.trim()
+                                     .split(";");
+            if (GZIP.equalsIgnoreCase(parts[0].trim())) {
+                return parts.length < 2 || !parts[1].replace(" ", "")
+                                                    .matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
     }
 
     /**
-     * Checks if is cached.
+     * Checks if the client has the current content of the resource.
      *
-     * @param path the path
-     * @return true, if is cached
+     * @param resource the resource
+     * @return true, if not modified
      */
-    private boolean isCached(String path) {
-        String tag = getTag();
-        String cachedTag = WEB_CACHE.getTag(path);
-        return tag != null && tag.equals(cachedTag);
-
+    private boolean isNotModified(WebResource resource) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String etag = tag.trim();
+            if (etag.startsWith(WEAK_ETAG_PREFIX)) {
+                etag = etag.substring(WEAK_ETAG_PREFIX.length());
+            }
+            if ("*".equals(etag) || etag.equals(resource.getETag()) || etag.equals(resource.getGzipETag())) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
-     * Gets the tag.
+     * Checks if the range can be served, i.e. there is no If-Range header or it matches the current
+     * content of the resource.
      *
-     * @return the tag
+     * @param resource the resource
+     * @return true, if matching
      */
-    private String getTag() {
-        return request.getHeader("If-None-Match");
+    private boolean isIfRangeMatching(WebResource resource) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        return ifRange == null || ifRange.trim()
+                                         .equals(resource.getETag());
     }
 
 }
@@ -35,9 +35,11 @@ import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -105,6 +107,7 @@ public class WebEndpointTest {
         Files.writeString(Paths.get(registyrFolder, "demo", "ui", "hello-world.txt"), "Hello World!", StandardOpenOption.CREATE);
         Files.writeString(Paths.get(registyrFolder, "demo", "hidden", "hidden.txt"), "Hidden", StandardOpenOption.CREATE);
         Files.writeString(Paths.get(registyrFolder, "demo", "ui", "index.html"), "Hidden", StandardOpenOption.CREATE);
+        Files.writeString(Paths.get(registyrFolder, "demo", "ui", "large.txt"), "Hello World! ".repeat(1000), StandardOpenOption.CREATE);
         try {
             synchronizationWatcher.force();
             synchronizationProcessor.processSynchronizers();
@@ -121,6 +124,33 @@ public class WebEndpointTest {
             mockMvc.perform(get("/services/web/demo/ui/"))
                    .andDo(print())
                    .andExpect(status().is2xxSuccessful());
+
+            String etag = mockMvc.perform(get("/services/web/demo/ui/hello-world.txt"))
+                                 .andExpect(status().isOk())
+                                 .andReturn()
+                                 .getResponse()
+                                 .getHeader("ETag");
+            assertEquals(etag, mockMvc.perform(get("/services/web/demo/ui/hello-world.txt"))
+                                      .andReturn()
+                                      .getResponse()
+                                      .getHeader("ETag"));
+            mockMvc.perform(get("/services/web/demo/ui/hello-world.txt").header("If-None-Match", etag))
+                   .andExpect(status().isNotModified());
+            mockMvc.perform(get("/services/web/demo/ui/hello-world.txt").header("Range", "bytes=0-4"))
+                   .andExpect(status().isPartialContent())
+                   .andExpect(content().string("Hello"));
+            mockMvc.perform(get("/services/web/demo/ui/hello-world.txt").header("Range", "bytes=0-4")
+                                                                        .header("If-Range", "\"outdated\""))
+                   .andExpect(status().isOk())
+                   .andExpect(content().string("Hello World!"));
+            mockMvc.perform(get("/services/web/demo/ui/large.txt").header("Accept-Encoding", "gzip, deflate"))
+                   .andExpect(status().isOk())
+                   .andExpect(header().string("Content-Encoding", "gzip"))
+                   .andExpect(header().string("Vary", "Accept-Encoding"));
+            mockMvc.perform(get("/services/web/demo/ui/large.txt"))
+                   .andExpect(status().isOk())
+                   .andExpect(header().doesNotExist("Content-Encoding"))
+                   .andExpect(content().string("Hello World! ".repeat(1000)));
         } finally {
             FileUtils.deleteDirectory(Paths.get(registyrFolder, "demo")
                                            .toFile());
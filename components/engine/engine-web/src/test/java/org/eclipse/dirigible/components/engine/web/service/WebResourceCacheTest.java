@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.engine.web.service;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.components.registry.accessor.RegistryAccessor;
+import org.eclipse.dirigible.repository.api.ICollection;
+import org.eclipse.dirigible.repository.api.IEntityInformation;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IResource;
+import org.eclipse.dirigible.repository.api.RepositoryException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Tests the preparation on publish and the eviction of the web resources cache.
+ */
+@ExtendWith(MockitoExtension.class)
+public class WebResourceCacheTest {
+
+    /** The Constant MAX_SIZE. */
+    private static final int MAX_SIZE = 10;
+
+    /** The registry accessor. */
+    @Mock
+    private RegistryAccessor registryAccessor;
+
+    /** The repository. */
+    @Mock
+    private IRepository repository;
+
+    /** The published collection. */
+    @Mock
+    private ICollection collection;
+
+    /** The published resource. */
+    @Mock
+    private IResource resource;
+
+    /** The information of the published resource. */
+    @Mock
+    private IEntityInformation information;
+
+    /** The class path contents by path. */
+    private final Map<String, byte[]> contents = new HashMap<>();
+
+    /** The cache. */
+    private WebResourceCache cache;
+
+    /**
+     * Sets the up.
+     */
+    @BeforeEach
+    public void setUp() {
+        lenient().when(registryAccessor.existResource(anyString()))
+                 .thenReturn(false);
+        lenient().when(registryAccessor.getRegistryContent(anyString()))
+                 .thenAnswer(invocation -> contents.get(invocation.getArgument(0, String.class)));
+        Configuration.set("DIRIGIBLE_WEB_CACHE_MAX_SIZE", String.valueOf(MAX_SIZE));
+        cache = new WebResourceCache(registryAccessor);
+    }
+
+    /**
+     * Tear down.
+     */
+    @AfterEach
+    public void tearDown() {
+        Configuration.remove("DIRIGIBLE_WEB_CACHE_MAX_SIZE");
+    }
+
+    /**
+     * Test the published resources are hashed and compressed on publish, instead of on their first
+     * request, and prepared again on their first request after unpublish.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testPrepareOnPublish() throws Exception {
+        String location = "/registry/public/demo/ui/large.txt";
+        when(registryAccessor.getRepository()).thenReturn(repository);
+        when(repository.getCollection("/registry/public/demo")).thenReturn(collection);
+        when(repository.getInternalResourcePath(location)).thenThrow(new RepositoryException("Not file based"));
+        when(collection.exists()).thenReturn(true);
+        when(collection.getResources()).thenReturn(List.of());
+        ICollection ui = mock(ICollection.class);
+        when(collection.getCollections()).thenReturn(List.of(ui));
+        when(ui.getResources()).thenReturn(List.of(resource));
+        when(ui.getCollections()).thenReturn(List.of());
+        when(resource.getPath()).thenReturn(location);
+        when(resource.getContentType()).thenReturn("text/plain");
+        when(resource.getContent()).thenReturn("Hello World! ".repeat(1000)
+                                                              .getBytes(StandardCharsets.UTF_8));
+        when(resource.getInformation()).thenReturn(information);
+        when(information.getModifiedAt()).thenReturn(new Date(1000));
+        when(information.getSize()).thenReturn(13000L);
+        when(registryAccessor.existResource("/demo/ui/large.txt")).thenReturn(true);
+        when(registryAccessor.getResource("/demo/ui/large.txt")).thenReturn(resource);
+
+        cache.prepare("/registry/public/demo");
+        verify(resource, times(1)).getContent();
+
+        WebResource prepared = cache.getResource("/demo/ui/large.txt");
+        assertTrue(prepared.hasGzipContent());
+        assertSame(prepared, cache.getResource("/demo/ui/large.txt"));
+        verify(resource, times(1)).getContent();
+
+        cache.remove("/registry/public/demo");
+        assertNotSame(prepared, cache.getResource("/demo/ui/large.txt"));
+        verify(resource, times(2)).getContent();
+    }
+
+    /**
+     * Test the least recently used resources are evicted, when the cache is full, and the recently used
+     * ones are kept.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testLeastRecentlyUsedEviction() throws Exception {
+        WebResource[] cached = new WebResource[MAX_SIZE];
+        for (int i = 0; i < MAX_SIZE; i++) {
+            contents.put("/test/" + i + ".txt", ("content " + i).getBytes(StandardCharsets.UTF_8));
+            cached[i] = cache.getResource("/test/" + i + ".txt");
+        }
+        // the first resource becomes the most recently used one
+        assertSame(cached[0], cache.getResource("/test/0.txt"));
+
+        contents.put("/test/overflow.txt", "overflow".getBytes(StandardCharsets.UTF_8));
+        cache.getResource("/test/overflow.txt");
+
+        // the excess resource and a tenth of the max size are evicted
+        assertSame(cached[0], cache.getResource("/test/0.txt"));
+        assertNotSame(cached[1], cache.getResource("/test/1.txt"));
+        for (int i = 3; i < MAX_SIZE; i++) {
+            assertSame(cached[i], cache.getResource("/test/" + i + ".txt"));
+        }
+    }
+
+    /**
+     * Test the least recently used resources are evicted, when the cache holds more bytes than its max
+     * bytes, and a resource heavier than the max bytes is not cached.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testMaxBytesEviction() throws Exception {
+        Configuration.set("DIRIGIBLE_WEB_CACHE_MAX_BYTES", "100");
+        try {
+            cache = new WebResourceCache(registryAccessor);
+            WebResource[] cached = new WebResource[3];
+            for (int i = 0; i < cached.length; i++) {
+                contents.put("/test/" + i + ".bin", new byte[30]);
+                cached[i] = cache.getResource("/test/" + i + ".bin");
+            }
+            // the first resource becomes the most recently used one
+            assertSame(cached[0], cache.getResource("/test/0.bin"));
+
+            contents.put("/test/overflow.bin", new byte[30]);
+            WebResource overflow = cache.getResource("/test/overflow.bin");
+
+            // the least recently used resource is evicted to free a tenth of the max bytes
+            assertSame(cached[0], cache.getResource("/test/0.bin"));
+            assertNotSame(cached[1], cache.getResource("/test/1.bin"));
+
+            contents.put("/test/heavy.bin", new byte[101]);
+            WebResource heavy = cache.getResource("/test/heavy.bin");
+
+            // the heavy resource is not cached and does not evict the others
+            assertNotSame(heavy, cache.getResource("/test/heavy.bin"));
+            assertSame(overflow, cache.getResource("/test/overflow.bin"));
+        } finally {
+            Configuration.remove("DIRIGIBLE_WEB_CACHE_MAX_BYTES");
+        }
+    }
+
+}
@@ -9,6 +9,8 @@
  */
 package org.eclipse.dirigible.components.ide.workspace.domain;
 
+import java.io.InputStream;
+
 import org.eclipse.dirigible.repository.api.*;
 
 /**
@@ -102,6 +104,17 @@ public class File implements IResource {
         internal.setContent(content, isBinary, contentType);
     }
 
+    /**
+     * Sets the content, streaming it.
+     *
+     * @param content the content
+     * @throws RepositoryWriteException the repository write exception
+     */
+    @Override
+    public void setContent(InputStream content) throws RepositoryWriteException {
+        internal.setContent(content);
+    }
+
     /**
      * Gets the parent.
      *
@@ -20,10 +20,14 @@ import org.eclipse.dirigible.components.base.endpoint.BaseEndpoint;
 import org.eclipse.dirigible.components.ide.workspace.domain.File;
 import org.eclipse.dirigible.components.ide.workspace.json.FileDescriptor;
 import org.eclipse.dirigible.components.ide.workspace.service.WorkspaceService;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.fs.FileSystemRepository;
+import org.eclipse.dirigible.repository.search.RepositorySearcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -41,6 +45,10 @@ public class WorkspaceSearchEndpoint {
     @Autowired
     private WorkspaceService workspaceService;
 
+    /** The repository. */
+    @Autowired
+    private IRepository repository;
+
     /**
      * Search.
      *
@@ -62,4 +70,19 @@ public class WorkspaceSearchEndpoint {
         return ResponseEntity.ok(workspaceService.renderFileDescriptions(files));
     }
 
+    /**
+     * Gets the indexing and query metrics of the repository search.
+     *
+     * @return the metrics snapshot or not found, if the repository is not indexed
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<RepositorySearcher.Snapshot> getMetrics() {
+        if (repository instanceof FileSystemRepository fileSystemRepository && fileSystemRepository.getRepositorySearcher() != null) {
+            return ResponseEntity.ok(fileSystemRepository.getRepositorySearcher()
+                                                         .getSnapshot());
+        }
+        return ResponseEntity.notFound()
+                             .build();
+    }
+
 }
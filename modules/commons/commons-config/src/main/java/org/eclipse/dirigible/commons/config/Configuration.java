@@ -17,6 +17,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -30,6 +34,11 @@ import static java.text.MessageFormat.format;
  * This can be triggered programmatically with update() method It supports also loading of custom
  * properties files from the class loader with load() for the modules and also merge with a provided
  * properties object with add() methods
+ *
+ * The variables of all the sources are merged into an immutable snapshot, which is republished on
+ * every change, so the lookups do not lock. The parsed values and the derived flags are cached per
+ * snapshot. The components, which cache values derived from the configuration, can register a
+ * change listener or compare the version of the configuration.
  */
 public class Configuration {
 
@@ -40,13 +49,23 @@ public class Configuration {
     /** The Constant MULTIVARIABLE_PATTERN. */
     private static final Pattern MULTIVARIABLE_PATTERN = Pattern.compile(MULTIVARIABLE_REGEX);
     /** The Constant RUNTIME_VARIABLES. */
-    private static final Map<String, String> RUNTIME_VARIABLES = Collections.synchronizedMap(new HashMap<>());
+    private static final Map<String, String> RUNTIME_VARIABLES = new HashMap<>();
     /** The Constant ENVIRONMENT_VARIABLES. */
-    private static final Map<String, String> ENVIRONMENT_VARIABLES = Collections.synchronizedMap(new HashMap<>());
+    private static final Map<String, String> ENVIRONMENT_VARIABLES = new HashMap<>();
     /** The Constant DEPLOYMENT_VARIABLES. */
-    private static final Map<String, String> DEPLOYMENT_VARIABLES = Collections.synchronizedMap(new HashMap<>());
+    private static final Map<String, String> DEPLOYMENT_VARIABLES = new HashMap<>();
     /** The Constant MODULE_VARIABLES. */
-    private static final Map<String, String> MODULE_VARIABLES = Collections.synchronizedMap(new HashMap<>());
+    private static final Map<String, String> MODULE_VARIABLES = new HashMap<>();
+    /** The lock guarding the changes of the variables. */
+    private static final Object LOCK = new Object();
+    /** The Constant LISTENERS. */
+    private static final List<ConfigurationChangeListener> LISTENERS = new CopyOnWriteArrayList<>();
+    /** The Constant CLASSES_PRESENCE. */
+    private static final Map<String, Boolean> CLASSES_PRESENCE = new ConcurrentHashMap<>();
+    /** The Constant ABSENT. */
+    private static final Object ABSENT = new Object();
+    /** The current snapshot. */
+    private static volatile Snapshot snapshot = new Snapshot(Collections.emptyMap(), 0);
     /** The Constant CONFIG_FILE_PATH_DIRIGIBLE_PROPERTIES. */
     private static final String CONFIG_FILE_PATH_DIRIGIBLE_PROPERTIES = "/dirigible.properties";
     /** The Constant ERROR_MESSAGE_CONFIGURATION_DOES_NOT_EXIST. */
@@ -168,22 +187,7 @@ public class Configuration {
             if (in != null) {
                 try {
                     custom.load(in);
-                    switch (type) {
-                        case RUNTIME:
-                            addConfigProperties(custom, RUNTIME_VARIABLES);
-                            break;
-                        case ENVIRONMENT:
-                            addConfigProperties(custom, ENVIRONMENT_VARIABLES);
-                            break;
-                        case DEPLOYMENT:
-                            addConfigProperties(custom, DEPLOYMENT_VARIABLES);
-                            break;
-                        case MODULE:
-                            addConfigProperties(custom, MODULE_VARIABLES);
-                            break;
-                        default:
-                            break;
-                    }
+                    addConfigProperties(custom, type);
                 } finally {
                     in.close();
                 }
@@ -243,13 +247,50 @@ public class Configuration {
      * @return the as int
      */
     public static int getAsInt(String key, int defaultValue) {
-        String stringValue = get(key, defaultValue + "");
+        Snapshot current = snapshot;
+        Object value = current.ints.get(key);
+        if (value == null) {
+            value = parseInt(key, current.values.get(key));
+            current.ints.put(key, value);
+        }
+        return value instanceof Integer intValue ? intValue : defaultValue;
+    }
+
+    /**
+     * Parses the int value.
+     *
+     * @param key the key
+     * @param stringValue the string value
+     * @return the int value or ABSENT, if there is no valid value
+     */
+    private static Object parseInt(String key, String stringValue) {
+        if (stringValue == null) {
+            return ABSENT;
+        }
         try {
             return Integer.parseInt(stringValue);
         } catch (NumberFormatException nfe) {
             logger.error("The configuration key: {} points to non integer value: {}", key, stringValue, nfe);
         }
-        return defaultValue;
+        return ABSENT;
+    }
+
+    /**
+     * Gets the as boolean.
+     *
+     * @param key the key
+     * @param defaultValue the default value
+     * @return the as boolean
+     */
+    public static boolean getAsBoolean(String key, boolean defaultValue) {
+        Snapshot current = snapshot;
+        Object value = current.booleans.get(key);
+        if (value == null) {
+            String stringValue = current.values.get(key);
+            value = stringValue != null ? (Object) Boolean.parseBoolean(stringValue) : ABSENT;
+            current.booleans.put(key, value);
+        }
+        return value instanceof Boolean booleanValue ? booleanValue : defaultValue;
     }
 
     /**
@@ -260,16 +301,7 @@ public class Configuration {
      * @return the string
      */
     public static String get(String key, String defaultValue) {
-        String value = null;
-        if (RUNTIME_VARIABLES.containsKey(key)) {
-            value = RUNTIME_VARIABLES.get(key);
-        } else if (ENVIRONMENT_VARIABLES.containsKey(key)) {
-            value = ENVIRONMENT_VARIABLES.get(key);
-        } else if (DEPLOYMENT_VARIABLES.containsKey(key)) {
-            value = DEPLOYMENT_VARIABLES.get(key);
-        } else if (MODULE_VARIABLES.containsKey(key)) {
-            value = MODULE_VARIABLES.get(key);
-        }
+        String value = snapshot.values.get(key);
         return (value != null) ? value : defaultValue;
     }
 
@@ -302,7 +334,7 @@ public class Configuration {
      * @param value the value
      */
     public static void set(String key, String value) {
-        RUNTIME_VARIABLES.put(key, value);
+        change(ConfigType.RUNTIME, variables -> variables.put(key, value));
     }
 
     /**
@@ -311,7 +343,7 @@ public class Configuration {
      * @param key the key
      */
     public static void remove(String key) {
-        RUNTIME_VARIABLES.remove(key);
+        change(ConfigType.RUNTIME, variables -> variables.remove(key));
     }
 
     /**
@@ -320,12 +352,35 @@ public class Configuration {
      * @return the keys
      */
     public static String[] getKeys() {
-        Set<String> keys = new HashSet<>();
-        keys.addAll(RUNTIME_VARIABLES.keySet());
-        keys.addAll(ENVIRONMENT_VARIABLES.keySet());
-        keys.addAll(DEPLOYMENT_VARIABLES.keySet());
-        keys.addAll(MODULE_VARIABLES.keySet());
-        return keys.toArray(new String[] {});
+        return snapshot.values.keySet()
+                              .toArray(new String[] {});
+    }
+
+    /**
+     * Gets the version of the configuration, which is incremented on every change.
+     *
+     * @return the version
+     */
+    public static long getVersion() {
+        return snapshot.version;
+    }
+
+    /**
+     * Adds a listener notified after the configuration has changed.
+     *
+     * @param listener the listener
+     */
+    public static void addChangeListener(ConfigurationChangeListener listener) {
+        LISTENERS.add(listener);
+    }
+
+    /**
+     * Removes the change listener.
+     *
+     * @param listener the listener
+     */
+    public static void removeChangeListener(ConfigurationChangeListener listener) {
+        LISTENERS.remove(listener);
     }
 
     /**
@@ -339,8 +394,10 @@ public class Configuration {
      * Load environment config.
      */
     private static void loadEnvironmentConfig() {
-        addConfigProperties(System.getenv(), ConfigType.ENVIRONMENT);
-        addConfigProperties(System.getProperties(), ConfigType.ENVIRONMENT);
+        change(ConfigType.ENVIRONMENT, variables -> {
+            variables.putAll(System.getenv());
+            addConfigProperties(System.getProperties(), variables);
+        });
     }
 
     /**
@@ -349,63 +406,87 @@ public class Configuration {
      * @param properties the properties
      * @param type the type
      */
-    private static void addConfigProperties(Map<String, String> properties, ConfigType type) {
-        switch (type) {
-            case RUNTIME:
-                RUNTIME_VARIABLES.putAll(properties);
-                break;
-            case ENVIRONMENT:
-                ENVIRONMENT_VARIABLES.putAll(properties);
-                break;
-            case DEPLOYMENT:
-                DEPLOYMENT_VARIABLES.putAll(properties);
-                break;
-            case MODULE:
-                MODULE_VARIABLES.putAll(properties);
-                break;
-            default:
-                break;
+    private static void addConfigProperties(Properties properties, ConfigType type) {
+        change(type, variables -> addConfigProperties(properties, variables));
+    }
 
-        }
+    /**
+     * Gets the variables of the type.
+     *
+     * @param type the type
+     * @return the variables
+     */
+    private static Map<String, String> getVariables(ConfigType type) {
+        return switch (type) {
+            case RUNTIME -> RUNTIME_VARIABLES;
+            case ENVIRONMENT -> ENVIRONMENT_VARIABLES;
+            case DEPLOYMENT -> DEPLOYMENT_VARIABLES;
+            case MODULE -> MODULE_VARIABLES;
+        };
     }
 
     /**
-     * Adds the config properties.
+     * Changes the variables of the type, publishes the new snapshot and notifies the listeners.
      *
-     * @param properties the properties
      * @param type the type
+     * @param change the change
      */
-    private static void addConfigProperties(Properties properties, ConfigType type) {
-        switch (type) {
-            case RUNTIME:
-                addConfigProperties(properties, RUNTIME_VARIABLES);
-                break;
-            case ENVIRONMENT:
-                addConfigProperties(properties, ENVIRONMENT_VARIABLES);
-                break;
-            case DEPLOYMENT:
-                addConfigProperties(properties, DEPLOYMENT_VARIABLES);
-                break;
-            case MODULE:
-                addConfigProperties(properties, MODULE_VARIABLES);
-                break;
-            default:
-                break;
+    private static void change(ConfigType type, Consumer<Map<String, String>> change) {
+        Set<String> changed;
+        synchronized (LOCK) {
+            change.accept(getVariables(type));
+            changed = publish();
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+        Set<String> keys = Collections.unmodifiableSet(changed);
+        for (ConfigurationChangeListener listener : LISTENERS) {
+            try {
+                listener.onChange(keys);
+            } catch (RuntimeException e) {
+                logger.error("Configuration change listener [{}] failed", listener, e);
+            }
         }
     }
 
+    /**
+     * Merges the variables in the order of their precedence and publishes them as a new snapshot, if
+     * they have changed. Must be called while holding the lock.
+     *
+     * @return the changed keys
+     */
+    private static Set<String> publish() {
+        Map<String, String> merged = new HashMap<>(MODULE_VARIABLES);
+        merged.putAll(DEPLOYMENT_VARIABLES);
+        merged.putAll(ENVIRONMENT_VARIABLES);
+        merged.putAll(RUNTIME_VARIABLES);
+        Snapshot current = snapshot;
+        if (merged.equals(current.values)) {
+            return Collections.emptySet();
+        }
+        Set<String> changed = new HashSet<>();
+        merged.forEach((key, value) -> {
+            if (!current.values.containsKey(key) || !Objects.equals(value, current.values.get(key))) {
+                changed.add(key);
+            }
+        });
+        current.values.keySet()
+                      .stream()
+                      .filter(key -> !merged.containsKey(key))
+                      .forEach(changed::add);
+        snapshot = new Snapshot(Collections.unmodifiableMap(merged), current.version + 1);
+        return changed;
+    }
+
     /**
      * Checks if is anonymous mode enabled.
      *
      * @return true, if is anonymous mode enabled
      */
     public static boolean isAnonymousModeEnabled() {
-        try {
-            Class.forName("org.eclipse.dirigible.runtime.anonymous.AnonymousAccess");
-        } catch (ClassNotFoundException e) {
-            return false;
-        }
-        return !isProtectedModeEnabled();
+        return getFlag("anonymous-mode",
+                current -> isClassPresent("org.eclipse.dirigible.runtime.anonymous.AnonymousAccess") && !isProtectedModeEnabled(current));
     }
 
     /**
@@ -413,8 +494,8 @@ public class Configuration {
      *
      * @return true, if is protected mode enabled
      */
-    private static boolean isProtectedModeEnabled() {
-        return isKeycloakModeEnabled() || isOAuthAuthenticationEnabled() || isJwtModeEnabled();
+    private static boolean isProtectedModeEnabled(Snapshot current) {
+        return isActiveSpringProfile(current, "keycloak") || isActiveSpringProfile(current, "oauth") || isJwtModeEnabled(current);
     }
 
     /**
@@ -423,12 +504,8 @@ public class Configuration {
      * @return true, if is anonymous user enabled
      */
     public static boolean isAnonymousUserEnabled() {
-        try {
-            Class.forName("org.eclipse.dirigible.anonymous.AnonymousUser");
-        } catch (ClassNotFoundException e) {
-            return false;
-        }
-        return !isProtectedModeEnabled();
+        return getFlag("anonymous-user",
+                current -> isClassPresent("org.eclipse.dirigible.anonymous.AnonymousUser") && !isProtectedModeEnabled(current));
     }
 
     /**
@@ -437,7 +514,7 @@ public class Configuration {
      * @return true, if the OAuth authentication is enabled
      */
     public static boolean isOAuthAuthenticationEnabled() {
-        return isActiveSpringProfile("oauth");
+        return getFlag("oauth", current -> isActiveSpringProfile(current, "oauth"));
     }
 
     /**
@@ -446,17 +523,21 @@ public class Configuration {
      * @return true, if the Keycloak authentication is enabled
      */
     public static boolean isKeycloakModeEnabled() {
-        return isActiveSpringProfile("keycloak");
+        return getFlag("keycloak", current -> isActiveSpringProfile(current, "keycloak"));
     }
 
     /**
      * Checks if is active spring profile.
      *
+     * @param current the snapshot
      * @param profile the profile
      * @return true, if is active spring profile
      */
-    private static boolean isActiveSpringProfile(String profile) {
-        return get("spring.profiles.active", "").contains(profile) || get("spring_profiles_active", "").contains(profile);
+    private static boolean isActiveSpringProfile(Snapshot current, String profile) {
+        return current.get("spring.profiles.active", "")
+                      .contains(profile)
+                || current.get("spring_profiles_active", "")
+                          .contains(profile);
     }
 
     /**
@@ -465,16 +546,51 @@ public class Configuration {
      * @return true, if is JWT mode enabled
      */
     public static boolean isJwtModeEnabled() {
-        boolean enabled = false;
-        if (isOAuthAuthenticationEnabled()) {
+        return getFlag("jwt", Configuration::isJwtModeEnabled);
+    }
+
+    /**
+     * Checks if is JWT mode enabled.
+     *
+     * @param current the snapshot
+     * @return true, if is JWT mode enabled
+     */
+    private static boolean isJwtModeEnabled(Snapshot current) {
+        return isActiveSpringProfile(current, "oauth") && isClassPresent("org.eclipse.dirigible.jwt.JwtAccess");
+    }
+
+    /**
+     * Gets the flag derived from the current snapshot, computing it once per snapshot.
+     *
+     * @param name the name
+     * @param function the function computing the flag
+     * @return the flag
+     */
+    private static boolean getFlag(String name, Predicate<Snapshot> function) {
+        Snapshot current = snapshot;
+        Boolean flag = current.flags.get(name);
+        if (flag == null) {
+            flag = function.test(current);
+            current.flags.put(name, flag);
+        }
+        return flag;
+    }
+
+    /**
+     * Checks if the class is present, loading it once.
+     *
+     * @param className the class name
+     * @return true, if the class is present
+     */
+    private static boolean isClassPresent(String className) {
+        return CLASSES_PRESENCE.computeIfAbsent(className, name -> {
             try {
-                Class.forName("org.eclipse.dirigible.jwt.JwtAccess");
-                enabled = true;
+                Class.forName(name);
+                return true;
             } catch (ClassNotFoundException e) {
-                // Do nothing
+                return false;
             }
-        }
-        return enabled;
+        });
     }
 
     /**
@@ -483,7 +599,7 @@ public class Configuration {
      * @return true, if productive iframe is enabled
      */
     public static boolean isProductiveIFrameEnabled() {
-        return Boolean.parseBoolean(Configuration.get("DIRIGIBLE_PRODUCTIVE_IFRAME_ENABLED", Boolean.TRUE.toString()));
+        return getAsBoolean("DIRIGIBLE_PRODUCTIVE_IFRAME_ENABLED", true);
     }
 
     /**
@@ -492,7 +608,7 @@ public class Configuration {
      * @return true, if Web IDE Terminal is enabled
      */
     public static boolean isTerminalEnabled() {
-        return Boolean.parseBoolean(Configuration.get("DIRIGIBLE_TERMINAL_ENABLED", Boolean.TRUE.toString()));
+        return getAsBoolean("DIRIGIBLE_TERMINAL_ENABLED", true);
     }
 
     /**
@@ -511,7 +627,9 @@ public class Configuration {
      * @return the map of the runtime variables
      */
     public static Map<String, String> getRuntimeVariables() {
-        return new HashMap<>(RUNTIME_VARIABLES);
+        synchronized (LOCK) {
+            return new HashMap<>(RUNTIME_VARIABLES);
+        }
     }
 
     /**
@@ -520,7 +638,9 @@ public class Configuration {
      * @return the map of the variables from the environment
      */
     public static Map<String, String> getEnvironmentVariables() {
-        return new HashMap<>(ENVIRONMENT_VARIABLES);
+        synchronized (LOCK) {
+            return new HashMap<>(ENVIRONMENT_VARIABLES);
+        }
     }
 
     /**
@@ -529,7 +649,9 @@ public class Configuration {
      * @return the map of the variables from the dirigible.properties files
      */
     public static Map<String, String> getDeploymentVariables() {
-        return new HashMap<>(DEPLOYMENT_VARIABLES);
+        synchronized (LOCK) {
+            return new HashMap<>(DEPLOYMENT_VARIABLES);
+        }
     }
 
     /**
@@ -538,7 +660,9 @@ public class Configuration {
      * @return the map of the variables from the module's dirigible-*.properties files
      */
     public static Map<String, String> getModuleVariables() {
-        return new HashMap<>(MODULE_VARIABLES);
+        synchronized (LOCK) {
+            return new HashMap<>(MODULE_VARIABLES);
+        }
     }
 
     /**
@@ -650,4 +774,48 @@ public class Configuration {
             logger.error(e.getMessage(), e);
         }
     }
+
+    /**
+     * The immutable merged variables together with the values derived from them.
+     */
+    private static final class Snapshot {
+
+        /** The values. */
+        private final Map<String, String> values;
+
+        /** The version. */
+        private final long version;
+
+        /** The parsed int values. */
+        private final Map<String, Object> ints = new ConcurrentHashMap<>();
+
+        /** The parsed boolean values. */
+        private final Map<String, Object> booleans = new ConcurrentHashMap<>();
+
+        /** The derived flags. */
+        private final Map<String, Boolean> flags = new ConcurrentHashMap<>();
+
+        /**
+         * Instantiates a new snapshot.
+         *
+         * @param values the values
+         * @param version the version
+         */
+        private Snapshot(Map<String, String> values, long version) {
+            this.values = values;
+            this.version = version;
+        }
+
+        /**
+         * Gets the value.
+         *
+         * @param key the key
+         * @param defaultValue the default value
+         * @return the value
+         */
+        private String get(String key, String defaultValue) {
+            String value = values.get(key);
+            return value != null ? value : defaultValue;
+        }
+    }
 }
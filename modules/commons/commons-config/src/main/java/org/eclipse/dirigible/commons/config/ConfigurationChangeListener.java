@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.commons.config;
+
+import java.util.Set;
+
+/**
+ * Listener notified after the configuration has changed, so that the values derived from it can be
+ * recalculated.
+ */
+@FunctionalInterface
+public interface ConfigurationChangeListener {
+
+    /**
+     * Called after the configuration has changed, on the thread which changed it.
+     *
+     * @param keys the changed keys
+     */
+    void onChange(Set<String> keys);
+
+}
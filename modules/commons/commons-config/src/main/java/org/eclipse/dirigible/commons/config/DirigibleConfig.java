@@ -141,8 +141,7 @@ public enum DirigibleConfig {
      * @return the boolean value
      */
     public boolean getBooleanValue() {
-        String configValue = getStringValue();
-        return Boolean.valueOf(configValue);
+        return Configuration.getAsBoolean(key, Boolean.parseBoolean(defaultValue));
     }
 
     /**
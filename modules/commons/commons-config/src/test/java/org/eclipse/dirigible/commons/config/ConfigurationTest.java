@@ -9,6 +9,10 @@
  */
 package org.eclipse.dirigible.commons.config;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 import org.junit.Test;
 
 import static org.junit.Assert.*;
@@ -176,4 +180,74 @@ public class ConfigurationTest {
         assertEquals("my-test-project ${projectVersion} - Application View", o.s5);
     }
 
+    /**
+     * Typed values test.
+     */
+    @Test
+    public void typedValuesTest() {
+        String property = "TEST_TYPED_PROPERTY";
+
+        assertEquals(5, Configuration.getAsInt(property, 5));
+        assertTrue(Configuration.getAsBoolean(property, true));
+
+        Configuration.set(property, "42");
+        assertEquals(42, Configuration.getAsInt(property, 5));
+
+        Configuration.set(property, "not a number");
+        assertEquals(5, Configuration.getAsInt(property, 5));
+
+        Configuration.set(property, "false");
+        assertFalse(Configuration.getAsBoolean(property, true));
+
+        Configuration.remove(property);
+        assertEquals(5, Configuration.getAsInt(property, 5));
+        assertTrue(Configuration.getAsBoolean(property, true));
+    }
+
+    /**
+     * Runtime null value test.
+     */
+    @Test
+    public void runtimeNullValueTest() {
+        String property = "DIRIGIBLE_PRODUCT_TYPE";
+
+        Configuration.set(property, null);
+        assertEquals("default", Configuration.get(property, "default"));
+
+        Configuration.remove(property);
+        assertNotNull(Configuration.get(property));
+    }
+
+    /**
+     * Change listener test.
+     */
+    @Test
+    public void changeListenerTest() {
+        String property = "TEST_LISTENED_PROPERTY";
+        List<Set<String>> changes = new ArrayList<>();
+        ConfigurationChangeListener listener = changes::add;
+        Configuration.addChangeListener(listener);
+        try {
+            long version = Configuration.getVersion();
+
+            Configuration.set(property, "value");
+            assertEquals(List.of(Set.of(property)), changes);
+            assertTrue(Configuration.getVersion() > version);
+
+            version = Configuration.getVersion();
+            Configuration.set(property, "value");
+            assertEquals(1, changes.size());
+            assertEquals(version, Configuration.getVersion());
+
+            Configuration.remove(property);
+            assertEquals(2, changes.size());
+            assertEquals(Set.of(property), changes.get(1));
+        } finally {
+            Configuration.removeChangeListener(listener);
+        }
+        Configuration.set(property, "other");
+        assertEquals(2, changes.size());
+        Configuration.remove(property);
+    }
+
 }
@@ -20,7 +20,7 @@ import org.eclipse.dirigible.database.persistence.parser.Serializer;
 import org.eclipse.dirigible.database.persistence.processors.AbstractPersistenceProcessor;
 import org.eclipse.dirigible.database.sql.ISqlKeywords;
 import org.eclipse.dirigible.database.sql.SqlFactory;
-import org.eclipse.dirigible.database.sql.builders.sequence.NextValueSequenceBuilder;
+import org.eclipse.dirigible.database.sql.SqlStatementCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -50,11 +50,9 @@ public class PersistenceNextValueSequenceProcessor extends AbstractPersistencePr
      */
     @Override
     protected String generateScript(Connection connection, PersistenceTableModel tableModel) {
-        NextValueSequenceBuilder nextValueBuilder = SqlFactory.getNative(SqlFactory.deriveDialect(connection))
-                                                              .nextval(tableModel.getTableName() + ISqlKeywords.UNDERSCROE
-                                                                      + ISqlKeywords.KEYWORD_SEQUENCE);
-
-        String sql = nextValueBuilder.toString();
+        String sequence = tableModel.getTableName() + ISqlKeywords.UNDERSCROE + ISqlKeywords.KEYWORD_SEQUENCE;
+        String sql = SqlStatementCache.get(SqlFactory.deriveDialect(connection), "nextval:" + sequence, factory -> factory.nextval(sequence)
+                                                                                                                          .toString());
         if (logger.isTraceEnabled()) {
             logger.trace(sql);
         }
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.sql;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+
+/**
+ * Cache of the SQL statements built for a dialect.
+ *
+ * The statements, which are built over and over again with the same shape, e.g. the next value of a
+ * sequence, are built once per dialect and key. The cache is cleared, when it exceeds its size.
+ */
+public class SqlStatementCache {
+
+    /** The Constant DIRIGIBLE_DATABASE_SQL_CACHE_SIZE. */
+    private static final String DIRIGIBLE_DATABASE_SQL_CACHE_SIZE = "DIRIGIBLE_DATABASE_SQL_CACHE_SIZE";
+
+    /** The statements by dialect and key. */
+    private static final Map<StatementKey, String> STATEMENTS = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new sql statement cache.
+     */
+    private SqlStatementCache() {}
+
+    /**
+     * Gets the statement for the dialect and key, building it on first use.
+     *
+     * @param dialect the dialect
+     * @param key the key, which identifies the shape of the statement
+     * @param builder the builder of the statement
+     * @return the statement
+     */
+    public static String get(ISqlDialect dialect, String key, Function<SqlFactory, String> builder) {
+        StatementKey statementKey = new StatementKey(dialect.getClass(), key);
+        String statement = STATEMENTS.get(statementKey);
+        if (statement == null) {
+            statement = builder.apply(SqlFactory.getNative(dialect));
+            if (STATEMENTS.size() >= Configuration.getAsInt(DIRIGIBLE_DATABASE_SQL_CACHE_SIZE, 1000)) {
+                STATEMENTS.clear();
+            }
+            STATEMENTS.put(statementKey, statement);
+        }
+        return statement;
+    }
+
+    /**
+     * Clears the cache.
+     */
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    /**
+     * The key of a statement.
+     *
+     * @param dialect the class of the dialect
+     * @param key the key
+     */
+    private record StatementKey(Class<?> dialect, String key) {
+    }
+
+}
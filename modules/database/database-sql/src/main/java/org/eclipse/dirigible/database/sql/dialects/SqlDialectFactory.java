@@ -9,6 +9,8 @@
  */
 package org.eclipse.dirigible.database.sql.dialects;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.eclipse.dirigible.components.database.DatabaseSystem;
 import org.eclipse.dirigible.components.database.DatabaseSystemDeterminer;
 import org.eclipse.dirigible.components.database.DirigibleConnection;
@@ -23,12 +25,18 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.ServiceLoader;
 
 /**
  * A factory for creating SqlDialect objects.
+ *
+ * The dialects are resolved by database system. The Dirigible data sources and their connections
+ * know their database system. The database system of any other data source is remembered for as
+ * long as the data source is in use, and the one of any other connection - by the JDBC URL of the
+ * connection, as the pooled connections are usually new objects or proxies on every lease. So
+ * resolving the dialect neither opens connections nor determines the database system on every call.
  */
 public class SqlDialectFactory {
 
@@ -37,7 +45,24 @@ public class SqlDialectFactory {
     /** The Constant ACCESS_MANAGERS. */
     private static final ServiceLoader<ISqlDialectProvider> SQL_PROVIDERS = ServiceLoader.load(ISqlDialectProvider.class);
 
-    private static final Map<DatabaseSystem, ISqlDialect> dialectsBySystem = Collections.synchronizedMap(new HashMap<>());
+    /**
+     * The database systems of the data sources, which are not Dirigible data sources, weakly keyed by
+     * identity.
+     */
+    private static final Cache<DataSource, DatabaseSystem> dataSourceSystems = Caffeine.newBuilder()
+                                                                                       .weakKeys()
+                                                                                       .build();
+
+    /** The Constant MAX_JDBC_URLS. */
+    private static final int MAX_JDBC_URLS = 1000;
+
+    /** The database systems of the connections, which are not Dirigible connections, by JDBC URL. */
+    private static final Cache<String, DatabaseSystem> jdbcUrlSystems = Caffeine.newBuilder()
+                                                                                .maximumSize(MAX_JDBC_URLS)
+                                                                                .build();
+
+    /** The dialects by system, replaced as a whole on reload. */
+    private static volatile Map<DatabaseSystem, ISqlDialect> dialectsBySystem = Collections.emptyMap();
 
     static {
         loadDefaultDialectsBySystem();
@@ -48,9 +73,14 @@ public class SqlDialectFactory {
             return getDialect(dds);
         }
 
-        try (Connection connection = dataSource.getConnection()) {
-            return getDialect(connection);
+        DatabaseSystem databaseSystem = dataSourceSystems.getIfPresent(dataSource);
+        if (databaseSystem == null) {
+            try (Connection connection = dataSource.getConnection()) {
+                databaseSystem = determine(connection);
+            }
+            dataSourceSystems.put(dataSource, databaseSystem);
         }
+        return getDialect(databaseSystem);
     }
 
     /**
@@ -64,12 +94,27 @@ public class SqlDialectFactory {
         if (connection instanceof DirigibleConnection dc) {
             return getDialect(dc);
         }
+        return getDialect(determine(connection));
+    }
+
+    /**
+     * Determines the database system of the connection from its metadata, once per JDBC URL.
+     *
+     * @param connection the connection
+     * @return the database system
+     * @throws SQLException the SQL exception
+     */
+    private static DatabaseSystem determine(Connection connection) throws SQLException {
         DatabaseMetaData metaData = connection.getMetaData();
         String jdbcUrl = metaData.getURL();
-        String driver = metaData.getDriverName();
-        DatabaseSystem databaseSystem = DatabaseSystemDeterminer.determine(jdbcUrl, driver);
-
-        return getDialect(databaseSystem);
+        DatabaseSystem databaseSystem = jdbcUrl != null ? jdbcUrlSystems.getIfPresent(jdbcUrl) : null;
+        if (databaseSystem == null) {
+            databaseSystem = DatabaseSystemDeterminer.determine(jdbcUrl, metaData.getDriverName());
+            if (jdbcUrl != null) {
+                jdbcUrlSystems.put(jdbcUrl, databaseSystem);
+            }
+        }
+        return databaseSystem;
     }
 
     public static ISqlDialect getDialect(DirigibleConnection connection) throws SQLException {
@@ -90,14 +135,17 @@ public class SqlDialectFactory {
                 throw new IllegalStateException("Database dialect for [" + databaseSystem + "] is not available.");
             }
         }
-        LOGGER.debug("Loaded dialect [{}] for [{}]", dialect, databaseSystem);
         return dialect;
     }
 
-    private static void loadDefaultDialectsBySystem() {
+    private static synchronized void loadDefaultDialectsBySystem() {
+        Map<DatabaseSystem, ISqlDialect> dialects = new EnumMap<>(DatabaseSystem.class);
+        dialects.putAll(dialectsBySystem);
         for (ISqlDialectProvider provider : SQL_PROVIDERS) {
-            dialectsBySystem.put(provider.getDatabaseSystem(), provider.getDialect());
+            dialects.put(provider.getDatabaseSystem(), provider.getDialect());
         }
+        LOGGER.debug("Loaded dialects [{}]", dialects);
+        dialectsBySystem = dialects;
     }
 
 }
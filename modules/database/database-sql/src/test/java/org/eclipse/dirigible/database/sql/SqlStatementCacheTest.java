@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.database.sql;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.dirigible.database.sql.dialects.DefaultSqlDialect;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * The Class SqlStatementCacheTest.
+ */
+public class SqlStatementCacheTest {
+
+    /**
+     * Clear the cache.
+     */
+    @After
+    public void clear() {
+        SqlStatementCache.clear();
+    }
+
+    /**
+     * Statement is built once per key.
+     */
+    @Test
+    public void statementIsBuiltOncePerKey() {
+        AtomicInteger builds = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            String sql = SqlStatementCache.get(new DefaultSqlDialect(), "nextval:CUSTOMERS_SEQUENCE", factory -> {
+                builds.incrementAndGet();
+                return factory.nextval("CUSTOMERS_SEQUENCE")
+                              .build();
+            });
+            assertEquals("SELECT NEXT VALUE FOR \"CUSTOMERS_SEQUENCE\"", sql);
+        }
+        assertEquals(1, builds.get());
+
+        SqlStatementCache.get(new DefaultSqlDialect(), "nextval:ORDERS_SEQUENCE", factory -> {
+            builds.incrementAndGet();
+            return factory.nextval("ORDERS_SEQUENCE")
+                          .build();
+        });
+        assertEquals(2, builds.get());
+    }
+
+}
@@ -11,6 +11,7 @@ package org.eclipse.dirigible.graalium.core;
 
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
@@ -121,8 +122,14 @@ public class DirigibleJavascriptCodeRunner implements CodeRunner<Source, Value>
                                                              .addJSPolyfill(new RequirePolyfill())
                                                              .addGlobalObject(new DirigibleContextGlobalObject(context))
                                                              .addGlobalObject(new DirigibleEngineTypeGlobalObject());
+        // the resolved modules depend on the root of the source provider and on the module resolvers
+        Path registryPath = sourceProvider.getAbsoluteProjectPath("");
+        String resolvedModulesScope = registryPath.toString();
         if (externalModuleResolver.isPresent()) {
             builder.addModuleResolver(externalModuleResolver.get());
+            resolvedModulesScope += "|" + externalModuleResolver.get()
+                                                                .getClass()
+                                                                .getName();
         }
 
         return builder.addModuleResolver(new JavaModuleResolver(javaModulesESMProxiesCachePath))
@@ -134,6 +141,9 @@ public class DirigibleJavascriptCodeRunner implements CodeRunner<Source, Value>
                       .addOnAfterContextCreatedListener(onAfterContextCreatedListener)
                       .setOnRealPathNotFound(p -> sourceProvider.unpackedToFileSystem(p, workingDirectoryPath.relativize(p)))
                       .setInterceptor(interceptor)
+                      .cacheResolvedModules(resolvedModulesScope)
+                      // only the published contents are invalidated on publish
+                      .cacheModuleContents(registryPath)
                       .build();
     }
 
@@ -196,6 +206,27 @@ public class DirigibleJavascriptCodeRunner implements CodeRunner<Source, Value>
         return codeRunner.prepareSource(codeFilePath);
     }
 
+    /**
+     * Prepare the Source of the module, which wraps the code file, so that it can be run repeatedly by
+     * a reused runner.
+     *
+     * @param codeFilePath the code file path to use
+     * @return the source or null, if the code file cannot be wrapped
+     */
+    public Source prepareEntrySource(Path codeFilePath) {
+        return codeRunner.prepareEntrySource(codeFilePath);
+    }
+
+    /**
+     * Run the code file wrapped by the given module.
+     *
+     * @param entrySource the source prepared by {@link #prepareEntrySource(Path)}
+     * @return the value
+     */
+    public Value runEntry(Source entrySource) {
+        return codeRunner.runEntry(entrySource);
+    }
+
     /**
      * Run the given source.
      *
@@ -232,6 +263,33 @@ public class DirigibleJavascriptCodeRunner implements CodeRunner<Source, Value>
         return onMessage.execute(args);
     }
 
+    /**
+     * Rebinds the __context global object to the given parameters. Used when a runner is reused for
+     * another invocation.
+     *
+     * @param context the parameters
+     */
+    public void resetContext(Map<Object, Object> context) {
+        codeRunner.addGlobalObjects(List.of(new DirigibleContextGlobalObject(context)));
+    }
+
+    /**
+     * Takes a snapshot of the global object, before the runner is used for the first time.
+     */
+    public void snapshotGlobals() {
+        codeRunner.snapshotGlobals();
+    }
+
+    /**
+     * Restores the global object to the snapshot taken by {@link #snapshotGlobals()}, i.e. removes
+     * the properties added to globalThis and redefines the replaced ones.
+     *
+     * @return true, if the global object has been fully restored
+     */
+    public boolean restoreGlobals() {
+        return codeRunner.restoreGlobals();
+    }
+
     /**
      * Gets the code runner.
      *
@@ -0,0 +1,505 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core;
+
+import java.nio.file.Path;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.graalvm.polyglot.Source;
+import org.graalvm.polyglot.Value;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded pool of warmed {@link DirigibleJavascriptCodeRunner} instances, keyed by tenant and
+ * project.
+ *
+ * A pooled runner keeps its Graal context, polyfills and already loaded modules between
+ * invocations. When a runner is returned, the own properties of globalThis are restored to the
+ * snapshot taken when the runner has been created (see {@link DirigibleJavascriptCodeRunner#restoreGlobals()}),
+ * and the runner is evicted if they cannot be restored. Before each reuse the __context global
+ * object is rebound to the parameters of the current invocation. The executed code file itself is
+ * wrapped in a module, which is evaluated once per runner and exports the code of the file as a
+ * function, which is executed on each invocation (see {@link Lease#prepareSource(Path)}), so the
+ * top-level variables of the code file are not shared between the invocations.
+ *
+ * What is shared between the invocations of a runner is the module-level state of the imported
+ * modules (they are evaluated once per runner) and the state of the objects referenced by the
+ * global properties, e.g. a changed built-in prototype. Since a runner is only reused for the same
+ * tenant and project, such state never crosses a tenant or a project, but it can be seen by the
+ * requests of different users of the same tenant. Runners are recycled after a configurable number
+ * of usages, after a failed invocation and whenever the pool is invalidated (e.g. on publish).
+ *
+ * The pool is disabled by default, in which case every lease wraps a fresh runner which is closed
+ * on release, i.e. the behavior is the same as creating the runner directly.
+ */
+public class DirigibleJavascriptCodeRunnerPool {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(DirigibleJavascriptCodeRunnerPool.class);
+
+    /** The Constant DIRIGIBLE_JAVASCRIPT_CONTEXT_POOL_ENABLED. */
+    public static final String DIRIGIBLE_JAVASCRIPT_CONTEXT_POOL_ENABLED = "DIRIGIBLE_JAVASCRIPT_CONTEXT_POOL_ENABLED";
+
+    /** The Constant DIRIGIBLE_JAVASCRIPT_CONTEXT_POOL_MAX_IDLE_PER_PROJECT. */
+    public static final String DIRIGIBLE_JAVASCRIPT_CONTEXT_POOL_MAX_IDLE_PER_PROJECT =
+            "DIRIGIBLE_JAVASCRIPT_CONTEXT_POOL_MAX_IDLE_PER_PROJECT";
+
+    /** The Constant DIRIGIBLE_JAVASCRIPT_CONTEXT_POOL_MAX_IDLE_TOTAL. */
+    public static final String DIRIGIBLE_JAVASCRIPT_CONTEXT_POOL_MAX_IDLE_TOTAL = "DIRIGIBLE_JAVASCRIPT_CONTEXT_POOL_MAX_IDLE_TOTAL";
+
+    /** The Constant DIRIGIBLE_JAVASCRIPT_CONTEXT_POOL_MAX_USAGES. */
+    public static final String DIRIGIBLE_JAVASCRIPT_CONTEXT_POOL_MAX_USAGES = "DIRIGIBLE_JAVASCRIPT_CONTEXT_POOL_MAX_USAGES";
+
+    /** The Constant INSTANCE. */
+    private static final DirigibleJavascriptCodeRunnerPool INSTANCE = new DirigibleJavascriptCodeRunnerPool();
+
+    /** The idle runners per tenant and project. */
+    private final Map<String, IdleRunners> idleRunners = new ConcurrentHashMap<>();
+
+    /** The total count of the idle runners. */
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    /** The generation, incremented on each invalidation. */
+    private final AtomicLong generation = new AtomicLong();
+
+    /** The hits. */
+    private final AtomicLong hits = new AtomicLong();
+
+    /** The creations. */
+    private final AtomicLong creations = new AtomicLong();
+
+    /** The evictions. */
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Gets the pool.
+     *
+     * @return the pool
+     */
+    public static DirigibleJavascriptCodeRunnerPool get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Checks if pooling is enabled.
+     *
+     * @return true, if enabled
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(Configuration.get(DIRIGIBLE_JAVASCRIPT_CONTEXT_POOL_ENABLED, Boolean.FALSE.toString()));
+    }
+
+    /**
+     * Borrows a runner for the given project of the given tenant. Debug runners and runners of an
+     * unknown tenant are never pooled.
+     *
+     * @param tenantId the tenant id or null, if unknown
+     * @param projectName the project name
+     * @param context the parameters
+     * @param debug the debug
+     * @return the lease, which has to be closed after the invocation
+     */
+    public Lease borrow(String tenantId, String projectName, Map<Object, Object> context, boolean debug) {
+        if (debug || tenantId == null || !isEnabled()) {
+            return new Lease(this, null, new PooledCodeRunner(createRunner(context, debug), -1), false, context);
+        }
+        String key = tenantId + ":" + projectName;
+        IdleRunners idle = idleRunners.get(key);
+        if (idle != null) {
+            PooledCodeRunner pooled;
+            while ((pooled = idle.poll()) != null) {
+                idleCount.decrementAndGet();
+                if (pooled.generation == generation.get()) {
+                    pooled.runner.resetContext(context);
+                    hits.incrementAndGet();
+                    return new Lease(this, key, pooled, true, context);
+                }
+                evict(pooled);
+            }
+        }
+        creations.incrementAndGet();
+        long currentGeneration = generation.get();
+        DirigibleJavascriptCodeRunner runner = createRunner(context, false);
+        try {
+            runner.snapshotGlobals();
+        } catch (RuntimeException e) {
+            runner.close();
+            throw e;
+        }
+        return new Lease(this, key, new PooledCodeRunner(runner, currentGeneration), true, context);
+    }
+
+    /**
+     * Creates a runner.
+     *
+     * @param context the parameters
+     * @param debug the debug
+     * @return the runner
+     */
+    DirigibleJavascriptCodeRunner createRunner(Map<Object, Object> context, boolean debug) {
+        return new DirigibleJavascriptCodeRunner(context, debug);
+    }
+
+    /**
+     * Returns the runner of the lease back to the pool, or closes it if it cannot be reused.
+     *
+     * @param lease the lease
+     */
+    private void release(Lease lease) {
+        if (!lease.poolable) {
+            lease.pooled.runner.close();
+            return;
+        }
+        release(lease.key, lease.pooled, lease.discarded);
+    }
+
+    /**
+     * Returns the runner back to the pool, or closes it if it cannot be reused.
+     *
+     * @param key the key of the tenant and project
+     * @param pooled the pooled runner
+     * @param discarded whether the runner has been discarded
+     */
+    private void release(String key, PooledCodeRunner pooled, boolean discarded) {
+        int maxUsages = Configuration.getAsInt(DIRIGIBLE_JAVASCRIPT_CONTEXT_POOL_MAX_USAGES, 100);
+        int maxIdlePerProject = Configuration.getAsInt(DIRIGIBLE_JAVASCRIPT_CONTEXT_POOL_MAX_IDLE_PER_PROJECT, 4);
+        int maxIdleTotal = Configuration.getAsInt(DIRIGIBLE_JAVASCRIPT_CONTEXT_POOL_MAX_IDLE_TOTAL, 64);
+        if (discarded || ++pooled.usages >= maxUsages || pooled.generation != generation.get()) {
+            evict(pooled);
+            return;
+        }
+        IdleRunners idle = idleRunners.computeIfAbsent(key, k -> new IdleRunners());
+        if (!idle.reserve(maxIdlePerProject)) {
+            evict(pooled);
+            return;
+        }
+        if (idleCount.incrementAndGet() > maxIdleTotal) {
+            idleCount.decrementAndGet();
+            idle.cancel();
+            evict(pooled);
+            return;
+        }
+        boolean restored;
+        try {
+            restored = pooled.runner.restoreGlobals();
+            if (restored) {
+                pooled.runner.resetContext(null);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to restore the global object of a JavaScript runner", e);
+            restored = false;
+        }
+        if (!restored) {
+            idleCount.decrementAndGet();
+            idle.cancel();
+            evict(pooled);
+            return;
+        }
+        idle.offer(pooled);
+    }
+
+    /**
+     * Evicts the runner.
+     *
+     * @param pooled the pooled runner
+     */
+    private void evict(PooledCodeRunner pooled) {
+        evictions.incrementAndGet();
+        try {
+            pooled.runner.close();
+        } catch (RuntimeException e) {
+            logger.warn("Failed to close an evicted JavaScript runner", e);
+        }
+    }
+
+    /**
+     * Invalidates all the pooled runners, e.g. when the registry has been changed. Runners, which are
+     * in use at the moment, are closed on release.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        for (IdleRunners idle : idleRunners.values()) {
+            PooledCodeRunner pooled;
+            while ((pooled = idle.poll()) != null) {
+                idleCount.decrementAndGet();
+                evict(pooled);
+            }
+        }
+        logger.debug("JavaScript runners pool has been invalidated - hits [{}], creations [{}], evictions [{}]", getHits(), getCreations(),
+                getEvictions());
+    }
+
+    /**
+     * Gets the generation, which is incremented on each invalidation. Runners held outside of the pool
+     * have to be recreated when it changes.
+     *
+     * @return the generation
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Gets the hits.
+     *
+     * @return the hits
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the creations.
+     *
+     * @return the creations
+     */
+    public long getCreations() {
+        return creations.get();
+    }
+
+    /**
+     * Gets the evictions.
+     *
+     * @return the evictions
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * Gets the idle count.
+     *
+     * @return the idle count
+     */
+    public int getIdleCount() {
+        return idleCount.get();
+    }
+
+    /**
+     * Creates a snapshot of the counters of the pool.
+     *
+     * @return the snapshot
+     */
+    public Snapshot getSnapshot() {
+        return new Snapshot(getHits(), getCreations(), getEvictions(), getIdleCount());
+    }
+
+    /**
+     * The snapshot of the counters of the pool.
+     *
+     * @param hits the borrowed runners, which have been reused
+     * @param creations the borrowed runners, which have been created
+     * @param evictions the closed runners, which could not be reused
+     * @param idle the current count of the idle runners
+     */
+    public record Snapshot(long hits, long creations, long evictions, int idle) {
+    }
+
+    /**
+     * The pooled runner.
+     */
+    private static class PooledCodeRunner {
+
+        /** The runner. */
+        private final DirigibleJavascriptCodeRunner runner;
+
+        /** The generation. */
+        private final long generation;
+
+        /** The usages. */
+        private int usages;
+
+        /**
+         * Instantiates a new pooled code runner.
+         *
+         * @param runner the runner
+         * @param generation the generation
+         */
+        PooledCodeRunner(DirigibleJavascriptCodeRunner runner, long generation) {
+            this.runner = runner;
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * The idle runners of a project. A slot is reserved before a runner is returned, so that the count
+     * of the idle runners never exceeds the limit under concurrent releases.
+     */
+    private static class IdleRunners {
+
+        /** The runners, the most recently used one first. */
+        private final Deque<PooledCodeRunner> runners = new ConcurrentLinkedDeque<>();
+
+        /** The count of the reserved slots. */
+        private final AtomicInteger count = new AtomicInteger();
+
+        /**
+         * Reserves a slot for a runner.
+         *
+         * @param max the max count of the idle runners
+         * @return true, if reserved
+         */
+        boolean reserve(int max) {
+            int current;
+            do {
+                current = count.get();
+                if (current >= max) {
+                    return false;
+                }
+            } while (!count.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        /**
+         * Cancels a reserved slot.
+         */
+        void cancel() {
+            count.decrementAndGet();
+        }
+
+        /**
+         * Offers a runner to a reserved slot.
+         *
+         * @param pooled the pooled runner
+         */
+        void offer(PooledCodeRunner pooled) {
+            runners.offerFirst(pooled);
+        }
+
+        /**
+         * Polls the most recently used runner and frees its slot.
+         *
+         * @return the pooled runner or null, if none
+         */
+        PooledCodeRunner poll() {
+            PooledCodeRunner pooled = runners.pollFirst();
+            if (pooled != null) {
+                count.decrementAndGet();
+            }
+            return pooled;
+        }
+    }
+
+    /**
+     * The lease of a runner for a single invocation.
+     */
+    public static class Lease implements AutoCloseable {
+
+        /** The pool. */
+        private final DirigibleJavascriptCodeRunnerPool pool;
+
+        /** The key of the tenant and project or null, if not poolable. */
+        private final String key;
+
+        /** The parameters. */
+        private final Map<Object, Object> context;
+
+        /** The pooled runner. */
+        private PooledCodeRunner pooled;
+
+        /** Whether the runner can be returned to the pool. */
+        private boolean poolable;
+
+        /** Whether the prepared source is a module wrapping the code file. */
+        private boolean entry;
+
+        /** The discarded. */
+        private boolean discarded;
+
+        /**
+         * Instantiates a new lease.
+         *
+         * @param pool the pool
+         * @param key the key of the tenant and project
+         * @param pooled the pooled runner
+         * @param poolable the poolable
+         * @param context the parameters
+         */
+        private Lease(DirigibleJavascriptCodeRunnerPool pool, String key, PooledCodeRunner pooled, boolean poolable,
+                Map<Object, Object> context) {
+            this.pool = pool;
+            this.key = key;
+            this.pooled = pooled;
+            this.poolable = poolable;
+            this.context = context;
+        }
+
+        /**
+         * Gets the runner. The runner may be replaced by {@link #prepareSource(Path)}, hence it has to be
+         * taken after the source is prepared.
+         *
+         * @return the runner
+         */
+        public DirigibleJavascriptCodeRunner getRunner() {
+            return pooled.runner;
+        }
+
+        /**
+         * Prepares the source of the code file to be run with the leased runner. The code file of a
+         * poolable runner is wrapped in a module, which is evaluated once per runner and exports the code
+         * as a function, so that a reused runner runs it again without evaluating another module. A code
+         * file, which cannot be wrapped, is evaluated by a runner, which is closed on release, as the
+         * modules are evaluated only once per runner.
+         *
+         * @param codeFilePath the code file path
+         * @return the source
+         */
+        public Source prepareSource(Path codeFilePath) {
+            if (poolable) {
+                Source entrySource = pooled.runner.prepareEntrySource(codeFilePath);
+                if (entrySource != null) {
+                    entry = true;
+                    return entrySource;
+                }
+                if (pooled.usages > 0) {
+                    // the code file may have been imported by a previous invocation, so it is run by a new runner
+                    PooledCodeRunner reused = pooled;
+                    pooled = new PooledCodeRunner(pool.createRunner(context, false), -1);
+                    pool.release(key, reused, false);
+                }
+                poolable = false;
+            }
+            return pooled.runner.prepareSource(codeFilePath);
+        }
+
+        /**
+         * Runs the source prepared by {@link #prepareSource(Path)}.
+         *
+         * @param source the source
+         * @return the value
+         */
+        public Value run(Source source) {
+            return entry ? pooled.runner.runEntry(source) : pooled.runner.run(source);
+        }
+
+        /**
+         * Marks the runner as not reusable, e.g. after a failed invocation.
+         */
+        public void discard() {
+            this.discarded = true;
+        }
+
+        /**
+         * Releases the runner.
+         */
+        @Override
+        public void close() {
+            pool.release(this);
+        }
+    }
+
+}
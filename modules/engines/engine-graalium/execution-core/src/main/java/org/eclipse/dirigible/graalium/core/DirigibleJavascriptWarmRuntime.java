@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.eclipse.dirigible.graalium.core.javascript.modules.Module;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Long-lived {@link DirigibleJavascriptCodeRunner} with a loaded handler module, which is reused by
+ * consecutive executions of the same handler (e.g. the triggers of a job or the messages of a
+ * listener), so they do not pay for the creation of the context and the loading of the modules.
+ *
+ * The runner is recreated after a failed execution, after a given number of executions, when the
+ * key of the loaded handler changes and when the {@link DirigibleJavascriptCodeRunnerPool} is
+ * invalidated (e.g. on publish). The runtime is not thread safe, the executions have to be
+ * serialized by the caller.
+ */
+public class DirigibleJavascriptWarmRuntime implements AutoCloseable {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(DirigibleJavascriptWarmRuntime.class);
+
+    /** The name used in the log messages. */
+    private final String name;
+
+    /** The runner factory. */
+    private final Supplier<DirigibleJavascriptCodeRunner> runnerFactory;
+
+    /** The runner or null, if not loaded. */
+    private DirigibleJavascriptCodeRunner runner;
+
+    /** The handler module. */
+    private Module module;
+
+    /** The key of the loaded handler. */
+    private Object key;
+
+    /** The generation of the JavaScript runners. */
+    private long generation;
+
+    /** The executions since the runner has been created. */
+    private int runs;
+
+    /**
+     * Instantiates a new warm runtime.
+     *
+     * @param name the name used in the log messages
+     * @param runnerFactory the runner factory
+     */
+    public DirigibleJavascriptWarmRuntime(String name, Supplier<DirigibleJavascriptCodeRunner> runnerFactory) {
+        this.name = name;
+        this.runnerFactory = runnerFactory;
+    }
+
+    /**
+     * Executes the invocation with the loaded handler module, loading it first if needed.
+     *
+     * @param key the key of the handler, the module is loaded again when it changes
+     * @param loader the loader of the handler module in a new runner
+     * @param invocation the invocation
+     * @param maxRuns the executions after which the runner is recreated
+     */
+    public void execute(Object key, Loader loader, Invocation invocation, int maxRuns) {
+        long currentGeneration = DirigibleJavascriptCodeRunnerPool.get()
+                                                                  .getGeneration();
+        if (runner != null && (generation != currentGeneration || !Objects.equals(this.key, key))) {
+            close();
+        }
+        if (runner == null) {
+            load(key, loader, currentGeneration);
+        }
+        try {
+            invocation.invoke(runner, module);
+        } catch (RuntimeException ex) {
+            close();
+            throw ex;
+        }
+        if (++runs >= maxRuns) {
+            close();
+        }
+    }
+
+    /**
+     * Creates the runner and loads the handler module in it.
+     *
+     * @param key the key of the handler
+     * @param loader the loader
+     * @param currentGeneration the generation of the JavaScript runners
+     */
+    private void load(Object key, Loader loader, long currentGeneration) {
+        DirigibleJavascriptCodeRunner created = runnerFactory.get();
+        try {
+            module = loader.load(created);
+        } catch (RuntimeException ex) {
+            created.close();
+            throw ex;
+        }
+        runner = created;
+        this.key = key;
+        generation = currentGeneration;
+        runs = 0;
+    }
+
+    /**
+     * Closes the runner, if any. The runtime can still be used afterwards and loads the handler module
+     * again.
+     */
+    @Override
+    public void close() {
+        if (runner != null) {
+            DirigibleJavascriptCodeRunner closed = runner;
+            runner = null;
+            module = null;
+            try {
+                closed.close();
+            } catch (RuntimeException ex) {
+                logger.warn("Failed to close the runtime of [{}]", name, ex);
+            }
+        }
+    }
+
+    /**
+     * The loader of the handler module.
+     */
+    @FunctionalInterface
+    public interface Loader {
+
+        /**
+         * Loads the handler module.
+         *
+         * @param runner the new runner
+         * @return the module
+         */
+        Module load(DirigibleJavascriptCodeRunner runner);
+    }
+
+    /**
+     * The invocation of the loaded handler module.
+     */
+    @FunctionalInterface
+    public interface Invocation {
+
+        /**
+         * Invokes the handler module.
+         *
+         * @param runner the runner
+         * @param module the module
+         */
+        void invoke(DirigibleJavascriptCodeRunner runner, Module module);
+    }
+
+}
@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunnerPool.Lease;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.graalvm.polyglot.Source;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * The Class DirigibleJavascriptCodeRunnerPoolTest.
+ */
+public class DirigibleJavascriptCodeRunnerPoolTest {
+
+    /** The Constant TENANT. */
+    private static final String TENANT = "test-tenant";
+
+    /** The Constant OTHER_TENANT. */
+    private static final String OTHER_TENANT = "other-tenant";
+
+    /** The Constant PROJECT. */
+    private static final String PROJECT = "test-project";
+
+    /** The Constant OTHER_PROJECT. */
+    private static final String OTHER_PROJECT = "other-project";
+
+    /** The Constant ENTRY. */
+    private static final Path ENTRY = Path.of("test-project", "entry.mjs");
+
+    /** The created runners. */
+    private final List<DirigibleJavascriptCodeRunner> created = new ArrayList<>();
+
+    /** The pool. */
+    private DirigibleJavascriptCodeRunnerPool pool;
+
+    /**
+     * Sets the up.
+     */
+    @Before
+    public void setUp() {
+        Configuration.set(DirigibleJavascriptCodeRunnerPool.DIRIGIBLE_JAVASCRIPT_CONTEXT_POOL_ENABLED, "true");
+        pool = new DirigibleJavascriptCodeRunnerPool() {
+            @Override
+            DirigibleJavascriptCodeRunner createRunner(Map<Object, Object> context, boolean debug) {
+                DirigibleJavascriptCodeRunner runner = mock(DirigibleJavascriptCodeRunner.class);
+                when(runner.restoreGlobals()).thenReturn(true);
+                created.add(runner);
+                return runner;
+            }
+        };
+    }
+
+    /**
+     * Tear down.
+     */
+    @After
+    public void tearDown() {
+        Configuration.remove(DirigibleJavascriptCodeRunnerPool.DIRIGIBLE_JAVASCRIPT_CONTEXT_POOL_ENABLED);
+        Configuration.remove(DirigibleJavascriptCodeRunnerPool.DIRIGIBLE_JAVASCRIPT_CONTEXT_POOL_MAX_IDLE_PER_PROJECT);
+        Configuration.remove(DirigibleJavascriptCodeRunnerPool.DIRIGIBLE_JAVASCRIPT_CONTEXT_POOL_MAX_IDLE_TOTAL);
+        Configuration.remove(DirigibleJavascriptCodeRunnerPool.DIRIGIBLE_JAVASCRIPT_CONTEXT_POOL_MAX_USAGES);
+    }
+
+    /**
+     * Test a returned runner is reused by the next lease of the project with the new parameters.
+     */
+    @Test
+    public void testBorrowAndReturn() {
+        Map<Object, Object> context = Map.of("key", "value");
+        DirigibleJavascriptCodeRunner runner;
+        try (Lease lease = pool.borrow(TENANT, PROJECT, null, false)) {
+            runner = lease.getRunner();
+        }
+        assertEquals(1, pool.getIdleCount());
+        verify(runner).snapshotGlobals();
+        verify(runner).restoreGlobals();
+        verify(runner).resetContext(null);
+
+        try (Lease lease = pool.borrow(TENANT, PROJECT, context, false)) {
+            assertSame(runner, lease.getRunner());
+            assertEquals(0, pool.getIdleCount());
+        }
+        verify(runner).resetContext(context);
+        verify(runner, never()).close();
+        assertEquals(1, pool.getHits());
+        assertEquals(1, pool.getCreations());
+
+        try (Lease lease = pool.borrow(TENANT, OTHER_PROJECT, null, false)) {
+            assertNotSame(runner, lease.getRunner());
+        }
+        assertEquals(2, pool.getCreations());
+    }
+
+    /**
+     * Test a runner is reused only by the same project of the same tenant.
+     */
+    @Test
+    public void testKeyedByTenantAndProject() {
+        DirigibleJavascriptCodeRunner runner;
+        try (Lease lease = pool.borrow(TENANT, PROJECT, null, false)) {
+            runner = lease.getRunner();
+        }
+        try (Lease lease = pool.borrow(OTHER_TENANT, PROJECT, null, false)) {
+            assertNotSame(runner, lease.getRunner());
+        }
+        try (Lease lease = pool.borrow(TENANT, PROJECT, null, false)) {
+            assertSame(runner, lease.getRunner());
+        }
+        assertEquals(2, pool.getCreations());
+        assertEquals(1, pool.getHits());
+        assertEquals(2, pool.getIdleCount());
+    }
+
+    /**
+     * Test the runners of an unknown tenant are not pooled.
+     */
+    @Test
+    public void testUnknownTenantIsNotPooled() {
+        DirigibleJavascriptCodeRunner runner;
+        try (Lease lease = pool.borrow(null, PROJECT, null, false)) {
+            runner = lease.getRunner();
+        }
+        verify(runner).close();
+        verify(runner, never()).snapshotGlobals();
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    /**
+     * Test a runner, which global object cannot be restored, is not returned to the pool.
+     */
+    @Test
+    public void testNotRestoredGlobalsAreNotReturned() {
+        DirigibleJavascriptCodeRunner runner;
+        try (Lease lease = pool.borrow(TENANT, PROJECT, null, false)) {
+            runner = lease.getRunner();
+            when(runner.restoreGlobals()).thenReturn(false);
+        }
+        verify(runner).close();
+        verify(runner, never()).resetContext(null);
+        assertEquals(0, pool.getIdleCount());
+        assertEquals(1, pool.getEvictions());
+    }
+
+    /**
+     * Test the snapshot of the counters.
+     */
+    @Test
+    public void testSnapshot() {
+        try (Lease lease = pool.borrow(TENANT, PROJECT, null, false)) {
+            lease.discard();
+        }
+        try (Lease lease = pool.borrow(TENANT, PROJECT, null, false)) {
+            // returned to the pool
+        }
+        try (Lease lease = pool.borrow(TENANT, PROJECT, null, false)) {
+            // reused
+        }
+        assertEquals(new DirigibleJavascriptCodeRunnerPool.Snapshot(1, 2, 1, 1), pool.getSnapshot());
+    }
+
+    /**
+     * Test a runner is not returned to the pool after a failed invocation.
+     */
+    @Test
+    public void testDiscardedLeaseIsNotReturned() {
+        DirigibleJavascriptCodeRunner runner;
+        try (Lease lease = pool.borrow(TENANT, PROJECT, null, false)) {
+            runner = lease.getRunner();
+            lease.discard();
+        }
+        verify(runner).close();
+        assertEquals(0, pool.getIdleCount());
+        assertEquals(1, pool.getEvictions());
+    }
+
+    /**
+     * Test the runners leased or idle before an invalidation are not reused.
+     */
+    @Test
+    public void testOlderGenerationIsDiscarded() {
+        Lease leased = pool.borrow(TENANT, PROJECT, null, false);
+        DirigibleJavascriptCodeRunner idle;
+        try (Lease lease = pool.borrow(TENANT, PROJECT, null, false)) {
+            idle = lease.getRunner();
+        }
+        assertEquals(1, pool.getIdleCount());
+
+        pool.invalidate();
+
+        verify(idle).close();
+        assertEquals(0, pool.getIdleCount());
+
+        leased.close();
+
+        verify(leased.getRunner()).close();
+        assertEquals(0, pool.getIdleCount());
+
+        try (Lease lease = pool.borrow(TENANT, PROJECT, null, false)) {
+            assertNotSame(idle, lease.getRunner());
+            assertNotSame(leased.getRunner(), lease.getRunner());
+        }
+        assertEquals(3, pool.getCreations());
+        assertEquals(0, pool.getHits());
+    }
+
+    /**
+     * Test the idle runners are bounded per project and in total.
+     */
+    @Test
+    public void testSizeBound() {
+        Configuration.set(DirigibleJavascriptCodeRunnerPool.DIRIGIBLE_JAVASCRIPT_CONTEXT_POOL_MAX_IDLE_PER_PROJECT, "2");
+        Configuration.set(DirigibleJavascriptCodeRunnerPool.DIRIGIBLE_JAVASCRIPT_CONTEXT_POOL_MAX_IDLE_TOTAL, "3");
+
+        List<Lease> leases = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            leases.add(pool.borrow(TENANT, PROJECT, null, false));
+        }
+        for (int i = 0; i < 2; i++) {
+            leases.add(pool.borrow(TENANT, OTHER_PROJECT, null, false));
+        }
+        leases.forEach(Lease::close);
+
+        assertEquals(3, pool.getIdleCount());
+        assertEquals(2, pool.getEvictions());
+        verify(leases.get(2)
+                     .getRunner()).close();
+        verify(leases.get(4)
+                     .getRunner()).close();
+    }
+
+    /**
+     * Test the count of the idle runners of a project does not exceed its limit, when the runners are
+     * released concurrently.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testConcurrentRelease() throws Exception {
+        Configuration.set(DirigibleJavascriptCodeRunnerPool.DIRIGIBLE_JAVASCRIPT_CONTEXT_POOL_MAX_IDLE_PER_PROJECT, "2");
+
+        List<Lease> leases = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            leases.add(pool.borrow(TENANT, PROJECT, null, false));
+        }
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(leases.size());
+        try {
+            List<Future<?>> releases = new ArrayList<>();
+            for (Lease lease : leases) {
+                releases.add(executor.submit(() -> {
+                    start.await();
+                    lease.close();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> release : releases) {
+                release.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(2, pool.getIdleCount());
+        assertEquals(14, pool.getEvictions());
+    }
+
+    /**
+     * Test a runner is recycled after the maximum usages.
+     */
+    @Test
+    public void testMaxUsages() {
+        Configuration.set(DirigibleJavascriptCodeRunnerPool.DIRIGIBLE_JAVASCRIPT_CONTEXT_POOL_MAX_USAGES, "2");
+
+        DirigibleJavascriptCodeRunner runner;
+        try (Lease lease = pool.borrow(TENANT, PROJECT, null, false)) {
+            runner = lease.getRunner();
+        }
+        try (Lease lease = pool.borrow(TENANT, PROJECT, null, false)) {
+            assertSame(runner, lease.getRunner());
+        }
+        verify(runner).close();
+        assertEquals(0, pool.getIdleCount());
+    }
+
+    /**
+     * Test the code file is run by the function exported by its wrapping module.
+     */
+    @Test
+    public void testEntryIsRunByExportedFunction() {
+        Source source = Source.create("js", "");
+        try (Lease lease = pool.borrow(TENANT, PROJECT, null, false)) {
+            DirigibleJavascriptCodeRunner runner = lease.getRunner();
+            when(runner.prepareEntrySource(ENTRY)).thenReturn(source);
+
+            assertSame(source, lease.prepareSource(ENTRY));
+            lease.run(source);
+
+            verify(runner).runEntry(source);
+            verify(runner, never()).run(source);
+        }
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    /**
+     * Test a code file, which cannot be wrapped, is not run by a reused runner, and the runner, which
+     * runs it, is not returned to the pool.
+     */
+    @Test
+    public void testUnwrappedEntryIsNotRunByReusedRunner() {
+        DirigibleJavascriptCodeRunner reused;
+        try (Lease lease = pool.borrow(TENANT, PROJECT, null, false)) {
+            reused = lease.getRunner();
+        }
+        DirigibleJavascriptCodeRunner runner;
+        try (Lease lease = pool.borrow(TENANT, PROJECT, null, false)) {
+            assertSame(reused, lease.getRunner());
+            lease.prepareSource(ENTRY);
+            runner = lease.getRunner();
+            assertNotSame(reused, runner);
+            verify(runner).prepareSource(ENTRY);
+            // the reused runner is returned to the pool untouched
+            assertEquals(1, pool.getIdleCount());
+        }
+        verify(runner).close();
+        verify(reused, never()).close();
+        assertEquals(1, pool.getIdleCount());
+        assertEquals(2, created.size());
+    }
+
+    /**
+     * Test the runners are not pooled, when the pool is disabled.
+     */
+    @Test
+    public void testDisabled() {
+        Configuration.set(DirigibleJavascriptCodeRunnerPool.DIRIGIBLE_JAVASCRIPT_CONTEXT_POOL_ENABLED, "false");
+
+        DirigibleJavascriptCodeRunner runner;
+        try (Lease lease = pool.borrow(TENANT, PROJECT, null, false)) {
+            runner = lease.getRunner();
+        }
+        verify(runner).close();
+        assertEquals(0, pool.getIdleCount());
+        assertEquals(0, pool.getCreations());
+    }
+
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core.javascript;
+
+import org.eclipse.dirigible.graalium.core.graal.configuration.Configuration;
+import org.graalvm.polyglot.Source;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Code cache shared by all the GraalJS contexts.
+ *
+ * The cached {@link Source} objects are evaluated with enabled caching, so that the shared engine
+ * reuses the already parsed code across contexts. A cached source is validated against the size and
+ * the last modified time of its file, and in case they have changed - against the hash of the file
+ * content, so unchanged files are neither read nor parsed again.
+ *
+ * The content of the imported modules is cached by path and validated against the size and the last
+ * modified time of its file, so that the imports do not read the files again. The imported modules
+ * are parsed by GraalJS itself, which reuses the already parsed code of a module with the same path
+ * and content across the contexts of the shared engine.
+ *
+ * The resolved module paths are cached by scope and module specifier, so that the module resolvers
+ * are consulted only on the first import of a module in a scope.
+ *
+ * When a cache is full, its least recently used entries are evicted.
+ */
+public class GraalJSCodeCache {
+
+    /** The Constant DIRIGIBLE_GRAALIUM_CODE_CACHE_MAX_SIZE. */
+    private static final String DIRIGIBLE_GRAALIUM_CODE_CACHE_MAX_SIZE = "DIRIGIBLE_GRAALIUM_CODE_CACHE_MAX_SIZE";
+
+    /** The Constant INSTANCE. */
+    private static final GraalJSCodeCache INSTANCE = new GraalJSCodeCache();
+
+    /** The sources. */
+    private final LruCache<String, CachedSource> sources;
+
+    /** The module contents. */
+    private final LruCache<String, CachedContent> moduleContents;
+
+    /** The resolved modules. */
+    private final LruCache<ResolvedModuleKey, Path> resolvedModules;
+
+    /**
+     * Instantiates a new code cache.
+     */
+    private GraalJSCodeCache() {
+        this(Integer.parseInt(Configuration.get(DIRIGIBLE_GRAALIUM_CODE_CACHE_MAX_SIZE, "10000")));
+    }
+
+    /**
+     * Instantiates a new code cache.
+     *
+     * @param maxSize the max size of each of the caches
+     */
+    GraalJSCodeCache(int maxSize) {
+        this.sources = new LruCache<>(maxSize);
+        this.moduleContents = new LruCache<>(maxSize);
+        this.resolvedModules = new LruCache<>(maxSize);
+    }
+
+    /**
+     * Gets the code cache.
+     *
+     * @return the code cache
+     */
+    public static GraalJSCodeCache get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the cached source of the given file or creates a new one, if the file has been changed.
+     *
+     * @param sourceFilePath the source file path
+     * @param sourceFactory creates the source out of the file content
+     * @return the source
+     */
+    public Source getSource(Path sourceFilePath, Function<String, Source> sourceFactory) {
+        return getSource(sourceFilePath, null, sourceFactory);
+    }
+
+    /**
+     * Gets the cached variant of the source of the given file (e.g. the module wrapping an entry) or
+     * creates a new one, if the file has been changed.
+     *
+     * @param sourceFilePath the source file path
+     * @param variant the variant or null, for the source of the file itself
+     * @param sourceFactory creates the source out of the file content, may return null
+     * @return the source or null, if the factory has not created it
+     */
+    public Source getSource(Path sourceFilePath, String variant, Function<String, Source> sourceFactory) {
+        String key = variant == null ? sourceFilePath.toString() : sourceFilePath.toString() + "$" + variant;
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(sourceFilePath, BasicFileAttributes.class);
+            long lastModified = attributes.lastModifiedTime()
+                                          .toMillis();
+            long size = attributes.size();
+
+            CachedSource cached = sources.get(key);
+            if (cached != null && cached.lastModified == lastModified && cached.size == size) {
+                return cached.source;
+            }
+
+            byte[] content = Files.readAllBytes(sourceFilePath);
+            byte[] hash = hash(content);
+            Source source = cached != null && Arrays.equals(cached.hash, hash) ? cached.source
+                    : sourceFactory.apply(new String(content, StandardCharsets.UTF_8));
+            sources.put(key, new CachedSource(lastModified, size, hash, source));
+            return source;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Gets the cached content of the given module file or reads it, if the file has been changed.
+     *
+     * @param moduleFilePath the module file path
+     * @return the content, which must not be modified
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public byte[] getModuleContent(Path moduleFilePath) throws IOException {
+        String key = moduleFilePath.toString();
+        BasicFileAttributes attributes = Files.readAttributes(moduleFilePath, BasicFileAttributes.class);
+        long lastModified = attributes.lastModifiedTime()
+                                      .toMillis();
+        long size = attributes.size();
+
+        CachedContent cached = moduleContents.get(key);
+        if (cached != null && cached.lastModified == lastModified && cached.size == size) {
+            return cached.content;
+        }
+
+        byte[] content = Files.readAllBytes(moduleFilePath);
+        moduleContents.put(key, new CachedContent(lastModified, size, content));
+        return content;
+    }
+
+    /**
+     * Gets the resolved module path or resolves it.
+     *
+     * @param scope the scope, which identifies the module resolvers, e.g. by their root
+     * @param moduleToResolve the module to resolve
+     * @param resolver the resolver
+     * @return the path
+     */
+    public Path getResolvedModule(String scope, String moduleToResolve, Function<String, Path> resolver) {
+        ResolvedModuleKey key = new ResolvedModuleKey(scope, moduleToResolve);
+        Path resolved = resolvedModules.get(key);
+        if (resolved == null) {
+            resolved = resolver.apply(moduleToResolve);
+            if (resolved != null) {
+                resolvedModules.put(key, resolved);
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * Invalidates the cached sources, module contents and resolved modules, e.g. after publishing.
+     */
+    public void invalidate() {
+        sources.clear();
+        moduleContents.clear();
+        resolvedModules.clear();
+    }
+
+    /**
+     * Hash.
+     *
+     * @param content the content
+     * @return the hash
+     */
+    private static byte[] hash(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256")
+                                .digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The cached source.
+     */
+    private record CachedSource(long lastModified, long size, byte[] hash, Source source) {
+    }
+
+    /**
+     * The cached content of a module.
+     */
+    private record CachedContent(long lastModified, long size, byte[] content) {
+    }
+
+    /**
+     * The key of a resolved module.
+     */
+    private record ResolvedModuleKey(String scope, String module) {
+    }
+
+    /**
+     * A concurrent cache, which evicts its least recently used entries, when it is full. The reads are
+     * not locked, as every entry only records the time of its last access, and the entries are sorted
+     * by it only on eviction, which removes a tenth of the entries at once.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     */
+    private static final class LruCache<K, V> {
+
+        /** The entries. */
+        private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+        /** The logical clock of the accesses. */
+        private final AtomicLong clock = new AtomicLong();
+
+        /** The max size. */
+        private final int maxSize;
+
+        /**
+         * Instantiates a new LRU cache.
+         *
+         * @param maxSize the max size
+         */
+        LruCache(int maxSize) {
+            this.maxSize = Math.max(1, maxSize);
+        }
+
+        /**
+         * Gets the value and marks it as recently used.
+         *
+         * @param key the key
+         * @return the value or null, if not cached
+         */
+        V get(K key) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            entry.lastAccess = clock.incrementAndGet();
+            return entry.value;
+        }
+
+        /**
+         * Puts the value and evicts the least recently used entries, if the cache is full.
+         *
+         * @param key the key
+         * @param value the value
+         */
+        void put(K key, V value) {
+            entries.put(key, new Entry<>(value, clock.incrementAndGet()));
+            if (entries.size() > maxSize) {
+                evict();
+            }
+        }
+
+        /**
+         * Evicts the least recently used entries, so that a tenth of the max size is free.
+         */
+        private synchronized void evict() {
+            int excess = entries.size() - maxSize;
+            if (excess <= 0) {
+                // already evicted by a concurrent put
+                return;
+            }
+            int count = excess + maxSize / 10;
+            // the access times are copied, as they may change while sorting
+            List<Map.Entry<K, Long>> accesses = entries.entrySet()
+                                                       .stream()
+                                                       .map(e -> Map.entry(e.getKey(), e.getValue().lastAccess))
+                                                       .sorted(Comparator.comparingLong(Map.Entry::getValue))
+                                                       .limit(count)
+                                                       .toList();
+            accesses.forEach(e -> entries.remove(e.getKey()));
+        }
+
+        /**
+         * Clears the cache.
+         */
+        void clear() {
+            entries.clear();
+        }
+
+    }
+
+    /**
+     * The entry of the LRU cache.
+     *
+     * @param <V> the value type
+     */
+    private static final class Entry<V> {
+
+        /** The value. */
+        private final V value;
+
+        /** The time of the last access. */
+        private volatile long lastAccess;
+
+        /**
+         * Instantiates a new entry.
+         *
+         * @param value the value
+         * @param lastAccess the time of the last access
+         */
+        Entry(V value, long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+
+    }
+
+}
@@ -22,6 +22,7 @@ import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.Source;
 import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.proxy.ProxyExecutable;
 
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
@@ -57,6 +58,9 @@ public class GraalJSCodeRunner implements CodeRunner<Source, Value> {
      */
     private final GraalJSInterceptor graalJSInterceptor;
 
+    /** The snapshot of the global object or null, if not taken. */
+    private GraalJSGlobalsSnapshot globalsSnapshot;
+
     /**
      * Instantiates a new graal JS code runner.
      *
@@ -72,7 +76,8 @@ public class GraalJSCodeRunner implements CodeRunner<Source, Value> {
         DownloadableModuleResolver downloadableModuleResolver = new DownloadableModuleResolver(builder.dependenciesCachePath);
 
         GraalJSFileSystem graalJSFileSystem = new GraalJSFileSystem(currentWorkingDirectoryPath, builder.moduleResolvers,
-                downloadableModuleResolver, builder.onRealPathNotFound, builder.delegateFileSystem);
+                downloadableModuleResolver, builder.onRealPathNotFound, builder.delegateFileSystem, builder.resolvedModulesScope,
+                builder.cachedModuleRoots);
 
         graalJSSourceCreator = new GraalJSSourceCreator(builder.jsModuleType);
         graalJSInterceptor = builder.interceptor;
@@ -137,6 +142,18 @@ public class GraalJSCodeRunner implements CodeRunner<Source, Value> {
         return graalJSSourceCreator.createSource(relativeCodeFilePath);
     }
 
+    /**
+     * Prepares the source of the module, which wraps the given entry file, so that it can be run
+     * repeatedly in this context by {@link #runEntry(Source)}.
+     *
+     * @param codeFilePath the code file path
+     * @return the source or null, if the entry file cannot be wrapped
+     */
+    public Source prepareEntrySource(Path codeFilePath) {
+        Path relativeCodeFilePath = currentWorkingDirectoryPath.resolve(codeFilePath);
+        return graalJSSourceCreator.createEntrySource(relativeCodeFilePath);
+    }
+
     /**
      * Run.
      *
@@ -150,6 +167,33 @@ public class GraalJSCodeRunner implements CodeRunner<Source, Value> {
         return result;
     }
 
+    /**
+     * Runs the entry wrapped by the given module. The module is evaluated only on the first run in this
+     * context, while the code of the entry is run each time. An entry with await is run until the
+     * returned promise is settled, if it does not wait for anything else than promises.
+     *
+     * @param entrySource the source prepared by {@link #prepareEntrySource(Path)}
+     * @return the value
+     */
+    public Value runEntry(Source entrySource) {
+        Value module = run(entrySource);
+        Value result = module.getMember(GraalJSEntryModule.RUN_FUNCTION)
+                             .execute();
+        if (!result.canInvokeMember("then")) {
+            return result;
+        }
+        Value[] settled = new Value[2];
+        result.invokeMember("then", (ProxyExecutable) arguments -> settled[0] = arguments[0],
+                (ProxyExecutable) arguments -> settled[1] = arguments[0]);
+        if (settled[1] != null) {
+            if (settled[1].isException()) {
+                throw settled[1].throwException();
+            }
+            throw new IllegalStateException(settled[1].toString());
+        }
+        return settled[0] != null ? settled[0] : result;
+    }
+
     /**
      * Gets the graal JS interceptor.
      *
@@ -178,6 +222,22 @@ public class GraalJSCodeRunner implements CodeRunner<Source, Value> {
         globalObjects.forEach(global -> contextBindings.putMember(global.getName(), global.getValue()));
     }
 
+    /**
+     * Takes a snapshot of the global object, to which it is restored by {@link #restoreGlobals()}.
+     */
+    public void snapshotGlobals() {
+        globalsSnapshot = new GraalJSGlobalsSnapshot(graalContext);
+    }
+
+    /**
+     * Restores the global object to the snapshot taken by {@link #snapshotGlobals()}.
+     *
+     * @return true, if the global object has been fully restored
+     */
+    public boolean restoreGlobals() {
+        return globalsSnapshot != null && globalsSnapshot.restore();
+    }
+
     /**
      * Adds the global functions.
      *
@@ -314,6 +374,14 @@ public class GraalJSCodeRunner implements CodeRunner<Source, Value> {
          */
         private FileSystem delegateFileSystem = FileSystems.getDefault();
 
+        /**
+         * The scope, in which the resolved module paths are shared across the contexts, or null
+         */
+        private String resolvedModulesScope;
+
+        /** The roots, under which the module contents are shared. */
+        private List<Path> cachedModuleRoots = List.of();
+
         /**
          * Instantiates a new builder.
          *
@@ -440,6 +508,32 @@ public class GraalJSCodeRunner implements CodeRunner<Source, Value> {
             return this;
         }
 
+        /**
+         * Shares the module paths resolved by the module resolvers across all the contexts with the same
+         * working directory and scope. The scope has to identify the module resolvers, e.g. by the root of
+         * their source provider.
+         *
+         * @param resolvedModulesScope the scope of the module resolvers
+         * @return the builder
+         */
+        public Builder cacheResolvedModules(String resolvedModulesScope) {
+            this.resolvedModulesScope = resolvedModulesScope;
+            return this;
+        }
+
+        /**
+         * Shares the contents of the modules under the given roots across all the contexts. The contents
+         * are validated by their size and last modified time, but only roots, whose changes invalidate the
+         * {@link GraalJSCodeCache}, e.g. the published registry, should be given.
+         *
+         * @param roots the roots
+         * @return the builder
+         */
+        public Builder cacheModuleContents(Path... roots) {
+            this.cachedModuleRoots = List.of(roots);
+            return this;
+        }
+
         /**
          * Adds the on after context created listener.
          *
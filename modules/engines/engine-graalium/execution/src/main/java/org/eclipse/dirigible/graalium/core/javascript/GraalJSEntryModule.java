@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core.javascript;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Wraps the code of an entry file in a module, which exports it as a function, so that the entry
+ * can be run repeatedly in the same context. GraalJS evaluates a module only once per context,
+ * hence the wrapping module is evaluated once and its function is executed on each run.
+ *
+ * The static imports at the beginning of the file are kept at the top level of the module, and the
+ * rest of the code becomes the body of the function, on the same lines as in the file. A file,
+ * which exports anything or imports a module after its first statement, cannot be wrapped.
+ */
+public final class GraalJSEntryModule {
+
+    /** The name of the exported function, which runs the code of the entry. */
+    public static final String RUN_FUNCTION = "__dirigibleRunEntry";
+
+    /** The static import at the current position, e.g. import { a } from "b" with { type: "json" }; */
+    private static final Pattern IMPORT =
+            Pattern.compile("\\Gimport\\s*(?:[\\w$*{}\\s,]+?\\s*from\\s*)?([\"'])[^\"'\\r\\n]*\\1(?:\\s*(?:with|assert)\\s*\\{[^}]*\\})?\\s*;?");
+
+    /** A statement, which can only be at the top level of a module. */
+    private static final Pattern MODULE_STATEMENT = Pattern.compile("(?m)^\\s*(?:export\\b|import\\s*[\\w$*{\"'])");
+
+    /** The await keyword. */
+    private static final Pattern AWAIT = Pattern.compile("\\bawait\\b");
+
+    /**
+     * Instantiates a new entry module.
+     */
+    private GraalJSEntryModule() {}
+
+    /**
+     * Wraps the code of the entry file.
+     *
+     * @param code the code of the entry file
+     * @return the code of the wrapping module or null, if the code cannot be wrapped
+     */
+    public static String wrap(String code) {
+        int bodyStart = skipPrologue(code);
+        String prologue = code.substring(0, bodyStart);
+        String body = code.substring(bodyStart);
+        if (MODULE_STATEMENT.matcher(body)
+                            .find()) {
+            return null;
+        }
+        // the function is declared on the last line of the prologue, so that the line numbers do not change
+        String function = AWAIT.matcher(body)
+                               .find() ? "export async function " : "export function ";
+        return prologue + function + RUN_FUNCTION + "() {" + body + "\n}\n";
+    }
+
+    /**
+     * Skips the white spaces, the comments and the static imports at the beginning of the code.
+     *
+     * @param code the code
+     * @return the index of the first statement, which is not an import
+     */
+    private static int skipPrologue(String code) {
+        Matcher importMatcher = IMPORT.matcher(code);
+        int index = code.startsWith("#!") ? lineEnd(code, 0) : 0;
+        while (index < code.length()) {
+            if (Character.isWhitespace(code.charAt(index))) {
+                index++;
+            } else if (code.startsWith("//", index)) {
+                index = lineEnd(code, index);
+            } else if (code.startsWith("/*", index)) {
+                int end = code.indexOf("*/", index + 2);
+                if (end < 0) {
+                    return index;
+                }
+                index = end + 2;
+            } else if (importMatcher.find(index) && importMatcher.start() == index) {
+                index = importMatcher.end();
+            } else {
+                break;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Gets the end of the line.
+     *
+     * @param code the code
+     * @param index the index of a character of the line
+     * @return the index of the line break or the length of the code
+     */
+    private static int lineEnd(String code, int index) {
+        int end = code.indexOf('\n', index);
+        return end < 0 ? code.length() : end;
+    }
+
+}
@@ -15,6 +15,9 @@ import org.graalvm.polyglot.io.FileSystem;
 
 import java.io.*;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.*;
 import java.nio.file.attribute.FileAttribute;
@@ -51,6 +54,18 @@ public class GraalJSFileSystem implements FileSystem {
     private final DownloadableModuleResolver downloadableModuleResolver;
     private final Function<Path, Path> onRealPathNotFound;
 
+    /**
+     * The scope, in which the resolved module paths are shared through the {@link GraalJSCodeCache}, or
+     * null, if they are not shared.
+     */
+    private final String resolvedModulesScope;
+
+    /**
+     * The roots, under which the module contents are shared through the {@link GraalJSCodeCache}. Only
+     * contents, which are invalidated together with the cache, e.g. on publish, may be shared.
+     */
+    private final List<Path> cachedModuleRoots;
+
     /**
      * Instantiates a new graal JS file system.
      *
@@ -63,11 +78,36 @@ public class GraalJSFileSystem implements FileSystem {
     public GraalJSFileSystem(Path currentWorkingDirectoryPath, List<ModuleResolver> moduleResolvers,
             DownloadableModuleResolver downloadableModuleResolver, Function<Path, Path> onRealPathNotFound,
             java.nio.file.FileSystem delegateFileSystem) {
+        this(currentWorkingDirectoryPath, moduleResolvers, downloadableModuleResolver, onRealPathNotFound, delegateFileSystem, null,
+                List.of());
+    }
+
+    /**
+     * Instantiates a new graal JS file system.
+     *
+     * @param currentWorkingDirectoryPath the current working directory path
+     * @param moduleResolvers the module resolvers
+     * @param downloadableModuleResolver the downloadable module resolver
+     * @param onRealPathNotFound the callback to invoke on Path::toRealPath failure
+     * @param delegateFileSystem the file system to delegate to
+     * @param resolvedModulesScope the scope of the module resolvers, in which the resolved module paths
+     *        are shared through the code cache together with the current working directory, or null
+     * @param cachedModuleRoots the roots, under which the module contents are shared through the code
+     *        cache
+     */
+    public GraalJSFileSystem(Path currentWorkingDirectoryPath, List<ModuleResolver> moduleResolvers,
+            DownloadableModuleResolver downloadableModuleResolver, Function<Path, Path> onRealPathNotFound,
+            java.nio.file.FileSystem delegateFileSystem, String resolvedModulesScope, List<Path> cachedModuleRoots) {
         this.currentWorkingDirectoryPath = currentWorkingDirectoryPath;
         this.moduleResolvers = moduleResolvers;
         this.downloadableModuleResolver = downloadableModuleResolver;
         this.onRealPathNotFound = onRealPathNotFound;
         this.delegateFileSystemProvider = delegateFileSystem.provider();
+        this.resolvedModulesScope = resolvedModulesScope != null ? currentWorkingDirectoryPath + "|" + resolvedModulesScope : null;
+        this.cachedModuleRoots = cachedModuleRoots.stream()
+                                                  .map(root -> root.toAbsolutePath()
+                                                                   .normalize())
+                                                  .toList();
     }
 
     /**
@@ -93,13 +133,25 @@ public class GraalJSFileSystem implements FileSystem {
             return currentWorkingDirectoryPath;
         }
 
+        Path resolved = resolvedModulesScope != null ? GraalJSCodeCache.get()
+                                                                       .getResolvedModule(resolvedModulesScope, path, this::resolveModule)
+                : resolveModule(path);
+        return resolved != null ? resolved : Path.of(path);
+    }
+
+    /**
+     * Resolves the module with the first module resolver, which is able to resolve it.
+     *
+     * @param path the path
+     * @return the path or null, if no module resolver is able to resolve it
+     */
+    private Path resolveModule(String path) {
         for (ModuleResolver moduleResolver : moduleResolvers) {
             if (moduleResolver.isResolvable(path)) {
                 return moduleResolver.resolve(path);
             }
         }
-
-        return Path.of(path);
+        return null;
     }
 
     /**
@@ -169,9 +221,47 @@ public class GraalJSFileSystem implements FileSystem {
      */
     @Override
     public SeekableByteChannel newByteChannel(Path path, Set<? extends OpenOption> options, FileAttribute<?>... attrs) throws IOException {
+        if (isModuleRead(path, options) && isCachedModule(path)) {
+            return new ReadOnlyByteChannel(GraalJSCodeCache.get()
+                                                           .getModuleContent(path));
+        }
         return delegateFileSystemProvider.newByteChannel(path, options, attrs);
     }
 
+    /**
+     * Checks if the path is a module file, which is only read.
+     *
+     * @param path the path
+     * @param options the options
+     * @return true, if it is
+     */
+    private static boolean isModuleRead(Path path, Set<? extends OpenOption> options) {
+        for (OpenOption option : options) {
+            if (option != StandardOpenOption.READ) {
+                return false;
+            }
+        }
+        String pathString = path.toString();
+        return pathString.endsWith(".js") || pathString.endsWith(".mjs") || pathString.endsWith(".json");
+    }
+
+    /**
+     * Checks if the content of the module is shared through the code cache.
+     *
+     * @param path the path
+     * @return true, if it is under one of the cached module roots
+     */
+    private boolean isCachedModule(Path path) {
+        Path normalized = path.toAbsolutePath()
+                              .normalize();
+        for (Path root : cachedModuleRoots) {
+            if (normalized.startsWith(root)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Check access.
      *
@@ -367,4 +457,140 @@ public class GraalJSFileSystem implements FileSystem {
     public Path getTempDirectory() {
         return new File(System.getProperty("java.io.tmpdir")).toPath();
     }
+    /**
+     * A read-only channel over the cached content of a module.
+     */
+    private static final class ReadOnlyByteChannel implements SeekableByteChannel {
+
+        /** The content. */
+        private final byte[] content;
+
+        /** The position. */
+        private int position;
+
+        /** The open. */
+        private boolean open = true;
+
+        /**
+         * Instantiates a new read-only byte channel.
+         *
+         * @param content the content
+         */
+        ReadOnlyByteChannel(byte[] content) {
+            this.content = content;
+        }
+
+        /**
+         * Read.
+         *
+         * @param dst the dst
+         * @return the number of bytes read or -1 at the end
+         * @throws IOException Signals that an I/O exception has occurred.
+         */
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            ensureOpen();
+            if (position >= content.length) {
+                return -1;
+            }
+            int length = Math.min(dst.remaining(), content.length - position);
+            dst.put(content, position, length);
+            position += length;
+            return length;
+        }
+
+        /**
+         * Write.
+         *
+         * @param src the src
+         * @return the int
+         */
+        @Override
+        public int write(ByteBuffer src) {
+            throw new NonWritableChannelException();
+        }
+
+        /**
+         * Position.
+         *
+         * @return the position
+         * @throws IOException Signals that an I/O exception has occurred.
+         */
+        @Override
+        public long position() throws IOException {
+            ensureOpen();
+            return position;
+        }
+
+        /**
+         * Position.
+         *
+         * @param newPosition the new position
+         * @return the seekable byte channel
+         * @throws IOException Signals that an I/O exception has occurred.
+         */
+        @Override
+        public SeekableByteChannel position(long newPosition) throws IOException {
+            ensureOpen();
+            if (newPosition < 0) {
+                throw new IllegalArgumentException("Negative position: " + newPosition);
+            }
+            position = (int) Math.min(newPosition, content.length);
+            return this;
+        }
+
+        /**
+         * Size.
+         *
+         * @return the size
+         * @throws IOException Signals that an I/O exception has occurred.
+         */
+        @Override
+        public long size() throws IOException {
+            ensureOpen();
+            return content.length;
+        }
+
+        /**
+         * Truncate.
+         *
+         * @param size the size
+         * @return the seekable byte channel
+         */
+        @Override
+        public SeekableByteChannel truncate(long size) {
+            throw new NonWritableChannelException();
+        }
+
+        /**
+         * Checks if is open.
+         *
+         * @return true, if is open
+         */
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        /**
+         * Close.
+         */
+        @Override
+        public void close() {
+            open = false;
+        }
+
+        /**
+         * Ensures the channel is open.
+         *
+         * @throws ClosedChannelException if it is closed
+         */
+        private void ensureOpen() throws ClosedChannelException {
+            if (!open) {
+                throw new ClosedChannelException();
+            }
+        }
+
+    }
+
 }
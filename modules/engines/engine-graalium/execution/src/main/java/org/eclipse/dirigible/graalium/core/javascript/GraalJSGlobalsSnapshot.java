@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core.javascript;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Source;
+import org.graalvm.polyglot.Value;
+
+/**
+ * Snapshot of the own properties of the global object of a context, which can be restored after
+ * the context has been used, e.g. before a pooled context is reused by another invocation.
+ *
+ * The restore deletes the properties added to globalThis since the snapshot and redefines the
+ * properties, which have been replaced or deleted. It does not cover the state of the objects
+ * referenced by the global properties (e.g. a changed built-in prototype) nor the module-level
+ * state of the already loaded modules.
+ */
+public class GraalJSGlobalsSnapshot {
+
+    /** The Constant SNAPSHOT_SCRIPT. */
+    private static final String SNAPSHOT_SCRIPT = """
+            (() => {
+                const global = globalThis;
+                const baseline = new Map();
+                for (const name of Reflect.ownKeys(global)) {
+                    baseline.set(name, Object.getOwnPropertyDescriptor(global, name));
+                }
+                const same = (current, descriptor) => current !== undefined
+                        && Object.is(current.value, descriptor.value)
+                        && current.get === descriptor.get
+                        && current.set === descriptor.set;
+                return () => {
+                    let restored = true;
+                    for (const name of Reflect.ownKeys(global)) {
+                        if (!baseline.has(name) && !Reflect.deleteProperty(global, name)) {
+                            restored = false;
+                        }
+                    }
+                    for (const [name, descriptor] of baseline) {
+                        if (!same(Object.getOwnPropertyDescriptor(global, name), descriptor)
+                                && !Reflect.defineProperty(global, name, descriptor)) {
+                            restored = false;
+                        }
+                    }
+                    return restored;
+                };
+            })()
+            """;
+
+    /** The restore function. */
+    private final Value restoreFunction;
+
+    /**
+     * Takes a snapshot of the global object of the context.
+     *
+     * @param context the context
+     */
+    public GraalJSGlobalsSnapshot(Context context) {
+        this.restoreFunction = context.eval(Source.newBuilder("js", SNAPSHOT_SCRIPT, "globals-snapshot.js")
+                                                  .internal(true)
+                                                  .buildLiteral());
+    }
+
+    /**
+     * Restores the global object to the snapshot.
+     *
+     * @return true, if all the properties have been restored, false if some of them could not be
+     *         deleted or redefined (e.g. non-configurable ones) and the context should not be reused
+     */
+    public boolean restore() {
+        return restoreFunction.execute()
+                              .asBoolean();
+    }
+
+}
@@ -21,6 +21,9 @@ import org.graalvm.polyglot.Source;
  */
 public class GraalJSSourceCreator {
 
+    /** The variant of the cached source, which wraps an entry file. */
+    private static final String ENTRY_VARIANT = "entry";
+
     /** The js module type. */
     private final ModuleType jsModuleType;
 
@@ -46,7 +49,8 @@ public class GraalJSSourceCreator {
     }
 
     /**
-     * Creates the internal source.
+     * Creates the internal source. The internal sources (e.g. polyfills) are the same for all the
+     * contexts, hence their parsed code is reused by the engine.
      *
      * @param source the source
      * @param fileName the file name
@@ -55,7 +59,7 @@ public class GraalJSSourceCreator {
     public Source createInternalSource(String source, String fileName) {
         Source.Builder sourceBuilder = Source.newBuilder("js", source, fileName)
                                              .internal(true);
-        return createSource(sourceBuilder);
+        return createSource(sourceBuilder, true);
     }
 
     /**
@@ -69,15 +73,46 @@ public class GraalJSSourceCreator {
     }
 
     /**
-     * Creates the source.
+     * Creates the source. The sources of files are shared through the {@link GraalJSCodeCache}.
      *
      * @param sourceFilePath the source file path
      * @return the source
      */
     public Source createSource(Path sourceFilePath) {
-        File codeFile = sourceFilePath.toFile();
-        Source.Builder sourceBuilder = Source.newBuilder("js", codeFile);
-        return createSource(sourceBuilder);
+        return GraalJSCodeCache.get()
+                               .getSource(sourceFilePath, content -> {
+                                   Source.Builder sourceBuilder = Source.newBuilder("js", sourceFilePath.toFile())
+                                                                        .content(content)
+                                                                        .name(sourceFilePath.getFileName()
+                                                                                            .toString());
+                                   return createSource(sourceBuilder, true);
+                               });
+    }
+
+    /**
+     * Creates the source of the module, which wraps the given entry file, so that it can be run
+     * repeatedly in the same context (see {@link GraalJSEntryModule}). The module is bound to a
+     * virtual sibling path of the file, so that the imports are resolved relatively to its location.
+     *
+     * @param sourceFilePath the source file path
+     * @return the source or null, if the entry file cannot be wrapped
+     */
+    public Source createEntrySource(Path sourceFilePath) {
+        return GraalJSCodeCache.get()
+                               .getSource(sourceFilePath, ENTRY_VARIANT, content -> {
+                                   String wrapped = GraalJSEntryModule.wrap(content);
+                                   if (wrapped == null) {
+                                       return null;
+                                   }
+                                   String fileName = sourceFilePath.getFileName()
+                                                                   .toString();
+                                   File moduleFile = sourceFilePath.resolveSibling(fileName + "$" + ENTRY_VARIANT)
+                                                                   .toFile();
+                                   Source.Builder sourceBuilder = Source.newBuilder("js", moduleFile)
+                                                                        .content(wrapped)
+                                                                        .name(fileName);
+                                   return createSource(sourceBuilder, true);
+                               });
     }
 
     /**
@@ -87,12 +122,23 @@ public class GraalJSSourceCreator {
      * @return the source
      */
     private Source createSource(Source.Builder sourceBuilder) {
+        return createSource(sourceBuilder, false);
+    }
+
+    /**
+     * Creates the source.
+     *
+     * @param sourceBuilder the source builder
+     * @param cached whether the parsed code can be reused by the engine
+     * @return the source
+     */
+    private Source createSource(Source.Builder sourceBuilder, boolean cached) {
         try {
             // if (ModuleType.ESM.equals(jsModuleType)) {
             // }
             sourceBuilder.mimeType("application/javascript+module");
 
-            return sourceBuilder.cached(false)
+            return sourceBuilder.cached(cached)
                                 .encoding(StandardCharsets.UTF_8)
                                 .build();
         } catch (IOException e) {
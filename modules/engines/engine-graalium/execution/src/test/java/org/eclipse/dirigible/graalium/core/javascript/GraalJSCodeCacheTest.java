@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core.javascript;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.graalvm.polyglot.Source;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * The Class GraalJSCodeCacheTest.
+ */
+public class GraalJSCodeCacheTest {
+
+    /** The Constant MAX_SIZE. */
+    private static final int MAX_SIZE = 10;
+
+    /** The folder. */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /** The cache. */
+    private GraalJSCodeCache cache;
+
+    /** The created sources. */
+    private final AtomicInteger createdSources = new AtomicInteger();
+
+    /** The source factory. */
+    private final Function<String, Source> sourceFactory = content -> {
+        createdSources.incrementAndGet();
+        return Source.create("js", content);
+    };
+
+    /**
+     * Sets the up.
+     */
+    @Before
+    public void setUp() {
+        cache = new GraalJSCodeCache(MAX_SIZE);
+    }
+
+    /**
+     * Test an unchanged file is neither read nor parsed again.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testHit() throws IOException {
+        Path file = write("a.js", "export const a = 1;");
+
+        Source first = cache.getSource(file, sourceFactory);
+        Source second = cache.getSource(file, sourceFactory);
+
+        assertSame(first, second);
+        assertEquals(1, createdSources.get());
+    }
+
+    /**
+     * Test the variants of the source of a file are cached separately.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testMissForAnotherVariant() throws IOException {
+        Path file = write("a.js", "export const a = 1;");
+
+        cache.getSource(file, sourceFactory);
+        cache.getSource(file, "entry", sourceFactory);
+        cache.getSource(file, "entry", sourceFactory);
+
+        assertEquals(2, createdSources.get());
+    }
+
+    /**
+     * Test a changed size creates a new source.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testChangedSize() throws IOException {
+        Path file = write("a.js", "export const a = 1;");
+        Source first = cache.getSource(file, sourceFactory);
+
+        write("a.js", "export const a = 10;");
+        Source second = cache.getSource(file, sourceFactory);
+
+        assertNotSame(first, second);
+        assertEquals("export const a = 10;", second.getCharacters()
+                                                   .toString());
+        assertEquals(2, createdSources.get());
+    }
+
+    /**
+     * Test a changed last modified time with the same size and a changed content creates a new source.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testChangedLastModified() throws IOException {
+        Path file = write("a.js", "export const a = 1;");
+        Source first = cache.getSource(file, sourceFactory);
+
+        write("a.js", "export const a = 2;");
+        touch(file);
+        Source second = cache.getSource(file, sourceFactory);
+
+        assertNotSame(first, second);
+        assertEquals(2, createdSources.get());
+    }
+
+    /**
+     * Test a changed last modified time with the same content keeps the source, as its hash is the
+     * same.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testHashFallback() throws IOException {
+        Path file = write("a.js", "export const a = 1;");
+        Source first = cache.getSource(file, sourceFactory);
+
+        write("a.js", "export const a = 1;");
+        touch(file);
+        Source second = cache.getSource(file, sourceFactory);
+        Source third = cache.getSource(file, sourceFactory);
+
+        assertSame(first, second);
+        assertSame(first, third);
+        assertEquals(1, createdSources.get());
+    }
+
+    /**
+     * Test the least recently used sources are evicted, when the cache is full.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testEviction() throws IOException {
+        Path[] files = new Path[MAX_SIZE + 1];
+        for (int i = 0; i < files.length; i++) {
+            files[i] = write("file" + i + ".js", "export const i = " + i + ";");
+        }
+        for (int i = 0; i < MAX_SIZE; i++) {
+            cache.getSource(files[i], sourceFactory);
+        }
+        // the first file becomes the most recently used one
+        cache.getSource(files[0], sourceFactory);
+        assertEquals(MAX_SIZE, createdSources.get());
+
+        // the overflow evicts it and a tenth of the max size, i.e. the second and the third file
+        cache.getSource(files[MAX_SIZE], sourceFactory);
+        assertEquals(MAX_SIZE + 1, createdSources.get());
+
+        cache.getSource(files[0], sourceFactory);
+        cache.getSource(files[3], sourceFactory);
+        assertEquals(MAX_SIZE + 1, createdSources.get());
+
+        cache.getSource(files[1], sourceFactory);
+        assertEquals(MAX_SIZE + 2, createdSources.get());
+    }
+
+    /**
+     * Test the invalidation, e.g. on publish, drops the cached sources, module contents and resolved
+     * modules.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testInvalidate() throws IOException {
+        Path file = write("a.js", "export const a = 1;");
+        cache.getSource(file, sourceFactory);
+        byte[] content = cache.getModuleContent(file);
+        AtomicInteger resolutions = new AtomicInteger();
+        Function<String, Path> resolver = module -> {
+            resolutions.incrementAndGet();
+            return file;
+        };
+        cache.getResolvedModule("scope", "a", resolver);
+
+        cache.invalidate();
+
+        cache.getSource(file, sourceFactory);
+        assertEquals(2, createdSources.get());
+        assertNotSame(content, cache.getModuleContent(file));
+        cache.getResolvedModule("scope", "a", resolver);
+        assertEquals(2, resolutions.get());
+    }
+
+    /**
+     * Test the module content is read only when the file has been changed.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testModuleContent() throws IOException {
+        Path file = write("a.mjs", "export const a = 1;");
+
+        byte[] first = cache.getModuleContent(file);
+        assertSame(first, cache.getModuleContent(file));
+
+        write("a.mjs", "export const a = 22;");
+        byte[] second = cache.getModuleContent(file);
+
+        assertNotSame(first, second);
+        assertEquals("export const a = 22;", new String(second, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Test the resolved modules are cached by scope, but the unresolvable ones are not.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testResolvedModule() throws IOException {
+        Path file = write("a.js", "export const a = 1;");
+        AtomicInteger resolutions = new AtomicInteger();
+        Function<String, Path> resolver = module -> {
+            resolutions.incrementAndGet();
+            return "a".equals(module) ? file : null;
+        };
+
+        assertSame(file, cache.getResolvedModule("scope", "a", resolver));
+        assertSame(file, cache.getResolvedModule("scope", "a", resolver));
+        assertEquals(1, resolutions.get());
+
+        cache.getResolvedModule("another", "a", resolver);
+        assertEquals(2, resolutions.get());
+
+        assertNull(cache.getResolvedModule("scope", "b", resolver));
+        assertNull(cache.getResolvedModule("scope", "b", resolver));
+        assertEquals(4, resolutions.get());
+    }
+
+    /**
+     * Writes the file.
+     *
+     * @param name the name
+     * @param content the content
+     * @return the path
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(folder.getRoot()
+                                       .toPath()
+                                       .resolve(name),
+                content);
+    }
+
+    /**
+     * Moves the last modified time of the file forward, as a rewrite may keep it within the
+     * granularity of the file system.
+     *
+     * @param file the file
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static void touch(Path file) throws IOException {
+        FileTime lastModified = Files.getLastModifiedTime(file);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified.toMillis() + 1000));
+    }
+
+}
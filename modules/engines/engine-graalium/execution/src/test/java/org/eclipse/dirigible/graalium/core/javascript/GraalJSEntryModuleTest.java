@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core.javascript;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.graalvm.polyglot.PolyglotException;
+import org.graalvm.polyglot.Source;
+import org.graalvm.polyglot.Value;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the repeated runs of an entry file in the same context through its wrapping module.
+ */
+public class GraalJSEntryModuleTest {
+
+    /** The folder. */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /** The working directory. */
+    private Path workingDirectory;
+
+    /** The runner. */
+    private GraalJSCodeRunner runner;
+
+    /**
+     * Sets the up.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Before
+    public void setUp() throws IOException {
+        GraalJSCodeCache.get()
+                        .invalidate();
+        workingDirectory = folder.newFolder("project")
+                                 .toPath()
+                                 .toRealPath();
+        Files.writeString(workingDirectory.resolve("counter.mjs"), "globalThis.evaluations = (globalThis.evaluations || 0) + 1;\n"
+                + "let calls = 0;\n" + "export function count() { return ++calls; }\n");
+        runner = GraalJSCodeRunner.newBuilder(workingDirectory, folder.getRoot()
+                                                                      .toPath())
+                                  .build();
+    }
+
+    /**
+     * Tear down.
+     */
+    @After
+    public void tearDown() {
+        runner.close();
+    }
+
+    /**
+     * Test the imports are kept at the top level and the rest of the code is wrapped on the same lines.
+     */
+    @Test
+    public void testWrap() {
+        assertEquals("// comment\nimport { a } from './a.mjs';\nimport './b.mjs';\nexport function " + GraalJSEntryModule.RUN_FUNCTION
+                + "() {a();\nconst b = import.meta.url;\n}\n",
+                GraalJSEntryModule.wrap("// comment\nimport { a } from './a.mjs';\nimport './b.mjs';\na();\nconst b = import.meta.url;"));
+        assertEquals("export async function " + GraalJSEntryModule.RUN_FUNCTION + "() {await a();\n}\n",
+                GraalJSEntryModule.wrap("await a();"));
+        assertNull(GraalJSEntryModule.wrap("import { a } from './a.mjs';\nexport const b = a();"));
+        assertNull(GraalJSEntryModule.wrap("a();\nimport { b } from './b.mjs';"));
+    }
+
+    /**
+     * Test the code of the entry is run on each run, while the entry and its imports are evaluated
+     * once.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testRepeatedRuns() throws IOException {
+        Files.writeString(workingDirectory.resolve("main.mjs"),
+                "import { count } from './counter.mjs';\n" + "const calls = count();\n" + "globalThis.result = calls;\n");
+
+        Source source = runner.prepareEntrySource(Path.of("main.mjs"));
+        for (int i = 1; i <= 3; i++) {
+            assertSame(source, runner.prepareEntrySource(Path.of("main.mjs")));
+            runner.runEntry(source);
+            assertEquals(i, getGlobal("result").asInt());
+        }
+        assertEquals(1, getGlobal("evaluations").asInt());
+    }
+
+    /**
+     * Test an entry with await is run until its promise is settled and its failure is thrown.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testAwait() throws IOException {
+        Files.writeString(workingDirectory.resolve("main.mjs"), "globalThis.result = await Promise.resolve('awaited');\n"
+                + "if (globalThis.fail) {\n" + "    await Promise.reject(new Error('failed'));\n" + "}\n");
+
+        Source source = runner.prepareEntrySource(Path.of("main.mjs"));
+        runner.runEntry(source);
+        assertEquals("awaited", getGlobal("result").asString());
+
+        runner.getGraalContext()
+              .getBindings("js")
+              .putMember("fail", true);
+        try {
+            runner.runEntry(source);
+            fail("The rejection should be thrown");
+        } catch (PolyglotException e) {
+            assertTrue(e.getMessage(), e.getMessage()
+                                        .contains("failed"));
+        }
+    }
+
+    /**
+     * Test an entry, which exports anything, is not wrapped.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testExportingEntry() throws IOException {
+        Files.writeString(workingDirectory.resolve("main.mjs"), "export const value = 1;\n");
+
+        assertNull(runner.prepareEntrySource(Path.of("main.mjs")));
+    }
+
+    /**
+     * Gets the global.
+     *
+     * @param name the name
+     * @return the value
+     */
+    private Value getGlobal(String name) {
+        return runner.getGraalContext()
+                     .getBindings("js")
+                     .getMember(name);
+    }
+
+}
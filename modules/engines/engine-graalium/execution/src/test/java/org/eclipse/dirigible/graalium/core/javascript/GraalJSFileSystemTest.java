@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core.javascript;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the imports of modules, whose content is shared through the {@link GraalJSCodeCache} under
+ * the cached roots.
+ */
+public class GraalJSFileSystemTest {
+
+    /** The folder. */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /** The working directory. */
+    private Path workingDirectory;
+
+    /**
+     * Sets the up.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Before
+    public void setUp() throws IOException {
+        GraalJSCodeCache.get()
+                        .invalidate();
+        workingDirectory = folder.newFolder("project")
+                                 .toPath()
+                                 .toRealPath();
+        Files.createDirectory(workingDirectory.resolve("cached"));
+        Files.writeString(workingDirectory.resolve("main.mjs"),
+                "import { value } from './cached/dependency.mjs'; import { other } from './dependency.mjs'; globalThis.result = value + ':' + other;");
+    }
+
+    /**
+     * Test the imported module under a cached root is read from the cache, until its size or last
+     * modified time changes, while the modules outside of the cached roots are always read from the
+     * file system.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testImportedModuleContent() throws IOException {
+        Path dependency = Files.writeString(workingDirectory.resolve("cached/dependency.mjs"), "export const value = 'first';");
+        Path other = Files.writeString(workingDirectory.resolve("dependency.mjs"), "export const other = 'first';");
+
+        assertEquals("first:first", runMain());
+
+        // the same size and last modified time, so the cached content is imported
+        FileTime lastModified = Files.getLastModifiedTime(dependency);
+        Files.writeString(dependency, "export const value = 'fir5t';");
+        Files.setLastModifiedTime(dependency, lastModified);
+        FileTime otherLastModified = Files.getLastModifiedTime(other);
+        Files.writeString(other, "export const other = 'fir5t';");
+        Files.setLastModifiedTime(other, otherLastModified);
+        assertEquals("first:fir5t", runMain());
+
+        Files.setLastModifiedTime(dependency, FileTime.fromMillis(lastModified.toMillis() + 1000));
+        assertEquals("fir5t:fir5t", runMain());
+
+        Files.writeString(dependency, "export const value = 'changed';");
+        assertEquals("changed:fir5t", runMain());
+    }
+
+    /**
+     * Runs the main module in a new runner sharing the module contents.
+     *
+     * @return the result set by the main module
+     */
+    private String runMain() {
+        try (GraalJSCodeRunner runner = GraalJSCodeRunner.newBuilder(workingDirectory, folder.getRoot()
+                                                                                              .toPath())
+                                                         .cacheResolvedModules("test")
+                                                         .cacheModuleContents(workingDirectory.resolve("cached"))
+                                                         .build()) {
+            runner.run(runner.prepareSource(Path.of("main.mjs")));
+            return runner.getGraalContext()
+                         .getBindings("js")
+                         .getMember("result")
+                         .asString();
+        }
+    }
+
+}
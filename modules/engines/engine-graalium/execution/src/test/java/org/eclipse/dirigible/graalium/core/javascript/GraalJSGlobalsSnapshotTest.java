@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core.javascript;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.graalvm.polyglot.Context;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class GraalJSGlobalsSnapshotTest.
+ */
+public class GraalJSGlobalsSnapshotTest {
+
+    /** The context. */
+    private Context context;
+
+    /**
+     * Sets the up.
+     */
+    @Before
+    public void setUp() {
+        context = Context.create("js");
+        context.eval("js", "globalThis.shared = { name: 'shared' };");
+    }
+
+    /**
+     * Tear down.
+     */
+    @After
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Test the added global properties are removed and the replaced ones are restored.
+     */
+    @Test
+    public void testRestore() {
+        GraalJSGlobalsSnapshot snapshot = new GraalJSGlobalsSnapshot(context);
+
+        context.eval("js", "globalThis.leaked = 'user'; shared = 'replaced'; JSON = null; delete globalThis.Math;");
+
+        assertTrue(snapshot.restore());
+        assertEquals("undefined", eval("typeof leaked"));
+        assertEquals("shared", eval("shared.name"));
+        assertEquals("[1]", eval("JSON.stringify([1])"));
+        assertEquals("2", eval("String(Math.max(1, 2))"));
+    }
+
+    /**
+     * Test the restore is repeatable.
+     */
+    @Test
+    public void testRepeatedRestore() {
+        GraalJSGlobalsSnapshot snapshot = new GraalJSGlobalsSnapshot(context);
+
+        assertTrue(snapshot.restore());
+        context.eval("js", "globalThis.first = 1;");
+        assertTrue(snapshot.restore());
+        context.eval("js", "globalThis.second = 2;");
+        assertTrue(snapshot.restore());
+
+        assertEquals("undefined undefined", eval("typeof first + ' ' + typeof second"));
+    }
+
+    /**
+     * Test a non-configurable global property cannot be removed and the restore reports it.
+     */
+    @Test
+    public void testNonConfigurableProperty() {
+        GraalJSGlobalsSnapshot snapshot = new GraalJSGlobalsSnapshot(context);
+
+        context.eval("js", "Object.defineProperty(globalThis, 'sticky', { value: 'user', configurable: false });");
+
+        assertFalse(snapshot.restore());
+    }
+
+    /**
+     * Test the state of the objects referenced by the global properties is not restored.
+     */
+    @Test
+    public void testObjectStateIsShared() {
+        GraalJSGlobalsSnapshot snapshot = new GraalJSGlobalsSnapshot(context);
+
+        context.eval("js", "shared.name = 'changed';");
+
+        assertTrue(snapshot.restore());
+        assertEquals("changed", eval("shared.name"));
+    }
+
+    /**
+     * Evaluates the expression.
+     *
+     * @param expression the expression
+     * @return the string value
+     */
+    private String eval(String expression) {
+        return context.eval("js", expression)
+                      .asString();
+    }
+
+}
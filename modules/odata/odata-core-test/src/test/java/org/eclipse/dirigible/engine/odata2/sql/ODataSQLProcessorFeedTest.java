@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.engine.odata2.sql;
+
+import static org.apache.olingo.odata2.api.commons.ODataHttpMethod.GET;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.apache.olingo.odata2.api.ep.entry.ODataEntry;
+import org.apache.olingo.odata2.api.ep.feed.ODataFeed;
+import org.eclipse.dirigible.engine.odata2.sql.entities.Address;
+import org.eclipse.dirigible.engine.odata2.sql.entities.Car;
+import org.eclipse.dirigible.engine.odata2.sql.entities.Driver;
+import org.eclipse.dirigible.engine.odata2.sql.entities.Owner;
+import org.junit.Test;
+
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Tests the entity set reads, which render the entities while the result set is read (i.e. with a
+ * $top within the server side paging size), with all the feed writers.
+ */
+public class ODataSQLProcessorFeedTest extends AbstractSQLProcessorTest {
+
+    /** The Constant CONTENT_TYPES. */
+    private static final String[] CONTENT_TYPES = {"application/json", "application/atom+xml"};
+
+    /** The rows read by the result sets of the entity set queries. */
+    private final AtomicInteger readRows = new AtomicInteger();
+
+    /** The entity set queries executed. */
+    private final AtomicInteger queries = new AtomicInteger();
+
+    /** The row of the entity set query, on which reading fails, or 0. */
+    private int failingRow;
+
+    /**
+     * Gets the o data entities.
+     *
+     * @return the o data entities
+     */
+    @Override
+    protected Class<?>[] getODataEntities() {
+        return new Class<?>[] {Car.class, Driver.class, Owner.class, Address.class};
+    }
+
+    /**
+     * Creates the data source, which counts the rows read by the entity set queries of the cars.
+     *
+     * @return the data source
+     */
+    @Override
+    public DataSource createDataSource() {
+        DataSource dataSource = super.createDataSource();
+        return (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {DataSource.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(dataSource, method, args);
+                    return result instanceof Connection connection ? wrapConnection(connection) : result;
+                });
+    }
+
+    /**
+     * Test all the feed writers with and without $expand and $inlinecount.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testFeedWriters() throws Exception {
+        for (String contentType : CONTENT_TYPES) {
+            for (boolean expand : new boolean[] {false, true}) {
+                for (boolean inlineCount : new boolean[] {false, true}) {
+                    String variant = contentType + " expand=" + expand + " inlinecount=" + inlineCount;
+                    OData2RequestBuilder request = OData2RequestBuilder.createRequest(sf)
+                                                                       .segments("Cars")
+                                                                       .param("$top", "10")
+                                                                       .param("$orderby", "Id")
+                                                                       .accept(contentType);
+                    if (expand) {
+                        request.param("$expand", "Drivers");
+                    }
+                    if (inlineCount) {
+                        request.param("$inlinecount", "allpages");
+                    }
+                    Response response = request.executeRequest(GET);
+                    assertEquals(variant, 200, response.getStatus());
+
+                    ODataFeed feed = retrieveODataFeed(response, "Cars");
+                    List<ODataEntry> entries = feed.getEntries();
+                    assertEquals(variant, 7, entries.size());
+                    if (inlineCount) {
+                        assertEquals(variant, Integer.valueOf(7), feed.getFeedMetadata()
+                                                                      .getInlineCount());
+                    } else {
+                        assertNull(variant, feed.getFeedMetadata()
+                                                .getInlineCount());
+                    }
+                    if (expand) {
+                        // the two rows of each of the cars with two drivers are accumulated in a single entity
+                        assertEquals(variant, 2, getDrivers(entries, "7990d49f-cfaf-48ab-8c6f-adbe7aaa069e").size());
+                        assertEquals(variant, 2, getDrivers(entries, "b4dc3e22-bacb-44ed-aa02-70273525fb73").size());
+                        assertEquals(variant, 0, getDrivers(entries, "2112f9ea-868d-42ab-8c1d-1a4397376a65").size());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Test the result set is read in a single pass.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testSinglePass() throws Exception {
+        Response response = OData2RequestBuilder.createRequest(sf)
+                                                .segments("Cars")
+                                                .param("$top", "10")
+                                                .param("$expand", "Drivers")
+                                                .accept("application/json")
+                                                .executeRequest(GET);
+        assertEquals(200, response.getStatus());
+        assertEquals(7, retrieveODataFeed(response, "Cars").getEntries()
+                                                           .size());
+
+        assertEquals(1, queries.get());
+        // 9 rows, as two of the cars have two drivers, and the last call to next() reaching the end
+        assertEquals(10, readRows.get());
+    }
+
+    /**
+     * Test an empty feed is written by all the feed writers.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testEmptyFeed() throws Exception {
+        for (String contentType : CONTENT_TYPES) {
+            Response response = OData2RequestBuilder.createRequest(sf)
+                                                    .segments("Cars")
+                                                    .param("$top", "10")
+                                                    .param("$filter", "Make eq 'Trabant'")
+                                                    .param("$expand", "Drivers")
+                                                    .param("$inlinecount", "allpages")
+                                                    .accept(contentType)
+                                                    .executeRequest(GET);
+            assertEquals(contentType, 200, response.getStatus());
+
+            ODataFeed feed = retrieveODataFeed(response, "Cars");
+            assertTrue(contentType, feed.getEntries()
+                                        .isEmpty());
+            assertEquals(contentType, Integer.valueOf(0), feed.getFeedMetadata()
+                                                              .getInlineCount());
+        }
+    }
+
+    /**
+     * Test a failure while the result set is read fails the request instead of writing a truncated
+     * feed.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testFailureWhileReading() throws Exception {
+        failingRow = 3;
+        for (String contentType : CONTENT_TYPES) {
+            Response response = OData2RequestBuilder.createRequest(sf)
+                                                    .segments("Cars")
+                                                    .param("$top", "10")
+                                                    .accept(contentType)
+                                                    .executeRequest(GET);
+            assertEquals(contentType, 500, response.getStatus());
+        }
+    }
+
+    /**
+     * Gets the expanded drivers of the car.
+     *
+     * @param entries the entries
+     * @param id the id of the car
+     * @return the drivers
+     */
+    private static List<ODataEntry> getDrivers(List<ODataEntry> entries, String id) {
+        Map<String, Object> car = entries.stream()
+                                         .map(ODataEntry::getProperties)
+                                         .filter(properties -> id.equals(properties.get("Id")))
+                                         .findFirst()
+                                         .orElseThrow();
+        return ((ODataFeed) car.get("Drivers")).getEntries();
+    }
+
+    /**
+     * Wraps the connection, so that the result sets of the entity set queries of the cars are counted.
+     *
+     * @param connection the connection
+     * @return the connection
+     */
+    private Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof PreparedStatement statement && "prepareStatement".equals(method.getName())
+                            && isCarsEntitySetQuery((String) args[0])) {
+                        return wrapStatement(statement);
+                    }
+                    return result;
+                });
+    }
+
+    /**
+     * Checks if the statement is an entity set query of the cars.
+     *
+     * @param sql the sql
+     * @return true, if it is
+     */
+    private static boolean isCarsEntitySetQuery(String sql) {
+        String upperCase = sql.toUpperCase();
+        return upperCase.startsWith("SELECT") && upperCase.contains("CARS") && !upperCase.contains("COUNT(");
+    }
+
+    /**
+     * Wraps the statement, so that the rows read by its result sets are counted.
+     *
+     * @param statement the statement
+     * @return the prepared statement
+     */
+    private PreparedStatement wrapStatement(PreparedStatement statement) {
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {PreparedStatement.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(statement, method, args);
+                    if (result instanceof ResultSet resultSet && "executeQuery".equals(method.getName())) {
+                        queries.incrementAndGet();
+                        return wrapResultSet(resultSet);
+                    }
+                    return result;
+                });
+    }
+
+    /**
+     * Wraps the result set, so that its rows are counted and reading fails on the failing row.
+     *
+     * @param resultSet the result set
+     * @return the result set
+     */
+    private ResultSet wrapResultSet(ResultSet resultSet) {
+        AtomicInteger row = new AtomicInteger();
+        return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {ResultSet.class},
+                (proxy, method, args) -> {
+                    if ("next".equals(method.getName())) {
+                        readRows.incrementAndGet();
+                        if (row.incrementAndGet() == failingRow) {
+                            throw new SQLException("Reading failed on row " + failingRow);
+                        }
+                    }
+                    return invoke(resultSet, method, args);
+                });
+    }
+
+    /**
+     * Invokes the method on the target, unwrapping the exception it throws.
+     *
+     * @param target the target
+     * @param method the method
+     * @param args the args
+     * @return the result
+     * @throws Throwable the exception thrown by the method
+     */
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+}
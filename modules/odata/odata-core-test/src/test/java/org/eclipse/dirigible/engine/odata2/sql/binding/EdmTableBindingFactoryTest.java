@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.eclipse.dirigible.engine.odata2.sql.test.util.OData2TestUtils.stream;
 import static org.junit.Assert.assertEquals;
@@ -179,4 +180,26 @@ public class EdmTableBindingFactoryTest {
             assertEquals(Arrays.asList(), config.getParameters());
         }
     }
+
+    /**
+     * Test the schema qualifying the table is split from the table name, unless the schema is
+     * configured separately.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testQualifiedTableName() throws Exception {
+        EdmTableBinding qualified = new EdmTableBinding(Map.of("edmTypeFqn", "org.eclipse.dirigible.Car", "sqlTable", " PUBLIC.CARS"));
+        assertEquals("CARS", qualified.getTableName());
+        assertEquals(Optional.of("PUBLIC"), qualified.getSchemaName());
+
+        EdmTableBinding plain = new EdmTableBinding(Map.of("edmTypeFqn", "org.eclipse.dirigible.Car", "sqlTable", "CARS"));
+        assertEquals("CARS", plain.getTableName());
+        assertEquals(Optional.empty(), plain.getSchemaName());
+
+        EdmTableBinding configured = new EdmTableBinding(
+                Map.of("edmTypeFqn", "org.eclipse.dirigible.Car", "sqlTable", "CARS.V1", "sqlSchema", "PUBLIC"));
+        assertEquals("CARS.V1", configured.getTableName());
+        assertEquals(Optional.of("PUBLIC"), configured.getSchemaName());
+    }
 }
@@ -16,6 +16,7 @@ import org.apache.olingo.odata2.api.uri.UriParser;
 import org.apache.olingo.odata2.core.ODataPathSegmentImpl;
 import org.apache.olingo.odata2.core.edm.provider.EdmImplProv;
 import org.apache.olingo.odata2.core.uri.UriParserImpl;
+import org.eclipse.dirigible.components.database.DatabaseSystem;
 import org.eclipse.dirigible.engine.odata2.sql.binding.EdmTableBindingProvider;
 import org.eclipse.dirigible.engine.odata2.sql.edm.*;
 import org.eclipse.dirigible.engine.odata2.sql.mapping.DefaultEdmTableMappingProvider;
@@ -23,6 +24,11 @@ import org.eclipse.dirigible.engine.odata2.sql.test.util.OData2TestUtils;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -30,6 +36,8 @@ import java.util.Map;
 
 import static java.util.Collections.EMPTY_MAP;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * The Class SQLSelectBuilderExpandTest.
@@ -230,6 +238,106 @@ public class SQLSelectBuilderExpandTest {
     // assertEquals(expected, q.buildSelect(context));
     // }
 
+    /**
+     * The expected expand with top and filter query, in which the subquery has its own table aliases.
+     */
+    private static final String EXPAND_WITH_TOP_AND_FILTER_AS_SUBQUERY =
+            "SELECT \"T0\".\"ID\" AS \"ID_T0\", \"T0\".\"NAME\" AS \"NAME_T0\", \"T0\".\"VALUE\" AS \"VALUE_T0\", "
+                    + "\"T1\".\"MESSAGEGUID\" AS \"MESSAGEGUID_T1\", \"T1\".\"LOGSTART\" AS \"LOGSTART_T1\", \"T1\".\"LOGEND\" AS \"LOGEND_T1\", "
+                    + "\"T1\".\"SENDER\" AS \"SENDER_T1\", \"T1\".\"RECEIVER\" AS \"RECEIVER_T1\", \"T1\".\"STATUS\" AS \"STATUS_T1\", "
+                    + "\"T1\".\"MESSAGEGUID\" AS \"MESSAGEGUID_T1\" FROM \"ITOP_MPLUSERDEFINEDATTRIBUTE\" AS \"T0\" "
+                    + "LEFT JOIN \"MPLHEADER\" AS \"T1\" ON \"T1\".\"ID\" = \"T0\".\"HEADER_ID\" "
+                    + "WHERE \"T0\".\"ID\" IN (SELECT * FROM (SELECT \"ET0\".\"ID\" AS \"ID_ET0\" FROM \"ITOP_MPLUSERDEFINEDATTRIBUTE\" AS \"ET0\" "
+                    + "LEFT JOIN \"MPLHEADER\" AS \"ET1\" ON \"ET1\".\"ID\" = \"ET0\".\"HEADER_ID\" "
+                    + "WHERE \"ET0\".\"NAME\" = ? ORDER BY \"ET0\".\"ID\" ASC LIMIT 5 OFFSET 10) EXPAND_IDS) ORDER BY \"T0\".\"ID\" ASC";
+
+    /**
+     * Test expand with top and filter, which selects the ids of the leading entities with a subquery.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testExpandWithTopAndFilterAsSubquery() throws Exception {
+        SQLSelectBuilder q = buildExpandWithTopAndFilterAsSubquery(DatabaseSystem.HANA);
+        assertEquals(EXPAND_WITH_TOP_AND_FILTER_AS_SUBQUERY, q.buildSelect(new SQLContext(DatabaseSystem.HANA)));
+    }
+
+    /**
+     * Test expand with top and filter as subquery on H2, where the statement is also executed.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testExpandWithTopAndFilterAsSubqueryH2() throws Exception {
+        SQLSelectBuilder q = buildExpandWithTopAndFilterAsSubquery(DatabaseSystem.H2);
+        String sql = q.buildSelect(new SQLContext(DatabaseSystem.H2));
+        assertEquals(EXPAND_WITH_TOP_AND_FILTER_AS_SUBQUERY, sql);
+
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:expand-subquery");
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE MPLHEADER (ID INTEGER PRIMARY KEY, MESSAGEGUID VARCHAR(32), LOGSTART TIMESTAMP, "
+                    + "LOGEND TIMESTAMP, SENDER VARCHAR(32), RECEIVER VARCHAR(32), STATUS VARCHAR(32))");
+            statement.execute("CREATE TABLE ITOP_MPLUSERDEFINEDATTRIBUTE (ID INTEGER PRIMARY KEY, NAME VARCHAR(32), "
+                    + "\"VALUE\" VARCHAR(32), HEADER_ID INTEGER)");
+            statement.execute("INSERT INTO MPLHEADER (ID, MESSAGEGUID) VALUES (1, 'guid')");
+            for (int i = 1; i <= 40; i++) {
+                statement.execute("INSERT INTO ITOP_MPLUSERDEFINEDATTRIBUTE VALUES (" + i + ", '" + (i % 2 == 0 ? "Something" : "Other")
+                        + "', 'value', 1)");
+            }
+            try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                preparedStatement.setString(1, "Something");
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    // the 11th to the 15th matching rows have the even ids from 22 to 30
+                    for (int id = 22; id <= 30; id += 2) {
+                        assertTrue(resultSet.next());
+                        assertEquals(id, resultSet.getInt("ID_T0"));
+                        assertEquals("guid", resultSet.getString("MESSAGEGUID_T1"));
+                    }
+                    assertFalse(resultSet.next());
+                }
+            }
+        }
+    }
+
+    /**
+     * Test expand with top and filter as subquery on PostgreSQL.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testExpandWithTopAndFilterAsSubqueryPostgreSQL() throws Exception {
+        SQLSelectBuilder q = buildExpandWithTopAndFilterAsSubquery(DatabaseSystem.POSTGRESQL);
+        assertEquals(EXPAND_WITH_TOP_AND_FILTER_AS_SUBQUERY, q.buildSelect(new SQLContext(DatabaseSystem.POSTGRESQL)));
+    }
+
+    /**
+     * Builds the expand with top and filter query, which selects the ids of the leading entities with a
+     * subquery.
+     *
+     * @param databaseSystem the database system
+     * @return the SQL select builder
+     * @throws Exception the exception
+     */
+    private SQLSelectBuilder buildExpandWithTopAndFilterAsSubquery(DatabaseSystem databaseSystem) throws Exception {
+        Map<String, String> params = new HashMap<>();
+        params.put("$expand", "Entity1");
+        params.put("$filter", "Name eq 'Something'");
+        params.put("$top", "5");
+        params.put("$skip", "10");
+        PathSegment ps1 = new ODataPathSegmentImpl("Entities2", EMPTY_MAP);
+        UriInfo uriInfo = uriParser.parse(Collections.singletonList(ps1), params);
+
+        SQLContext context = new SQLContext(databaseSystem);
+        assertTrue(builder.isExpandSubquerySupported(uriInfo, context));
+        SQLSelectBuilder q = builder.buildSelectEntitySetExpandQuery(uriInfo, context, null);
+        assertEquals(1, q.getStatementParams()
+                         .size());
+        assertEquals("Something", q.getStatementParams()
+                                   .get(0)
+                                   .getValue());
+        return q;
+    }
+
     /**
      * Test expand with filter and select.
      *
@@ -110,16 +110,46 @@ public class EdmTableBinding extends Mapping {
     }
 
     /**
-     * Gets the table name.
+     * Gets the table name. A table qualified by its schema (e.g. "PUBLIC.CARS") is split in a table
+     * name and a schema name, unless the schema is configured separately.
      *
      * @return the table name
      */
     public String getTableName() {
-        return readMandatoryStringConfig("sqlTable");
+        String tableName = readMandatoryStringConfig("sqlTable");
+        int separator = getSchemaSeparator(tableName);
+        return separator < 0 ? tableName : tableName.substring(separator + 1)
+                                                    .trim();
     }
 
+    /**
+     * Gets the schema name, either the configured one or the one qualifying the table.
+     *
+     * @return the schema name
+     */
     public Optional<String> getSchemaName() {
-        return readOptionalStringConfig("sqlSchema");
+        Optional<String> schemaName = readOptionalStringConfig("sqlSchema");
+        if (schemaName.isPresent()) {
+            return schemaName;
+        }
+        String tableName = readMandatoryStringConfig("sqlTable");
+        int separator = getSchemaSeparator(tableName);
+        return separator < 0 ? Optional.empty()
+                : Optional.of(tableName.substring(0, separator)
+                                       .trim());
+    }
+
+    /**
+     * Gets the index of the separator of the schema qualifying the table.
+     *
+     * @param tableName the table name
+     * @return the index or -1 if the table is not qualified or the schema is configured separately
+     */
+    private int getSchemaSeparator(String tableName) {
+        if (readOptionalStringConfig("sqlSchema").isPresent()) {
+            return -1;
+        }
+        return tableName.indexOf('.');
     }
 
     /**
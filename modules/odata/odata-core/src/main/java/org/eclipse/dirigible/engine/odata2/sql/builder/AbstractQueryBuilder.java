@@ -59,6 +59,11 @@ public abstract class AbstractQueryBuilder implements SQLStatementBuilder {
     /** The where clause. */
     private final SQLWhereClause whereClause;
 
+    /**
+     * The prefix of the table aliases, e.g. to tell the aliases of a subquery from the enclosing ones.
+     */
+    private String tableAliasPrefix = "";
+
     /**
      * Instantiates a new abstract query builder.
      *
@@ -73,6 +78,24 @@ public abstract class AbstractQueryBuilder implements SQLStatementBuilder {
         this.sqlStatementParams = new ArrayList<>();
     }
 
+    /**
+     * Gets the table alias prefix.
+     *
+     * @return the table alias prefix
+     */
+    public String getTableAliasPrefix() {
+        return tableAliasPrefix;
+    }
+
+    /**
+     * Sets the table alias prefix. It has to be set before any table alias is granted.
+     *
+     * @param tableAliasPrefix the new table alias prefix
+     */
+    public void setTableAliasPrefix(String tableAliasPrefix) {
+        this.tableAliasPrefix = tableAliasPrefix;
+    }
+
     /**
      * Gets the statement params.
      *
@@ -549,10 +572,10 @@ public abstract class AbstractQueryBuilder implements SQLStatementBuilder {
                     // Alias is already contained in the map
                     return getTableAliasForType(type);
             }
-            String alias = "T" + tableAliasesForEntitiesInQuery.size();
+            String alias = tableAliasPrefix + "T" + tableAliasesForEntitiesInQuery.size();
             LOG.debug("Grant Alias '" + alias + "' for " + entity.getName());
             // Add alias to map
-            tableAliasesForEntitiesInQuery.put("T" + tableAliasesForEntitiesInQuery.size(), entity);
+            tableAliasesForEntitiesInQuery.put(alias, entity);
             return alias;
         } catch (EdmException e) {
             throw new OData2Exception(INTERNAL_SERVER_ERROR, e);
@@ -572,11 +595,10 @@ public abstract class AbstractQueryBuilder implements SQLStatementBuilder {
                 // Alias is already contained in the map
                 return getTableAliasForManyToManyMappingTable(target);
         }
-        String alias = "MT" + tableAliasesForManyToManyMappingTablesInQuery.size();
+        String alias = tableAliasPrefix + "MT" + tableAliasesForManyToManyMappingTablesInQuery.size();
         LOG.debug("Grant Alias '" + alias + "' for " + manyToManyMappingTable);
         // Add alias to map
-        tableAliasesForManyToManyMappingTablesInQuery.put("MT" + tableAliasesForManyToManyMappingTablesInQuery.size(),
-                manyToManyMappingTable);
+        tableAliasesForManyToManyMappingTablesInQuery.put(alias, manyToManyMappingTable);
         return alias;
     }
 
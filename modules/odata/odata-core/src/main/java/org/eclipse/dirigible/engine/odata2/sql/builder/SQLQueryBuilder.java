@@ -14,6 +14,7 @@ import org.apache.olingo.odata2.api.ep.entry.ODataEntry;
 import org.apache.olingo.odata2.api.exception.ODataException;
 import org.apache.olingo.odata2.api.processor.ODataContext;
 import org.apache.olingo.odata2.api.uri.*;
+import org.eclipse.dirigible.components.database.DatabaseSystem;
 import org.eclipse.dirigible.engine.odata2.sql.api.OData2Exception;
 import org.eclipse.dirigible.engine.odata2.sql.api.SQLInterceptor;
 import org.eclipse.dirigible.engine.odata2.sql.api.SQLStatementParam;
@@ -37,6 +38,9 @@ public class SQLQueryBuilder {
      */
     public static final int DEFAULT_SERVER_PAGING_SIZE = 1000;
 
+    /** The prefix of the table aliases in the subquery selecting the ids of the expanded entities. */
+    private static final String EXPAND_IDS_TABLE_ALIAS_PREFIX = "E";
+
     /** The table binding. */
     private final EdmTableBindingProvider tableBinding;
 
@@ -162,6 +166,71 @@ public class SQLQueryBuilder {
              .from(target, uri.getKeyPredicates());
             q.filter(uri.getTargetEntitySet(), getKeyProperty(target), readIdsForExpand);
         }
+        return completeSelectEntitySetQuery(q, uri, context);
+    }
+
+    /**
+     * Builds the select entity set query with expand as a single statement. The ids of the target
+     * entities (with applied filter, top and skip) are selected by a subquery, on which the expanded
+     * entities are filtered, so that the ids are neither read nor sent back to the database.
+     *
+     * @param uri the uri
+     * @param sqlContext the SQL context
+     * @param context the context
+     * @return the SQL select builder
+     * @throws ODataException the o data exception
+     * @see #isExpandSubquerySupported(UriInfo, SQLContext)
+     */
+    public SQLSelectBuilder buildSelectEntitySetExpandQuery(final UriInfo uri, final SQLContext sqlContext, ODataContext context)
+            throws ODataException {
+        EdmEntityType target = uri.getTargetEntitySet()
+                                  .getEntityType();
+        SQLSelectBuilder idsQuery = new SQLSelectBuilder(tableBinding);
+        // the subquery gets its own table aliases, so that they do not clash with the enclosing ones
+        idsQuery.setTableAliasPrefix(EXPAND_IDS_TABLE_ALIAS_PREFIX);
+        idsQuery = buildSelectEntitySetIdsForTopAndExpandQuery(idsQuery, uri, context);
+
+        SQLSelectBuilder q = new SQLSelectBuilder(tableBinding);
+        q.setServersidePaging(idsQuery.isServersidePaging());
+        q.select(uri.getSelect(), uri.getExpand())
+         .from(target, uri.getKeyPredicates());
+        q.filter(uri.getTargetEntitySet(), getKeyProperty(target), idsQuery, sqlContext);
+        return completeSelectEntitySetQuery(q, uri, context);
+    }
+
+    /**
+     * Checks if the select entity set query with expand can be built as a single statement. The ids
+     * subquery requires a single key property and a database, which supports ordering and limits in
+     * derived tables. Otherwise the ids have to be read in advance.
+     *
+     * @param uri the uri
+     * @param sqlContext the SQL context
+     * @return true, if supported
+     * @throws EdmException the edm exception
+     */
+    public boolean isExpandSubquerySupported(final UriInfo uri, final SQLContext sqlContext) throws EdmException {
+        if (uri.getTargetEntitySet()
+               .getEntityType()
+               .getKeyPropertyNames()
+               .size() != 1) {
+            return false;
+        }
+        DatabaseSystem databaseSystem = sqlContext.getDatabaseSystem();
+        return databaseSystem != null && (databaseSystem.isDerby() || databaseSystem.isH2() || databaseSystem.isPostgreSQL()
+                || databaseSystem.isHANA() || databaseSystem.isMySQL() || databaseSystem.isMariaDB());
+    }
+
+    /**
+     * Adds the joins, the grouping and the ordering of the select entity set query.
+     *
+     * @param q the query
+     * @param uri the uri
+     * @param context the context
+     * @return the SQL select builder
+     * @throws ODataException the o data exception
+     */
+    private SQLSelectBuilder completeSelectEntitySetQuery(final SQLSelectBuilder q, final UriInfo uri, ODataContext context)
+            throws ODataException {
         q.join(uri.getStartEntitySet(), uri.getTargetEntitySet(), uri.getNavigationSegments())
          .with(uri.getKeyPredicates());
         q.validateOrderBy(uri);
@@ -182,7 +251,20 @@ public class SQLQueryBuilder {
      * @throws ODataException the o data exception
      */
     public SQLSelectBuilder buildSelectEntitySetIdsForTopAndExpandQuery(final UriInfo uri, ODataContext context) throws ODataException {
-        SQLSelectBuilder q = new SQLSelectBuilder(tableBinding);
+        return buildSelectEntitySetIdsForTopAndExpandQuery(new SQLSelectBuilder(tableBinding), uri, context);
+    }
+
+    /**
+     * Builds the select entity set ids for top and expand query with the given builder.
+     *
+     * @param q the builder
+     * @param uri the uri
+     * @param context the context
+     * @return the SQL select builder
+     * @throws ODataException the o data exception
+     */
+    private SQLSelectBuilder buildSelectEntitySetIdsForTopAndExpandQuery(final SQLSelectBuilder q, final UriInfo uri, ODataContext context)
+            throws ODataException {
         EdmEntityType target = uri.getTargetEntitySet()
                                   .getEntityType();
 
@@ -270,6 +270,27 @@ public class SQLSelectBuilder extends AbstractQueryBuilder {
         return this;
     }
 
+    /**
+     * Filter on the ids selected by the given query, which is embedded as a subquery, so that the ids
+     * are neither read nor sent back to the database.
+     *
+     * @param filterTarget the filter target
+     * @param keyProperty the key property
+     * @param idsOfLeadingEntitiesQuery the query selecting the ids of the leading entities
+     * @param context the context
+     * @return the SQL select builder
+     * @throws ODataException the o data exception
+     */
+    public SQLSelectBuilder filter(final EdmEntitySet filterTarget, final EdmProperty keyProperty,
+            final SQLSelectBuilder idsOfLeadingEntitiesQuery, final SQLContext context) throws ODataException {
+        ColumnInfo column = getSQLTableColumnInfo(filterTarget.getEntityType(), keyProperty);
+        // the derived table allows LIMIT in the subquery also for MySQL and MariaDB
+        String filterClause =
+                column.getColumnName() + " IN (SELECT * FROM (" + idsOfLeadingEntitiesQuery.buildSelect(context) + ") EXPAND_IDS)";
+        getWhereClause().and(new SQLWhereClause(filterClause, idsOfLeadingEntitiesQuery.getStatementParams()));
+        return this;
+    }
+
     /**
      * Gets the select expression.
      *
@@ -303,7 +303,7 @@ public abstract class AbstractSQLProcessor extends ODataSingleProcessor implemen
         final EdmEntityType targetEntityType = targetEntitySet.getEntityType();
 
         Collection<EdmProperty> properties = getSelectedProperties(uriInfo.getSelect(), targetEntityType);
-        List<ResultSetReader.ExpandAccumulator> entitiesFeed = new ArrayList<>();
+        List<Map<String, Object>> entitiesFeed = new ArrayList<>();
         Integer count;
         String nextLink;
         try (Connection connection = getDataSource().getConnection()) {
@@ -314,37 +314,54 @@ public abstract class AbstractSQLProcessor extends ODataSingleProcessor implemen
             } else {
                 count = null;
             }
-            List<String> readIdsForExpand = new ArrayList<>();
-            if (OData2Utils.hasExpand((UriInfo) uriInfo)) {
+            SQLSelectBuilder query;
+            SQLContext sqlContext = createSQLContext(connection);
+            if (!OData2Utils.hasExpand((UriInfo) uriInfo)) {
+                query = this.getSQLQueryBuilder()
+                            .buildSelectEntitySetQuery((UriInfo) uriInfo, getContext());
+            } else if (this.getSQLQueryBuilder()
+                           .isExpandSubquerySupported((UriInfo) uriInfo, sqlContext)) {
+                // the ids for $expand are selected by a subquery in the same statement
+                query = this.getSQLQueryBuilder()
+                            .buildSelectEntitySetExpandQuery((UriInfo) uriInfo, sqlContext, getContext());
+            } else {
                 if (logger.isDebugEnabled()) {
                     logger.debug("Reading the ids that will be used for $expand");
                 }
-                readIdsForExpand = readIdsForExpand(uriInfo);
-                if (logger.isInfoEnabled()) {
-                    logger.info("Using IDs for $expand: {}", readIdsForExpand);
+                List<String> readIdsForExpand = readIdsForExpand(uriInfo);
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Using IDs for $expand: {}", readIdsForExpand);
                 }
+                query = this.getSQLQueryBuilder()
+                            .buildSelectEntitySetQuery((UriInfo) uriInfo, readIdsForExpand, getContext());
             }
-
-            SQLSelectBuilder query = this.getSQLQueryBuilder()
-                                         .buildSelectEntitySetQuery((UriInfo) uriInfo, readIdsForExpand, getContext());
+            boolean hasGeneratedId = query.hasKeyGeneratedPresent(targetEntityType);
+            List<ArrayList<NavigationPropertySegment>> expandEntities = uriInfo.getExpand();
             try (PreparedStatement statement = createSelectStatement(query, connection)) {
                 try (ResultSet resultSet = statement.executeQuery()) {
-                    ResultSetReader.ExpandAccumulator currentAccumulator = new ResultSetReader.ExpandAccumulator(targetEntityType);
+                    // the entities are rendered as soon as their last row is read, so their accumulators are not retained
+                    ResultSetReader.ExpandAccumulator currentAccumulator = null;
                     while (resultSet.next()) {
-                        boolean hasGeneratedId = query.hasKeyGeneratedPresent(targetEntitySet.getEntityType());
                         ResultSetReader.ResultSetEntity currentTargetEntity =
                                 resultSetReader.getResultSetEntity(query, targetEntityType, properties, resultSet, hasGeneratedId);
-                        logger.info("Current entity set object is {}", currentTargetEntity);
-                        if (!currentAccumulator.isAccumulatorFor(currentTargetEntity) || currentTargetEntity.keys.isEmpty()) {
+                        if (logger.isTraceEnabled()) {
+                            logger.trace("Current entity set object is {}", currentTargetEntity);
+                        }
+                        if (currentAccumulator == null || !currentAccumulator.isAccumulatorFor(currentTargetEntity)
+                                || currentTargetEntity.keys.isEmpty()) {
+                            if (currentAccumulator != null) {
+                                entitiesFeed.add(currentAccumulator.renderForExpand());
+                            }
                             currentAccumulator = new ResultSetReader.ExpandAccumulator(currentTargetEntity);
-                            entitiesFeed.add(currentAccumulator);
                         }
 
-                        List<ArrayList<NavigationPropertySegment>> expandEntities = uriInfo.getExpand();
                         if (hasExpand(expandEntities)) {
                             resultSetReader.accumulateExpandedEntities(query, resultSet, currentAccumulator, expandEntities);
                         }
                     }
+                    if (currentAccumulator != null) {
+                        entitiesFeed.add(currentAccumulator.renderForExpand());
+                    }
                     boolean needsNextLink = query.isServersidePaging() && entitiesFeed.size() == this.getSQLQueryBuilder()
                                                                                                      .getEntityPagingSize(targetEntityType);
                     nextLink = needsNextLink ? generateNextLink(query, targetEntityType) : null;
@@ -353,7 +370,7 @@ public abstract class AbstractSQLProcessor extends ODataSingleProcessor implemen
         } catch (Exception e) {
             throw new ODataException("Unable to read entity set", e);
         }
-        return ExpandCallBack.writeFeedWithExpand(getContext(), (UriInfo) uriInfo, entitiesFeed, contentType, count, nextLink);
+        return ExpandCallBack.writeRenderedFeedWithExpand(getContext(), (UriInfo) uriInfo, entitiesFeed, contentType, count, nextLink);
     }
 
     /**
@@ -118,7 +118,7 @@ public class ExpandCallBack implements OnWriteFeedContent, OnWriteEntryContent,
                                                                                                          .getServiceRoot())
                                                                                      .expandSelectTree(expandSelectTree)//
                                                                                      .callbacks(ExpandCallBack.getCallbacks(context,
-                                                                                             uriInfo, Collections.singletonList(entry)))
+                                                                                             uriInfo))
                                                                                      .build();
 
         return EntityProvider.writeEntry(contentType, targetEntitySet, entry, writeProperties);
@@ -146,20 +146,34 @@ public class ExpandCallBack implements OnWriteFeedContent, OnWriteEntryContent,
             entities.add(acc.renderForExpand());
         }
 
+        return writeRenderedFeedWithExpand(context, uriInfo, entities, contentType, count, nextLink);
+    }
+
+    /**
+     * Write feed with expand of the already rendered entities.
+     *
+     * @param context the context
+     * @param uriInfo the uri info
+     * @param entities the entities
+     * @param contentType the content type
+     * @param count the count
+     * @param nextLink the next link
+     * @return the o data response
+     * @throws ODataException the o data exception
+     */
+    public static ODataResponse writeRenderedFeedWithExpand(ODataContext context, UriInfo uriInfo, List<Map<String, Object>> entities,
+            final String contentType, Integer count, String nextLink) throws ODataException {
         EntityProviderWriteProperties feedProperties = EntityProviderWriteProperties.serviceRoot(context.getPathInfo()
                                                                                                         .getServiceRoot())
                                                                                     .inlineCountType(uriInfo.getInlineCount())
                                                                                     .inlineCount(count)
                                                                                     .expandSelectTree(UriParser.createExpandSelectTree(
                                                                                             uriInfo.getSelect(), uriInfo.getExpand()))
-                                                                                    .callbacks(ExpandCallBack.getCallbacks(context, uriInfo,
-                                                                                            entities))//
+                                                                                    .callbacks(ExpandCallBack.getCallbacks(context, uriInfo))//
                                                                                     .nextLink(nextLink)
                                                                                     .build();
 
-        List<Map<String, Object>> feedEntities = new ArrayList<>();
-        feedEntities.addAll(entities);
-        return EntityProvider.writeFeed(contentType, uriInfo.getTargetEntitySet(), feedEntities, feedProperties);
+        return EntityProvider.writeFeed(contentType, uriInfo.getTargetEntitySet(), entities, feedProperties);
     }
 
     /**
@@ -167,12 +181,10 @@ public class ExpandCallBack implements OnWriteFeedContent, OnWriteEntryContent,
      *
      * @param context the context
      * @param uriInfo the uri info
-     * @param feedData the feed data
      * @return the callbacks
      * @throws ODataException the o data exception
      */
-    private static Map<String, ODataCallback> getCallbacks(ODataContext context, UriInfo uriInfo, List<Map<String, Object>> feedData)
-            throws ODataException {
+    private static Map<String, ODataCallback> getCallbacks(ODataContext context, UriInfo uriInfo) throws ODataException {
         return ExpandCallBack.getCallbacks(context.getPathInfo()
                                                   .getServiceRoot(), //
                 UriParser.createExpandSelectTree(uriInfo.getSelect(), uriInfo.getExpand()), //
@@ -9,6 +9,8 @@
  */
 package org.eclipse.dirigible.repository.api;
 
+import java.io.InputStream;
+
 /**
  * The <code>IResource</code> interface represents a resource located in the repository.
  */
@@ -43,6 +45,15 @@ public interface IResource extends IEntity {
      */
     public void setContent(byte[] content, boolean isBinary, String contentType) throws RepositoryWriteException;
 
+    /**
+     * Sets this resource's content, streaming it without holding it in memory. The resource is created,
+     * if it does not exist.
+     *
+     * @param content the raw content
+     * @throws RepositoryWriteException the repository write exception
+     */
+    public void setContent(InputStream content) throws RepositoryWriteException;
+
     /**
      * Getter for binary flag.
      *
@@ -540,6 +540,18 @@ public abstract class FileSystemRepository implements IRepository {
     @Override
     public void dispose() {
         // repositoryDAO.dispose();
+        if (repositorySearcher != null) {
+            repositorySearcher.close();
+        }
+    }
+
+    /**
+     * Gets the repository searcher.
+     *
+     * @return the repository searcher
+     */
+    public RepositorySearcher getRepositorySearcher() {
+        return repositorySearcher;
     }
 
     /**
@@ -9,6 +9,8 @@
  */
 package org.eclipse.dirigible.repository.local;
 
+import java.io.InputStream;
+
 import org.eclipse.dirigible.repository.fs.FileSystemRepository;
 
 /**
@@ -89,6 +91,17 @@ public class LocalFile extends LocalObject {
                        .setFileContent(this, content);
     }
 
+    /**
+     * Sets the data, streaming it to the file.
+     *
+     * @param content the new data
+     * @throws LocalRepositoryException the local repository exception
+     */
+    public void setData(InputStream content) throws LocalRepositoryException {
+        getRepository().getRepositoryDao()
+                       .setFileContent(this, content);
+    }
+
     /**
      * Checks if is binary.
      *
@@ -13,7 +13,9 @@ import java.io.File;
 import java.io.FileFilter;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
@@ -95,17 +97,45 @@ public class LocalRepositoryDao {
     public String storeFile(String path, byte[] content) throws FileNotFoundException, IOException {
         String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), path);
         FileSystemUtils.saveFile(workspacePath, content);
+        storeVersion(path, workspacePath);
+        return workspacePath;
+    }
+
+    /**
+     * Stores the file, streaming the content.
+     *
+     * @param path the path
+     * @param content the content
+     * @return the workspace path
+     * @throws FileNotFoundException the file not found exception
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public String storeFile(String path, InputStream content) throws FileNotFoundException, IOException {
+        String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), path);
+        FileSystemUtils.saveFile(workspacePath, content);
+        storeVersion(path, workspacePath);
+        return workspacePath;
+    }
+
+    /**
+     * Stores a copy of the stored file in the versions, if the repository is versioned.
+     *
+     * @param path the path
+     * @param workspacePath the workspace path of the stored file
+     */
+    private void storeVersion(String path, String workspacePath) {
         try {
             if (repository.isVersioned()) {
                 String versionsPath =
                         workspacePath.replace(IRepository.SEPARATOR + FileSystemRepository.PATH_SEGMENT_ROOT + IRepository.SEPARATOR,
                                 IRepository.SEPARATOR + FileSystemRepository.PATH_SEGMENT_VERSIONS + IRepository.SEPARATOR);
-                FileSystemUtils.saveFile(versionsPath + IRepository.SEPARATOR + formatter.format(new Date()), content);
+                try (InputStream stored = Files.newInputStream(Path.of(workspacePath))) {
+                    FileSystemUtils.saveFile(versionsPath + IRepository.SEPARATOR + formatter.format(new Date()), stored);
+                }
             }
         } catch (Exception ev) {
             logger.warn("Error while storing version for file: {} with: {}", path, ev.getMessage());
         }
-        return workspacePath;
     }
 
     /**
@@ -132,6 +162,23 @@ public class LocalRepositoryDao {
         }
     }
 
+    /**
+     * Sets the file content, streaming it to the file. The content is not kept in the cache, as it is
+     * not held in memory, so the cached content of the file is evicted.
+     *
+     * @param localFile the local file
+     * @param content the content
+     */
+    public void setFileContent(LocalFile localFile, InputStream content) {
+        try {
+            String workspacePath = storeFile(localFile.getPath(), content);
+            cache.remove(workspacePath);
+            ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
+        } catch (IOException e) {
+            throw new LocalRepositoryException(e);
+        }
+    }
+
     /**
      * Gets the file content.
      *
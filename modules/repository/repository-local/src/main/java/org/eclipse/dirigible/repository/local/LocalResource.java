@@ -11,6 +11,8 @@ package org.eclipse.dirigible.repository.local;
 
 import static java.text.MessageFormat.format;
 
+import java.io.InputStream;
+
 import org.eclipse.dirigible.commons.api.helpers.ContentTypeHelper;
 import org.eclipse.dirigible.repository.api.IResource;
 import org.eclipse.dirigible.repository.api.RepositoryNotFoundException;
@@ -248,6 +250,33 @@ public class LocalResource extends LocalEntity implements IResource {
         }
     }
 
+    /**
+     * Sets the content.
+     *
+     * @param content the content
+     * @throws RepositoryWriteException the repository write exception
+     */
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.eclipse.dirigible.repository.api.IResource#setContent(java.io.InputStream)
+     */
+    @Override
+    public void setContent(InputStream content) throws RepositoryWriteException {
+        this.contentType = ContentTypeHelper.getContentType(ContentTypeHelper.getExtension(getName()));
+        this.binary = ContentTypeHelper.isBinary(contentType);
+
+        if (!exists()) {
+            getParent().createResource(getName(), new byte[0], this.binary, this.contentType);
+        }
+        final LocalFile document = getDocumentSafe();
+        try {
+            document.setData(content);
+        } catch (LocalRepositoryException ex) {
+            throw new RepositoryWriteException("Could not update document.", ex);
+        }
+    }
+
     /**
      * Equals.
      *
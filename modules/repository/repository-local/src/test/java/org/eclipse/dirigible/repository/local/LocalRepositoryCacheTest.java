@@ -15,6 +15,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
 import java.io.FileWriter;
 
 import org.apache.commons.io.IOUtils;
@@ -123,4 +124,45 @@ public class LocalRepositoryCacheTest extends RepositoryGenericCacheTest {
         }
     }
 
+    /**
+     * Test the streamed content evicts the cached one.
+     */
+    @Test
+    public void testCacheStreamedContent() {
+        if (repository == null) {
+            return;
+        }
+
+        RepositoryCache.enable();
+        try {
+            IResource resource = repository.createResource("/testCollection/toBeRemovedStreamed.txt", "cached file".getBytes()); //$NON-NLS-1$
+            assertEquals("cached file", new String(resource.getContent()));
+
+            resource.setContent(new ByteArrayInputStream("streamed file".getBytes()));
+
+            resource = repository.getResource("/testCollection/toBeRemovedStreamed.txt"); //$NON-NLS-1$
+            assertEquals("streamed file", new String(resource.getContent()));
+            assertFalse(resource.isBinary());
+
+            IResource created = repository.getResource("/testCollection/toBeRemovedStreamed.zip"); //$NON-NLS-1$
+            assertFalse(created.exists());
+            created.setContent(new ByteArrayInputStream(new byte[] {1, 2, 3}));
+            created = repository.getResource("/testCollection/toBeRemovedStreamed.zip"); //$NON-NLS-1$
+            assertTrue(created.exists());
+            assertTrue(created.isBinary());
+            assertEquals(3, created.getContent().length);
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail(e.getMessage());
+        } finally {
+            try {
+                repository.removeResource("/testCollection/toBeRemovedStreamed.txt"); //$NON-NLS-1$
+                repository.removeResource("/testCollection/toBeRemovedStreamed.zip"); //$NON-NLS-1$
+            } catch (Exception e) {
+                e.printStackTrace();
+                fail(e.getMessage());
+            }
+        }
+    }
+
 }
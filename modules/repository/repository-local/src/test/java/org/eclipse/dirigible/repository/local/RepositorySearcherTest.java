@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.local;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.repository.api.RepositoryReadException;
+import org.eclipse.dirigible.repository.search.RepositorySearcher;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the long-lived index writer of the repository searcher, the near-real-time refresh of its
+ * searches and the lifecycle of the shared index.
+ */
+public class RepositorySearcherTest {
+
+    /** The Constant TIMEOUT in millis. */
+    private static final long TIMEOUT = 10000;
+
+    /** The folder. */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /** The repository. */
+    private LocalRepository repository;
+
+    /**
+     * Sets the up.
+     *
+     * @throws LocalRepositoryException the local repository exception
+     */
+    @Before
+    public void setUp() throws LocalRepositoryException {
+        Configuration.set(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_ROOT_FOLDER_IS_ABSOLUTE, "true");
+        Configuration.set(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_ROOT_FOLDER, folder.getRoot()
+                                                                                           .getAbsolutePath());
+        Configuration.set(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_INDEX_DELAY, "50");
+        repository = createRepository();
+    }
+
+    /**
+     * Tear down.
+     */
+    @After
+    public void tearDown() {
+        repository.dispose();
+        Configuration.remove(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_ROOT_FOLDER_IS_ABSOLUTE);
+        Configuration.remove(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_ROOT_FOLDER);
+        Configuration.remove(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_INDEX_DELAY);
+    }
+
+    /**
+     * Test the changes are visible to the searches through the near-real-time refresh, without
+     * reopening the index.
+     */
+    @Test
+    public void testNearRealTimeRefresh() {
+        repository.createResource("/a/first.txt", "lorem ipsum".getBytes(StandardCharsets.UTF_8));
+        awaitSearch("lorem", List.of("/a/first.txt"));
+
+        repository.getResource("/a/first.txt")
+                  .setContent("dolor sit".getBytes(StandardCharsets.UTF_8));
+        awaitSearch("dolor", List.of("/a/first.txt"));
+        awaitSearch("lorem", List.of());
+
+        repository.createResource("/a/second.txt", "dolor amet".getBytes(StandardCharsets.UTF_8));
+        repository.searchRefresh();
+        assertEquals(2, search(repository, "dolor").size());
+    }
+
+    /**
+     * Test the index is written by a single writer and persisted on close, so it is reused by the next
+     * repository without a reindex.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testPersistentWriter() throws Exception {
+        repository.createResource("/a/first.txt", "lorem ipsum".getBytes(StandardCharsets.UTF_8));
+        repository.createResource("/a/second.txt", "dolor sit".getBytes(StandardCharsets.UTF_8));
+        repository.searchRefresh();
+        Path indexPath = repository.getRepositorySearcher()
+                                   .getIndexPath();
+
+        // the write lock is held by the long-lived writer of the repository
+        try (Directory directory = FSDirectory.open(indexPath)) {
+            new IndexWriter(directory, new IndexWriterConfig(new StandardAnalyzer())).close();
+            fail("The index should be locked by the writer of the repository");
+        } catch (IOException e) {
+            // expected
+        }
+
+        repository.dispose();
+
+        try (Directory directory = FSDirectory.open(indexPath); DirectoryReader reader = DirectoryReader.open(directory)) {
+            assertEquals(2, reader.numDocs());
+        }
+
+        repository = createRepository();
+        assertEquals(List.of("/a/first.txt"), search(repository, "lorem"));
+        assertEquals(0, repository.getRepositorySearcher()
+                                  .getSnapshot()
+                                  .indexedCount());
+    }
+
+    /**
+     * Test the index shared by two repositories stays open until both of them are disposed.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testSharedIndexLifecycle() throws Exception {
+        repository.createResource("/a/first.txt", "lorem ipsum".getBytes(StandardCharsets.UTF_8));
+        repository.searchRefresh();
+        LocalRepository another = createRepository();
+        Path indexPath = repository.getRepositorySearcher()
+                                   .getIndexPath();
+        assertEquals(List.of("/a/first.txt"), search(another, "lorem"));
+
+        another.dispose();
+        assertEquals(List.of("/a/first.txt"), search(repository, "lorem"));
+
+        try {
+            search(another, "lorem");
+            fail("A disposed repository should not search");
+        } catch (RepositoryReadException e) {
+            // expected
+        }
+
+        repository.dispose();
+        try (Directory directory = FSDirectory.open(indexPath)) {
+            new IndexWriter(directory, new IndexWriterConfig(new StandardAnalyzer())).close();
+        }
+        repository = createRepository();
+    }
+
+    /**
+     * Test the metrics count the indexed documents and the executed queries.
+     */
+    @Test
+    public void testMetrics() {
+        repository.createResource("/a/first.txt", "lorem ipsum".getBytes(StandardCharsets.UTF_8));
+        repository.createResource("/a/second.txt", "dolor sit".getBytes(StandardCharsets.UTF_8));
+        repository.searchRefresh();
+        repository.searchText("lorem");
+        repository.searchText("dolor");
+
+        RepositorySearcher.Snapshot snapshot = repository.getRepositorySearcher()
+                                                         .getSnapshot();
+        assertTrue(snapshot.indexedCount() >= 2);
+        assertEquals(2, snapshot.queriesCount());
+    }
+
+    /**
+     * Creates the repository in the temporary folder.
+     *
+     * @return the local repository
+     */
+    private LocalRepository createRepository() {
+        try {
+            return new LocalRepository(folder.getRoot()
+                                             .getAbsolutePath(),
+                    true);
+        } catch (LocalRepositoryException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Searches the repository.
+     *
+     * @param repository the repository
+     * @param term the term
+     * @return the paths of the matching resources
+     */
+    private static List<String> search(LocalRepository repository, String term) {
+        return repository.getRepositorySearcher()
+                         .search(term);
+    }
+
+    /**
+     * Waits until the search returns the expected paths, i.e. the background indexer has caught up.
+     *
+     * @param term the term
+     * @param expected the expected paths
+     */
+    private void awaitSearch(String term, List<String> expected) {
+        Supplier<List<String>> search = () -> search(repository, term);
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (!expected.equals(search.get())) {
+            if (System.currentTimeMillis() > deadline) {
+                assertEquals(expected, search.get());
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                fail(e.getMessage());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.local;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.repository.search.RepositorySearcher;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the background indexing of the changes made to the file system root of the repository.
+ */
+public class RepositorySearcherWatcherTest {
+
+    /** The Constant TIMEOUT in millis. */
+    private static final long TIMEOUT = 10000;
+
+    /** The Constant DELAY in millis. */
+    private static final int DELAY = 200;
+
+    /** The Constant MAX_FILE_SIZE. */
+    private static final int MAX_FILE_SIZE = 100;
+
+    /** The folder. */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /** The repository. */
+    private LocalRepository repository;
+
+    /** The file system root of the repository. */
+    private Path root;
+
+    /**
+     * Sets the up.
+     *
+     * @throws Exception the exception
+     */
+    @Before
+    public void setUp() throws Exception {
+        Configuration.set(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_ROOT_FOLDER_IS_ABSOLUTE, "true");
+        Configuration.set(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_ROOT_FOLDER, folder.getRoot()
+                                                                                           .getAbsolutePath());
+        Configuration.set(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_INDEX_DELAY, String.valueOf(DELAY));
+        Configuration.set(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_INDEX_MAX_FILE_SIZE, String.valueOf(MAX_FILE_SIZE));
+        start();
+    }
+
+    /**
+     * Starts the repository and waits for the initial synchronization of its index.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private void start() throws IOException {
+        repository = new LocalRepository(folder.getRoot()
+                                               .getAbsolutePath(),
+                true);
+        root = Paths.get(repository.getRepositoryPath());
+        // the initial synchronization is over, once the first change is indexed
+        String probe = "probe" + System.nanoTime();
+        write("/probe.txt", probe);
+        awaitSearch(probe, List.of("/probe.txt"));
+    }
+
+    /**
+     * Restarts the repository with the current configuration.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private void restart() throws IOException {
+        repository.dispose();
+        start();
+    }
+
+    /**
+     * Tear down.
+     */
+    @After
+    public void tearDown() {
+        repository.dispose();
+        Configuration.remove(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_ROOT_FOLDER_IS_ABSOLUTE);
+        Configuration.remove(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_ROOT_FOLDER);
+        Configuration.remove(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_INDEX_DELAY);
+        Configuration.remove(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_INDEX_MAX_FILE_SIZE);
+        Configuration.remove(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_WATCH_MAX_DEPTH);
+        Configuration.remove(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_SYNCHRONIZE_INTERVAL);
+    }
+
+    /**
+     * Test the created, modified and deleted files are indexed.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testCreateModifyDelete() throws IOException {
+        write("/a/b/first.txt", "lorem ipsum");
+        awaitSearch("lorem", List.of("/a/b/first.txt"));
+
+        write("/a/b/first.txt", "dolor sit");
+        awaitSearch("dolor", List.of("/a/b/first.txt"));
+        awaitSearch("lorem", List.of());
+
+        Files.delete(root.resolve("a/b/first.txt"));
+        awaitSearch("dolor", List.of());
+    }
+
+    /**
+     * Test the files of a moved folder are removed by the location prefix of the folder, as no events
+     * are reported for them, and indexed in the new folder.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testFolderPrefixRemoval() throws IOException {
+        write("/a/b/first.txt", "lorem ipsum");
+        write("/a/b/c/second.txt", "lorem dolor");
+        write("/a/bc.txt", "lorem amet");
+        awaitSearch("lorem", List.of("/a/b/c/second.txt", "/a/b/first.txt", "/a/bc.txt"));
+
+        Files.createDirectories(root.resolve("x"));
+        Files.move(root.resolve("a/b"), root.resolve("x/b"));
+
+        awaitSearch("lorem", List.of("/a/bc.txt", "/x/b/c/second.txt", "/x/b/first.txt"));
+    }
+
+    /**
+     * Test the changes made within the delay are indexed together.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testDebounce() throws IOException {
+        write("/a/first.txt", "ipsum");
+        awaitSearch("ipsum", List.of("/a/first.txt"));
+
+        long indexedBefore = getIndexedCount();
+        for (int i = 0; i < 10; i++) {
+            write("/a/first.txt", "lorem " + i);
+        }
+        awaitSearch("9", List.of("/a/first.txt"));
+
+        assertEquals(1, getIndexedCount() - indexedBefore);
+    }
+
+    /**
+     * Test the lost events of a folder with too many changes are recovered by a synchronization of the
+     * index.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testOverflowSynchronization() throws Exception {
+        int count = 600;
+        // the indexer waits for the lock of the index after the first change, while the events of the
+        // others exceed the max events of a watch key and overflow
+        synchronized (getIndexLock()) {
+            write("/a/file0.txt", "lorem");
+            Thread.sleep(DELAY * 3);
+            for (int i = 1; i < count; i++) {
+                write("/a/file" + i + ".txt", "lorem");
+            }
+        }
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (search("lorem").size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(count, search("lorem").size());
+    }
+
+    /**
+     * Test the changes of the excluded folders are not watched, but indexed on refresh.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testExcludedFolders() throws IOException {
+        write("/a/node_modules/lib/index.js", "lorem");
+        write("/a/app.js", "lorem");
+        awaitSearch("lorem", List.of("/a/app.js"));
+        write("/a/node_modules/lib/other.js", "lorem");
+        write("/a/other.js", "lorem");
+        awaitSearch("lorem", List.of("/a/app.js", "/a/other.js"));
+
+        repository.searchRefresh();
+        assertEquals(List.of("/a/app.js", "/a/node_modules/lib/index.js", "/a/node_modules/lib/other.js", "/a/other.js"), search("lorem"));
+    }
+
+    /**
+     * Test the changes of the folders below the max depth are indexed by the periodic synchronization.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testUnwatchedFoldersSynchronization() throws IOException {
+        Configuration.set(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_WATCH_MAX_DEPTH, "2");
+        Configuration.set(RepositorySearcher.DIRIGIBLE_REPOSITORY_SEARCH_SYNCHRONIZE_INTERVAL, String.valueOf(DELAY * 2));
+        Files.createDirectories(root.resolve("a/b/c"));
+        restart();
+
+        write("/a/b/c/deep.txt", "lorem");
+        write("/a/b/c/d/deeper.txt", "lorem");
+        awaitSearch("lorem", List.of("/a/b/c/d/deeper.txt", "/a/b/c/deep.txt"));
+    }
+
+    /**
+     * Test the binary files are not indexed and the big files only up to the max file size.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testBinaryAndBigFiles() throws IOException {
+        write("/a/image.png", "lorem");
+        write("/a/big.txt", "dolor " + "x".repeat(MAX_FILE_SIZE) + " amet");
+        write("/a/text.txt", "lorem");
+        awaitSearch("dolor", List.of("/a/big.txt"));
+
+        assertEquals(List.of("/a/text.txt"), search("lorem"));
+        assertEquals(List.of(), search("amet"));
+
+        repository.searchRefresh();
+        assertEquals(List.of("/a/text.txt"), search("lorem"));
+        assertEquals(List.of("/a/big.txt"), search("dolor"));
+        assertEquals(List.of(), search("amet"));
+    }
+
+    /**
+     * Writes the file directly to the file system root of the repository.
+     *
+     * @param location the location
+     * @param content the content
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private void write(String location, String content) throws IOException {
+        Path file = root.resolve(location.substring(1));
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+
+    /**
+     * Gets the lock of the index, acquired by the searcher on the initial synchronization.
+     *
+     * @return the lock
+     * @throws ReflectiveOperationException the reflective operation exception
+     */
+    private Object getIndexLock() throws ReflectiveOperationException {
+        Field repositoryIndex = RepositorySearcher.class.getDeclaredField("repositoryIndex");
+        repositoryIndex.setAccessible(true);
+        Object lock = repositoryIndex.get(repository.getRepositorySearcher());
+        assertNotNull(lock);
+        return lock;
+    }
+
+    /**
+     * Gets the indexed count.
+     *
+     * @return the indexed count
+     */
+    private long getIndexedCount() {
+        return repository.getRepositorySearcher()
+                         .getSnapshot()
+                         .indexedCount();
+    }
+
+    /**
+     * Searches the repository.
+     *
+     * @param term the term
+     * @return the sorted paths of the matching resources
+     */
+    private List<String> search(String term) {
+        return repository.getRepositorySearcher()
+                         .search(term)
+                         .stream()
+                         .sorted()
+                         .toList();
+    }
+
+    /**
+     * Waits until the search returns the expected paths, i.e. the background indexer has caught up.
+     *
+     * @param term the term
+     * @param expected the expected sorted paths
+     */
+    private void awaitSearch(String term, List<String> expected) {
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (!expected.equals(search(term))) {
+            if (System.currentTimeMillis() > deadline) {
+                assertEquals(expected, search(term));
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                fail(e.getMessage());
+            }
+        }
+    }
+
+}
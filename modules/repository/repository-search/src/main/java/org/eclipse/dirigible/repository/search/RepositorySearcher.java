@@ -13,25 +13,43 @@ import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StoredField;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.IndexWriterConfig.OpenMode;
@@ -40,14 +58,20 @@ import org.apache.lucene.index.Term;
 import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.queryparser.classic.QueryParser;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PrefixQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
+import org.eclipse.dirigible.commons.api.helpers.ContentTypeHelper;
 import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.IResource;
+import org.eclipse.dirigible.repository.api.RepositoryException;
+import org.eclipse.dirigible.repository.api.RepositoryPath;
 import org.eclipse.dirigible.repository.api.RepositoryReadException;
 import org.eclipse.dirigible.repository.api.RepositoryWriteException;
 import org.slf4j.Logger;
@@ -70,6 +94,21 @@ public class RepositorySearcher {
     /** The Constant DIRIGIBLE_REPOSITORY_SEARCH_INDEX_LOCATION. */
     public static final String DIRIGIBLE_REPOSITORY_SEARCH_INDEX_LOCATION = "DIRIGIBLE_REPOSITORY_SEARCH_INDEX_LOCATION"; //$NON-NLS-1$
 
+    /** The Constant DIRIGIBLE_REPOSITORY_SEARCH_INDEX_DELAY. */
+    public static final String DIRIGIBLE_REPOSITORY_SEARCH_INDEX_DELAY = "DIRIGIBLE_REPOSITORY_SEARCH_INDEX_DELAY"; //$NON-NLS-1$
+
+    /** The Constant DIRIGIBLE_REPOSITORY_SEARCH_INDEX_MAX_FILE_SIZE. */
+    public static final String DIRIGIBLE_REPOSITORY_SEARCH_INDEX_MAX_FILE_SIZE = "DIRIGIBLE_REPOSITORY_SEARCH_INDEX_MAX_FILE_SIZE"; //$NON-NLS-1$
+
+    /** The Constant DIRIGIBLE_REPOSITORY_SEARCH_WATCH_EXCLUDES. */
+    public static final String DIRIGIBLE_REPOSITORY_SEARCH_WATCH_EXCLUDES = "DIRIGIBLE_REPOSITORY_SEARCH_WATCH_EXCLUDES"; //$NON-NLS-1$
+
+    /** The Constant DIRIGIBLE_REPOSITORY_SEARCH_WATCH_MAX_DEPTH. */
+    public static final String DIRIGIBLE_REPOSITORY_SEARCH_WATCH_MAX_DEPTH = "DIRIGIBLE_REPOSITORY_SEARCH_WATCH_MAX_DEPTH"; //$NON-NLS-1$
+
+    /** The Constant DIRIGIBLE_REPOSITORY_SEARCH_SYNCHRONIZE_INTERVAL. */
+    public static final String DIRIGIBLE_REPOSITORY_SEARCH_SYNCHRONIZE_INTERVAL = "DIRIGIBLE_REPOSITORY_SEARCH_SYNCHRONIZE_INTERVAL"; //$NON-NLS-1$
+
     /** The Constant CURRENT_DIR. */
     private static final String CURRENT_DIR = ".";
 
@@ -88,6 +127,12 @@ public class RepositorySearcher {
     /** The Constant MAX_RESULTS. */
     private static final int MAX_RESULTS = 1000;
 
+    /**
+     * The indices shared by the searchers with the same index location. An index is closed and removed,
+     * when the last of its searchers is closed.
+     */
+    private static final Map<Path, RepositoryIndex> INDICES = new ConcurrentHashMap<>();
+
     /** The repository. */
     private IRepository repository;
 
@@ -97,17 +142,56 @@ public class RepositorySearcher {
     /** The index. */
     private String index;
 
-    /** The timer. */
-    private Timer timer;
+    /** The acquired index or null, if not acquired yet. */
+    private RepositoryIndex repositoryIndex;
+
+    /** Whether the searcher has been closed. */
+    private boolean closed;
 
-    /** The seconds. */
-    private int seconds = 30;
+    /** The file system root of the repository, watched for changes. */
+    private Path repositoryRoot;
 
-    /** The last updated. */
-    private Date lastUpdated = new Date(0);
+    /** The watch service. */
+    private WatchService watchService;
 
-    /** The count updated. */
-    private volatile int countUpdated = 0;
+    /** The watched folders. */
+    private final Map<WatchKey, Path> watchedFolders = new ConcurrentHashMap<>();
+
+    /** The names of the folders, which are not watched, e.g. node_modules. */
+    private Set<String> watchExcludes;
+
+    /** The max depth of the watched folders below the repository root. */
+    private int watchMaxDepth;
+
+    /** The interval in millis, in which the index is synchronized, when some folders are not watched. */
+    private int synchronizeInterval;
+
+    /**
+     * Whether some folders cannot be watched, because they are too deep or their registration has
+     * failed, so that their changes are found by a periodic synchronization of the index.
+     */
+    private volatile boolean partiallyWatched;
+
+    /** Counted down on close to stop the periodic synchronization without a watch service. */
+    private final CountDownLatch stopped = new CountDownLatch(1);
+
+    /** The delay in millis, for which the changes are collected before being indexed. */
+    private int delay;
+
+    /** The max count of bytes indexed per file, the rest of a bigger file is not searchable. */
+    private int maxFileSize;
+
+    /** The count of the indexed documents. */
+    private final AtomicLong indexedCount = new AtomicLong();
+
+    /** The total indexing time in millis. */
+    private final AtomicLong indexingTime = new AtomicLong();
+
+    /** The count of the executed queries. */
+    private final AtomicLong queriesCount = new AtomicLong();
+
+    /** The total query time in millis. */
+    private final AtomicLong queriesTime = new AtomicLong();
 
     /**
      * Instantiates a new repository searcher.
@@ -137,36 +221,364 @@ public class RepositorySearcher {
         }
 
         this.index = indexLocation;
+        this.delay = Configuration.getAsInt(DIRIGIBLE_REPOSITORY_SEARCH_INDEX_DELAY, 1000);
+        this.maxFileSize = Configuration.getAsInt(DIRIGIBLE_REPOSITORY_SEARCH_INDEX_MAX_FILE_SIZE, 5 * 1024 * 1024);
+        this.watchExcludes = new HashSet<>();
+        for (String exclude : Configuration.get(DIRIGIBLE_REPOSITORY_SEARCH_WATCH_EXCLUDES, "node_modules,.git")
+                                           .split(",")) {
+            if (!exclude.isBlank()) {
+                this.watchExcludes.add(exclude.trim());
+            }
+        }
+        this.watchMaxDepth = Configuration.getAsInt(DIRIGIBLE_REPOSITORY_SEARCH_WATCH_MAX_DEPTH, 32);
+        this.synchronizeInterval = Configuration.getAsInt(DIRIGIBLE_REPOSITORY_SEARCH_SYNCHRONIZE_INTERVAL, 60000);
 
-        timer = new Timer();
-        timer.schedule(new ReindexTask(), 30000, seconds * 1000);
+        startIndexer();
     }
 
     /**
-     * The Class ReindexTask.
+     * Starts watching the file system root of the repository and indexing the changed resources in the
+     * background. If the repository cannot be watched, the index is synchronized periodically instead.
      */
-    class ReindexTask extends TimerTask {
+    private void startIndexer() {
+        try {
+            repositoryRoot = Paths.get(repository.getRepositoryPath())
+                                  .toAbsolutePath()
+                                  .normalize();
+            if (!Files.isDirectory(repositoryRoot)) {
+                logger.warn("Repository root [{}] does not exist, the search index will be updated on refresh only", repositoryRoot);
+                return;
+            }
+        } catch (RepositoryException e) {
+            logger.warn("Repository changes cannot be watched, the search index will be updated on refresh only", e);
+            return;
+        }
+        try {
+            watchService = FileSystems.getDefault()
+                                      .newWatchService();
+            registerFolders(repositoryRoot, null);
+        } catch (IOException e) {
+            logger.warn("Repository changes cannot be watched, the search index will be synchronized every [{}] ms", synchronizeInterval, e);
+            partiallyWatched = true;
+        }
+        Thread indexer = new Thread(this::watchChanges, "dirigible-repository-indexer");
+        indexer.setDaemon(true);
+        indexer.start();
+    }
 
-        /**
-         * Run.
-         */
-        @Override
-        public void run() {
-            synchronized (RepositorySearcher.class) {
-                if (countUpdated > 30) {
-                    countUpdated = 0;
-                    lastUpdated = new Date(0);
-                    if (logger.isTraceEnabled()) {
-                        logger.trace("Full reindexing of the Repository Content...");
+    /**
+     * Synchronizes the index with the repository content and then indexes the changes reported by the
+     * watch service until it is closed. The index is synchronized also periodically, if some folders
+     * are not watched.
+     */
+    private void watchChanges() {
+        try {
+            synchronizeIndex();
+            long nextSynchronization = System.currentTimeMillis() + synchronizeInterval;
+            while (true) {
+                WatchKey key = nextKey(nextSynchronization - System.currentTimeMillis());
+                Set<Path> changes = new LinkedHashSet<>();
+                boolean overflow = false;
+                while (key != null) {
+                    overflow |= collectChanges(key, changes);
+                    key = watchService.poll(delay, TimeUnit.MILLISECONDS);
+                }
+                boolean synchronize = overflow || (partiallyWatched && System.currentTimeMillis() >= nextSynchronization);
+                try {
+                    if (synchronize) {
+                        logger.debug("Repository changes may have been missed, synchronizing the index");
+                        synchronizeIndex();
+                        nextSynchronization = System.currentTimeMillis() + synchronizeInterval;
+                    } else if (!changes.isEmpty()) {
+                        indexChanges(changes);
+                    }
+                } catch (RuntimeException e) {
+                    logger.error("Error indexing the Repository changes", e);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            logger.debug("Indexing of the Repository changes has been stopped");
+        } catch (RuntimeException e) {
+            logger.error("Indexing of the Repository changes has been stopped", e);
+        }
+    }
+
+    /**
+     * Waits for the next watch key. The wait is limited by the next periodic synchronization, if some
+     * folders are not watched.
+     *
+     * @param timeout the time in millis until the next periodic synchronization
+     * @return the watch key or null, if it is time to synchronize the index
+     * @throws InterruptedException the interrupted exception
+     */
+    private WatchKey nextKey(long timeout) throws InterruptedException {
+        if (!partiallyWatched) {
+            return watchService.take();
+        }
+        if (timeout <= 0) {
+            return null;
+        }
+        if (watchService == null) {
+            if (stopped.await(timeout, TimeUnit.MILLISECONDS)) {
+                throw new ClosedWatchServiceException();
+            }
+            return null;
+        }
+        return watchService.poll(timeout, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Collects the paths reported by the watch key and registers the newly created folders.
+     *
+     * @param key the key
+     * @param changes the changed paths
+     * @return true, if events have been lost and the index has to be synchronized
+     */
+    private boolean collectChanges(WatchKey key, Set<Path> changes) {
+        boolean overflow = false;
+        Path folder = watchedFolders.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || folder == null) {
+                overflow = true;
+                continue;
+            }
+            Path changed = folder.resolve((Path) event.context());
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(changed, LinkOption.NOFOLLOW_LINKS)) {
+                try {
+                    registerFolders(changed, changes);
+                } catch (IOException e) {
+                    logger.warn("Folder [{}] cannot be watched", changed, e);
+                }
+            } else {
+                changes.add(changed);
+            }
+        }
+        if (!key.reset()) {
+            watchedFolders.remove(key);
+        }
+        return overflow;
+    }
+
+    /**
+     * Registers the folder and its sub-folders to the watch service. The excluded folders are not
+     * watched, so their changes are indexed on synchronization or refresh only. The folders below the
+     * max depth and the ones, whose registration fails, e.g. when the limit of the watches of the
+     * operating system is reached, are not watched either and the index is synchronized periodically.
+     *
+     * @param folder the folder
+     * @param files collects the files found in the watched folders, if not null
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private void registerFolders(Path folder, Set<Path> files) throws IOException {
+        Files.walkFileTree(folder, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                if (!dir.equals(repositoryRoot) && watchExcludes.contains(dir.getFileName()
+                                                                             .toString())) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                if (repositoryRoot.relativize(dir)
+                                  .getNameCount() > watchMaxDepth) {
+                    unwatched(dir, null);
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                try {
+                    WatchKey key = dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE,
+                            StandardWatchEventKinds.ENTRY_MODIFY);
+                    watchedFolders.put(key, dir);
+                } catch (IOException e) {
+                    unwatched(dir, e);
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (files != null) {
+                    files.add(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * Switches to the periodic synchronization of the index for the folder, which is not watched.
+     *
+     * @param folder the folder
+     * @param e the registration failure or null, if the folder is too deep
+     */
+    private void unwatched(Path folder, IOException e) {
+        if (!partiallyWatched) {
+            partiallyWatched = true;
+            logger.warn("Folder [{}] cannot be watched, the search index will be synchronized every [{}] ms", folder, synchronizeInterval, e);
+        } else {
+            logger.debug("Folder [{}] cannot be watched", folder, e);
+        }
+    }
+
+    /**
+     * Indexes the changed text files and removes the deleted files and folders from the index. The
+     * binary files are not indexed and only the first bytes of the big files up to the max file size
+     * are.
+     *
+     * @param changes the changed paths
+     */
+    private void indexChanges(Set<Path> changes) {
+        synchronized (getIndexLock()) {
+            long start = System.currentTimeMillis();
+            long indexedBefore = indexedCount.get();
+            for (Path changed : changes) {
+                String location = toLocation(changed);
+                try {
+                    if (Files.isRegularFile(changed)) {
+                        if (isBinary(location)) {
+                            remove(location);
+                            continue;
+                        }
+                        add(location, readContent(changed), Files.getLastModifiedTime(changed)
+                                                                 .toMillis(),
+                                null);
+                    } else if (!Files.exists(changed, LinkOption.NOFOLLOW_LINKS)) {
+                        remove(location);
                     }
+                } catch (IOException e) {
+                    logger.warn("Repository resource [{}] cannot be indexed", location, e);
                 }
-                reindex();
-                lastUpdated = new Date();
-                countUpdated++;
+            }
+            commit();
+            long end = System.currentTimeMillis();
+            indexingTime.addAndGet(end - start);
+            if (logger.isTraceEnabled()) {
+                logger.trace("Indexing of " + changes.size() + " Repository changes finished in: " + (end - start) + "ms, "
+                        + (indexedCount.get() - indexedBefore) + " documents indexed");
             }
         }
     }
 
+    /**
+     * Indexes the files, which have been changed since they were last indexed, e.g. while the
+     * application was not running or when the watch service has lost events.
+     */
+    private void synchronizeIndex() {
+        synchronized (getIndexLock()) {
+            Map<String, Long> indexed = getIndexedModifications();
+            Set<Path> changes = new LinkedHashSet<>();
+            try {
+                Files.walkFileTree(repositoryRoot, new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                        Long modified = indexed.get(toLocation(file));
+                        if (modified == null || modified != attrs.lastModifiedTime()
+                                                                 .toMillis()) {
+                            changes.add(file);
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (IOException e) {
+                throw new RepositoryReadException(e);
+            }
+            indexChanges(changes);
+        }
+    }
+
+    /**
+     * Gets the last modified time of the indexed documents.
+     *
+     * @return the last modified time per location
+     */
+    private Map<String, Long> getIndexedModifications() {
+        Map<String, Long> indexed = new HashMap<>();
+        try {
+            SearcherManager searcherManager = getIndex().getSearcherManager();
+            searcherManager.maybeRefresh();
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                int count = searcher.getIndexReader()
+                                    .numDocs();
+                if (count > 0) {
+                    for (ScoreDoc scoreDoc : searcher.search(new MatchAllDocsQuery(), count).scoreDocs) {
+                        Document document = searcher.storedFields()
+                                                    .document(scoreDoc.doc);
+                        IndexableField modified = document.getField(FIELD_MODIFIED);
+                        if (modified != null && modified.numericValue() != null) {
+                            indexed.put(document.get(FIELD_LOCATION), modified.numericValue()
+                                                                              .longValue());
+                        }
+                    }
+                }
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new RepositoryReadException(e);
+        }
+        return indexed;
+    }
+
+    /**
+     * Checks if the resource is binary by its extension, as its content is not searchable.
+     *
+     * @param location the location
+     * @return true, if is binary
+     */
+    private static boolean isBinary(String location) {
+        return ContentTypeHelper.isBinary(ContentTypeHelper.getContentType(ContentTypeHelper.getExtension(location)));
+    }
+
+    /**
+     * Reads the content of the file up to the max file size.
+     *
+     * @param file the file
+     * @return the content
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private byte[] readContent(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return in.readNBytes(maxFileSize);
+        }
+    }
+
+    /**
+     * Converts the file system path to a repository location.
+     *
+     * @param path the path
+     * @return the location
+     */
+    private String toLocation(Path path) {
+        return new RepositoryPath(repositoryRoot.relativize(path)
+                                                .toString()).toString();
+    }
+
+    /**
+     * Removes the resource or all the resources of the collection at the given location from the index.
+     *
+     * @param location the location
+     * @throws RepositoryWriteException the repository write exception
+     */
+    private void remove(String location) throws RepositoryWriteException {
+        try {
+            getIndex().getWriter()
+                      .deleteDocuments(new Term(FIELD_LOCATION, location));
+            getIndex().getWriter()
+                      .deleteDocuments(new PrefixQuery(new Term(FIELD_LOCATION, location + IRepository.SEPARATOR)));
+        } catch (IOException e) {
+            throw new RepositoryWriteException(e);
+        }
+    }
+
     /**
      * Adds the.
      *
@@ -177,38 +589,123 @@ public class RepositorySearcher {
      * @throws RepositoryWriteException the repository write exception
      */
     private void add(String location, byte[] contents, long lastModified, Map<String, String> parameters) throws RepositoryWriteException {
-        String indexName = index;
+        try {
+            Document doc = new Document();
+            Field pathField = new StringField(FIELD_LOCATION, location, Field.Store.YES);
+            doc.add(pathField);
+            doc.add(new LongPoint(FIELD_MODIFIED, lastModified));
+            doc.add(new StoredField(FIELD_MODIFIED, lastModified));
+            if (parameters != null) {
+                for (String key : parameters.keySet()) {
+                    doc.add(new StringField(key, parameters.get(key), Field.Store.YES));
+                }
+            }
+            doc.add(new TextField(FIELD_CONTENTS,
+                    new BufferedReader(new InputStreamReader(new ByteArrayInputStream(contents), StandardCharsets.UTF_8))));
+            getIndex().getWriter()
+                      .updateDocument(new Term(FIELD_LOCATION, location), doc);
+            indexedCount.incrementAndGet();
+        } catch (IOException e) {
+            throw new RepositoryWriteException(e);
+        }
+    }
 
+    /**
+     * Commits the pending changes and refreshes the searcher, so that they become visible.
+     *
+     * @throws RepositoryWriteException the repository write exception
+     */
+    private void commit() throws RepositoryWriteException {
         try {
-            Directory dir = FSDirectory.open(Paths.get(root + File.separator + indexName));
-            Analyzer analyzer = new StandardAnalyzer();
-            IndexWriterConfig iwc = new IndexWriterConfig(analyzer);
-            iwc.setOpenMode(OpenMode.CREATE_OR_APPEND);
-            IndexWriter writer = null;
+            RepositoryIndex repositoryIndex = getIndex();
+            if (repositoryIndex.getWriter()
+                               .hasUncommittedChanges()) {
+                repositoryIndex.getWriter()
+                               .commit();
+                repositoryIndex.getSearcherManager()
+                               .maybeRefresh();
+            }
+        } catch (IOException e) {
+            throw new RepositoryWriteException(e);
+        }
+    }
+
+    /**
+     * Gets the index, shared by the searchers with the same index location. The index is acquired on
+     * first use and released on close.
+     *
+     * @return the index
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private synchronized RepositoryIndex getIndex() throws IOException {
+        if (closed) {
+            throw new IOException("Repository searcher for [" + root + "] has been closed");
+        }
+        if (repositoryIndex == null) {
+            Path indexPath = getIndexPath();
             try {
-                writer = new IndexWriter(dir, iwc);
-                Document doc = new Document();
-                Field pathField = new StringField(FIELD_LOCATION, location, Field.Store.YES);
-                doc.add(pathField);
-                doc.add(new LongPoint(FIELD_MODIFIED, lastModified));
-                if (parameters != null) {
-                    for (String key : parameters.keySet()) {
-                        doc.add(new StringField(key, parameters.get(key), Field.Store.YES));
+                repositoryIndex = INDICES.compute(indexPath, (p, shared) -> {
+                    try {
+                        RepositoryIndex acquired = shared != null ? shared : new RepositoryIndex(p);
+                        acquired.references++;
+                        return acquired;
+                    } catch (IOException e) {
+                        throw new RepositoryWriteException(e);
                     }
+                });
+            } catch (RepositoryWriteException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
                 }
-                doc.add(new TextField(FIELD_CONTENTS,
-                        new BufferedReader(new InputStreamReader(new ByteArrayInputStream(contents), StandardCharsets.UTF_8))));
-                writer.updateDocument(new Term(FIELD_LOCATION, location), doc);
-            } finally {
-                if (writer != null) {
-                    writer.close();
-                }
+                throw e;
             }
+        }
+        return repositoryIndex;
+    }
+
+    /**
+     * Gets the lock, which guards the indexing of the changes to the index. It is the index itself, so
+     * that only the searchers sharing an index location wait for each other.
+     *
+     * @return the lock
+     * @throws RepositoryWriteException the repository write exception
+     */
+    private Object getIndexLock() throws RepositoryWriteException {
+        try {
+            return getIndex();
         } catch (IOException e) {
             throw new RepositoryWriteException(e);
         }
     }
 
+    /**
+     * Releases the acquired index and closes it, if it is not used by another searcher.
+     */
+    private synchronized void releaseIndex() {
+        closed = true;
+        if (repositoryIndex != null) {
+            INDICES.computeIfPresent(getIndexPath(), (p, shared) -> {
+                if (--shared.references > 0) {
+                    return shared;
+                }
+                shared.close();
+                return null;
+            });
+            repositoryIndex = null;
+        }
+    }
+
+    /**
+     * Gets the index path.
+     *
+     * @return the index path
+     */
+    public Path getIndexPath() {
+        return Paths.get(root + File.separator + index)
+                    .toAbsolutePath()
+                    .normalize();
+    }
+
     /**
      * Search for a given term in the text files content.
      *
@@ -218,21 +715,20 @@ public class RepositorySearcher {
      */
     public List<String> search(String term) throws RepositoryReadException {
         List<String> results = new ArrayList<String>();
-        String indexName = index;
-
+        long start = System.currentTimeMillis();
         try {
-            Directory dir = FSDirectory.open(Paths.get(root + File.separator + indexName));
-            IndexReader reader = null;
+            SearcherManager searcherManager = getIndex().getSearcherManager();
+            searcherManager.maybeRefresh();
+            IndexSearcher searcher = searcherManager.acquire();
             try {
-                reader = DirectoryReader.open(dir);
-                IndexSearcher searcher = new IndexSearcher(reader);
                 Analyzer analyzer = new StandardAnalyzer();
                 String field = FIELD_CONTENTS;
                 QueryParser parser = new QueryParser(field, analyzer);
                 Query query = parser.parse(term);
                 TopDocs topDocs = searcher.search(query, MAX_RESULTS);
                 for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-                    Document document = searcher.doc(scoreDoc.doc);
+                    Document document = searcher.storedFields()
+                                                .document(scoreDoc.doc);
                     for (IndexableField indexableField : document.getFields()) {
                         String name = indexableField.name();
                         if (FIELD_LOCATION.equals(name)) {
@@ -244,51 +740,81 @@ public class RepositorySearcher {
 
                 }
             } finally {
-                if (reader != null) {
-                    reader.close();
-                }
+                searcherManager.release(searcher);
             }
             return results;
         } catch (IOException | ParseException e) {
             throw new RepositoryReadException(e);
+        } finally {
+            queriesCount.incrementAndGet();
+            queriesTime.addAndGet(System.currentTimeMillis() - start);
         }
     }
 
     /**
-     * Reindex.
+     * Rebuilds the index out of the whole repository content. The index is kept up to date on
+     * repository changes, so a full reindex is needed only on explicit refresh.
      */
-    private void reindex() {
-        synchronized (RepositorySearcher.class) {
+    public void forceReindex() {
+        synchronized (getIndexLock()) {
             long start = System.currentTimeMillis();
+            long indexedBefore = indexedCount.get();
+            try {
+                getIndex().getWriter()
+                          .deleteAll();
+            } catch (IOException e) {
+                throw new RepositoryWriteException(e);
+            }
             List<String> paths = repository.getAllResourcePaths();
             for (String path : paths) {
                 IResource resource = repository.getResource(path);
-                if ((resource != null) && (resource.getInformation() != null) && (resource.getInformation()
-                                                                                          .getModifiedAt() != null)) {
-                    if (lastUpdated.before(resource.getInformation()
-                                                   .getModifiedAt())) {
-                        add(path, resource.getContent(), resource.getInformation()
-                                                                 .getModifiedAt()
-                                                                 .getTime(),
-                                null);
+                if ((resource != null) && !resource.isBinary() && (resource.getInformation() != null)
+                        && (resource.getInformation()
+                                    .getModifiedAt() != null)) {
+                    byte[] content = resource.getContent();
+                    if (content.length > maxFileSize) {
+                        content = Arrays.copyOf(content, maxFileSize);
                     }
+                    add(path, content, resource.getInformation()
+                                               .getModifiedAt()
+                                               .getTime(),
+                            null);
                 }
             }
+            commit();
             long end = System.currentTimeMillis();
+            indexingTime.addAndGet(end - start);
             if (logger.isTraceEnabled()) {
-                logger.trace("Reindexing of the Repository Content finished in: " + (end - start) + "ms");
+                logger.trace("Full reindexing of the Repository Content finished in: " + (end - start) + "ms, "
+                        + (indexedCount.get() - indexedBefore) + " documents indexed");
             }
         }
     }
 
     /**
-     * Force reindex.
+     * Stops watching the repository changes and releases the index, which is closed together with its
+     * last searcher, e.g. when the repository is disposed on shutdown.
      */
-    public void forceReindex() {
-        synchronized (RepositorySearcher.class) {
-            this.lastUpdated = new Date(0);
-            this.countUpdated = 0;
-            reindex();
+    public void close() {
+        stopped.countDown();
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                logger.warn("Error closing the repository watch service", e);
+            }
+        }
+        RepositoryIndex acquired;
+        synchronized (this) {
+            acquired = repositoryIndex;
+        }
+        if (acquired == null) {
+            releaseIndex();
+            return;
+        }
+        // the index is not released in the middle of indexing
+        synchronized (acquired) {
+            releaseIndex();
         }
     }
 
@@ -301,4 +827,123 @@ public class RepositorySearcher {
         return root;
     }
 
+    /**
+     * Gets the count of the indexed documents.
+     *
+     * @return the indexed count
+     */
+    public long getIndexedCount() {
+        return indexedCount.get();
+    }
+
+    /**
+     * Gets the total indexing time in millis.
+     *
+     * @return the indexing time
+     */
+    public long getIndexingTime() {
+        return indexingTime.get();
+    }
+
+    /**
+     * Gets the count of the executed queries.
+     *
+     * @return the queries count
+     */
+    public long getQueriesCount() {
+        return queriesCount.get();
+    }
+
+    /**
+     * Gets the total query time in millis.
+     *
+     * @return the queries time
+     */
+    public long getQueriesTime() {
+        return queriesTime.get();
+    }
+
+    /**
+     * Gets the snapshot of the indexing and query metrics.
+     *
+     * @return the snapshot
+     */
+    public Snapshot getSnapshot() {
+        return new Snapshot(getIndexedCount(), getIndexingTime(), getQueriesCount(), getQueriesTime());
+    }
+
+    /**
+     * The snapshot of the indexing and query metrics.
+     *
+     * @param indexedCount the count of the indexed documents
+     * @param indexingTime the total indexing time in millis
+     * @param queriesCount the count of the executed queries
+     * @param queriesTime the total query time in millis
+     */
+    public record Snapshot(long indexedCount, long indexingTime, long queriesCount, long queriesTime) {
+    }
+
+    /**
+     * The long-lived index writer and near-real-time searcher manager over an index location.
+     */
+    private static class RepositoryIndex {
+
+        /** The count of the searchers, which have acquired the index. Guarded by {@link #INDICES}. */
+        private int references;
+
+        /** The directory. */
+        private final Directory directory;
+
+        /** The writer. */
+        private final IndexWriter writer;
+
+        /** The searcher manager. */
+        private final SearcherManager searcherManager;
+
+        /**
+         * Instantiates a new repository index.
+         *
+         * @param indexPath the index path
+         * @throws IOException Signals that an I/O exception has occurred.
+         */
+        RepositoryIndex(Path indexPath) throws IOException {
+            this.directory = FSDirectory.open(indexPath);
+            IndexWriterConfig iwc = new IndexWriterConfig(new StandardAnalyzer());
+            iwc.setOpenMode(OpenMode.CREATE_OR_APPEND);
+            this.writer = new IndexWriter(directory, iwc);
+            this.searcherManager = new SearcherManager(writer, null);
+        }
+
+        /**
+         * Gets the writer.
+         *
+         * @return the writer
+         */
+        IndexWriter getWriter() {
+            return writer;
+        }
+
+        /**
+         * Gets the searcher manager.
+         *
+         * @return the searcher manager
+         */
+        SearcherManager getSearcherManager() {
+            return searcherManager;
+        }
+
+        /**
+         * Commits the pending changes and closes the index.
+         */
+        void close() {
+            try {
+                searcherManager.close();
+                writer.close();
+                directory.close();
+            } catch (IOException e) {
+                logger.error("Error closing the repository index", e);
+            }
+        }
+    }
+
 }